@@ -1,6 +1,9 @@
 package com.openelements.hiero.base;
 
 import com.hedera.hashgraph.sdk.FileId;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
@@ -33,6 +36,46 @@ public interface FileClient {
     @NonNull
     FileId createFile(@NonNull byte[] contents, @NonNull Instant expirationTime) throws HieroException;
 
+    /**
+     * Create a new file with the contents of the given stream. The stream is read lazily in chunks while the file is
+     * created and appended, so the contents never need to fit in memory at once. The stream is not closed.
+     * <p>
+     * If the stream contains more than the maximum file size, the upload is stopped and the file that has been created
+     * until then is deleted before an exception is thrown.
+     *
+     * @param contents the contents of the file
+     * @return the ID of the new file
+     * @throws HieroException if the file could not be created or the stream could not be read
+     */
+    @NonNull
+    FileId createFile(@NonNull InputStream contents) throws HieroException;
+
+    /**
+     * Create a new file with the contents of the given blocking channel. The channel is read lazily in chunks while
+     * the file is created and appended, so the contents never need to fit in memory at once. The channel is not
+     * closed.
+     * <p>
+     * If the channel contains more than the maximum file size, the upload is stopped and the file that has been created
+     * until then is deleted before an exception is thrown.
+     *
+     * @param contents the contents of the file
+     * @return the ID of the new file
+     * @throws HieroException if the file could not be created or the channel could not be read
+     */
+    @NonNull
+    FileId createFile(@NonNull ReadableByteChannel contents) throws HieroException;
+
+    /**
+     * Create a new file with the contents of the file at the given path. The file is memory-mapped if the file system
+     * supports it and read lazily in chunks otherwise.
+     *
+     * @param path the path of the file that contains the contents
+     * @return the ID of the new file
+     * @throws HieroException if the file could not be created or the path could not be read
+     */
+    @NonNull
+    FileId createFile(@NonNull Path path) throws HieroException;
+
     /**
      * Create a new file with the given contents.
      *
@@ -1,7 +1,9 @@
 package com.openelements.hiero.base;
 
 import com.hedera.hashgraph.sdk.Client;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
 import com.openelements.hiero.base.data.Account;
+import java.util.List;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -25,4 +27,27 @@ public interface HieroContext {
      */
     @NonNull
     Client getClient();
+
+    /**
+     * Get the contexts of all operator accounts that can pay for transactions. Each context has its own client. The
+     * first context is always the context of the 'operator account' ({@link #getOperatorAccount()}). By default, the
+     * list only contains this context.
+     *
+     * @return the contexts of all operator accounts
+     */
+    @NonNull
+    default List<HieroContext> getOperatorContexts() {
+        return List.of(this);
+    }
+
+    /**
+     * Get the strategy that is used to pick the operator account for a transaction if more than one operator account
+     * is available.
+     *
+     * @return the operator selection strategy
+     */
+    @NonNull
+    default OperatorSelectionStrategy getOperatorSelectionStrategy() {
+        return OperatorSelectionStrategy.LEAST_IN_FLIGHT;
+    }
 }
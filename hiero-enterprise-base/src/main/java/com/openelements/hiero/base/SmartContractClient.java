@@ -4,6 +4,7 @@ import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.FileId;
 import com.openelements.hiero.base.data.ContractCallResult;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
 import java.nio.file.Path;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
@@ -98,4 +99,66 @@ public interface SmartContractClient {
     ContractCallResult callContractFunction(@NonNull ContractId contractId, @NonNull String functionName,
             @Nullable ContractParam<?>... params) throws HieroException;
 
+    /**
+     * Call a prepared function on a smart contract. The selector and the parameter layout of the function are only
+     * computed once by {@link PreparedContractFunction#of(String, String...)}, so this should be preferred for
+     * functions that are called frequently.
+     *
+     * @param contractId the ID of the contract
+     * @param function   the prepared function to call
+     * @param params     the parameters to pass to the function, must match the native types of the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult callContractFunction(@NonNull ContractId contractId, @NonNull PreparedContractFunction function,
+            @Nullable ContractParam<?>... params) throws HieroException;
+
+    /**
+     * Call a read-only function (like a {@code view} or {@code pure} function) on a smart contract. The call is executed
+     * as a query against a node: it does not need to reach consensus and does not change the state of the contract.
+     * Depending on the configuration the result can be served from a short living cache.
+     *
+     * @param contractId   the ID of the contract
+     * @param functionName the name of the function to call
+     * @param params       the parameters to pass to the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    default ContractCallResult queryContractFunction(@NonNull String contractId, @NonNull String functionName,
+            @Nullable ContractParam<?>... params) throws HieroException {
+        Objects.requireNonNull(contractId, "contractId");
+        return queryContractFunction(ContractId.fromString(contractId), functionName, params);
+    }
+
+    /**
+     * Call a read-only function (like a {@code view} or {@code pure} function) on a smart contract. The call is executed
+     * as a query against a node: it does not need to reach consensus and does not change the state of the contract.
+     * Depending on the configuration the result can be served from a short living cache.
+     *
+     * @param contractId   the ID of the contract
+     * @param functionName the name of the function to call
+     * @param params       the parameters to pass to the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult queryContractFunction(@NonNull ContractId contractId, @NonNull String functionName,
+            @Nullable ContractParam<?>... params) throws HieroException;
+
+    /**
+     * Call a prepared read-only function (like a {@code view} or {@code pure} function) on a smart contract. The call
+     * is executed as a query against a node: it does not need to reach consensus and does not change the state of the
+     * contract. Depending on the configuration the result can be served from a short living cache.
+     *
+     * @param contractId the ID of the contract
+     * @param function   the prepared function to call
+     * @param params     the parameters to pass to the function, must match the native types of the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult queryContractFunction(@NonNull ContractId contractId, @NonNull PreparedContractFunction function,
+            @Nullable ContractParam<?>... params) throws HieroException;
 }
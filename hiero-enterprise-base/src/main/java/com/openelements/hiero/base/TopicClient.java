@@ -2,9 +2,14 @@ package com.openelements.hiero.base;
 
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
 
 /**
  * Interface for interacting with a Hiero network. This interface provides methods for interacting with Hiero Topic,
@@ -223,7 +228,9 @@ public interface TopicClient {
     };
 
     /**
-     * Submit a message to a Topic.
+     * Submit a message to a Topic. Messages that are larger than
+     * {@link com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest#CHUNK_SIZE} bytes are sent in several
+     * chunks that share the ID of the first transaction as initial transaction ID.
      *
      * @param topicId the topicId of topic
      * @param message the message to send to topic
@@ -267,7 +274,9 @@ public interface TopicClient {
     };
 
     /**
-     * Submit a message to a Topic.
+     * Submit a message to a Topic. Messages that are larger than
+     * {@link com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest#CHUNK_SIZE} bytes are sent in several
+     * chunks that share the ID of the first transaction as initial transaction ID.
      *
      * @param topicId the topicId of topic
      * @param submitKey the submit key for submitting message
@@ -317,4 +326,31 @@ public interface TopicClient {
         Objects.requireNonNull(message, "message cannot be null");
         submitMessage(TopicId.fromString(topicId), PrivateKey.fromString(submitKey), message);
     };
+
+    /**
+     * Subscribe to the new messages of a Topic. The subscription to the network starts when a subscriber subscribes to
+     * the returned publisher and ends when the subscriber cancels its subscription. Messages are buffered with
+     * {@link TopicSubscriptionSettings#DEFAULT}.
+     *
+     * @param topicId the topicId of topic
+     * @return a publisher for the messages of the topic
+     */
+    @NonNull
+    default Publisher<TopicMessage> subscribe(@NonNull TopicId topicId) {
+        return subscribe(topicId, null, TopicSubscriptionSettings.DEFAULT);
+    }
+
+    /**
+     * Subscribe to the messages of a Topic. The subscription to the network starts when a subscriber subscribes to the
+     * returned publisher and ends when the subscriber cancels its subscription. Messages are only delivered as
+     * requested by the subscriber, messages that arrive without demand are buffered as defined by the settings.
+     *
+     * @param topicId   the topicId of topic
+     * @param startTime the consensus time of the first message or {@code null} to receive only new messages
+     * @param settings  the settings of the subscription
+     * @return a publisher for the messages of the topic
+     */
+    @NonNull
+    Publisher<TopicMessage> subscribe(@NonNull TopicId topicId, @Nullable Instant startTime,
+            @NonNull TopicSubscriptionSettings settings);
 }
@@ -0,0 +1,39 @@
+package com.openelements.hiero.base;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thrown if a transaction failed after it might have been submitted to the network, for example because its receipt
+ * could not be received in time. The transaction might still reach consensus, therefore it must not be executed again
+ * before its outcome is known. The outcome can be looked up by the receipt (or the mirror node entry) of the
+ * transaction with the ID {@link #getTransactionId()}.
+ */
+public class TransactionInDoubtException extends HieroException {
+
+    private final TransactionId transactionId;
+
+    /**
+     * Constructs a new exception.
+     *
+     * @param message       the detail message
+     * @param transactionId the ID of the transaction whose outcome is unknown
+     * @param cause         the cause
+     */
+    public TransactionInDoubtException(@NonNull final String message, @NonNull final TransactionId transactionId,
+            @NonNull final Throwable cause) {
+        super(message, cause);
+        this.transactionId = Objects.requireNonNull(transactionId, "transactionId must not be null");
+    }
+
+    /**
+     * Returns the ID of the transaction whose outcome is unknown.
+     *
+     * @return the transaction ID
+     */
+    @NonNull
+    public TransactionId getTransactionId() {
+        return transactionId;
+    }
+}
@@ -5,8 +5,10 @@ import com.hedera.hashgraph.sdk.Client;
 import com.openelements.hiero.base.HieroContext;
 import com.openelements.hiero.base.data.Account;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -70,23 +72,60 @@ public interface HieroConfig {
     }
 
     /**
-     * Creates a Hiero context. Calling this method multiple times will return a new instance each time.
+     * Returns additional operator accounts. Transactions are distributed over the operator account and all additional
+     * operator accounts.
+     *
+     * @return the additional operator accounts
+     */
+    @NonNull
+    default List<Account> getAdditionalOperatorAccounts() {
+        return List.of();
+    }
+
+    /**
+     * Returns the strategy that is used to pick the operator account for a transaction.
+     *
+     * @return the operator selection strategy
+     */
+    @NonNull
+    default OperatorSelectionStrategy getOperatorSelectionStrategy() {
+        return OperatorSelectionStrategy.LEAST_IN_FLIGHT;
+    }
+
+    /**
+     * Creates a Hiero context. Calling this method multiple times will return a new instance each time. A separate
+     * client is created for each additional operator account.
      *
      * @return the Hiero context
      */
     @NonNull
     default HieroContext createHieroContext() {
-        final Account operatorAccount = getOperatorAccount();
-        final Client client = createClient();
+        final HieroContext primary = createOperatorContext(getOperatorAccount(), createClient());
+        final List<HieroContext> operatorContexts = new ArrayList<>();
+        operatorContexts.add(primary);
+        getAdditionalOperatorAccounts()
+                .forEach(account -> operatorContexts.add(createOperatorContext(account, createClient(account))));
+        final List<HieroContext> unmodifiableOperatorContexts = List.copyOf(operatorContexts);
+        final OperatorSelectionStrategy operatorSelectionStrategy = getOperatorSelectionStrategy();
         return new HieroContext() {
             @Override
             public @NonNull Account getOperatorAccount() {
-                return operatorAccount;
+                return primary.getOperatorAccount();
             }
 
             @Override
             public @NonNull Client getClient() {
-                return client;
+                return primary.getClient();
+            }
+
+            @Override
+            public @NonNull List<HieroContext> getOperatorContexts() {
+                return unmodifiableOperatorContexts;
+            }
+
+            @Override
+            public @NonNull OperatorSelectionStrategy getOperatorSelectionStrategy() {
+                return operatorSelectionStrategy;
             }
         };
     }
@@ -98,17 +137,46 @@ public interface HieroConfig {
      */
     @NonNull
     default Client createClient() {
+        return createClient(getOperatorAccount());
+    }
+
+    /**
+     * Creates a new client for the network that uses the given account as operator account. Calling this method
+     * multiple times will return a new instance each time.
+     *
+     * @param operatorAccount the operator account of the client
+     * @return the client
+     */
+    @NonNull
+    default Client createClient(@NonNull final Account operatorAccount) {
+        Objects.requireNonNull(operatorAccount, "operatorAccount must not be null");
         try {
             final Map<String, AccountId> nodes = getConsensusNodes().stream()
                     .collect(Collectors.toMap(n -> n.getAddress(), n -> n.getAccountId()));
             final Client client = Client.forNetwork(nodes);
             final List<String> mirrorNodeAddresses = getMirrorNodeAddresses().stream().collect(Collectors.toList());
             client.setMirrorNetwork(mirrorNodeAddresses);
-            client.setOperator(getOperatorAccount().accountId(), getOperatorAccount().privateKey());
+            client.setOperator(operatorAccount.accountId(), operatorAccount.privateKey());
             getRequestTimeout().ifPresent(client::setRequestTimeout);
             return client;
         } catch (final Exception e) {
             throw new IllegalArgumentException("Can not create client for custom network", e);
         }
     }
+
+    @NonNull
+    private static HieroContext createOperatorContext(@NonNull final Account operatorAccount,
+            @NonNull final Client client) {
+        return new HieroContext() {
+            @Override
+            public @NonNull Account getOperatorAccount() {
+                return operatorAccount;
+            }
+
+            @Override
+            public @NonNull Client getClient() {
+                return client;
+            }
+        };
+    }
 }
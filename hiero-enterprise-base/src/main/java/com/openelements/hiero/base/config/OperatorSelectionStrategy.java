@@ -0,0 +1,19 @@
+package com.openelements.hiero.base.config;
+
+/**
+ * Enumerates the strategies to pick the operator account that pays for a transaction if more than one operator
+ * account is configured.
+ */
+public enum OperatorSelectionStrategy {
+
+    /**
+     * The operators are used one after another.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The operator with the fewest transactions that are still waiting for their receipt is used. Operators with the
+     * same number of transactions in flight are used one after another.
+     */
+    LEAST_IN_FLIGHT;
+}
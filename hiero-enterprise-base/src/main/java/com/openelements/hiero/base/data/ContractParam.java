@@ -18,18 +18,38 @@ import org.jspecify.annotations.NonNull;
  * all supported types, see the static factory methods. Normally a developer should not need to create instances of this
  * class directly.
  *
- * @param value      the value of the parameter
- * @param nativeType the native type of the parameter
- * @param supplier   the supplier of the parameter
- * @param <T>        the type of the parameter
+ * @param <T> the type of the parameter
  */
-public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @NonNull ParamSupplier<T> supplier) {
+public final class ContractParam<T> {
 
-    public ContractParam {
-        Objects.requireNonNull(value, "value must not be null");
-        Objects.requireNonNull(nativeType, "nativeType must not be null");
-        Objects.requireNonNull(supplier, "supplier must not be null");
-        if (!supplier.isValidParam(value)) {
+    private final T value;
+
+    private final String nativeType;
+
+    private final ParamSupplier<T> supplier;
+
+    /**
+     * Creates a new contract parameter and checks that the value is valid for the supplier.
+     *
+     * @param value      the value of the parameter
+     * @param nativeType the native type of the parameter
+     * @param supplier   the supplier of the parameter
+     */
+    public ContractParam(@NonNull final T value, @NonNull final String nativeType,
+            @NonNull final ParamSupplier<T> supplier) {
+        this(value, nativeType, supplier, true);
+    }
+
+    /**
+     * Creates a new contract parameter. The check of the value can be skipped for values that have already been
+     * checked by the caller.
+     */
+    private ContractParam(@NonNull final T value, @NonNull final String nativeType,
+            @NonNull final ParamSupplier<T> supplier, final boolean validate) {
+        this.value = Objects.requireNonNull(value, "value must not be null");
+        this.nativeType = Objects.requireNonNull(nativeType, "nativeType must not be null");
+        this.supplier = Objects.requireNonNull(supplier, "supplier must not be null");
+        if (validate && !supplier.isValidParam(value)) {
             throw new IllegalArgumentException(
                     "value '" + value + "' is not valid for native type '" + nativeType + "'");
         }
@@ -48,6 +68,75 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
         return new ContractParam<>(value, paramSupplier.getNativeType(), paramSupplier);
     }
 
+    /**
+     * Creates a new contract parameter for a {@code long} value of a type that is based on {@link BigInteger}. Only
+     * the {@code long} is checked, the converted {@link BigInteger} is not checked a second time.
+     *
+     * @param value         the value of the parameter
+     * @param paramSupplier the supplier that provides validation and native type information
+     * @return the newly created {@link ContractParam} instance
+     */
+    private static ContractParam<BigInteger> of(final long value,
+            @NonNull final BigIntegerBasedNumericDatatypes paramSupplier) {
+        Objects.requireNonNull(paramSupplier, "paramSupplier must not be null");
+        if (!paramSupplier.isValidParam(value)) {
+            throw new IllegalArgumentException(
+                    "value '" + value + "' is not valid for native type '" + paramSupplier.getNativeType() + "'");
+        }
+        return new ContractParam<>(BigInteger.valueOf(value), paramSupplier.getNativeType(), paramSupplier, false);
+    }
+
+    /**
+     * Returns the value of the parameter.
+     *
+     * @return the value of the parameter
+     */
+    @NonNull
+    public T value() {
+        return value;
+    }
+
+    /**
+     * Returns the native type of the parameter.
+     *
+     * @return the native type of the parameter
+     */
+    @NonNull
+    public String nativeType() {
+        return nativeType;
+    }
+
+    /**
+     * Returns the supplier of the parameter.
+     *
+     * @return the supplier of the parameter
+     */
+    @NonNull
+    public ParamSupplier<T> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContractParam<?> that)) {
+            return false;
+        }
+        return value.equals(that.value) && nativeType.equals(that.nativeType) && supplier.equals(that.supplier);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, nativeType, supplier);
+    }
+
+    @Override
+    public String toString() {
+        return "ContractParam[value=" + value + ", nativeType=" + nativeType + ", supplier=" + supplier + "]";
+    }
+
     /**
      * Creates a new contract parameter with the given value and native type {@code string}.
      *
@@ -289,7 +378,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int72(long value) {
-        return int72(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT72);
     }
 
     /**
@@ -311,7 +400,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint72(long value) {
-        return uint72(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT72);
     }
 
     /**
@@ -333,7 +422,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int80(long value) {
-        return int80(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT80);
     }
 
     /**
@@ -355,7 +444,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint80(long value) {
-        return uint80(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT80);
     }
 
     /**
@@ -377,7 +466,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int88(long value) {
-        return int88(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT88);
     }
 
     /**
@@ -399,7 +488,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint88(long value) {
-        return uint88(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT88);
     }
 
     /**
@@ -421,7 +510,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int96(long value) {
-        return int96(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT96);
     }
 
     /**
@@ -443,7 +532,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint96(long value) {
-        return uint96(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT96);
     }
 
     /**
@@ -465,7 +554,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int104(long value) {
-        return int104(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT104);
     }
 
     /**
@@ -487,7 +576,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint104(long value) {
-        return uint104(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT104);
     }
 
     /**
@@ -509,7 +598,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int112(long value) {
-        return int112(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT112);
     }
 
     /**
@@ -531,7 +620,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint112(long value) {
-        return uint112(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT112);
     }
 
     /**
@@ -553,7 +642,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int120(long value) {
-        return int120(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT120);
     }
 
     /**
@@ -575,7 +664,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint120(long value) {
-        return uint120(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT120);
     }
 
     /**
@@ -597,7 +686,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int128(long value) {
-        return int128(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT128);
     }
 
     /**
@@ -619,7 +708,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint128(long value) {
-        return uint128(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT128);
     }
 
     /**
@@ -641,7 +730,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int136(long value) {
-        return int136(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT136);
     }
 
     /**
@@ -663,7 +752,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint136(long value) {
-        return uint136(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT136);
     }
 
     /**
@@ -685,7 +774,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int144(long value) {
-        return int144(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT144);
     }
 
     /**
@@ -707,7 +796,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint144(long value) {
-        return uint144(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT144);
     }
 
     /**
@@ -729,7 +818,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int152(long value) {
-        return int152(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT152);
     }
 
     /**
@@ -751,7 +840,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint152(long value) {
-        return uint152(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT152);
     }
 
     /**
@@ -773,7 +862,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int160(long value) {
-        return int160(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT160);
     }
 
     /**
@@ -795,7 +884,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint160(long value) {
-        return uint160(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT160);
     }
 
     /**
@@ -817,7 +906,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int168(long value) {
-        return int168(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT168);
     }
 
     /**
@@ -839,7 +928,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint168(long value) {
-        return uint168(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT168);
     }
 
     /**
@@ -861,7 +950,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int176(long value) {
-        return int176(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT176);
     }
 
     /**
@@ -883,7 +972,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint176(long value) {
-        return uint176(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT176);
     }
 
     /**
@@ -905,7 +994,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int184(long value) {
-        return int184(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT184);
     }
 
     /**
@@ -927,7 +1016,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint184(long value) {
-        return uint184(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT184);
     }
 
     /**
@@ -949,7 +1038,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int192(long value) {
-        return int192(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT192);
     }
 
     /**
@@ -971,7 +1060,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint192(long value) {
-        return uint192(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT192);
     }
 
     /**
@@ -993,7 +1082,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int200(long value) {
-        return int200(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT200);
     }
 
     /**
@@ -1015,7 +1104,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint200(long value) {
-        return uint200(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT200);
     }
 
     /**
@@ -1037,7 +1126,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int208(long value) {
-        return int208(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT208);
     }
 
     /**
@@ -1059,7 +1148,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint208(long value) {
-        return uint208(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT208);
     }
 
     /**
@@ -1081,7 +1170,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int216(long value) {
-        return int216(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT216);
     }
 
     /**
@@ -1103,7 +1192,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint216(long value) {
-        return uint216(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT216);
     }
 
     /**
@@ -1125,7 +1214,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int224(long value) {
-        return int224(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT224);
     }
 
     /**
@@ -1147,7 +1236,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint224(long value) {
-        return uint224(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT224);
     }
 
     /**
@@ -1169,7 +1258,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int232(long value) {
-        return int232(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT232);
     }
 
     /**
@@ -1191,7 +1280,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint232(long value) {
-        return uint232(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT232);
     }
 
     /**
@@ -1213,7 +1302,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int240(long value) {
-        return int240(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT240);
     }
 
     /**
@@ -1235,7 +1324,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint240(long value) {
-        return uint240(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT240);
     }
 
     /**
@@ -1257,7 +1346,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int248(long value) {
-        return int248(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT248);
     }
 
     /**
@@ -1279,7 +1368,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint248(long value) {
-        return uint248(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT248);
     }
 
     /**
@@ -1313,7 +1402,7 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> int256(long value) {
-        return int256(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.INT256);
     }
 
     /**
@@ -1336,6 +1425,6 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
      */
     @NonNull
     public static ContractParam<BigInteger> uint256(long value) {
-        return uint256(BigInteger.valueOf(value));
+        return of(value, BigIntegerBasedNumericDatatypes.UINT256);
     }
 }
@@ -1,13 +1,19 @@
 package com.openelements.hiero.base.data;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * This interface defines a page of data for an endpoint of service that supports pagination.
+ * This interface defines a page of data for an endpoint of service that supports pagination. A page can be iterated
+ * or streamed to lazily consume the elements of the page and all following pages.
  *
  * @param <T> the type of the data in the page
  */
-public interface Page<T> {
+public interface Page<T> extends Iterable<T> {
 
     /**
      * Returns the index of the page.
@@ -60,4 +66,41 @@ public interface Page<T> {
      * @return true if this page is the first page
      */
     boolean isFirst();
+
+    /**
+     * Returns an iterator over the elements of this page and all following pages. Following pages are fetched lazily
+     * when the elements of the previous page have been consumed.
+     *
+     * @return the iterator
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new PageIterator<>(this, 0);
+    }
+
+    /**
+     * Returns a sequential stream of the elements of this page and all following pages. Following pages are fetched
+     * lazily when the elements of the previous page have been consumed.
+     *
+     * @return the stream
+     */
+    default Stream<T> stream() {
+        return stream(0);
+    }
+
+    /**
+     * Returns a sequential stream of the elements of this page and all following pages. If {@code prefetchDepth} is
+     * greater than 0, up to {@code prefetchDepth} following pages are fetched by a background virtual thread while the
+     * current page is consumed. The stream should be closed if it is not consumed completely to stop the background
+     * fetching.
+     *
+     * @param prefetchDepth the maximum number of pages that are fetched in advance, 0 disables prefetching
+     * @return the stream
+     */
+    default Stream<T> stream(int prefetchDepth) {
+        final PageIterator<T> iterator = new PageIterator<>(this, prefetchDepth);
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
 }
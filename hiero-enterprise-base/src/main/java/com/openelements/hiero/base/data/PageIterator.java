@@ -0,0 +1,147 @@
+package com.openelements.hiero.base.data;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Iterator over the elements of a {@link Page} and all following pages. If a prefetch depth greater than 0 is defined
+ * the following pages are fetched by a virtual thread while the current page is consumed. The thread is started by the
+ * first call of {@link #hasNext()}, so that no page is fetched for an iterator that is never read. At most {@code
+ * prefetchDepth} fetched pages are buffered. The iterator must be closed if it is not consumed completely to stop the
+ * background fetching.
+ *
+ * @param <T> the type of the elements
+ */
+final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final @Nullable BlockingQueue<Fetched<T>> queue;
+
+    private volatile @Nullable Thread fetcher;
+
+    private Page<T> currentPage;
+
+    private Iterator<T> currentData;
+
+    private boolean lastPage;
+
+    private volatile boolean closed;
+
+    PageIterator(@NonNull final Page<T> firstPage, final int prefetchDepth) {
+        Objects.requireNonNull(firstPage, "firstPage must not be null");
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative");
+        }
+        this.currentPage = firstPage;
+        this.currentData = firstPage.getData().iterator();
+        this.lastPage = !firstPage.hasNext();
+        if (prefetchDepth > 0 && !lastPage) {
+            queue = new ArrayBlockingQueue<>(prefetchDepth);
+        } else {
+            queue = null;
+        }
+    }
+
+    private void startFetcher() {
+        if (queue == null || fetcher != null || closed) {
+            return;
+        }
+        final Page<T> firstPage = currentPage;
+        final Thread started = Thread.ofVirtual()
+                .name("hiero-page-prefetch")
+                .start(() -> fetch(firstPage));
+        fetcher = started;
+        if (closed) {
+            // close() might have been called concurrently before the fetcher has been assigned
+            started.interrupt();
+        }
+    }
+
+    private void fetch(@NonNull final Page<T> firstPage) {
+        final BlockingQueue<Fetched<T>> q = Objects.requireNonNull(queue);
+        try {
+            Page<T> page = firstPage;
+            while (!closed && page.hasNext()) {
+                page = page.next();
+                q.put(new Fetched<>(page, null));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            // any failure must reach the consumer, otherwise it would wait for the next page forever
+            try {
+                q.put(new Fetched<>(null, e));
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        startFetcher();
+        while (!currentData.hasNext()) {
+            if (lastPage || closed) {
+                return false;
+            }
+            currentPage = nextPage();
+            currentData = currentPage.getData().iterator();
+            lastPage = !currentPage.hasNext();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more elements");
+        }
+        return currentData.next();
+    }
+
+    @NonNull
+    private Page<T> nextPage() {
+        if (queue == null) {
+            return currentPage.next();
+        }
+        final Fetched<T> fetched;
+        try {
+            fetched = queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("Interrupted while waiting for next page", e);
+        }
+        final Throwable error = fetched.error();
+        if (error != null) {
+            close();
+            if (error instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (error instanceof Error e) {
+                throw e;
+            }
+            throw new IllegalStateException("Error while fetching next page", error);
+        }
+        return Objects.requireNonNull(fetched.page());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        final Thread currentFetcher = fetcher;
+        if (currentFetcher != null) {
+            currentFetcher.interrupt();
+        }
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    private record Fetched<T>(@Nullable Page<T> page, @Nullable Throwable error) {
+    }
+}
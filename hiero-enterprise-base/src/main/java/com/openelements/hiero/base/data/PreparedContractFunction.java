@@ -0,0 +1,329 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.openelements.hiero.base.implementation.data.BigIntegerBasedNumericDatatypes;
+import com.openelements.hiero.base.implementation.data.LongBasedNumericDatatypes;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A smart contract function whose signature is prepared once and can be called many times (see
+ * {@link com.openelements.hiero.base.SmartContractClient#callContractFunction(com.hedera.hashgraph.sdk.ContractId,
+ * PreparedContractFunction, ContractParam[])}). The function selector and the layout of the ABI encoded parameters are
+ * computed when the instance is created. A call only encodes the values of the parameters, directly into the byte array
+ * that is sent to the network. Instances are immutable and can be shared between threads.
+ */
+public final class PreparedContractFunction {
+
+    private static final int SELECTOR_SIZE = 4;
+
+    private static final int WORD_SIZE = 32;
+
+    private static final int ADDRESS_SIZE = 20;
+
+    private final String functionName;
+
+    private final List<String> nativeTypes;
+
+    private final Slot[] slots;
+
+    private final byte[] selector;
+
+    private final int headSize;
+
+    private final int dynamicCount;
+
+    private PreparedContractFunction(@NonNull final String functionName, @NonNull final List<String> nativeTypes) {
+        this.functionName = Objects.requireNonNull(functionName, "functionName must not be null");
+        this.nativeTypes = List.copyOf(Objects.requireNonNull(nativeTypes, "nativeTypes must not be null"));
+        if (functionName.isBlank() || functionName.contains(" ")) {
+            throw new IllegalArgumentException("functionName must not be blank or contain spaces");
+        }
+        this.slots = this.nativeTypes.stream().map(Slot::of).toArray(Slot[]::new);
+        this.headSize = SELECTOR_SIZE + WORD_SIZE * slots.length;
+        this.dynamicCount = (int) Arrays.stream(slots).filter(slot -> slot.kind == Kind.DYNAMIC).count();
+        this.selector = createSelector(functionName, slots);
+    }
+
+    /**
+     * Prepares the function with the given name and native parameter types (like {@code address} or
+     * {@code uint256}).
+     *
+     * @param functionName the name of the function
+     * @param nativeTypes  the native types of the parameters of the function
+     * @return the prepared function
+     */
+    @NonNull
+    public static PreparedContractFunction of(@NonNull final String functionName,
+            @NonNull final String... nativeTypes) {
+        Objects.requireNonNull(nativeTypes, "nativeTypes must not be null");
+        return new PreparedContractFunction(functionName, List.of(nativeTypes));
+    }
+
+    /**
+     * Prepares the function with the given name and native parameter types (like {@code address} or
+     * {@code uint256}).
+     *
+     * @param functionName the name of the function
+     * @param nativeTypes  the native types of the parameters of the function
+     * @return the prepared function
+     */
+    @NonNull
+    public static PreparedContractFunction of(@NonNull final String functionName,
+            @NonNull final List<String> nativeTypes) {
+        return new PreparedContractFunction(functionName, nativeTypes);
+    }
+
+    /**
+     * Returns the name of the function.
+     *
+     * @return the name of the function
+     */
+    @NonNull
+    public String functionName() {
+        return functionName;
+    }
+
+    /**
+     * Returns the native types of the parameters of the function.
+     *
+     * @return the native types of the parameters
+     */
+    @NonNull
+    public List<String> nativeTypes() {
+        return nativeTypes;
+    }
+
+    /**
+     * Returns the signature of the function, like {@code transfer(address,uint256)}.
+     *
+     * @return the signature of the function
+     */
+    @NonNull
+    public String signature() {
+        return functionName + "(" + String.join(",", nativeTypes) + ")";
+    }
+
+    /**
+     * Returns the 4 byte selector of the function.
+     *
+     * @return the selector of the function
+     */
+    @NonNull
+    public byte[] selector() {
+        return selector.clone();
+    }
+
+    /**
+     * Encodes a call of the function with the given parameters. The result contains the selector followed by the ABI
+     * encoded parameters.
+     *
+     * @param params the parameters of the call, must match the native types of the function
+     * @return the encoded call
+     * @throws IllegalArgumentException if the parameters do not match the native types of the function
+     */
+    @NonNull
+    public byte[] encode(@NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        if (params.size() != slots.length) {
+            throw new IllegalArgumentException("Function '" + signature() + "' expects " + slots.length
+                    + " parameters but got " + params.size());
+        }
+        final byte[][] dynamicValues = new byte[dynamicCount][];
+        int size = headSize;
+        int dynamicIndex = 0;
+        for (int i = 0; i < slots.length; i++) {
+            final ContractParam<?> param = Objects.requireNonNull(params.get(i), "params must not contain null");
+            if (!slots[i].nativeType.equals(param.nativeType())) {
+                throw new IllegalArgumentException("Parameter " + i + " of function '" + signature()
+                        + "' must be of type '" + slots[i].nativeType + "' but is '" + param.nativeType() + "'");
+            }
+            if (slots[i].kind == Kind.DYNAMIC) {
+                final byte[] value = toBytes(param.value());
+                dynamicValues[dynamicIndex++] = value;
+                size += WORD_SIZE + paddedLength(value.length);
+            }
+        }
+        final byte[] result = new byte[size];
+        System.arraycopy(selector, 0, result, 0, SELECTOR_SIZE);
+        int tail = headSize;
+        dynamicIndex = 0;
+        for (int i = 0; i < slots.length; i++) {
+            final int offset = SELECTOR_SIZE + WORD_SIZE * i;
+            final Object value = params.get(i).value();
+            switch (slots[i].kind) {
+                case NUMBER -> writeNumber(value, result, offset);
+                case BOOL -> result[offset + WORD_SIZE - 1] = (byte) (((Boolean) value) ? 1 : 0);
+                case ADDRESS -> writeAddress((String) value, result, offset);
+                case BYTES32 -> writeBytes32(toBytes(value), result, offset);
+                case DYNAMIC -> {
+                    final byte[] bytes = dynamicValues[dynamicIndex++];
+                    writeLong(tail - SELECTOR_SIZE, result, offset);
+                    writeLong(bytes.length, result, tail);
+                    System.arraycopy(bytes, 0, result, tail + WORD_SIZE, bytes.length);
+                    tail += WORD_SIZE + paddedLength(bytes.length);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encodes a call of the function with the given parameters. The result contains the selector followed by the ABI
+     * encoded parameters.
+     *
+     * @param params the parameters of the call, must match the native types of the function
+     * @return the encoded call
+     * @throws IllegalArgumentException if the parameters do not match the native types of the function
+     */
+    @NonNull
+    public byte[] encode(@NonNull final ContractParam<?>... params) {
+        Objects.requireNonNull(params, "params must not be null");
+        return encode(Arrays.asList(params));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PreparedContractFunction that)) {
+            return false;
+        }
+        return functionName.equals(that.functionName) && nativeTypes.equals(that.nativeTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(functionName, nativeTypes);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedContractFunction{" + signature() + "}";
+    }
+
+    @NonNull
+    private static byte[] createSelector(@NonNull final String functionName, @NonNull final Slot[] slots) {
+        // The selector is computed once by the SDK, based on zero values of the native types
+        final ContractFunctionParameters params = new ContractFunctionParameters();
+        for (final Slot slot : slots) {
+            slot.addZero(params);
+        }
+        final byte[] call = new ContractExecuteTransaction().setFunction(functionName, params)
+                .getFunctionParameters().toByteArray();
+        return Arrays.copyOf(call, SELECTOR_SIZE);
+    }
+
+    private static int paddedLength(final int length) {
+        return (length + WORD_SIZE - 1) / WORD_SIZE * WORD_SIZE;
+    }
+
+    @NonNull
+    private static byte[] toBytes(@NonNull final Object value) {
+        if (value instanceof Bytes bytes) {
+            return bytes.bytes();
+        }
+        return ((String) value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(final long value, @NonNull final byte[] target, final int offset) {
+        if (value < 0) {
+            Arrays.fill(target, offset, offset + WORD_SIZE - Long.BYTES, (byte) 0xFF);
+        }
+        for (int i = 0; i < Long.BYTES; i++) {
+            target[offset + WORD_SIZE - 1 - i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private static void writeNumber(@NonNull final Object value, @NonNull final byte[] target, final int offset) {
+        if (value instanceof Long longValue) {
+            writeLong(longValue, target, offset);
+            return;
+        }
+        final BigInteger bigInteger = (BigInteger) value;
+        if (bigInteger.bitLength() < Long.SIZE) {
+            writeLong(bigInteger.longValue(), target, offset);
+            return;
+        }
+        final byte[] bytes = bigInteger.toByteArray();
+        final int length = Math.min(bytes.length, WORD_SIZE);
+        if (bigInteger.signum() < 0) {
+            Arrays.fill(target, offset, offset + WORD_SIZE - length, (byte) 0xFF);
+        }
+        System.arraycopy(bytes, bytes.length - length, target, offset + WORD_SIZE - length, length);
+    }
+
+    private static void writeAddress(@NonNull final String value, @NonNull final byte[] target, final int offset) {
+        final String hex = value.startsWith("0x") ? value.substring(2) : value;
+        if (hex.length() != 2 * ADDRESS_SIZE) {
+            throw new IllegalArgumentException("Invalid address '" + value + "'");
+        }
+        final byte[] address = HexFormat.of().parseHex(hex);
+        System.arraycopy(address, 0, target, offset + WORD_SIZE - ADDRESS_SIZE, ADDRESS_SIZE);
+    }
+
+    private static void writeBytes32(@NonNull final byte[] value, @NonNull final byte[] target, final int offset) {
+        if (value.length > WORD_SIZE) {
+            throw new IllegalArgumentException("bytes32 value must be 32 bytes or less");
+        }
+        System.arraycopy(value, 0, target, offset, value.length);
+    }
+
+    private enum Kind {
+        NUMBER, BOOL, ADDRESS, BYTES32, DYNAMIC
+    }
+
+    private record Slot(@NonNull String nativeType, @NonNull Kind kind) {
+
+        @NonNull
+        static Slot of(@NonNull final String nativeType) {
+            Objects.requireNonNull(nativeType, "nativeType must not be null");
+            return switch (nativeType) {
+                case "bool" -> new Slot(nativeType, Kind.BOOL);
+                case "address" -> new Slot(nativeType, Kind.ADDRESS);
+                case "bytes32" -> new Slot(nativeType, Kind.BYTES32);
+                case "string", "bytes" -> new Slot(nativeType, Kind.DYNAMIC);
+                default -> {
+                    if (Arrays.stream(LongBasedNumericDatatypes.values())
+                            .anyMatch(type -> type.getNativeType().equals(nativeType))
+                            || Arrays.stream(BigIntegerBasedNumericDatatypes.values())
+                            .anyMatch(type -> type.getNativeType().equals(nativeType))) {
+                        yield new Slot(nativeType, Kind.NUMBER);
+                    }
+                    throw new IllegalArgumentException("Unsupported native type '" + nativeType + "'");
+                }
+            };
+        }
+
+        void addZero(@NonNull final ContractFunctionParameters params) {
+            switch (kind) {
+                case BOOL -> params.addBool(false);
+                case ADDRESS -> params.addAddress("0".repeat(2 * ADDRESS_SIZE));
+                case BYTES32 -> params.addBytes32(new byte[WORD_SIZE]);
+                case DYNAMIC -> {
+                    if (nativeType.equals("string")) {
+                        params.addString("");
+                    } else {
+                        params.addBytes(new byte[0]);
+                    }
+                }
+                default -> Arrays.stream(LongBasedNumericDatatypes.values())
+                        .filter(type -> type.getNativeType().equals(nativeType))
+                        .findFirst()
+                        .ifPresentOrElse(type -> type.addParam(0L, params),
+                                () -> Arrays.stream(BigIntegerBasedNumericDatatypes.values())
+                                        .filter(type -> type.getNativeType().equals(nativeType))
+                                        .findFirst()
+                                        .orElseThrow()
+                                        .addParamToFunctionParameters(BigInteger.ZERO, params));
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.openelements.hiero.base.data;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of the verification of the running hashes of topic messages (see
+ * {@link com.openelements.hiero.base.mirrornode.TopicRunningHashVerifier}).
+ *
+ * @param verifiedCount                number of messages whose running hash has been verified before the first
+ *                                     divergence
+ * @param lastSequenceNumber           sequence number of the last verified message, or of the starting point if no
+ *                                     message has been verified
+ * @param lastRunningHash              running hash of the last verified message, or of the starting point if no message
+ *                                     has been verified
+ * @param firstDivergentSequenceNumber sequence number of the first message that is missing or whose running hash does
+ *                                     not match, or null if all messages have been verified
+ */
+public record RunningHashVerificationResult(long verifiedCount, long lastSequenceNumber,
+                                            @NonNull byte[] lastRunningHash,
+                                            @Nullable Long firstDivergentSequenceNumber) {
+
+    public RunningHashVerificationResult {
+        Objects.requireNonNull(lastRunningHash, "lastRunningHash must not be null");
+    }
+
+    /**
+     * Returns true if the running hashes of all messages have been verified.
+     *
+     * @return true if no divergence has been found
+     */
+    public boolean isValid() {
+        return firstDivergentSequenceNumber == null;
+    }
+}
@@ -5,23 +5,60 @@ import com.hedera.hashgraph.sdk.TopicId;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Objects;
 
+/**
+ * A message of a topic.
+ *
+ * @param chunkInfo          the chunk info if the message is a chunk of a larger message
+ * @param consensusTimestamp the consensus timestamp
+ * @param message            the content of the message decoded as UTF-8
+ * @param payerAccountId     the payer of the message
+ * @param runningHash        the running hash of the topic after the message
+ * @param runningHashVersion the version of the running hash
+ * @param sequenceNumber     the sequence number
+ * @param topicId            the topic
+ * @param contents           the raw content of the message as it has been submitted
+ */
 public record TopicMessage(
         @Nullable ChunkInfo chunkInfo,
         @NonNull Instant consensusTimestamp,
         @NonNull String message,
-        @NonNull AccountId payerAccountId,
+        @Nullable AccountId payerAccountId,
         byte[] runningHash,
         int runningHashVersion,
         long sequenceNumber,
-        @NonNull TopicId topicId
+        @NonNull TopicId topicId,
+        byte @NonNull [] contents
 ) {
     public TopicMessage {
         Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
         Objects.requireNonNull(message, "message must not be null");
-        Objects.requireNonNull(payerAccountId, "payerAccountId must not be null");
         Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(contents, "contents must not be null");
+    }
+
+    /**
+     * Creates a message whose raw content is the UTF-8 encoding of the given message.
+     */
+    public TopicMessage(@Nullable ChunkInfo chunkInfo, @NonNull Instant consensusTimestamp, @NonNull String message,
+            @Nullable AccountId payerAccountId, byte[] runningHash, int runningHashVersion, long sequenceNumber,
+            @NonNull TopicId topicId) {
+        this(chunkInfo, consensusTimestamp, message, payerAccountId, runningHash, runningHashVersion, sequenceNumber,
+                topicId, Objects.requireNonNull(message, "message must not be null").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a message from its raw content. The message is decoded as UTF-8.
+     */
+    @NonNull
+    public static TopicMessage of(@Nullable ChunkInfo chunkInfo, @NonNull Instant consensusTimestamp,
+            byte @NonNull [] contents, @Nullable AccountId payerAccountId, byte[] runningHash, int runningHashVersion,
+            long sequenceNumber, @NonNull TopicId topicId) {
+        Objects.requireNonNull(contents, "contents must not be null");
+        return new TopicMessage(chunkInfo, consensusTimestamp, new String(contents, StandardCharsets.UTF_8),
+                payerAccountId, runningHash, runningHashVersion, sequenceNumber, topicId, contents);
     }
 }
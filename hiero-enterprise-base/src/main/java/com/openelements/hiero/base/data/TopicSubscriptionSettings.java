@@ -0,0 +1,78 @@
+package com.openelements.hiero.base.data;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings of a topic subscription that is consumed as a {@link java.util.concurrent.Flow.Publisher}. Messages that
+ * arrive while the subscriber has no outstanding demand are buffered up to {@code bufferSize} messages. The
+ * {@code overflowPolicy} defines what happens if a message arrives while the buffer is full.
+ *
+ * @param bufferSize     maximum number of messages that are buffered for a subscriber
+ * @param overflowPolicy the policy that is applied if the buffer is full
+ */
+public record TopicSubscriptionSettings(int bufferSize, @NonNull OverflowPolicy overflowPolicy) {
+
+    /**
+     * Default number of messages that are buffered for a subscriber.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * Default settings: a buffer of {@link #DEFAULT_BUFFER_SIZE} messages and {@link OverflowPolicy#BLOCK}.
+     */
+    public static final TopicSubscriptionSettings DEFAULT = new TopicSubscriptionSettings(DEFAULT_BUFFER_SIZE,
+            OverflowPolicy.BLOCK);
+
+    /**
+     * Policy that is applied if a message arrives while the buffer of a subscriber is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The new message is dropped. The subscriber receives all messages up to the overflow and continues with the
+         * next message that fits in the buffer.
+         */
+        DROP,
+
+        /**
+         * The stream of the network is paused until the subscriber requests more messages. No message is lost, but a
+         * slow subscriber slows down the subscription.
+         */
+        BLOCK,
+
+        /**
+         * The subscription is cancelled and the subscriber receives an error.
+         */
+        FAIL
+    }
+
+    public TopicSubscriptionSettings {
+        Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+    }
+
+    /**
+     * Creates settings with the given buffer size and {@link OverflowPolicy#BLOCK}.
+     *
+     * @param bufferSize maximum number of messages that are buffered for a subscriber
+     * @return the settings
+     */
+    @NonNull
+    public static TopicSubscriptionSettings of(final int bufferSize) {
+        return new TopicSubscriptionSettings(bufferSize, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Returns a copy of these settings with the given overflow policy.
+     *
+     * @param overflowPolicy the policy that is applied if the buffer is full
+     * @return the new settings
+     */
+    @NonNull
+    public TopicSubscriptionSettings withOverflowPolicy(@NonNull final OverflowPolicy overflowPolicy) {
+        return new TopicSubscriptionSettings(bufferSize, overflowPolicy);
+    }
+}
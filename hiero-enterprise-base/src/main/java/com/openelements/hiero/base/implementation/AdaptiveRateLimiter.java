@@ -0,0 +1,248 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client side rate limiter for transactions. Every combination of operator account and {@link TransactionType} has
+ * its own token bucket. The rate of a bucket is adjusted by AIMD (additive increase, multiplicative decrease): if a
+ * transaction has been throttled by the network, the rate is multiplied by the
+ * {@link RateLimiterSettings#decreaseFactor() decrease factor}; for every second without throttling, the rate grows by
+ * the {@link RateLimiterSettings#additiveIncrease() additive increase}. The rate is adjusted at most once per second,
+ * so that the throttled transactions of one burst only decrease the rate once.
+ * <p>
+ * A reservation that would have to wait longer than {@link RateLimiterSettings#maxWait()} is rejected, so that the
+ * queue of waiting transactions of a bucket is bounded.
+ */
+public class AdaptiveRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+
+    private static final long ADJUSTMENT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiterSettings settings;
+
+    private final LongSupplier nanoTime;
+
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private record Key(@NonNull AccountId operator, @NonNull TransactionType type) {
+    }
+
+    public AdaptiveRateLimiter(@NonNull final RateLimiterSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    /**
+     * Creates a rate limiter that uses the given time source.
+     *
+     * @param settings the settings
+     * @param nanoTime the time source in nanoseconds, like {@link System#nanoTime()}
+     */
+    public AdaptiveRateLimiter(@NonNull final RateLimiterSettings settings, @NonNull final LongSupplier nanoTime) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime must not be null");
+    }
+
+    /**
+     * Reserves the given number of permits for transactions of the given type paid by the given operator. The returned
+     * duration defines how long the caller must wait before the transactions can be submitted.
+     *
+     * @param operator the operator account that pays for the transactions
+     * @param type     the type of the transactions
+     * @param permits  the number of transactions
+     * @return the time to wait before the transactions can be submitted
+     * @throws HieroException if the time to wait would exceed {@link RateLimiterSettings#maxWait()}, in that case no
+     *                        permit is reserved
+     */
+    @NonNull
+    public Duration reserve(@NonNull final AccountId operator, @NonNull final TransactionType type,
+            final int permits) throws HieroException {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be greater than 0");
+        }
+        final long wait = bucket(operator, type).reserve(permits);
+        if (wait < 0) {
+            throw new HieroException("Rate limit for transactions of type " + type + " paid by " + operator
+                    + " exceeded, the transaction would have to wait longer than " + settings.maxWait());
+        }
+        return Duration.ofNanos(wait);
+    }
+
+    /**
+     * Reserves the given number of permits and returns a future that completes once the transactions can be
+     * submitted. No thread is blocked while waiting.
+     *
+     * @param operator the operator account that pays for the transactions
+     * @param type     the type of the transactions
+     * @param permits  the number of transactions
+     * @return a future that completes once the transactions can be submitted, or fails with a {@link HieroException}
+     * if the time to wait would exceed {@link RateLimiterSettings#maxWait()}
+     */
+    @NonNull
+    public CompletableFuture<Void> acquire(@NonNull final AccountId operator, @NonNull final TransactionType type,
+            final int permits) {
+        final Duration wait;
+        try {
+            wait = reserve(operator, type, permits);
+        } catch (final HieroException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (wait.isZero()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        log.debug("Delaying {} transaction(s) of type {} paid by {} for {}", permits, type, operator, wait);
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(wait.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Reports that a transaction of the given type paid by the given operator has been accepted by the network.
+     *
+     * @param operator the operator account that paid for the transaction
+     * @param type     the type of the transaction
+     */
+    public void onAccepted(@NonNull final AccountId operator, @NonNull final TransactionType type) {
+        bucket(operator, type).increase();
+    }
+
+    /**
+     * Reports that a transaction of the given type paid by the given operator has been throttled by the network.
+     *
+     * @param operator the operator account that paid for the transaction
+     * @param type     the type of the transaction
+     */
+    public void onThrottled(@NonNull final AccountId operator, @NonNull final TransactionType type) {
+        bucket(operator, type).decrease();
+    }
+
+    /**
+     * Returns the current rate for transactions of the given type paid by the given operator.
+     *
+     * @param operator the operator account
+     * @param type     the transaction type
+     * @return the rate in transactions per second
+     */
+    public double getRate(@NonNull final AccountId operator, @NonNull final TransactionType type) {
+        return bucket(operator, type).rate();
+    }
+
+    @NonNull
+    private Bucket bucket(@NonNull final AccountId operator, @NonNull final TransactionType type) {
+        Objects.requireNonNull(operator, "operator must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        return buckets.computeIfAbsent(new Key(operator, type), key -> new Bucket(key, nanoTime.getAsLong()));
+    }
+
+    private final class Bucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Key key;
+
+        private double rate;
+
+        private double tokens;
+
+        private long lastRefill;
+
+        private long lastIncrease;
+
+        private long lastDecrease;
+
+        private Bucket(@NonNull final Key key, final long now) {
+            this.key = key;
+            this.rate = settings.initialRate();
+            this.tokens = settings.burstSize();
+            this.lastRefill = now;
+            this.lastIncrease = now;
+            this.lastDecrease = now - ADJUSTMENT_INTERVAL_NANOS;
+        }
+
+        /**
+         * Takes the permits from the bucket. Missing tokens are borrowed from the future, so the returned wait time
+         * also covers earlier reservations that have not been paid back yet. If the wait time would exceed the
+         * maximum wait time, no permit is taken and -1 is returned.
+         */
+        long reserve(final int permits) {
+            lock.lock();
+            try {
+                refill(nanoTime.getAsLong());
+                final double remaining = tokens - permits;
+                if (remaining >= 0) {
+                    tokens = remaining;
+                    return 0;
+                }
+                final long wait = (long) Math.ceil(-remaining / rate * TimeUnit.SECONDS.toNanos(1));
+                if (wait > settings.maxWait().toNanos()) {
+                    return -1;
+                }
+                tokens = remaining;
+                return wait;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void increase() {
+            lock.lock();
+            try {
+                final long now = nanoTime.getAsLong();
+                final long lastAdjustment = Math.max(lastIncrease, lastDecrease);
+                if (now - lastAdjustment < ADJUSTMENT_INTERVAL_NANOS || rate >= settings.maxRate()) {
+                    return;
+                }
+                refill(now);
+                rate = Math.min(settings.maxRate(), rate + settings.additiveIncrease());
+                lastIncrease = now;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void decrease() {
+            lock.lock();
+            try {
+                final long now = nanoTime.getAsLong();
+                if (now - lastDecrease < ADJUSTMENT_INTERVAL_NANOS) {
+                    return;
+                }
+                refill(now);
+                rate = Math.max(settings.minRate(), rate * settings.decreaseFactor());
+                tokens = Math.min(tokens, 0);
+                lastDecrease = now;
+                log.debug("Transactions of type {} paid by {} are throttled, rate decreased to {}/s", key.type(),
+                        key.operator(), rate);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        double rate() {
+            lock.lock();
+            try {
+                return rate;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill(final long now) {
+            final double elapsedSeconds = (double) (now - lastRefill) / TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(settings.burstSize(), tokens + elapsedSeconds * rate);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,1042 @@
+package com.openelements.hiero.base.implementation;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.hashgraph.sdk.AccountBalance;
+import com.hedera.hashgraph.sdk.AccountBalanceQuery;
+import com.hedera.hashgraph.sdk.AccountCreateTransaction;
+import com.hedera.hashgraph.sdk.AccountDeleteTransaction;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.ContractCreateTransaction;
+import com.hedera.hashgraph.sdk.ContractDeleteTransaction;
+import com.hedera.hashgraph.sdk.ContractCallQuery;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.hedera.hashgraph.sdk.FileAppendTransaction;
+import com.hedera.hashgraph.sdk.FileContentsQuery;
+import com.hedera.hashgraph.sdk.FileCreateTransaction;
+import com.hedera.hashgraph.sdk.FileDeleteTransaction;
+import com.hedera.hashgraph.sdk.FileInfoQuery;
+import com.hedera.hashgraph.sdk.FileUpdateTransaction;
+import com.hedera.hashgraph.sdk.NftId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.PublicKey;
+import com.hedera.hashgraph.sdk.Query;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import com.hedera.hashgraph.sdk.TokenAssociateTransaction;
+import com.hedera.hashgraph.sdk.TokenBurnTransaction;
+import com.hedera.hashgraph.sdk.TokenCreateTransaction;
+import com.hedera.hashgraph.sdk.TokenDissociateTransaction;
+import com.hedera.hashgraph.sdk.TokenMintTransaction;
+import com.hedera.hashgraph.sdk.TopicCreateTransaction;
+import com.hedera.hashgraph.sdk.TopicDeleteTransaction;
+import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.TopicUpdateTransaction;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
+import com.hedera.hashgraph.sdk.TransactionRecord;
+import com.hedera.hashgraph.sdk.TransactionResponse;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TransactionInDoubtException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.implementation.OperatorPool.Operator;
+import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor.ReceiveRecordHandler;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.AccountCreateResult;
+import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
+import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateResult;
+import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
+import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsRequest;
+import com.openelements.hiero.base.protocol.data.FileContentsResponse;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
+import com.openelements.hiero.base.protocol.data.FileDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileInfoRequest;
+import com.openelements.hiero.base.protocol.data.FileInfoResponse;
+import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
+import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
+import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnResult;
+import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateResult;
+import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenDissociateResult;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
+import com.openelements.hiero.base.protocol.data.TopicDeleteResult;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
+import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptRequest;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptResponse;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link AsyncProtocolLayerClient} that uses the asynchronous execute and receipt paths of the SDK.
+ * No thread is blocked while a transaction is waiting for consensus. The only exception is a custom
+ * {@link ReceiveRecordInterceptor}: since the interceptor API is blocking, it is called on a virtual thread.
+ * <p>
+ * If the context provides more than one operator account, every transaction is paid by an operator that is picked by
+ * the {@link HieroContext#getOperatorSelectionStrategy() operator selection strategy} of the context. The transaction
+ * is frozen, submitted and its receipt and record are requested with the client of that operator. File transactions
+ * are always paid by the primary operator since its key is the key of all files created by this client. Smart contract
+ * transactions are always paid by the primary operator as well, so that the caller of a contract ({@code msg.sender})
+ * does not change between calls. The initial balance of a new account is paid by the operator that pays the account
+ * create transaction. Queries and subscriptions always use the client of the primary operator.
+ * <p>
+ * If {@link RateLimiterSettings} are given, the submission of transactions is paced by an
+ * {@link AdaptiveRateLimiter} with a separate budget per operator account and transaction type.
+ */
+public class AsyncProtocolLayerClientImpl implements AsyncProtocolLayerClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncProtocolLayerClientImpl.class);
+
+    public static final int DEFAULT_GAS = 1_000_000;
+
+    private static final Map<Class<?>, TransactionType> TRANSACTION_TYPES = Map.ofEntries(
+            Map.entry(AccountCreateTransaction.class, TransactionType.ACCOUNT_CREATE),
+            Map.entry(AccountDeleteTransaction.class, TransactionType.ACCOUNT_DELETE),
+            Map.entry(TransferTransaction.class, TransactionType.CRYPTO_TRANSFER),
+            Map.entry(FileCreateTransaction.class, TransactionType.FILE_CREATE),
+            Map.entry(FileAppendTransaction.class, TransactionType.FILE_APPEND),
+            Map.entry(FileUpdateTransaction.class, TransactionType.FILE_UPDATE),
+            Map.entry(FileDeleteTransaction.class, TransactionType.FILE_DELETE),
+            Map.entry(ContractCreateTransaction.class, TransactionType.CONTRACT_CREATE),
+            Map.entry(ContractDeleteTransaction.class, TransactionType.CONTRACT_DELETE),
+            Map.entry(ContractExecuteTransaction.class, TransactionType.CONTRACT_CALL),
+            Map.entry(TopicCreateTransaction.class, TransactionType.TOPIC_CREATE),
+            Map.entry(TopicUpdateTransaction.class, TransactionType.TOPIC_UPDATE),
+            Map.entry(TopicDeleteTransaction.class, TransactionType.TOPIC_DELETE),
+            Map.entry(TopicMessageSubmitTransaction.class, TransactionType.TOPIC_MESSAGE_SUBMIT),
+            Map.entry(TokenCreateTransaction.class, TransactionType.TOKEN_CREATE),
+            Map.entry(TokenAssociateTransaction.class, TransactionType.TOKEN_ASSOCIATE),
+            Map.entry(TokenDissociateTransaction.class, TransactionType.TOKEN_DISSOCIATE),
+            Map.entry(TokenMintTransaction.class, TransactionType.TOKEN_MINT),
+            Map.entry(TokenBurnTransaction.class, TransactionType.TOKEN_BURN));
+
+    private final TransactionEventDispatcher eventDispatcher;
+
+    private final HieroContext hieroContext;
+
+    private final OperatorPool operatorPool;
+
+    @Nullable
+    private final AdaptiveRateLimiter rateLimiter;
+
+    private final AtomicReference<ReceiveRecordInterceptor> recordInterceptor = new AtomicReference<>(
+            ReceiveRecordInterceptor.DEFAULT_INTERCEPTOR);
+
+    private final Executor interceptorExecutor = command -> Thread.ofVirtual()
+            .name("hiero-record-interceptor")
+            .start(command);
+
+    /**
+     * Receipt of a transaction together with the event that has been passed to the listeners.
+     */
+    private record HandledTransaction(@NonNull TransactionReceipt receipt, @NonNull TransactionEvent event) {
+    }
+
+    public AsyncProtocolLayerClientImpl(@NonNull final HieroContext hieroContext) {
+        this(hieroContext, null);
+    }
+
+    /**
+     * Creates a client that paces the submission of transactions by an {@link AdaptiveRateLimiter}.
+     *
+     * @param hieroContext        the context
+     * @param rateLimiterSettings the settings of the rate limiter or {@code null} if transactions are not limited
+     */
+    public AsyncProtocolLayerClientImpl(@NonNull final HieroContext hieroContext,
+            @Nullable final RateLimiterSettings rateLimiterSettings) {
+        this.hieroContext = Objects.requireNonNull(hieroContext, "hieroContext must not be null");
+        operatorPool = new OperatorPool(hieroContext);
+        rateLimiter = rateLimiterSettings == null ? null : new AdaptiveRateLimiter(rateLimiterSettings);
+        eventDispatcher = new TransactionEventDispatcher();
+    }
+
+    @Override
+    public void setRecordInterceptor(@NonNull final ReceiveRecordInterceptor recordInterceptor) {
+        Objects.requireNonNull(recordInterceptor, "recordInterceptor must not be null");
+        this.recordInterceptor.set(recordInterceptor);
+    }
+
+    @Override
+    public CompletableFuture<AccountBalanceResponse> executeAccountBalanceQuery(
+            @NonNull final AccountBalanceRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final AccountBalanceQuery query = new AccountBalanceQuery().setAccountId(request.accountId())
+                .setQueryPayment(request.queryPayment())
+                .setMaxQueryPayment(request.maxQueryPayment());
+        return executeQuery(query)
+                .thenApply((AccountBalance balance) -> new AccountBalanceResponse(balance.hbars));
+    }
+
+    @Override
+    public CompletableFuture<FileContentsResponse> executeFileContentsQuery(
+            @NonNull final FileContentsRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final FileContentsQuery query = new FileContentsQuery().setFileId(request.fileId())
+                .setQueryPayment(request.queryPayment())
+                .setMaxQueryPayment(request.maxQueryPayment());
+        return executeQuery(query)
+                .thenApply((ByteString byteString) -> new FileContentsResponse(request.fileId(),
+                        byteString.toByteArray()));
+    }
+
+    @Override
+    public CompletableFuture<FileInfoResponse> executeFileInfoQuery(@NonNull final FileInfoRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final FileInfoQuery query = new FileInfoQuery().setFileId(request.fileId())
+                .setQueryPayment(request.queryPayment())
+                .setMaxQueryPayment(request.maxQueryPayment());
+        return executeQuery(query).thenApply(fileInfo -> {
+            if (fileInfo.size > Integer.MAX_VALUE) {
+                throw new CompletionException(
+                        new HieroException("File size is too large to be represented as an integer"));
+            }
+            return new FileInfoResponse(request.fileId(), (int) fileInfo.size, fileInfo.isDeleted,
+                    fileInfo.expirationTime);
+        });
+    }
+
+    @Override
+    public CompletableFuture<FileCreateResult> executeFileCreateTransaction(@NonNull final FileCreateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(request.contents(), "content must not be null");
+        if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+            return CompletableFuture.failedFuture(new HieroException(
+                    "File contents of 1 transaction must be less than " + FileCreateRequest.FILE_CREATE_MAX_SIZE
+                            + " bytes. Use FileAppend for larger files."));
+        }
+        final FileCreateTransaction transaction = new FileCreateTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setContents(request.contents())
+                .setTransactionMemo(request.fileMemo())
+                .setKeys(Objects.requireNonNull(hieroContext.getOperatorAccount().publicKey()));
+        if (request.expirationTime() != null) {
+            transaction.setExpirationTime(request.expirationTime());
+        }
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.primary())
+                .thenApply(receipt -> new FileCreateResult(receipt.transactionId, receipt.status, receipt.fileId));
+    }
+
+    @Override
+    public CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransaction(
+            @NonNull final FileUpdateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        if (request.contents() != null && request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+            return CompletableFuture.failedFuture(new HieroException(
+                    "File contents of 1 transaction must be less than " + FileCreateRequest.FILE_CREATE_MAX_SIZE
+                            + " bytes. Use FileAppend for larger files."));
+        }
+        final FileUpdateTransaction transaction = new FileUpdateTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setFileId(request.fileId())
+                .setTransactionMemo(request.fileMemo());
+        if (request.contents() != null) {
+            transaction.setContents(request.contents());
+        }
+        if (request.expirationTime() != null) {
+            transaction.setExpirationTime(request.expirationTime());
+        }
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.primary())
+                .thenApply(receipt -> new FileUpdateResult(receipt.transactionId, receipt.status));
+    }
+
+    @Override
+    public CompletableFuture<FileAppendResult> executeFileAppendRequestTransaction(
+            @NonNull final FileAppendRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(request.contents(), "content must not be null");
+        if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+            return CompletableFuture.failedFuture(new HieroException(
+                    "File contents of 1 transaction must be less than " + FileCreateRequest.FILE_CREATE_MAX_SIZE
+                            + " bytes. Use multiple FileAppend for larger files."));
+        }
+        final FileAppendTransaction transaction = new FileAppendTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setFileId(request.fileId())
+                .setContents(request.contents())
+                .setTransactionMemo(request.fileMemo());
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.primary())
+                .thenApply(receipt -> new FileAppendResult(receipt.transactionId, receipt.status));
+    }
+
+    @Override
+    public CompletableFuture<FileDeleteResult> executeFileDeleteTransaction(@NonNull final FileDeleteRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final FileDeleteTransaction transaction = new FileDeleteTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setFileId(request.fileId());
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.primary())
+                .thenApply(receipt -> new FileDeleteResult(receipt.transactionId, receipt.status));
+    }
+
+    @Override
+    public CompletableFuture<ContractCreateResult> executeContractCreateTransaction(
+            @NonNull final ContractCreateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final ContractFunctionParameters constructorParams = createParameters(request.constructorParams());
+        final ContractCreateTransaction transaction = new ContractCreateTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setBytecodeFileId(request.fileId())
+                .setGas(DEFAULT_GAS)
+                .setConstructorParameters(constructorParams);
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.primary())
+                .thenApply(receipt -> new ContractCreateResult(receipt.transactionId, receipt.status,
+                        receipt.contractId));
+    }
+
+    @Override
+    public CompletableFuture<ContractDeleteResult> executeContractDeleteTransaction(
+            @NonNull final ContractDeleteRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final ContractDeleteTransaction transaction = new ContractDeleteTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setContractId(request.contractId());
+        if (request.transferFeeToContractId() != null) {
+            transaction.setTransferContractId(request.transferFeeToContractId());
+        }
+        if (request.transferFeeToAccountId() != null) {
+            transaction.setTransferAccountId(request.transferFeeToAccountId());
+        }
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.primary())
+                .thenApply(receipt -> new ContractDeleteResult(receipt.transactionId, receipt.status));
+    }
+
+    @Override
+    public CompletableFuture<ContractCallResult> executeContractCallTransaction(
+            @NonNull final ContractCallRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final ContractExecuteTransaction transaction = new ContractExecuteTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setContractId(request.contractId())
+                .setGas(DEFAULT_GAS);
+        if (request.preparedFunction() != null) {
+            // the encoded array is not shared, so it can be wrapped without a copy
+            final byte[] functionCall = request.preparedFunction().encode(request.constructorParams());
+            transaction.setFunctionParameters(UnsafeByteOperations.unsafeWrap(functionCall));
+        } else {
+            transaction.setFunction(request.functionName(), createParameters(request.constructorParams()));
+        }
+        return executeTransactionAndWaitOnRecord(transaction, operatorPool.primary())
+                .thenApply(record -> new ContractCallResult(record.transactionId, record.receipt.status,
+                        record.transactionHash.toByteArray(), record.consensusTimestamp, record.transactionFee,
+                        record.contractFunctionResult));
+    }
+
+    @Override
+    public CompletableFuture<ContractCallQueryResponse> executeContractCallQuery(
+            @NonNull final ContractCallQueryRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final ContractCallQuery query = new ContractCallQuery()
+                .setContractId(request.contractId())
+                .setGas(DEFAULT_GAS)
+                .setFunctionParameters(request.functionCall())
+                .setQueryPayment(request.queryPayment())
+                .setMaxQueryPayment(request.maxQueryPayment());
+        return executeQuery(query)
+                .thenApply(result -> new ContractCallQueryResponse(request.contractId(), result));
+    }
+
+    @Override
+    public CompletableFuture<TransactionReceiptResponse> executeTransactionReceiptQuery(
+            @NonNull final TransactionReceiptRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final TransactionReceiptQuery query = new TransactionReceiptQuery()
+                .setTransactionId(request.transactionId());
+        return executeQuery(query)
+                .thenApply((TransactionReceipt receipt) -> new TransactionReceiptResponse(request.transactionId(),
+                        receipt.status, receipt.serials));
+    }
+
+    @Override
+    public CompletableFuture<AccountCreateResult> executeAccountCreateTransaction(
+            @NonNull final AccountCreateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final PrivateKey privateKey = PrivateKey.generateED25519();
+        final PublicKey publicKey = privateKey.getPublicKey();
+        final AccountCreateTransaction transaction = new AccountCreateTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setKey(publicKey)
+                .setInitialBalance(request.initialBalance());
+        return executeTransactionAndWaitOnRecord(transaction).thenApply(record -> {
+            final Account newAccount = Account.of(record.receipt.accountId, publicKey, privateKey);
+            return new AccountCreateResult(record.transactionId, record.receipt.status,
+                    record.transactionHash.toByteArray(), record.consensusTimestamp, record.transactionFee,
+                    newAccount);
+        });
+    }
+
+    @Override
+    public CompletableFuture<AccountDeleteResult> executeAccountDeleteTransaction(
+            @NonNull final AccountDeleteRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        final AccountDeleteTransaction transaction = new AccountDeleteTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setAccountId(request.toDelete().accountId());
+        final Account transferTo = Optional.ofNullable(request.transferFoundsToAccount())
+                .orElse(hieroContext.getOperatorAccount());
+        transaction.setTransferAccountId(transferTo.accountId());
+        return executeTransactionAndWaitOnRecord(transaction, request.toDelete().privateKey(), transferTo.privateKey())
+                .thenApply(record -> new AccountDeleteResult(record.transactionId, record.receipt.status,
+                        record.transactionHash.toByteArray(), record.consensusTimestamp, record.transactionFee));
+    }
+
+    @Override
+    public CompletableFuture<TopicCreateResult> executeTopicCreateTransaction(
+            @NonNull final TopicCreateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(request.maxTransactionFee(), "maxTransactionFee must not be null");
+        Objects.requireNonNull(request.transactionValidDuration(), "transactionValidDuration must not be null");
+        return execute("Failed to execute create topic transaction", () -> {
+            final TopicCreateTransaction transaction = new TopicCreateTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setAdminKey(request.adminKey());
+            if (request.memo() != null) {
+                transaction.setTopicMemo(request.memo());
+            }
+            if (request.submitKey() != null) {
+                transaction.setSubmitKey(request.submitKey());
+            }
+            return executeTransactionAndWaitOnReceipt(transaction, request.adminKey())
+                    .thenApply(receipt -> new TopicCreateResult(receipt.transactionId, receipt.status,
+                            receipt.topicId));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TopicUpdateResult> executeTopicUpdateTransaction(
+            @NonNull final TopicUpdateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(request.maxTransactionFee(), "maxTransactionFee must not be null");
+        Objects.requireNonNull(request.transactionValidDuration(), "transactionValidDuration must not be null");
+        return execute("Failed to execute update topic transaction", () -> {
+            final TopicUpdateTransaction transaction = new TopicUpdateTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTopicId(request.topicId());
+            if (request.memo() != null) {
+                transaction.setTopicMemo(request.memo());
+            }
+            if (request.submitKey() != null) {
+                transaction.setSubmitKey(request.submitKey());
+            }
+            final PrivateKey[] signingKeys;
+            if (request.updatedAdminKey() != null) {
+                transaction.setAdminKey(request.updatedAdminKey());
+                signingKeys = new PrivateKey[]{request.adminKey(), request.updatedAdminKey()};
+            } else {
+                signingKeys = new PrivateKey[]{request.adminKey()};
+            }
+            return executeTransactionAndWaitOnReceipt(transaction, signingKeys)
+                    .thenApply(receipt -> new TopicUpdateResult(receipt.transactionId, receipt.status));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TopicDeleteResult> executeTopicDeleteTransaction(
+            @NonNull final TopicDeleteRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute delete topic transaction", () -> {
+            final TopicDeleteTransaction transaction = new TopicDeleteTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTopicId(request.topicId());
+            return executeTransactionAndWaitOnReceipt(transaction, request.adminKey())
+                    .thenApply(receipt -> new TopicDeleteResult(receipt.transactionId, receipt.status));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TopicSubmitMessageResult> executeTopicMessageSubmitTransaction(
+            @NonNull final TopicSubmitMessageRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute submit message transaction", () -> {
+            final TopicMessageSubmitTransaction transaction = new TopicMessageSubmitTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTopicId(request.topicId())
+                    .setMessage(request.message());
+            transaction.setChunkSize(TopicSubmitMessageRequest.CHUNK_SIZE);
+            transaction.setMaxChunks(request.chunkCount());
+            final PrivateKey[] signingKeys = Optional.ofNullable(request.submitKey())
+                    .map(key -> new PrivateKey[]{key})
+                    .orElseGet(() -> new PrivateKey[0]);
+            final CompletableFuture<TransactionReceipt> receiptFuture;
+            if (request.chunkCount() > 1) {
+                receiptFuture = executeChunksAndWaitOnReceipts(transaction, request.chunkCount(), signingKeys);
+            } else {
+                receiptFuture = executeTransactionAndWaitOnReceipt(transaction, signingKeys);
+            }
+            return receiptFuture
+                    .thenApply(receipt -> new TopicSubmitMessageResult(receipt.transactionId, receipt.status));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TopicMessageResult> executeTopicMessageQuery(@NonNull final TopicMessageRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute query message transaction", () -> {
+            final TopicMessageQuery query = new TopicMessageQuery()
+                    .setTopicId(request.topicId());
+            if (request.startTime() != null) {
+                query.setStartTime(request.startTime());
+            }
+            if (request.endTime() != null) {
+                query.setEndTime(request.endTime());
+            }
+            if (request.limit() >= 0) {
+                query.setLimit(request.limit());
+            }
+            if (request.errorHandler() != null) {
+                final Consumer<Throwable> errorHandler = request.errorHandler();
+                query.setErrorHandler((error, message) -> errorHandler.accept(error));
+            }
+            if (request.completionHandler() != null) {
+                query.setCompletionHandler(request.completionHandler());
+            }
+            final SubscriptionHandle handle = query.subscribe(hieroContext.getClient(), request.subscription());
+            return CompletableFuture.completedFuture(new TopicMessageResult(handle));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TokenCreateResult> executeTokenCreateTransaction(
+            @NonNull final TokenCreateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute create token transaction", () -> {
+            final TokenCreateTransaction transaction = new TokenCreateTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTokenName(request.name())
+                    .setTokenSymbol(request.symbol())
+                    .setTreasuryAccountId(request.treasuryAccountId())
+                    .setTokenType(request.tokenType())
+                    .setSupplyKey(request.supplyKey());
+            return executeTransactionAndWaitOnReceipt(transaction, request.treasuryKey(), request.supplyKey())
+                    .thenApply(receipt -> new TokenCreateResult(receipt.transactionId, receipt.status,
+                            receipt.tokenId));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TokenAssociateResult> executeTokenAssociateTransaction(
+            @NonNull final TokenAssociateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute associate token transaction", () -> {
+            final TokenAssociateTransaction transaction = new TokenAssociateTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTokenIds(request.tokenIds())
+                    .setAccountId(request.accountId());
+            return executeTransactionAndWaitOnReceipt(transaction, request.accountPrivateKey())
+                    .thenApply(receipt -> new TokenAssociateResult(receipt.transactionId, receipt.status));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TokenDissociateResult> executeTokenDissociateTransaction(
+            @NonNull final TokenDissociateRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute dissociate token transaction", () -> {
+            final TokenDissociateTransaction transaction = new TokenDissociateTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setAccountId(request.accountId())
+                    .setTokenIds(request.tokenIds());
+            return executeTransactionAndWaitOnReceipt(transaction, request.accountKey())
+                    .thenApply(receipt -> new TokenDissociateResult(receipt.transactionId, receipt.status));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TokenBurnResult> executeBurnTokenTransaction(@NonNull final TokenBurnRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute burn token transaction", () -> {
+            final TokenBurnTransaction transaction = new TokenBurnTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTokenId(request.tokenId());
+            if (request.amount() != null) {
+                transaction.setAmount(request.amount());
+            } else if (request.serials() != null) {
+                transaction.setSerials(List.copyOf(request.serials()));
+            } else {
+                throw new IllegalArgumentException("either amount or serial must be provided");
+            }
+            return executeTransactionAndWaitOnReceipt(transaction, request.supplyKey())
+                    .thenApply(receipt -> new TokenBurnResult(receipt.transactionId, receipt.status,
+                            receipt.totalSupply));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TokenMintResult> executeMintTokenTransaction(@NonNull final TokenMintRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute mint token transaction", () -> {
+            final TokenMintTransaction transaction = new TokenMintTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTokenId(request.tokenId());
+            if (request.amount() != null) {
+                transaction.setAmount(request.amount());
+            } else if (request.metadata() != null) {
+                transaction.setMetadata(request.metadata());
+            } else {
+                throw new IllegalArgumentException("either amount or metadata must be provided");
+            }
+            return executeTransactionAndWaitOnReceipt(transaction, request.supplyKey())
+                    .thenApply(receipt -> new TokenMintResult(receipt.transactionId, receipt.status,
+                            receipt.serials, receipt.totalSupply));
+        });
+    }
+
+    @Override
+    public CompletableFuture<TokenTransferResult> executeTransferTransaction(
+            @NonNull final TokenTransferRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return execute("Failed to execute transfer nft transaction", () -> {
+            final TransferTransaction transaction = new TransferTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration());
+            if (!request.serials().isEmpty()) {
+                request.serials().forEach(
+                        serial -> transaction.addNftTransfer(new NftId(request.tokenId(), serial), request.sender(),
+                                request.receiver()));
+            } else if (request.amount() != null) {
+                transaction.addTokenTransfer(request.tokenId(), request.sender(), request.amount() * -1);
+                transaction.addTokenTransfer(request.tokenId(), request.receiver(), request.amount());
+            } else {
+                throw new IllegalArgumentException("either amount or serial must be provided");
+            }
+            return executeTransactionAndWaitOnReceipt(transaction, request.senderKey())
+                    .thenApply(receipt -> new TokenTransferResult(receipt.transactionId, receipt.status));
+        });
+    }
+
+    @NonNull
+    @Override
+    public Runnable addTransactionListener(@NonNull final TransactionListener listener) {
+        return eventDispatcher.addListener(listener);
+    }
+
+    @Override
+    public long getDroppedTransactionEventCount() {
+        return eventDispatcher.getDroppedCount();
+    }
+
+    @Override
+    public AccountId getOperatorAccountId() {
+        return hieroContext.getOperatorAccount().accountId();
+    }
+
+    @NonNull
+    @Override
+    public List<OperatorStatistics> getOperatorStatistics() {
+        return operatorPool.getStatistics();
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<Map<AccountId, AccountBalanceResponse>> executeOperatorBalanceQueries() {
+        final List<Operator> operators = operatorPool.operators();
+        final List<CompletableFuture<AccountBalanceResponse>> balances = operators.stream()
+                .map(operator -> execute("Failed to query balance of operator " + operator.account().accountId(),
+                        () -> new AccountBalanceQuery().setAccountId(operator.account().accountId())
+                                .executeAsync(operator.client())
+                                .thenApply(balance -> new AccountBalanceResponse(balance.hbars))))
+                .toList();
+        return CompletableFuture.allOf(balances.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final Map<AccountId, AccountBalanceResponse> result = new LinkedHashMap<>();
+                    for (int i = 0; i < operators.size(); i++) {
+                        result.put(operators.get(i).account().accountId(), balances.get(i).join());
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Freezes the transaction with the client of the operator that pays for it and signs it with the given keys. If no
+     * key is given, the transaction is frozen by the SDK when it is submitted.
+     */
+    private static <T extends Transaction<T>> void sign(@NonNull final T transaction,
+            @NonNull final Operator operator, @NonNull final PrivateKey... keys) {
+        if (keys.length > 0) {
+            transaction.freezeWith(operator.client());
+            for (PrivateKey key : keys) {
+                transaction.sign(key);
+            }
+        }
+    }
+
+    @NonNull
+    private ContractFunctionParameters createParameters(@NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        final ContractFunctionParameters constructorParams = new ContractFunctionParameters();
+        final Consumer<ContractParam> consumer = param -> param.supplier()
+                .addParamToFunctionParameters(param.value(), constructorParams);
+        params.forEach(consumer);
+        return constructorParams;
+    }
+
+    @NonNull
+    private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> executeTransactionAndWaitOnReceipt(
+            @NonNull final T transaction, @NonNull final PrivateKey... signingKeys) {
+        Objects.requireNonNull(transaction, "transaction must not be null");
+        return executeTransactionAndWaitOnReceipt(transaction, operatorPool.operatorFor(transaction), signingKeys);
+    }
+
+    @NonNull
+    private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> executeTransactionAndWaitOnReceipt(
+            @NonNull final T transaction, @NonNull final Operator operator, @NonNull final PrivateKey... signingKeys) {
+        return executeAndWaitOnReceipt(transaction, operator, signingKeys).thenApply(HandledTransaction::receipt);
+    }
+
+    @NonNull
+    private <T extends Transaction<T>> CompletableFuture<HandledTransaction> executeAndWaitOnReceipt(
+            @NonNull final T transaction, @NonNull final Operator operator, @NonNull final PrivateKey... signingKeys) {
+        Objects.requireNonNull(transaction, "transaction must not be null");
+        Objects.requireNonNull(operator, "operator must not be null");
+        return acquirePermitsAndSubmit(transaction, operator, 1, signingKeys,
+                () -> submitAndWaitOnReceipt(transaction, operator));
+    }
+
+    @NonNull
+    private <T extends Transaction<T>> CompletableFuture<HandledTransaction> submitAndWaitOnReceipt(
+            @NonNull final T transaction, @NonNull final Operator operator) {
+        final String transactionType = transaction.getClass().getSimpleName();
+        final Client client = operator.client();
+        final CompletableFuture<TransactionResponse> responseFuture;
+        final Instant submitTime = Instant.now();
+        operator.submitted();
+        try {
+            log.debug("Sending transaction of type {}", transactionType);
+            responseFuture = transaction.executeAsync(client);
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(
+                    new HieroException("Failed to execute transaction of type " + transactionType, e));
+        }
+        return responseFuture
+                .exceptionally(e -> {
+                    throw new CompletionException(submissionFailure(transaction,
+                            "Failed to execute transaction of type " + transactionType, unwrap(e)));
+                })
+                .thenCompose(response -> {
+                    final TransactionEvent event = notifySubmitted(transaction, response, submitTime);
+                    log.debug("Waiting for receipt of transaction '{}' of type {}", response.transactionId,
+                            transactionType);
+                    return waitOnReceipt(transaction, response, event, client);
+                });
+    }
+
+    /**
+     * Executes all chunks of the given transaction. The chunks share the ID of the first chunk as initial transaction
+     * ID and are submitted one after another without waiting for consensus in between, the receipts of all chunks are
+     * requested concurrently afterwards. The returned receipt is the receipt of the first chunk.
+     */
+    @NonNull
+    private CompletableFuture<TransactionReceipt> executeChunksAndWaitOnReceipts(
+            @NonNull final TopicMessageSubmitTransaction transaction, final int chunkCount,
+            @NonNull final PrivateKey... signingKeys) {
+        final Operator operator = operatorPool.operatorFor(transaction);
+        return acquirePermitsAndSubmit(transaction, operator, chunkCount, signingKeys,
+                () -> submitChunksAndWaitOnReceipts(transaction, chunkCount, operator));
+    }
+
+    @NonNull
+    private CompletableFuture<TransactionReceipt> submitChunksAndWaitOnReceipts(
+            @NonNull final TopicMessageSubmitTransaction transaction, final int chunkCount,
+            @NonNull final Operator operator) {
+        final String transactionType = transaction.getClass().getSimpleName();
+        final Client client = operator.client();
+        final CompletableFuture<List<TransactionResponse>> responsesFuture;
+        final Instant submitTime = Instant.now();
+        operator.submitted();
+        try {
+            log.debug("Sending {} chunks of transaction of type {}", chunkCount, transactionType);
+            responsesFuture = transaction.executeAllAsync(client);
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(
+                    new HieroException("Failed to execute chunked transaction of type " + transactionType, e));
+        }
+        return responsesFuture
+                .exceptionally(e -> {
+                    throw new CompletionException(submissionFailure(transaction,
+                            "Failed to execute chunked transaction of type " + transactionType, unwrap(e)));
+                })
+                .thenCompose(responses -> {
+                    final List<CompletableFuture<TransactionReceipt>> receipts = responses.stream()
+                            .map(response -> {
+                                final TransactionEvent event = notifySubmitted(transaction, response, submitTime);
+                                return waitOnReceipt(transaction, response, event, client)
+                                        .thenApply(HandledTransaction::receipt);
+                            })
+                            .toList();
+                    log.debug("Waiting for receipts of {} chunks of transaction '{}'", receipts.size(),
+                            responses.get(0).transactionId);
+                    return CompletableFuture.allOf(receipts.toArray(CompletableFuture[]::new))
+                            .thenApply(ignored -> receipts.get(0).join());
+                });
+    }
+
+    /**
+     * Marks the transaction as in flight for the given operator and waits until the rate limiter allows to submit the
+     * given number of transactions. Only then the transaction is frozen, signed and submitted by the given submission,
+     * so that its valid start does not age while it is waiting. If the rate limiter rejects the transaction, the
+     * returned future fails without submitting the transaction.
+     */
+    @NonNull
+    private <T extends Transaction<T>, R> CompletableFuture<R> acquirePermitsAndSubmit(@NonNull final T transaction,
+            @NonNull final Operator operator, final int permits, @NonNull final PrivateKey[] signingKeys,
+            @NonNull final Supplier<CompletableFuture<R>> submission) {
+        final TransactionType type = typeOf(transaction);
+        operator.reserved();
+        final CompletableFuture<Void> permitsFuture;
+        if (rateLimiter == null) {
+            permitsFuture = CompletableFuture.completedFuture(null);
+        } else {
+            permitsFuture = rateLimiter.acquire(operator.account().accountId(), type, permits);
+        }
+        return track(operator, type, permitsFuture.thenCompose(ignored -> {
+            try {
+                sign(transaction, operator, signingKeys);
+            } catch (final RuntimeException e) {
+                return CompletableFuture.failedFuture(new HieroException("Failed to sign transaction of type "
+                        + transaction.getClass().getSimpleName(), e));
+            }
+            return submission.get();
+        }));
+    }
+
+    /**
+     * Marks the transaction of the given operator as handled once the given future completes and reports the outcome
+     * to the rate limiter.
+     */
+    @NonNull
+    private <R> CompletableFuture<R> track(@NonNull final Operator operator, @NonNull final TransactionType type,
+            @NonNull final CompletableFuture<R> future) {
+        return future.whenComplete((result, failure) -> {
+            operator.handled(failure);
+            if (rateLimiter != null) {
+                final AccountId operatorAccountId = operator.account().accountId();
+                if (failure == null) {
+                    rateLimiter.onAccepted(operatorAccountId, type);
+                } else if (OperatorPool.isThrottled(failure)) {
+                    rateLimiter.onThrottled(operatorAccountId, type);
+                }
+            }
+        });
+    }
+
+    @NonNull
+    private CompletableFuture<HandledTransaction> waitOnReceipt(@NonNull final Transaction<?> transaction,
+            @NonNull final TransactionResponse response, @NonNull final TransactionEvent event,
+            @NonNull final Client client) {
+        return response.getReceiptAsync(client)
+                .exceptionally(e -> {
+                    final Throwable cause = unwrap(e);
+                    final String message = "Failed to receive receipt of transaction '" + response.transactionId
+                            + "' of type " + transaction.getClass();
+                    if (cause instanceof ReceiptStatusException receiptStatusException) {
+                        eventDispatcher.dispatch(event.withReceipt(Instant.now(),
+                                receiptStatusException.receipt.status), TransactionListener::transactionHandled);
+                        throw new CompletionException(new HieroException(message, cause));
+                    }
+                    throw new CompletionException(
+                            new TransactionInDoubtException(message, response.transactionId, cause));
+                })
+                .thenApply(receipt -> {
+                    final TransactionEvent handled = event.withReceipt(Instant.now(), receipt.status);
+                    eventDispatcher.dispatch(handled, TransactionListener::transactionHandled);
+                    return new HandledTransaction(receipt, handled);
+                });
+    }
+
+    /**
+     * Maps a failed submission of the given transaction. A transaction that has been rejected by the precheck of the
+     * node has not been submitted. Any other failure (for example a timeout) can happen after the node accepted the
+     * transaction, in that case the transaction might still reach consensus and its outcome is unknown.
+     */
+    @NonNull
+    private static HieroException submissionFailure(@NonNull final Transaction<?> transaction,
+            @NonNull final String message, @NonNull final Throwable cause) {
+        if (cause instanceof PrecheckStatusException) {
+            return new HieroException(message, cause);
+        }
+        final TransactionId transactionId;
+        try {
+            transactionId = transaction.getTransactionId();
+        } catch (final IllegalStateException e) {
+            // the transaction has not been frozen, therefore it has not been submitted
+            return new HieroException(message, cause);
+        }
+        return new TransactionInDoubtException(message, transactionId, cause);
+    }
+
+    @NonNull
+    private TransactionEvent notifySubmitted(@NonNull final Transaction<?> transaction,
+            @NonNull final TransactionResponse response, @NonNull final Instant submitTime) {
+        final TransactionType transactionType = typeOf(transaction);
+        final TransactionEvent event = TransactionEvent.submitted(transactionType, response.transactionId,
+                response.nodeId, submitTime);
+        eventDispatcher.dispatch(event, TransactionListener::transactionSubmitted);
+        return event;
+    }
+
+    @NonNull
+    private static TransactionType typeOf(@NonNull final Transaction<?> transaction) {
+        return TRANSACTION_TYPES.getOrDefault(transaction.getClass(), TransactionType.UNKNOWN);
+    }
+
+    @NonNull
+    private <T extends Transaction<T>> CompletableFuture<TransactionRecord> executeTransactionAndWaitOnRecord(
+            @NonNull final T transaction, @NonNull final PrivateKey... signingKeys) {
+        Objects.requireNonNull(transaction, "transaction must not be null");
+        return executeTransactionAndWaitOnRecord(transaction, operatorPool.operatorFor(transaction), signingKeys);
+    }
+
+    @NonNull
+    private <T extends Transaction<T>> CompletableFuture<TransactionRecord> executeTransactionAndWaitOnRecord(
+            @NonNull final T transaction, @NonNull final Operator operator, @NonNull final PrivateKey... signingKeys) {
+        return executeAndWaitOnReceipt(transaction, operator, signingKeys)
+                .thenCompose(handled -> receiveRecord(transaction, handled.receipt(), operator.client())
+                        .thenApply(record -> {
+                            eventDispatcher.dispatch(handled.event().withRecord(Instant.now(),
+                                    record.transactionFee), TransactionListener::transactionRecordReceived);
+                            return record;
+                        }));
+    }
+
+    @NonNull
+    private CompletableFuture<TransactionRecord> receiveRecord(@NonNull final Transaction<?> transaction,
+            @NonNull final TransactionReceipt receipt, @NonNull final Client client) {
+        log.debug("Waiting for record of transaction '{}' of type {}", receipt.transactionId,
+                transaction.getClass().getSimpleName());
+        final ReceiveRecordInterceptor interceptor = recordInterceptor.get();
+        final CompletableFuture<TransactionRecord> recordFuture;
+        if (interceptor == ReceiveRecordInterceptor.DEFAULT_INTERCEPTOR) {
+            recordFuture = receipt.transactionId.getRecordAsync(client);
+        } else {
+            recordFuture = CompletableFuture.supplyAsync(() -> {
+                final ReceiveRecordHandler data = new ReceiveRecordHandler(transaction, receipt,
+                        r -> r.transactionId.getRecordAsync(client).get());
+                try {
+                    return interceptor.getRecordFor(data);
+                } catch (final Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, interceptorExecutor);
+        }
+        return recordFuture.exceptionally(e -> {
+            throw new CompletionException(new HieroException("Failed to receive record of transaction '"
+                    + receipt.transactionId + "' of type " + transaction.getClass(), unwrap(e)));
+        });
+    }
+
+    @NonNull
+    private <R, Q extends Query<R, Q>> CompletableFuture<R> executeQuery(@NonNull final Q query) {
+        Objects.requireNonNull(query, "query must not be null");
+        return execute("Failed to execute query", () -> {
+            log.debug("Sending query of type {}", query.getClass().getSimpleName());
+            return query.executeAsync(hieroContext.getClient());
+        });
+    }
+
+    /**
+     * Runs the given call and maps any failure (thrown directly or reported by the returned future) to a
+     * {@link HieroException} with the given message.
+     */
+    @NonNull
+    private static <R> CompletableFuture<R> execute(@NonNull final String errorMessage,
+            @NonNull final AsyncCall<R> call) {
+        final CompletableFuture<R> future;
+        try {
+            future = call.call();
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(new HieroException(errorMessage, e));
+        }
+        return future.exceptionally(e -> {
+            throw new CompletionException(new HieroException(errorMessage, unwrap(e)));
+        });
+    }
+
+    @NonNull
+    static Throwable unwrap(@NonNull final Throwable throwable) {
+        Throwable current = throwable;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    @FunctionalInterface
+    private interface AsyncCall<R> {
+        CompletableFuture<R> call() throws Exception;
+    }
+}
@@ -0,0 +1,381 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.Balance;
+import com.openelements.hiero.base.data.BalanceModification;
+import com.openelements.hiero.base.data.ExchangeRates;
+import com.openelements.hiero.base.data.NetworkFee;
+import com.openelements.hiero.base.data.NetworkStake;
+import com.openelements.hiero.base.data.NetworkSupplies;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.NftMetadata;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Result;
+import com.openelements.hiero.base.data.Token;
+import com.openelements.hiero.base.data.TokenInfo;
+import com.openelements.hiero.base.data.Topic;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings.CachedQuery;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link MirrorNodeClient} decorator that caches the results of lookups of single entities and of network data. Every
+ * query has its own time to live (see {@link MirrorNodeCacheSettings}). Empty results (the mirror node responded with
+ * 404) are cached with the negative time to live of the settings. The cache is bounded by the maximum size of the
+ * settings and evicts the least recently used result. Queries that return a {@link Page} and failed queries are never
+ * cached. If the same query is executed concurrently while its result is not cached, only one call is forwarded to the
+ * mirror node and all callers receive its result.
+ */
+public class CachingMirrorNodeClient implements MirrorNodeClient, AutoCloseable {
+
+    private final MirrorNodeClient delegate;
+
+    private final MirrorNodeCacheSettings settings;
+
+    private final Clock clock;
+
+    private final Map<CacheKey, CacheEntry> cache;
+
+    private final Map<CacheKey, CompletableFuture<Object>> loading = new HashMap<>();
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * Statistics of the cache.
+     *
+     * @param hitCount      number of queries answered by the cache, including queries that received the result of a
+     *                      concurrent call of the same query
+     * @param missCount     number of queries forwarded to the mirror node
+     * @param evictionCount number of results evicted because the cache exceeded its maximum size
+     * @param size          current number of cached results, including expired results that have not been removed
+     */
+    public record Statistics(long hitCount, long missCount, long evictionCount, int size) {
+
+        /**
+         * Returns the ratio of queries answered by the cache.
+         *
+         * @return the hit rate, 1.0 if no query has been executed
+         */
+        public double hitRate() {
+            final long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+    }
+
+    private record CacheKey(@NonNull CachedQuery query, @Nullable Object argument) {
+    }
+
+    private record CacheEntry(@NonNull Object value, @NonNull Instant expiresAt) {
+    }
+
+    @FunctionalInterface
+    private interface Loader<T> {
+        T load() throws HieroException;
+    }
+
+    public CachingMirrorNodeClient(@NonNull final MirrorNodeClient delegate,
+            @NonNull final MirrorNodeCacheSettings settings) {
+        this(delegate, settings, Clock.systemUTC());
+    }
+
+    public CachingMirrorNodeClient(@NonNull final MirrorNodeClient delegate,
+            @NonNull final MirrorNodeCacheSettings settings, @NonNull final Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() > settings.maximumSize()) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(@NonNull final CachedQuery query, @Nullable final Object argument,
+            @NonNull final Loader<T> loader) throws HieroException {
+        final Duration ttl = settings.ttl(query);
+        if (ttl.isZero()) {
+            return loader.load();
+        }
+        final CacheKey key = new CacheKey(query, argument);
+        final CompletableFuture<Object> pending;
+        final CompletableFuture<Object> load;
+        synchronized (cache) {
+            final CacheEntry entry = cache.get(key);
+            if (entry != null) {
+                if (clock.instant().isBefore(entry.expiresAt())) {
+                    hitCount++;
+                    return (T) entry.value();
+                }
+                cache.remove(key);
+            }
+            pending = loading.get(key);
+            if (pending != null) {
+                hitCount++;
+                load = null;
+            } else {
+                missCount++;
+                load = new CompletableFuture<>();
+                loading.put(key, load);
+            }
+        }
+        if (pending != null) {
+            return (T) await(pending);
+        }
+        final T value;
+        try {
+            value = loader.load();
+        } catch (final HieroException | RuntimeException e) {
+            synchronized (cache) {
+                loading.remove(key);
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+        final Duration effectiveTtl = isEmpty(value) && settings.negativeTtl().compareTo(ttl) < 0
+                ? settings.negativeTtl() : ttl;
+        synchronized (cache) {
+            loading.remove(key);
+            if (!effectiveTtl.isZero()) {
+                cache.put(key, new CacheEntry(value, clock.instant().plus(effectiveTtl)));
+            }
+        }
+        load.complete(value);
+        return value;
+    }
+
+    @NonNull
+    private static Object await(@NonNull final CompletableFuture<Object> pending) throws HieroException {
+        try {
+            return pending.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while waiting for a concurrent mirror node query", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof HieroException hieroException) {
+                throw hieroException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new HieroException("Concurrent mirror node query failed", e.getCause());
+        }
+    }
+
+    private static boolean isEmpty(@NonNull final Object value) {
+        if (value instanceof Optional<?> optional) {
+            return optional.isEmpty();
+        }
+        if (value instanceof List<?> list) {
+            return list.isEmpty();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    @NonNull
+    public Statistics getStatistics() {
+        synchronized (cache) {
+            return new Statistics(hitCount, missCount, evictionCount, cache.size());
+        }
+    }
+
+    /**
+     * Removes all results from the cache. The statistics are not reset.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public @NonNull Page<Nft> queryNftsByAccount(@NonNull final AccountId accountId) throws HieroException {
+        return delegate.queryNftsByAccount(accountId);
+    }
+
+    @Override
+    public @NonNull Page<Nft> queryNftsByAccountAndTokenId(@NonNull final AccountId accountId,
+            @NonNull final TokenId tokenId) throws HieroException {
+        return delegate.queryNftsByAccountAndTokenId(accountId, tokenId);
+    }
+
+    @Override
+    public @NonNull Page<Nft> queryNftsByTokenId(@NonNull final TokenId tokenId) throws HieroException {
+        return delegate.queryNftsByTokenId(tokenId);
+    }
+
+    @Override
+    public @NonNull Optional<Nft> queryNftsByTokenIdAndSerial(@NonNull final TokenId tokenId, final long serialNumber)
+            throws HieroException {
+        Objects.requireNonNull(tokenId, "tokenId must not be null");
+        return cached(CachedQuery.NFT_BY_SERIAL, List.of(tokenId, serialNumber),
+                () -> delegate.queryNftsByTokenIdAndSerial(tokenId, serialNumber));
+    }
+
+    @Override
+    public @NonNull Page<TransactionInfo> queryTransactionsByAccount(@NonNull final AccountId accountId)
+            throws HieroException {
+        return delegate.queryTransactionsByAccount(accountId);
+    }
+
+    @Override
+    public @NonNull Page<TransactionInfo> queryTransactionsByAccountAndType(@NonNull final AccountId accountId,
+            @NonNull final TransactionType type) throws HieroException {
+        return delegate.queryTransactionsByAccountAndType(accountId, type);
+    }
+
+    @Override
+    public @NonNull Page<TransactionInfo> queryTransactionsByAccountAndResult(@NonNull final AccountId accountId,
+            @NonNull final Result result) throws HieroException {
+        return delegate.queryTransactionsByAccountAndResult(accountId, result);
+    }
+
+    @Override
+    public @NonNull Page<TransactionInfo> queryTransactionsByAccountAndModification(
+            @NonNull final AccountId accountId, @NonNull final BalanceModification type) throws HieroException {
+        return delegate.queryTransactionsByAccountAndModification(accountId, type);
+    }
+
+    @Override
+    public @NonNull Optional<TransactionInfo> queryTransaction(@NonNull final String transactionId)
+            throws HieroException {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        return cached(CachedQuery.TRANSACTION, transactionId, () -> delegate.queryTransaction(transactionId));
+    }
+
+    @Override
+    public @NonNull Optional<AccountInfo> queryAccount(@NonNull final AccountId accountId) throws HieroException {
+        Objects.requireNonNull(accountId, "accountId must not be null");
+        return cached(CachedQuery.ACCOUNT, accountId, () -> delegate.queryAccount(accountId));
+    }
+
+    @Override
+    public @NonNull Optional<ExchangeRates> queryExchangeRates() throws HieroException {
+        return cached(CachedQuery.EXCHANGE_RATES, null, delegate::queryExchangeRates);
+    }
+
+    @Override
+    public @NonNull List<NetworkFee> queryNetworkFees() throws HieroException {
+        return cached(CachedQuery.NETWORK_FEES, null, delegate::queryNetworkFees);
+    }
+
+    @Override
+    public @NonNull Optional<NetworkStake> queryNetworkStake() throws HieroException {
+        return cached(CachedQuery.NETWORK_STAKE, null, delegate::queryNetworkStake);
+    }
+
+    @Override
+    public @NonNull Optional<NetworkSupplies> queryNetworkSupplies() throws HieroException {
+        return cached(CachedQuery.NETWORK_SUPPLIES, null, delegate::queryNetworkSupplies);
+    }
+
+    @Override
+    public @NonNull Page<Token> queryTokensForAccount(@NonNull final AccountId accountId) throws HieroException {
+        return delegate.queryTokensForAccount(accountId);
+    }
+
+    @Override
+    public @NonNull Optional<TokenInfo> queryTokenById(@NonNull final TokenId tokenId) throws HieroException {
+        Objects.requireNonNull(tokenId, "tokenId must not be null");
+        return cached(CachedQuery.TOKEN, tokenId, () -> delegate.queryTokenById(tokenId));
+    }
+
+    @Override
+    public @NonNull Page<Balance> queryTokenBalances(@NonNull final TokenId tokenId) throws HieroException {
+        return delegate.queryTokenBalances(tokenId);
+    }
+
+    @Override
+    public @NonNull Page<Balance> queryTokenBalancesForAccount(@NonNull final TokenId tokenId,
+            @NonNull final AccountId accountId) throws HieroException {
+        return delegate.queryTokenBalancesForAccount(tokenId, accountId);
+    }
+
+    @Override
+    public @NonNull Optional<Topic> queryTopicById(final TopicId topicId) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return cached(CachedQuery.TOPIC, topicId, () -> delegate.queryTopicById(topicId));
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(final TopicId topicId) throws HieroException {
+        return delegate.queryTopicMessages(topicId);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(final TopicId topicId, final long fromSequenceNumber)
+            throws HieroException {
+        return delegate.queryTopicMessages(topicId, fromSequenceNumber);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(final TopicId topicId, final Instant fromConsensusTimestamp)
+            throws HieroException {
+        return delegate.queryTopicMessages(topicId, fromConsensusTimestamp);
+    }
+
+    @Override
+    public @NonNull Optional<TopicMessage> queryTopicMessageBySequenceNumber(final TopicId topicId,
+            final long sequenceNumber) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return cached(CachedQuery.TOPIC_MESSAGE, List.of(topicId, sequenceNumber),
+                () -> delegate.queryTopicMessageBySequenceNumber(topicId, sequenceNumber));
+    }
+
+    @Override
+    public @NonNull Optional<NftMetadata> getNftMetadata(@NonNull final TokenId tokenId) throws HieroException {
+        Objects.requireNonNull(tokenId, "tokenId must not be null");
+        return cached(CachedQuery.NFT_METADATA, tokenId, () -> delegate.getNftMetadata(tokenId));
+    }
+
+    @Override
+    public @NonNull Page<NftMetadata> findNftTypesByOwner(@NonNull final AccountId ownerId) {
+        return delegate.findNftTypesByOwner(ownerId);
+    }
+
+    @Override
+    public @NonNull Page<NftMetadata> findAllNftTypes() {
+        return delegate.findAllNftTypes();
+    }
+
+    @Override
+    public void close() throws Exception {
+        invalidateAll();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
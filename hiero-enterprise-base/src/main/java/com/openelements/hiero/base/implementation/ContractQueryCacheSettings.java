@@ -0,0 +1,36 @@
+package com.openelements.hiero.base.implementation;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings of the cache for read-only contract queries of the {@link SmartContractClientImpl}. Results are cached per
+ * contract and encoded function call (selector and parameters).
+ *
+ * @param maximumSize the maximum number of cached results, the least recently used result is evicted once the size is
+ *                    exceeded
+ * @param ttl         the time to live of a result. A ttl of {@link Duration#ZERO} disables the cache
+ */
+public record ContractQueryCacheSettings(int maximumSize, @NonNull Duration ttl) {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(2);
+
+    public static final ContractQueryCacheSettings DEFAULT = new ContractQueryCacheSettings(DEFAULT_MAXIMUM_SIZE,
+            DEFAULT_TTL);
+
+    public static final ContractQueryCacheSettings DISABLED = new ContractQueryCacheSettings(DEFAULT_MAXIMUM_SIZE,
+            Duration.ZERO);
+
+    public ContractQueryCacheSettings {
+        Objects.requireNonNull(ttl, "ttl must not be null");
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+    }
+}
@@ -13,6 +13,14 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Objects;
@@ -67,19 +75,85 @@ public class FileClientImpl implements FileClient {
                         "Content of size {} is to big for 1 FileCreate transaction. Will append {} FileAppend transactions",
                         contents.length, appendCount);
             }
-            final byte[] start = Arrays.copyOf(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-            final FileCreateRequest request = FileCreateRequest.of(start);
+            final ByteBuffer buffer = ByteBuffer.wrap(contents).asReadOnlyBuffer();
+            final FileCreateRequest request = FileCreateRequest.of(nextChunk(buffer));
             final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
             final FileId fileId = result.fileId();
-            byte[] remaining = Arrays.copyOfRange(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE, contents.length);
-            while (remaining.length > 0) {
-                final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-                final byte[] next = Arrays.copyOf(remaining, length);
+            appendChunks(fileId, buffer);
+            return fileId;
+        }
+    }
+
+    @Override
+    public FileId createFile(@NonNull final InputStream contents) throws HieroException {
+        Objects.requireNonNull(contents, "contents must not be null");
+        return createFileImpl(() -> {
+            final byte[] chunk = contents.readNBytes(FileCreateRequest.FILE_CREATE_MAX_SIZE);
+            return chunk.length > 0 ? chunk : null;
+        });
+    }
+
+    @Override
+    public FileId createFile(@NonNull final ReadableByteChannel contents) throws HieroException {
+        Objects.requireNonNull(contents, "contents must not be null");
+        return createFileImpl(() -> readChunk(contents));
+    }
+
+    @Override
+    public FileId createFile(@NonNull final Path path) throws HieroException {
+        Objects.requireNonNull(path, "path must not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > FileCreateRequest.FILE_MAX_SIZE) {
+                throw new HieroException("File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE
+                        + " bytes");
+            }
+            final ByteBuffer mapped = map(channel, size);
+            if (mapped != null) {
+                return createFileImpl(() -> mapped.hasRemaining() ? nextChunk(mapped) : null);
+            }
+            return createFileImpl(() -> readChunk(channel));
+        } catch (IOException e) {
+            throw new HieroException("Failed to read file " + path, e);
+        }
+    }
+
+    /**
+     * Creates a file out of the chunks of the given source. Only one chunk is held in memory at a time. If the source
+     * turns out to be larger than {@link FileCreateRequest#FILE_MAX_SIZE}, the partly written file is deleted.
+     *
+     * @param source the source of the chunks
+     * @return the ID of the new file
+     * @throws HieroException if the file could not be created or the source could not be read
+     */
+    @NonNull
+    private FileId createFileImpl(@NonNull final ChunkSource source) throws HieroException {
+        try {
+            final byte[] start = source.nextChunk();
+            final FileCreateRequest request = FileCreateRequest.of(start != null ? start : new byte[0]);
+            final FileId fileId = protocolLayerClient.executeFileCreateTransaction(request).fileId();
+            long size = start != null ? start.length : 0;
+            byte[] next;
+            while ((next = source.nextChunk()) != null) {
+                if (size + next.length > FileCreateRequest.FILE_MAX_SIZE) {
+                    final HieroException exception = new HieroException("File contents must be less than "
+                            + FileCreateRequest.FILE_MAX_SIZE + " bytes, partly written file " + fileId
+                            + " has been deleted");
+                    try {
+                        deleteFile(fileId);
+                    } catch (final HieroException e) {
+                        exception.addSuppressed(e);
+                    }
+                    throw exception;
+                }
                 final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
                 protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
-                remaining = Arrays.copyOfRange(remaining, length, remaining.length);
+                size += next.length;
             }
+            log.debug("Created file {} with {} bytes", fileId, size);
             return fileId;
+        } catch (IOException e) {
+            throw new HieroException("Failed to read file contents", e);
         }
     }
 
@@ -124,20 +198,97 @@ public class FileClientImpl implements FileClient {
                         "Content of size {} is to big for 1 FileUpdate transaction. Will append {} FileAppend transactions",
                         content.length, appendCount);
             }
-            byte[] start = Arrays.copyOf(content, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-            final FileUpdateRequest request = FileUpdateRequest.of(fileId, start);
+            final ByteBuffer buffer = ByteBuffer.wrap(content).asReadOnlyBuffer();
+            final FileUpdateRequest request = FileUpdateRequest.of(fileId, nextChunk(buffer));
             protocolLayerClient.executeFileUpdateRequestTransaction(request);
-            byte[] remaining = Arrays.copyOfRange(content, FileCreateRequest.FILE_CREATE_MAX_SIZE, content.length);
-            while (remaining.length > 0) {
-                final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-                byte[] next = Arrays.copyOf(remaining, length);
-                final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
-                protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
-                remaining = Arrays.copyOfRange(remaining, length, remaining.length);
-            }
+            appendChunks(fileId, buffer);
+        }
+    }
+
+    /**
+     * Appends the remaining content of the buffer to the file by one FileAppend transaction per chunk.
+     *
+     * @param fileId the ID of the file
+     * @param buffer the buffer that is positioned at the first byte that has not been sent yet
+     * @throws HieroException if an append transaction fails
+     */
+    private void appendChunks(@NonNull final FileId fileId, @NonNull final ByteBuffer buffer) throws HieroException {
+        while (buffer.hasRemaining()) {
+            final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, nextChunk(buffer));
+            protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
+        }
+    }
+
+    /**
+     * Reads the next chunk of at most {@link FileCreateRequest#FILE_CREATE_MAX_SIZE} bytes from the buffer. Only the
+     * bytes of the chunk are copied, the rest of the content is never copied.
+     *
+     * @param buffer the buffer
+     * @return the next chunk
+     */
+    @NonNull
+    private static byte[] nextChunk(@NonNull final ByteBuffer buffer) {
+        final byte[] chunk = new byte[Math.min(buffer.remaining(), FileCreateRequest.FILE_CREATE_MAX_SIZE)];
+        buffer.get(chunk);
+        return chunk;
+    }
+
+    /**
+     * Reads the next chunk of at most {@link FileCreateRequest#FILE_CREATE_MAX_SIZE} bytes from the channel.
+     *
+     * @param channel the channel
+     * @return the next chunk or {@code null} if the end of the channel has been reached
+     * @throws IOException if the channel could not be read
+     */
+    @Nullable
+    private static byte[] readChunk(@NonNull final ReadableByteChannel channel) throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(FileCreateRequest.FILE_CREATE_MAX_SIZE);
+        while (chunk.hasRemaining() && channel.read(chunk) >= 0) {
+            // read until the chunk is full or the channel is at its end
+        }
+        if (chunk.position() == 0) {
+            return null;
+        }
+        if (chunk.hasRemaining()) {
+            return Arrays.copyOf(chunk.array(), chunk.position());
+        }
+        return chunk.array();
+    }
+
+    /**
+     * Maps the file of the channel into memory.
+     *
+     * @param channel the channel of the file
+     * @param size    the size of the file
+     * @return the mapped file or {@code null} if the file system does not support memory-mapped files
+     * @throws IOException if the file could not be mapped
+     */
+    @Nullable
+    private static ByteBuffer map(@NonNull final FileChannel channel, final long size) throws IOException {
+        try {
+            return channel.map(MapMode.READ_ONLY, 0, size);
+        } catch (UnsupportedOperationException e) {
+            log.debug("File system does not support memory-mapped files, file will be read in chunks", e);
+            return null;
         }
     }
 
+    /**
+     * Source of the chunks of a file upload.
+     */
+    @FunctionalInterface
+    private interface ChunkSource {
+
+        /**
+         * Returns the next chunk of at most {@link FileCreateRequest#FILE_CREATE_MAX_SIZE} bytes.
+         *
+         * @return the next chunk or {@code null} if all chunks have been returned
+         * @throws IOException if the chunk could not be read
+         */
+        @Nullable
+        byte[] nextChunk() throws IOException;
+    }
+
     @Override
     public void updateExpirationTime(@NonNull final FileId fileId, @NonNull final Instant expirationTime)
             throws HieroException {
@@ -0,0 +1,67 @@
+package com.openelements.hiero.base.implementation;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings of the {@link MirrorNodeEndpointBalancer}.
+ *
+ * @param ewmaWeight        weight of a new sample in the exponentially weighted moving averages of latency and error
+ *                          rate, must be in (0, 1]
+ * @param ejectionThreshold number of consecutive failures after that an endpoint is ejected
+ * @param ejectionDuration  time an ejected endpoint is not used before it is probed again
+ * @param hedgingEnabled    defines if a slow call is hedged by a second call to another endpoint
+ * @param hedgePercentile   latency percentile of the endpoint after that a call is hedged, must be in (0, 1]
+ * @param minHedgeDelay     minimum time before a call is hedged
+ */
+public record MirrorNodeBalancerSettings(double ewmaWeight, int ejectionThreshold,
+                                         @NonNull Duration ejectionDuration, boolean hedgingEnabled,
+                                         double hedgePercentile, @NonNull Duration minHedgeDelay) {
+
+    public static final double DEFAULT_EWMA_WEIGHT = 0.2;
+
+    public static final int DEFAULT_EJECTION_THRESHOLD = 3;
+
+    public static final Duration DEFAULT_EJECTION_DURATION = Duration.ofSeconds(30);
+
+    public static final double DEFAULT_HEDGE_PERCENTILE = 0.95;
+
+    public static final Duration DEFAULT_MIN_HEDGE_DELAY = Duration.ofMillis(50);
+
+    public static final MirrorNodeBalancerSettings DEFAULT = new MirrorNodeBalancerSettings(DEFAULT_EWMA_WEIGHT,
+            DEFAULT_EJECTION_THRESHOLD, DEFAULT_EJECTION_DURATION, false, DEFAULT_HEDGE_PERCENTILE,
+            DEFAULT_MIN_HEDGE_DELAY);
+
+    public MirrorNodeBalancerSettings {
+        Objects.requireNonNull(ejectionDuration, "ejectionDuration must not be null");
+        Objects.requireNonNull(minHedgeDelay, "minHedgeDelay must not be null");
+        if (!(ewmaWeight > 0 && ewmaWeight <= 1)) {
+            throw new IllegalArgumentException("ewmaWeight must be in (0, 1]");
+        }
+        if (ejectionThreshold < 1) {
+            throw new IllegalArgumentException("ejectionThreshold must be greater than 0");
+        }
+        if (ejectionDuration.isNegative()) {
+            throw new IllegalArgumentException("ejectionDuration must not be negative");
+        }
+        if (!(hedgePercentile > 0 && hedgePercentile <= 1)) {
+            throw new IllegalArgumentException("hedgePercentile must be in (0, 1]");
+        }
+        if (minHedgeDelay.isNegative()) {
+            throw new IllegalArgumentException("minHedgeDelay must not be negative");
+        }
+    }
+
+    /**
+     * Returns a copy of the settings with hedging enabled or disabled.
+     *
+     * @param hedgingEnabled defines if hedging is enabled
+     * @return the new settings
+     */
+    @NonNull
+    public MirrorNodeBalancerSettings withHedging(final boolean hedgingEnabled) {
+        return new MirrorNodeBalancerSettings(ewmaWeight, ejectionThreshold, ejectionDuration, hedgingEnabled,
+                hedgePercentile, minHedgeDelay);
+    }
+}
@@ -0,0 +1,113 @@
+package com.openelements.hiero.base.implementation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings of the {@link CachingMirrorNodeClient}.
+ *
+ * @param maximumSize the maximum number of cached results, the least recently used result is evicted once the size is
+ *                    exceeded
+ * @param negativeTtl the time to live of empty results (the mirror node responded with 404). The ttl of the query is
+ *                    used if it is shorter
+ * @param ttls        the time to live per query, queries that are not contained use their default ttl. A ttl of
+ *                    {@link Duration#ZERO} disables caching for the query
+ */
+public record MirrorNodeCacheSettings(int maximumSize, @NonNull Duration negativeTtl,
+                                      @NonNull Map<CachedQuery, Duration> ttls) {
+
+    /**
+     * The queries of a {@link com.openelements.hiero.base.mirrornode.MirrorNodeClient} that can be cached. Queries that
+     * return a {@link com.openelements.hiero.base.data.Page} are never cached since a page is a cursor on live data.
+     * {@link #ACCOUNT} is not cached by default, since the result contains the balance of the account that changes with
+     * every transfer. If a ttl is defined for it, the balance can be outdated by up to that ttl.
+     */
+    public enum CachedQuery {
+        NFT_BY_SERIAL(Duration.ofSeconds(5)),
+        TRANSACTION(Duration.ofMinutes(10)),
+        ACCOUNT(Duration.ZERO),
+        EXCHANGE_RATES(Duration.ofSeconds(60)),
+        NETWORK_FEES(Duration.ofSeconds(60)),
+        NETWORK_STAKE(Duration.ofSeconds(60)),
+        NETWORK_SUPPLIES(Duration.ofSeconds(60)),
+        TOKEN(Duration.ofSeconds(30)),
+        TOPIC(Duration.ofSeconds(30)),
+        TOPIC_MESSAGE(Duration.ofMinutes(10)),
+        NFT_METADATA(Duration.ofSeconds(30));
+
+        private final Duration defaultTtl;
+
+        CachedQuery(@NonNull final Duration defaultTtl) {
+            this.defaultTtl = defaultTtl;
+        }
+
+        /**
+         * Returns the default time to live of the query.
+         *
+         * @return the default time to live
+         */
+        @NonNull
+        public Duration getDefaultTtl() {
+            return defaultTtl;
+        }
+    }
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(5);
+
+    public static final MirrorNodeCacheSettings DEFAULT = new MirrorNodeCacheSettings(DEFAULT_MAXIMUM_SIZE,
+            DEFAULT_NEGATIVE_TTL, Map.of());
+
+    public MirrorNodeCacheSettings {
+        Objects.requireNonNull(negativeTtl, "negativeTtl must not be null");
+        Objects.requireNonNull(ttls, "ttls must not be null");
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        if (negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("negativeTtl must not be negative");
+        }
+        ttls.forEach((query, ttl) -> {
+            Objects.requireNonNull(query, "query must not be null");
+            Objects.requireNonNull(ttl, "ttl must not be null");
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl of " + query + " must not be negative");
+            }
+        });
+        ttls = ttls.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(ttls));
+    }
+
+    /**
+     * Returns the time to live of the given query.
+     *
+     * @param query the query
+     * @return the time to live
+     */
+    @NonNull
+    public Duration ttl(@NonNull final CachedQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+        return ttls.getOrDefault(query, query.getDefaultTtl());
+    }
+
+    /**
+     * Returns a copy of the settings with the given time to live for the given query.
+     *
+     * @param query the query
+     * @param ttl   the time to live
+     * @return the new settings
+     */
+    @NonNull
+    public MirrorNodeCacheSettings withTtl(@NonNull final CachedQuery query, @NonNull final Duration ttl) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(ttl, "ttl must not be null");
+        final Map<CachedQuery, Duration> newTtls = new EnumMap<>(CachedQuery.class);
+        newTtls.putAll(ttls);
+        newTtls.put(query, ttl);
+        return new MirrorNodeCacheSettings(maximumSize, negativeTtl, newTtls);
+    }
+}
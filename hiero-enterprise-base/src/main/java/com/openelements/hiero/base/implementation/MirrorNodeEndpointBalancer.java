@@ -0,0 +1,410 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.HieroException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spreads mirror node calls across several endpoints. For every endpoint an exponentially weighted moving average
+ * (EWMA) of latency and error rate is tracked. Calls are routed by picking the better of two random healthy endpoints.
+ * An endpoint that fails {@link MirrorNodeBalancerSettings#ejectionThreshold()} times in a row is ejected and probed
+ * again with a single call after {@link MirrorNodeBalancerSettings#ejectionDuration()}. A failed call is retried on
+ * another endpoint. If hedging is enabled, a call that is slower than the configured latency percentile of its
+ * endpoint is sent to a second endpoint and the first successful response is used.
+ * <p>
+ * An {@link IllegalArgumentException} thrown by a call is treated as a client error: it is not retried and does not
+ * count as a failure of the endpoint.
+ *
+ * @param <E> the type of the endpoint, like a REST client for a mirror node address
+ */
+public class MirrorNodeEndpointBalancer<E> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MirrorNodeEndpointBalancer.class);
+
+    private static final int LATENCY_SAMPLES = 128;
+
+    private static final int MIN_HEDGE_SAMPLES = 10;
+
+    private static final double ERROR_PENALTY = 10.0;
+
+    private final List<EndpointState<E>> endpoints;
+
+    private final MirrorNodeBalancerSettings settings;
+
+    private final ExecutorService executor;
+
+    private final AtomicLong hedgeCount = new AtomicLong();
+
+    /**
+     * A call to an endpoint.
+     *
+     * @param <E> the type of the endpoint
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface EndpointCall<E, R> {
+        R call(@NonNull E endpoint) throws HieroException;
+    }
+
+    /**
+     * Statistics of an endpoint.
+     *
+     * @param name           the name of the endpoint
+     * @param averageLatency EWMA of the latency of successful calls
+     * @param errorRate      EWMA of the error rate
+     * @param ejected        true if the endpoint is currently ejected
+     * @param callCount      number of calls
+     * @param failureCount   number of failed calls
+     */
+    public record EndpointStatistics(@NonNull String name, @NonNull Duration averageLatency, double errorRate,
+                                     boolean ejected, long callCount, long failureCount) {
+    }
+
+    public MirrorNodeEndpointBalancer(@NonNull final Map<String, E> endpoints,
+            @NonNull final MirrorNodeBalancerSettings settings) {
+        Objects.requireNonNull(endpoints, "endpoints must not be null");
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("endpoints must not be empty");
+        }
+        final List<EndpointState<E>> states = new ArrayList<>();
+        endpoints.forEach((name, endpoint) -> states.add(new EndpointState<>(
+                Objects.requireNonNull(name, "name must not be null"),
+                Objects.requireNonNull(endpoint, "endpoint must not be null"), settings)));
+        this.endpoints = Collections.unmodifiableList(states);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("hiero-mirror-node-hedge-", 0)
+                .factory());
+    }
+
+    /**
+     * Selects an endpoint for a call that can not be routed by {@link #execute(EndpointCall)}. Since the outcome of
+     * such a call is not known to the balancer, the selection has no side effects: an ejected endpoint is never probed
+     * and is only returned if all endpoints are ejected. Calls that should stick to one endpoint, like the fetching
+     * of a sequence of pages, should fetch the first page by {@link #execute(EndpointCall)} and reuse the endpoint
+     * that is passed to the call.
+     *
+     * @return the endpoint
+     */
+    @NonNull
+    public E select() {
+        return Objects.requireNonNull(select(Set.of(), false)).endpoint;
+    }
+
+    /**
+     * Executes the given call on the best endpoint. If the call fails, it is retried on the other endpoints.
+     *
+     * @param call the call
+     * @param <R>  the type of the result
+     * @return the result of the first successful call
+     * @throws HieroException if the call failed on all endpoints
+     */
+    public <R> R execute(@NonNull final EndpointCall<E, R> call) throws HieroException {
+        Objects.requireNonNull(call, "call must not be null");
+        final Set<EndpointState<E>> tried = new HashSet<>();
+        HieroException lastError = null;
+        while (tried.size() < endpoints.size()) {
+            final EndpointState<E> primary = select(tried, true);
+            if (primary == null) {
+                break;
+            }
+            tried.add(primary);
+            try {
+                if (settings.hedgingEnabled() && tried.size() < endpoints.size() && primary.canHedge()) {
+                    return executeHedged(primary, tried, call);
+                }
+                return invoke(primary, call);
+            } catch (final HieroException e) {
+                log.debug("Call to mirror node endpoint failed, trying next endpoint", e);
+                lastError = e;
+            }
+        }
+        if (lastError != null) {
+            throw lastError;
+        }
+        throw new HieroException("No mirror node endpoint available");
+    }
+
+    private <R> R executeHedged(@NonNull final EndpointState<E> primary, @NonNull final Set<EndpointState<E>> tried,
+            @NonNull final EndpointCall<E, R> call) throws HieroException {
+        final long hedgeDelay = Math.max(settings.minHedgeDelay().toNanos(),
+                primary.latencyPercentile(settings.hedgePercentile()));
+        final CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        final List<Future<R>> futures = new ArrayList<>();
+        futures.add(completionService.submit(() -> invoke(primary, call)));
+        int pending = 1;
+        try {
+            Future<R> done = completionService.poll(hedgeDelay, TimeUnit.NANOSECONDS);
+            if (done == null) {
+                final EndpointState<E> secondary = select(tried, true);
+                if (secondary != null) {
+                    tried.add(secondary);
+                    hedgeCount.incrementAndGet();
+                    futures.add(completionService.submit(() -> invoke(secondary, call)));
+                    pending++;
+                }
+                done = completionService.take();
+            }
+            while (true) {
+                try {
+                    return done.get();
+                } catch (final ExecutionException e) {
+                    pending--;
+                    if (pending == 0) {
+                        if (e.getCause() instanceof HieroException hieroException) {
+                            throw hieroException;
+                        }
+                        if (e.getCause() instanceof RuntimeException runtimeException) {
+                            throw runtimeException;
+                        }
+                        throw new HieroException("Error calling mirror node", e.getCause());
+                    }
+                }
+                done = completionService.take();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while calling mirror node", e);
+        } finally {
+            // the slower call is not interrupted so that its outcome is still recorded for the endpoint
+            futures.forEach(f -> f.cancel(false));
+        }
+    }
+
+    private <R> R invoke(@NonNull final EndpointState<E> state, @NonNull final EndpointCall<E, R> call)
+            throws HieroException {
+        state.inFlight.incrementAndGet();
+        final long start = System.nanoTime();
+        try {
+            final R result = call.call(state.endpoint);
+            state.recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (final IllegalArgumentException e) {
+            state.recordClientError();
+            throw e;
+        } catch (final HieroException | RuntimeException e) {
+            if (state.recordFailure()) {
+                log.warn("Mirror node endpoint '{}' ejected for {} after {} consecutive failures", state.name,
+                        settings.ejectionDuration(), settings.ejectionThreshold());
+            }
+            if (e instanceof HieroException hieroException) {
+                throw hieroException;
+            }
+            throw new HieroException("Error calling mirror node endpoint '" + state.name + "'", e);
+        } finally {
+            state.inFlight.decrementAndGet();
+        }
+    }
+
+    @Nullable
+    private EndpointState<E> select(@NonNull final Set<EndpointState<E>> excluded, final boolean probe) {
+        final long now = System.nanoTime();
+        final List<EndpointState<E>> healthy = new ArrayList<>(endpoints.size());
+        EndpointState<E> soonestBack = null;
+        for (final EndpointState<E> state : endpoints) {
+            if (excluded.contains(state)) {
+                continue;
+            }
+            if (probe && state.tryAcquireProbe(now)) {
+                log.debug("Probing mirror node endpoint '{}'", state.name);
+                return state;
+            }
+            if (!state.isEjected()) {
+                healthy.add(state);
+            } else if (soonestBack == null || state.ejectedUntil() - soonestBack.ejectedUntil() < 0) {
+                soonestBack = state;
+            }
+        }
+        if (healthy.isEmpty()) {
+            return soonestBack;
+        }
+        if (healthy.size() == 1) {
+            return healthy.get(0);
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(healthy.size());
+        final int second = (first + 1 + random.nextInt(healthy.size() - 1)) % healthy.size();
+        final EndpointState<E> a = healthy.get(first);
+        final EndpointState<E> b = healthy.get(second);
+        return a.score() <= b.score() ? a : b;
+    }
+
+    /**
+     * Returns the statistics of all endpoints.
+     *
+     * @return the statistics
+     */
+    @NonNull
+    public List<EndpointStatistics> getStatistics() {
+        return endpoints.stream().map(EndpointState::statistics).toList();
+    }
+
+    /**
+     * Returns the number of calls that have been hedged.
+     *
+     * @return the number of hedged calls
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static final class EndpointState<E> {
+
+        private final String name;
+
+        private final E endpoint;
+
+        private final MirrorNodeBalancerSettings settings;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final long[] latencySamples = new long[LATENCY_SAMPLES];
+
+        private int sampleCount;
+
+        private int sampleIndex;
+
+        private double averageLatency;
+
+        private double errorRate;
+
+        private int consecutiveFailures;
+
+        private boolean ejected;
+
+        private long ejectedUntil;
+
+        private boolean probing;
+
+        private long callCount;
+
+        private long failureCount;
+
+        private EndpointState(@NonNull final String name, @NonNull final E endpoint,
+                @NonNull final MirrorNodeBalancerSettings settings) {
+            this.name = name;
+            this.endpoint = endpoint;
+            this.settings = settings;
+        }
+
+        private synchronized void recordSuccess(final long latency) {
+            callCount++;
+            averageLatency = sampleCount == 0 ? latency : ewma(averageLatency, latency);
+            errorRate = ewma(errorRate, 0);
+            latencySamples[sampleIndex] = latency;
+            sampleIndex = (sampleIndex + 1) % LATENCY_SAMPLES;
+            sampleCount = Math.min(sampleCount + 1, LATENCY_SAMPLES);
+            consecutiveFailures = 0;
+            ejected = false;
+            probing = false;
+        }
+
+        private synchronized void recordClientError() {
+            callCount++;
+            probing = false;
+        }
+
+        /**
+         * Records a failure.
+         *
+         * @return true if the endpoint has been ejected by the failure
+         */
+        private synchronized boolean recordFailure() {
+            callCount++;
+            failureCount++;
+            errorRate = ewma(errorRate, 1);
+            consecutiveFailures++;
+            probing = false;
+            if (consecutiveFailures >= settings.ejectionThreshold()) {
+                final boolean newlyEjected = !ejected;
+                ejected = true;
+                ejectedUntil = System.nanoTime() + settings.ejectionDuration().toNanos();
+                return newlyEjected;
+            }
+            return false;
+        }
+
+        private double ewma(final double average, final double sample) {
+            return average + settings.ewmaWeight() * (sample - average);
+        }
+
+        private synchronized boolean isEjected() {
+            return ejected;
+        }
+
+        private synchronized long ejectedUntil() {
+            return ejectedUntil;
+        }
+
+        private synchronized boolean tryAcquireProbe(final long now) {
+            if (ejected && !probing && now - ejectedUntil >= 0) {
+                probing = true;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized boolean canHedge() {
+            return sampleCount >= MIN_HEDGE_SAMPLES;
+        }
+
+        private synchronized long latencyPercentile(final double percentile) {
+            if (sampleCount == 0) {
+                return 0;
+            }
+            final long[] sorted = Arrays.copyOf(latencySamples, sampleCount);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile * sampleCount) - 1;
+            return sorted[Math.max(0, Math.min(index, sampleCount - 1))];
+        }
+
+        /**
+         * Returns the score of the endpoint, lower is better. Endpoints that have not been called have a score of 0 so
+         * that they are preferred until their latency is known.
+         */
+        private double score() {
+            final double latency;
+            final double errors;
+            synchronized (this) {
+                if (sampleCount == 0) {
+                    return failureCount == 0 ? 0 : Double.MAX_VALUE;
+                }
+                latency = averageLatency;
+                errors = errorRate;
+            }
+            return latency * (1 + ERROR_PENALTY * errors) * (inFlight.get() + 1);
+        }
+
+        @NonNull
+        private synchronized EndpointStatistics statistics() {
+            return new EndpointStatistics(name, Duration.ofNanos((long) averageLatency), errorRate, ejected, callCount,
+                    failureCount);
+        }
+    }
+}
@@ -13,7 +13,9 @@ import com.openelements.hiero.base.data.Balance;
 import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.jspecify.annotations.NonNull;
 
@@ -59,4 +61,21 @@ public interface MirrorNodeJsonConverter<JSON> {
 
     @NonNull
     List<TopicMessage> toTopicMessages(JSON json);
+
+    /**
+     * Parses a consensus timestamp of the mirror node in the format {@code seconds.nanoseconds}.
+     *
+     * @param timestamp the timestamp
+     * @return the timestamp as instant, including the nanoseconds
+     */
+    @NonNull
+    static Instant parseConsensusTimestamp(@NonNull final String timestamp) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        final int separator = timestamp.indexOf('.');
+        if (separator < 0) {
+            return Instant.ofEpochSecond(Long.parseLong(timestamp));
+        }
+        final String nanos = (timestamp.substring(separator + 1) + "000000000").substring(0, 9);
+        return Instant.ofEpochSecond(Long.parseLong(timestamp.substring(0, separator)), Long.parseLong(nanos));
+    }
 }
@@ -0,0 +1,211 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Pool of the operator accounts of a {@link HieroContext}. The pool picks the operator that pays for a transaction
+ * based on the {@link OperatorSelectionStrategy} of the context and tracks the usage of every operator.
+ */
+final class OperatorPool {
+
+    private static final Set<Status> THROTTLE_STATUSES = Set.of(Status.BUSY, Status.PLATFORM_TRANSACTION_NOT_CREATED);
+
+    private final List<Operator> operators;
+
+    private final OperatorSelectionStrategy strategy;
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * One operator account of the pool together with its client and usage counters.
+     */
+    static final class Operator {
+
+        private final HieroContext context;
+
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+
+        private final LongAdder submittedCount = new LongAdder();
+
+        private final LongAdder throttledCount = new LongAdder();
+
+        private Operator(@NonNull final HieroContext context) {
+            this.context = Objects.requireNonNull(context, "context must not be null");
+        }
+
+        @NonNull
+        Account account() {
+            return context.getOperatorAccount();
+        }
+
+        @NonNull
+        Client client() {
+            return context.getClient();
+        }
+
+        /**
+         * Marks a transaction paid by this operator as in flight. A transaction is in flight from the moment it asks
+         * the rate limiter for a permit, so that an operator whose transactions are delayed by the rate limiter does
+         * not look idle to the {@link OperatorSelectionStrategy#LEAST_IN_FLIGHT} strategy.
+         */
+        void reserved() {
+            inFlightCount.incrementAndGet();
+        }
+
+        /**
+         * Marks a transaction paid by this operator as submitted.
+         */
+        void submitted() {
+            submittedCount.increment();
+        }
+
+        /**
+         * Marks an in flight transaction as handled.
+         *
+         * @param failure the failure of the transaction or {@code null} if the transaction succeeded
+         */
+        void handled(@Nullable final Throwable failure) {
+            inFlightCount.decrementAndGet();
+            if (failure != null && isThrottled(failure)) {
+                throttledCount.increment();
+            }
+        }
+
+        int inFlightCount() {
+            return inFlightCount.get();
+        }
+
+        @NonNull
+        OperatorStatistics statistics() {
+            return new OperatorStatistics(account().accountId(), inFlightCount.get(), submittedCount.sum(),
+                    throttledCount.sum());
+        }
+    }
+
+    OperatorPool(@NonNull final HieroContext hieroContext) {
+        Objects.requireNonNull(hieroContext, "hieroContext must not be null");
+        final List<HieroContext> contexts = hieroContext.getOperatorContexts();
+        if (contexts == null || contexts.isEmpty()) {
+            operators = List.of(new Operator(hieroContext));
+        } else {
+            operators = contexts.stream().map(Operator::new).toList();
+        }
+        strategy = Optional.ofNullable(hieroContext.getOperatorSelectionStrategy())
+                .orElse(OperatorSelectionStrategy.LEAST_IN_FLIGHT);
+    }
+
+    /**
+     * Returns the primary operator of the pool. That operator is the operator account of the context.
+     *
+     * @return the primary operator
+     */
+    @NonNull
+    Operator primary() {
+        return operators.get(0);
+    }
+
+    /**
+     * Picks the operator for the next transaction.
+     *
+     * @return the operator
+     */
+    @NonNull
+    Operator select() {
+        final int size = operators.size();
+        if (size == 1) {
+            return operators.get(0);
+        }
+        final int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+        if (strategy == OperatorSelectionStrategy.ROUND_ROBIN) {
+            return operators.get(start);
+        }
+        Operator selected = operators.get(start);
+        for (int i = 1; i < size; i++) {
+            final Operator candidate = operators.get((start + i) % size);
+            if (candidate.inFlightCount() < selected.inFlightCount()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the operator that pays for the given transaction. If the transaction has already been frozen, the
+     * operator is defined by the payer of the transaction ID. Otherwise, a new operator is picked.
+     *
+     * @param transaction the transaction
+     * @return the operator
+     */
+    @NonNull
+    Operator operatorFor(@NonNull final Transaction<?> transaction) {
+        Objects.requireNonNull(transaction, "transaction must not be null");
+        final AccountId payer;
+        try {
+            payer = transaction.getTransactionId().accountId;
+        } catch (final IllegalStateException e) {
+            // the SDK does not expose if a transaction is frozen, a transaction without ID has not been frozen yet
+            return select();
+        }
+        return operators.stream()
+                .filter(operator -> operator.account().accountId().equals(payer))
+                .findFirst()
+                .orElse(primary());
+    }
+
+    /**
+     * Returns all operators of the pool.
+     *
+     * @return the operators
+     */
+    @NonNull
+    List<Operator> operators() {
+        return operators;
+    }
+
+    /**
+     * Returns the usage statistics of all operators.
+     *
+     * @return the statistics, the primary operator is the first entry
+     */
+    @NonNull
+    List<OperatorStatistics> getStatistics() {
+        return operators.stream().map(Operator::statistics).toList();
+    }
+
+    /**
+     * Checks if the given failure is caused by the network throttling a transaction.
+     *
+     * @param failure the failure
+     * @return true if the transaction has been throttled
+     */
+    static boolean isThrottled(@NonNull final Throwable failure) {
+        Throwable current = failure;
+        while (current != null) {
+            if (current instanceof PrecheckStatusException precheckStatusException) {
+                return THROTTLE_STATUSES.contains(precheckStatusException.status);
+            }
+            if (current instanceof ReceiptStatusException receiptStatusException) {
+                return THROTTLE_STATUSES.contains(receiptStatusException.receipt.status);
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package com.openelements.hiero.base.implementation;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Settings of the {@link AdaptiveRateLimiter}. All rates are transactions per second of one transaction type paid by
+ * one operator account.
+ *
+ * @param initialRate      rate that is used for a transaction type until the first adjustment, must be in
+ *                         [minRate, maxRate]
+ * @param minRate          lowest rate the limiter decreases to, must be greater than 0
+ * @param maxRate          highest rate the limiter increases to
+ * @param additiveIncrease amount the rate grows by for every second without throttling, must be greater than 0
+ * @param decreaseFactor   factor the rate is multiplied with if a transaction has been throttled, must be in (0, 1)
+ * @param burstSize        number of transactions that can be submitted at once after a quiet period, must be greater
+ *                         than 0
+ * @param maxWait          longest time a transaction waits for its permit, must be greater than 0. A transaction
+ *                         that would have to wait longer fails directly without taking a permit.
+ */
+public record RateLimiterSettings(double initialRate, double minRate, double maxRate, double additiveIncrease,
+                                  double decreaseFactor, int burstSize, Duration maxWait) {
+
+    public static final double DEFAULT_INITIAL_RATE = 10;
+
+    public static final double DEFAULT_MIN_RATE = 1;
+
+    public static final double DEFAULT_MAX_RATE = 100;
+
+    public static final double DEFAULT_ADDITIVE_INCREASE = 1;
+
+    public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+
+    public static final int DEFAULT_BURST_SIZE = 10;
+
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+
+    public static final RateLimiterSettings DEFAULT = new RateLimiterSettings(DEFAULT_INITIAL_RATE, DEFAULT_MIN_RATE,
+            DEFAULT_MAX_RATE, DEFAULT_ADDITIVE_INCREASE, DEFAULT_DECREASE_FACTOR, DEFAULT_BURST_SIZE,
+            DEFAULT_MAX_WAIT);
+
+    public RateLimiterSettings {
+        Objects.requireNonNull(maxWait, "maxWait must not be null");
+        if (!(minRate > 0)) {
+            throw new IllegalArgumentException("minRate must be greater than 0");
+        }
+        if (!(maxRate >= minRate)) {
+            throw new IllegalArgumentException("maxRate must not be less than minRate");
+        }
+        if (!(initialRate >= minRate && initialRate <= maxRate)) {
+            throw new IllegalArgumentException("initialRate must be in [minRate, maxRate]");
+        }
+        if (!(additiveIncrease > 0)) {
+            throw new IllegalArgumentException("additiveIncrease must be greater than 0");
+        }
+        if (!(decreaseFactor > 0 && decreaseFactor < 1)) {
+            throw new IllegalArgumentException("decreaseFactor must be in (0, 1)");
+        }
+        if (burstSize < 1) {
+            throw new IllegalArgumentException("burstSize must be greater than 0");
+        }
+        if (maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("maxWait must be greater than 0");
+        }
+    }
+
+    public RateLimiterSettings(final double initialRate, final double minRate, final double maxRate,
+            final double additiveIncrease, final double decreaseFactor, final int burstSize) {
+        this(initialRate, minRate, maxRate, additiveIncrease, decreaseFactor, burstSize, DEFAULT_MAX_WAIT);
+    }
+}
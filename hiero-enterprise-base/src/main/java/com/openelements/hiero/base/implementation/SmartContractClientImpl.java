@@ -8,13 +8,22 @@ import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.SmartContractClient;
 import com.openelements.hiero.base.data.ContractCallResult;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
 import com.openelements.hiero.base.protocol.data.ContractCallRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateResult;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -29,9 +38,55 @@ public class SmartContractClientImpl implements SmartContractClient {
 
     private final FileClient fileClient;
 
+    private final ContractQueryCacheSettings queryCacheSettings;
+
+    private final Clock clock;
+
+    private final Map<QueryKey, QueryEntry> queryCache;
+
+    private final Map<ContractId, InFlightQueries> inFlightQueries;
+
+    private record QueryKey(@NonNull ContractId contractId, @NonNull ByteBuffer functionCall) {
+    }
+
+    private record QueryEntry(@NonNull ContractCallResult result, @NonNull Instant expiresAt) {
+    }
+
+    /**
+     * Queries of a contract that are executed right now. The generation is increased by every contract call, a query
+     * only adds its result to the cache if the generation has not changed while it was executed. The entry is removed
+     * once the last query of the contract is done.
+     */
+    private static final class InFlightQueries {
+
+        private long generation;
+
+        private int count;
+    }
+
     public SmartContractClientImpl(@NonNull final ProtocolLayerClient protocolLayerClient, FileClient fileClient) {
+        this(protocolLayerClient, fileClient, ContractQueryCacheSettings.DISABLED);
+    }
+
+    public SmartContractClientImpl(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final FileClient fileClient, @NonNull final ContractQueryCacheSettings queryCacheSettings) {
+        this(protocolLayerClient, fileClient, queryCacheSettings, Clock.systemUTC());
+    }
+
+    public SmartContractClientImpl(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final FileClient fileClient, @NonNull final ContractQueryCacheSettings queryCacheSettings,
+            @NonNull final Clock clock) {
         this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient, "protocolLevelClient must not be null");
         this.fileClient = Objects.requireNonNull(fileClient, "fileClient must not be null");
+        this.queryCacheSettings = Objects.requireNonNull(queryCacheSettings, "queryCacheSettings must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.queryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<QueryKey, QueryEntry> eldest) {
+                return size() > queryCacheSettings.maximumSize();
+            }
+        };
+        this.inFlightQueries = new HashMap<>();
     }
 
     @NonNull
@@ -74,8 +129,10 @@ public class SmartContractClientImpl implements SmartContractClient {
             @Nullable final ContractParam<?>... constructorParams)
             throws HieroException {
         try {
-            final byte[] bytes = Files.readAllBytes(pathToBin);
-            return createContract(bytes, constructorParams);
+            final FileId fileId = fileClient.createFile(pathToBin);
+            final ContractId contract = createContract(fileId, constructorParams);
+            fileClient.deleteFile(fileId);
+            return contract;
         } catch (Exception e) {
             throw new HieroException("Failed to create contract from path " + pathToBin, e);
         }
@@ -94,6 +151,125 @@ public class SmartContractClientImpl implements SmartContractClient {
         } catch (Exception e) {
             throw new HieroException(
                     "Failed to call function '" + functionName + "' on contract with id " + contractId, e);
+        } finally {
+            invalidateQueries(contractId);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ContractCallResult callContractFunction(@NonNull final ContractId contractId,
+            @NonNull final PreparedContractFunction function,
+            @Nullable ContractParam<?>... params) throws HieroException {
+        Objects.requireNonNull(function, "function must not be null");
+        try {
+            final ContractCallRequest request = ContractCallRequest.of(contractId, function,
+                    params == null ? List.of() : Arrays.asList(params));
+            final ContractFunctionResult result = protocolLayerClient.executeContractCallTransaction(request)
+                    .contractFunctionResult();
+            return new ContractCallResultImpl(result);
+        } catch (Exception e) {
+            throw new HieroException(
+                    "Failed to call function '" + function.signature() + "' on contract with id " + contractId, e);
+        } finally {
+            invalidateQueries(contractId);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ContractCallResult queryContractFunction(@NonNull final ContractId contractId,
+            @NonNull final String functionName,
+            @Nullable ContractParam<?>... params) throws HieroException {
+        try {
+            final List<ContractParam<?>> paramList = params == null ? List.of() : Arrays.asList(params);
+            final PreparedContractFunction function = PreparedContractFunction.of(functionName,
+                    paramList.stream().map(ContractParam::nativeType).toList());
+            return query(contractId, function, paramList);
+        } catch (Exception e) {
+            throw new HieroException(
+                    "Failed to query function '" + functionName + "' on contract with id " + contractId, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ContractCallResult queryContractFunction(@NonNull final ContractId contractId,
+            @NonNull final PreparedContractFunction function,
+            @Nullable ContractParam<?>... params) throws HieroException {
+        Objects.requireNonNull(function, "function must not be null");
+        try {
+            return query(contractId, function, params == null ? List.of() : Arrays.asList(params));
+        } catch (Exception e) {
+            throw new HieroException(
+                    "Failed to query function '" + function.signature() + "' on contract with id " + contractId, e);
+        }
+    }
+
+    @NonNull
+    private ContractCallResult query(@NonNull final ContractId contractId,
+            @NonNull final PreparedContractFunction function, @NonNull final List<ContractParam<?>> params)
+            throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        final byte[] functionCall = function.encode(params);
+        final Duration ttl = queryCacheSettings.ttl();
+        if (ttl.isZero()) {
+            return executeQuery(contractId, functionCall);
+        }
+        final QueryKey key = new QueryKey(contractId, ByteBuffer.wrap(functionCall));
+        final InFlightQueries inFlight;
+        final long generation;
+        synchronized (queryCache) {
+            final QueryEntry entry = queryCache.get(key);
+            if (entry != null) {
+                if (clock.instant().isBefore(entry.expiresAt())) {
+                    log.debug("Using cached result of {} on contract {}", function, contractId);
+                    return entry.result();
+                }
+                queryCache.remove(key);
+            }
+            inFlight = inFlightQueries.computeIfAbsent(contractId, id -> new InFlightQueries());
+            inFlight.count++;
+            generation = inFlight.generation;
+        }
+        try {
+            final ContractCallResult callResult = executeQuery(contractId, functionCall);
+            synchronized (queryCache) {
+                // a contract call that happened while the query was executed can make its result outdated
+                if (inFlight.generation == generation) {
+                    queryCache.put(key, new QueryEntry(callResult, clock.instant().plus(ttl)));
+                }
+            }
+            return callResult;
+        } finally {
+            synchronized (queryCache) {
+                inFlight.count--;
+                if (inFlight.count == 0) {
+                    inFlightQueries.remove(contractId);
+                }
+            }
+        }
+    }
+
+    @NonNull
+    private ContractCallResult executeQuery(@NonNull final ContractId contractId, @NonNull final byte[] functionCall)
+            throws HieroException {
+        final ContractFunctionResult result = protocolLayerClient.executeContractCallQuery(
+                ContractCallQueryRequest.of(contractId, functionCall)).contractFunctionResult();
+        return new ContractCallResultImpl(result);
+    }
+
+    /**
+     * Removes the cached query results of the given contract, since a contract call transaction can change its state.
+     * Queries of the contract that are executed at the same time do not add their results to the cache.
+     */
+    private void invalidateQueries(@NonNull final ContractId contractId) {
+        synchronized (queryCache) {
+            final InFlightQueries inFlight = inFlightQueries.get(contractId);
+            if (inFlight != null) {
+                inFlight.generation++;
+            }
+            queryCache.keySet().removeIf(key -> key.contractId().equals(contractId));
         }
     }
 }
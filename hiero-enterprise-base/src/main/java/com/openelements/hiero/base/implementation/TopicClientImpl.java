@@ -5,11 +5,16 @@ import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.TopicClient;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.*;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
 
 public class TopicClientImpl implements TopicClient {
     private final ProtocolLayerClient client;
@@ -202,4 +207,12 @@ public class TopicClientImpl implements TopicClient {
         TopicSubmitMessageRequest request = TopicSubmitMessageRequest.of(topicId, submitKey, message);
         client.executeTopicMessageSubmitTransaction(request);
     }
+
+    @Override
+    public @NonNull Publisher<TopicMessage> subscribe(@NonNull TopicId topicId, @Nullable Instant startTime,
+            @NonNull TopicSubscriptionSettings settings) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(settings, "settings must not be null");
+        return new TopicMessagePublisher(client, topicId, startTime, settings);
+    }
 }
@@ -0,0 +1,315 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings.OverflowPolicy;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Flow.Publisher} for the messages of a topic. Every subscriber gets its own subscription to the network that
+ * starts when the subscriber subscribes and is unsubscribed when the subscriber cancels its subscription.
+ * <p>
+ * Messages are only delivered to the subscriber as requested by {@link Flow.Subscription#request(long)}. Messages
+ * that arrive while the subscriber has no outstanding demand are buffered. If the buffer is full, the
+ * {@link OverflowPolicy} of the {@link TopicSubscriptionSettings} is applied.
+ * <p>
+ * Messages that have been sent in several chunks are delivered as one reassembled message without
+ * {@link TopicMessage#chunkInfo()}.
+ */
+public class TopicMessagePublisher implements Flow.Publisher<TopicMessage> {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicMessagePublisher.class);
+
+    /**
+     * Version of the running hash of messages that are received from the network. The protocol layer does not provide
+     * the version, all messages that are submitted by current nodes use version 3.
+     */
+    private static final int RUNNING_HASH_VERSION = 3;
+
+    private final ProtocolLayerClient client;
+
+    private final TopicId topicId;
+
+    private final Instant startTime;
+
+    private final TopicSubscriptionSettings settings;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * Creates a publisher.
+     *
+     * @param client    the client that is used to subscribe to the topic
+     * @param topicId   the ID of the topic
+     * @param startTime the consensus time of the first message or {@code null} to receive only new messages
+     * @param settings  the settings of the subscriptions
+     */
+    public TopicMessagePublisher(@NonNull final ProtocolLayerClient client, @NonNull final TopicId topicId,
+            @Nullable final Instant startTime, @NonNull final TopicSubscriptionSettings settings) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.topicId = Objects.requireNonNull(topicId, "topicId must not be null");
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.startTime = startTime;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super TopicMessage> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        final MessageSubscription subscription = new MessageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    /**
+     * Returns the number of messages that have been dropped by {@link OverflowPolicy#DROP} over all subscriptions.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @NonNull
+    private TopicMessage toTopicMessage(final com.hedera.hashgraph.sdk.TopicMessage message) {
+        return TopicMessage.of(null, message.consensusTimestamp, message.contents,
+                message.transactionId != null ? message.transactionId.accountId : null, message.runningHash,
+                RUNNING_HASH_VERSION, message.sequenceNumber, topicId);
+    }
+
+    private final class MessageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super TopicMessage> subscriber;
+
+        private final ArrayDeque<TopicMessage> buffer = new ArrayDeque<>();
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition notFull = lock.newCondition();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile boolean done;
+
+        private volatile Throwable error;
+
+        private volatile SubscriptionHandle handle;
+
+        private MessageSubscription(final Flow.Subscriber<? super TopicMessage> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                final TopicMessageRequest request = TopicMessageRequest.of(topicId, startTime, this::onMessage,
+                        this::onError, this::onComplete);
+                final TopicMessageResult result = client.executeTopicMessageQuery(request);
+                handle = result.subscriptionHandle();
+                if (cancelled) {
+                    handle.unsubscribe();
+                }
+            } catch (final HieroException | RuntimeException e) {
+                onError(e);
+            }
+        }
+
+        private void onMessage(final com.hedera.hashgraph.sdk.TopicMessage message) {
+            if (cancelled || done) {
+                return;
+            }
+            final TopicMessage topicMessage = toTopicMessage(message);
+            HieroException overflow = null;
+            lock.lock();
+            try {
+                while (buffer.size() >= settings.bufferSize() && !cancelled) {
+                    if (settings.overflowPolicy() == OverflowPolicy.DROP) {
+                        droppedCount.incrementAndGet();
+                        log.debug("Dropped message {} of topic {}, buffer is full", message.sequenceNumber, topicId);
+                        return;
+                    }
+                    if (settings.overflowPolicy() == OverflowPolicy.FAIL) {
+                        overflow = new HieroException("Subscriber of topic " + topicId + " did not keep up, buffer of "
+                                + settings.bufferSize() + " messages is full");
+                        break;
+                    }
+                    notFull.awaitUninterruptibly();
+                }
+                if (overflow == null && !cancelled) {
+                    buffer.add(topicMessage);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (overflow != null) {
+                failAndUnsubscribe(overflow);
+                return;
+            }
+            drain();
+        }
+
+        private void failAndUnsubscribe(@NonNull final Throwable throwable) {
+            clearBuffer();
+            onError(throwable);
+            final SubscriptionHandle currentHandle = handle;
+            if (currentHandle != null) {
+                currentHandle.unsubscribe();
+            }
+        }
+
+        private void onError(@NonNull final Throwable throwable) {
+            if (done) {
+                return;
+            }
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        private void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                failAndUnsubscribe(new IllegalArgumentException("request must be greater than 0, but was " + n));
+                return;
+            }
+            requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            final SubscriptionHandle currentHandle = handle;
+            if (currentHandle != null) {
+                currentHandle.unsubscribe();
+            }
+            lock.lock();
+            try {
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Nullable
+        private TopicMessage poll() {
+            lock.lock();
+            try {
+                final TopicMessage message = buffer.poll();
+                if (message != null) {
+                    notFull.signal();
+                }
+                return message;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isBufferEmpty() {
+            lock.lock();
+            try {
+                return buffer.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Delivers buffered messages and terminal signals to the subscriber. Only one thread delivers at a time, a
+         * call while another thread delivers makes that thread loop once more.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                if (cancelled) {
+                    clearBuffer();
+                    return;
+                }
+                final long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand) {
+                    if (cancelled) {
+                        clearBuffer();
+                        return;
+                    }
+                    final boolean terminated = done;
+                    final TopicMessage message = poll();
+                    if (message == null) {
+                        if (terminated) {
+                            terminate();
+                            return;
+                        }
+                        break;
+                    }
+                    subscriber.onNext(message);
+                    emitted++;
+                }
+                if (emitted == demand && done && isBufferEmpty() && !cancelled) {
+                    terminate();
+                    return;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void terminate() {
+            cancelled = true;
+            final Throwable throwable = error;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+        private void clearBuffer() {
+            lock.lock();
+            try {
+                buffer.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
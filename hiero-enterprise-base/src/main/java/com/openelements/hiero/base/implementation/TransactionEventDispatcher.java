@@ -0,0 +1,106 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notifies {@link TransactionListener}s asynchronously. Events are queued in a bounded queue and delivered by a single
+ * virtual thread, so that the listeners are called in the order of the events. If the queue is full the event is
+ * dropped and counted instead of blocking the thread that executes the transaction. The thread is stopped if no event
+ * has been queued for a second.
+ */
+public final class TransactionEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionEventDispatcher.class);
+
+    /**
+     * Default maximum number of queued events.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final List<TransactionListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a dispatcher with {@link #DEFAULT_CAPACITY}.
+     */
+    public TransactionEventDispatcher() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param capacity maximum number of queued events
+     */
+    public TransactionEventDispatcher(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity),
+                Thread.ofVirtual().name("hiero-transaction-listener").factory(), (task, ignored) -> {
+            if (droppedCount.incrementAndGet() == 1) {
+                log.warn("Transaction listeners can not keep up, events are dropped");
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Adds a listener.
+     *
+     * @param listener the listener
+     * @return a Runnable object that can be used to remove the listener
+     */
+    @NonNull
+    public Runnable addListener(@NonNull final TransactionListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Queues an event for all listeners. Nothing is queued if no listener has been added.
+     *
+     * @param event    the event
+     * @param callback the method of the listener that is called
+     */
+    public void dispatch(@NonNull final TransactionEvent event,
+            @NonNull final BiConsumer<TransactionListener, TransactionEvent> callback) {
+        Objects.requireNonNull(event, "event must not be null");
+        Objects.requireNonNull(callback, "callback must not be null");
+        if (listeners.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> listeners.forEach(listener -> {
+            try {
+                callback.accept(listener, event);
+            } catch (final Exception e) {
+                log.error("Failed to notify listener", e);
+            }
+        }));
+    }
+
+    /**
+     * Returns the number of events that have been dropped because the queue was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -8,141 +8,112 @@ import org.jspecify.annotations.NonNull;
 
 public enum BigIntegerBasedNumericDatatypes implements ParamSupplier<BigInteger> {
 
-    INT72("int72", (v, params) -> params.addInt72(v), BigInteger.valueOf(2).pow(71).negate(),
-            BigInteger.valueOf(2).pow(71).subtract(BigInteger.ONE)),
-    INT80("int80", (v, params) -> params.addInt80(v), BigInteger.valueOf(2).pow(79).negate(),
-            BigInteger.valueOf(2).pow(79).subtract(BigInteger.ONE)),
-    INT88("int88", (v, params) -> params.addInt88(v), BigInteger.valueOf(2).pow(87).negate(),
-            BigInteger.valueOf(2).pow(87).subtract(BigInteger.ONE)),
-    INT96("int96", (v, params) -> params.addInt96(v), BigInteger.valueOf(2).pow(95).negate(),
-            BigInteger.valueOf(2).pow(95).subtract(BigInteger.ONE)),
-    INT104("int104", (v, params) -> params.addInt104(v), BigInteger.valueOf(2).pow(103).negate(),
-            BigInteger.valueOf(2).pow(103).subtract(BigInteger.ONE)),
-    INT112("int112", (v, params) -> params.addInt112(v), BigInteger.valueOf(2).pow(111).negate(),
-            BigInteger.valueOf(2).pow(111).subtract(BigInteger.ONE)),
-    INT120("int120", (v, params) -> params.addInt120(v), BigInteger.valueOf(2).pow(119).negate(),
-            BigInteger.valueOf(2).pow(119).subtract(BigInteger.ONE)),
-    INT128("int128", (v, params) -> params.addInt128(v), BigInteger.valueOf(2).pow(127).negate(),
-            BigInteger.valueOf(2).pow(127).subtract(BigInteger.ONE)),
-    INT136("int136", (v, params) -> params.addInt136(v), BigInteger.valueOf(2).pow(135).negate(),
-            BigInteger.valueOf(2).pow(135).subtract(BigInteger.ONE)),
-    INT144("int144", (v, params) -> params.addInt144(v), BigInteger.valueOf(2).pow(143).negate(),
-            BigInteger.valueOf(2).pow(143).subtract(BigInteger.ONE)),
-    INT152("int152", (v, params) -> params.addInt152(v), BigInteger.valueOf(2).pow(151).negate(),
-            BigInteger.valueOf(2).pow(151).subtract(BigInteger.ONE)),
-    INT160("int160", (v, params) -> params.addInt160(v), BigInteger.valueOf(2).pow(159).negate(),
-            BigInteger.valueOf(2).pow(159).subtract(BigInteger.ONE)),
-    INT168("int168", (v, params) -> params.addInt168(v), BigInteger.valueOf(2).pow(167).negate(),
-            BigInteger.valueOf(2).pow(167).subtract(BigInteger.ONE)),
-    INT176("int176", (v, params) -> params.addInt176(v), BigInteger.valueOf(2).pow(175).negate(),
-            BigInteger.valueOf(2).pow(175).subtract(BigInteger.ONE)),
-    INT184("int184", (v, params) -> params.addInt184(v), BigInteger.valueOf(2).pow(183).negate(),
-            BigInteger.valueOf(2).pow(183).subtract(BigInteger.ONE)),
-    INT192("int192", (v, params) -> params.addInt192(v), BigInteger.valueOf(2).pow(191).negate(),
-            BigInteger.valueOf(2).pow(191).subtract(BigInteger.ONE)),
-    INT200("int200", (v, params) -> params.addInt200(v), BigInteger.valueOf(2).pow(199).negate(),
-            BigInteger.valueOf(2).pow(199).subtract(BigInteger.ONE)),
-    INT208("int208", (v, params) -> params.addInt208(v), BigInteger.valueOf(2).pow(207).negate(),
-            BigInteger.valueOf(2).pow(207).subtract(BigInteger.ONE)),
-    INT216("int216", (v, params) -> params.addInt216(v), BigInteger.valueOf(2).pow(215).negate(),
-            BigInteger.valueOf(2).pow(215).subtract(BigInteger.ONE)),
-    INT224("int224", (v, params) -> params.addInt224(v), BigInteger.valueOf(2).pow(223).negate(),
-            BigInteger.valueOf(2).pow(223).subtract(BigInteger.ONE)),
-    INT232("int232", (v, params) -> params.addInt232(v), BigInteger.valueOf(2).pow(231).negate(),
-            BigInteger.valueOf(2).pow(231).subtract(BigInteger.ONE)),
-    INT240("int240", (v, params) -> params.addInt240(v), BigInteger.valueOf(2).pow(239).negate(),
-            BigInteger.valueOf(2).pow(239).subtract(BigInteger.ONE)),
-    INT248("int248", (v, params) -> params.addInt248(v), BigInteger.valueOf(2).pow(247).negate(),
-            BigInteger.valueOf(2).pow(247).subtract(BigInteger.ONE)),
-    INT256("int256", (v, params) -> params.addInt256(v), BigInteger.valueOf(2).pow(255).negate(),
-            BigInteger.valueOf(2).pow(255).subtract(BigInteger.ONE)),
+    INT72("int72", (v, params) -> params.addInt72(v), 72, true),
+    INT80("int80", (v, params) -> params.addInt80(v), 80, true),
+    INT88("int88", (v, params) -> params.addInt88(v), 88, true),
+    INT96("int96", (v, params) -> params.addInt96(v), 96, true),
+    INT104("int104", (v, params) -> params.addInt104(v), 104, true),
+    INT112("int112", (v, params) -> params.addInt112(v), 112, true),
+    INT120("int120", (v, params) -> params.addInt120(v), 120, true),
+    INT128("int128", (v, params) -> params.addInt128(v), 128, true),
+    INT136("int136", (v, params) -> params.addInt136(v), 136, true),
+    INT144("int144", (v, params) -> params.addInt144(v), 144, true),
+    INT152("int152", (v, params) -> params.addInt152(v), 152, true),
+    INT160("int160", (v, params) -> params.addInt160(v), 160, true),
+    INT168("int168", (v, params) -> params.addInt168(v), 168, true),
+    INT176("int176", (v, params) -> params.addInt176(v), 176, true),
+    INT184("int184", (v, params) -> params.addInt184(v), 184, true),
+    INT192("int192", (v, params) -> params.addInt192(v), 192, true),
+    INT200("int200", (v, params) -> params.addInt200(v), 200, true),
+    INT208("int208", (v, params) -> params.addInt208(v), 208, true),
+    INT216("int216", (v, params) -> params.addInt216(v), 216, true),
+    INT224("int224", (v, params) -> params.addInt224(v), 224, true),
+    INT232("int232", (v, params) -> params.addInt232(v), 232, true),
+    INT240("int240", (v, params) -> params.addInt240(v), 240, true),
+    INT248("int248", (v, params) -> params.addInt248(v), 248, true),
+    INT256("int256", (v, params) -> params.addInt256(v), 256, true),
 
-    UINT72("uint72", (v, params) -> params.addUint72(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(72).subtract(BigInteger.ONE)),
-    UINT80("uint80", (v, params) -> params.addUint80(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(80).subtract(BigInteger.ONE)),
-    UINT88("uint88", (v, params) -> params.addUint88(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(88).subtract(BigInteger.ONE)),
-    UINT96("uint96", (v, params) -> params.addUint96(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(96).subtract(BigInteger.ONE)),
-    UINT104("uint104", (v, params) -> params.addUint104(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(104).subtract(BigInteger.ONE)),
-    UINT112("uint112", (v, params) -> params.addUint112(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(112).subtract(BigInteger.ONE)),
-    UINT120("uint120", (v, params) -> params.addUint120(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(120).subtract(BigInteger.ONE)),
-    UINT128("uint128", (v, params) -> params.addUint128(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(128).subtract(BigInteger.ONE)),
-    UINT136("uint136", (v, params) -> params.addUint136(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(136).subtract(BigInteger.ONE)),
-    UINT144("uint144", (v, params) -> params.addUint144(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(144).subtract(BigInteger.ONE)),
-    UINT152("uint152", (v, params) -> params.addUint152(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(152).subtract(BigInteger.ONE)),
-    UINT160("uint160", (v, params) -> params.addUint160(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(160).subtract(BigInteger.ONE)),
-    UINT168("uint168", (v, params) -> params.addUint168(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(168).subtract(BigInteger.ONE)),
-    UINT176("uint176", (v, params) -> params.addUint176(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(176).subtract(BigInteger.ONE)),
-    UINT184("uint184", (v, params) -> params.addUint184(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(184).subtract(BigInteger.ONE)),
-    UINT192("uint192", (v, params) -> params.addUint192(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(192).subtract(BigInteger.ONE)),
-    UINT200("uint200", (v, params) -> params.addUint200(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(200).subtract(BigInteger.ONE)),
-    UINT208("uint208", (v, params) -> params.addUint208(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(208).subtract(BigInteger.ONE)),
-    UINT216("uint216", (v, params) -> params.addUint216(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(216).subtract(BigInteger.ONE)),
-    UINT224("uint224", (v, params) -> params.addUint224(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(224).subtract(BigInteger.ONE)),
-    UINT232("uint232", (v, params) -> params.addUint232(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(232).subtract(BigInteger.ONE)),
-    UINT240("uint240", (v, params) -> params.addUint240(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(240).subtract(BigInteger.ONE)),
-    UINT248("uint248", (v, params) -> params.addUint248(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(248).subtract(BigInteger.ONE)),
+    UINT72("uint72", (v, params) -> params.addUint72(v), 72, false),
+    UINT80("uint80", (v, params) -> params.addUint80(v), 80, false),
+    UINT88("uint88", (v, params) -> params.addUint88(v), 88, false),
+    UINT96("uint96", (v, params) -> params.addUint96(v), 96, false),
+    UINT104("uint104", (v, params) -> params.addUint104(v), 104, false),
+    UINT112("uint112", (v, params) -> params.addUint112(v), 112, false),
+    UINT120("uint120", (v, params) -> params.addUint120(v), 120, false),
+    UINT128("uint128", (v, params) -> params.addUint128(v), 128, false),
+    UINT136("uint136", (v, params) -> params.addUint136(v), 136, false),
+    UINT144("uint144", (v, params) -> params.addUint144(v), 144, false),
+    UINT152("uint152", (v, params) -> params.addUint152(v), 152, false),
+    UINT160("uint160", (v, params) -> params.addUint160(v), 160, false),
+    UINT168("uint168", (v, params) -> params.addUint168(v), 168, false),
+    UINT176("uint176", (v, params) -> params.addUint176(v), 176, false),
+    UINT184("uint184", (v, params) -> params.addUint184(v), 184, false),
+    UINT192("uint192", (v, params) -> params.addUint192(v), 192, false),
+    UINT200("uint200", (v, params) -> params.addUint200(v), 200, false),
+    UINT208("uint208", (v, params) -> params.addUint208(v), 208, false),
+    UINT216("uint216", (v, params) -> params.addUint216(v), 216, false),
+    UINT224("uint224", (v, params) -> params.addUint224(v), 224, false),
+    UINT232("uint232", (v, params) -> params.addUint232(v), 232, false),
+    UINT240("uint240", (v, params) -> params.addUint240(v), 240, false),
+    UINT248("uint248", (v, params) -> params.addUint248(v), 248, false),
+
+    UINT256("uint256", (v, params) -> params.addUint256(v), 256, false);
 
-    UINT256("uint256", (v, params) -> params.addUint256(v), BigInteger.ZERO,
-            BigInteger.valueOf(2).pow(256).subtract(BigInteger.ONE));
     private final BiConsumer<BigInteger, ContractFunctionParameters> addParam;
 
-    private final BigInteger minValue;
+    private final String nativeType;
 
-    private final BigInteger maxValue;
+    private final int bitCount;
 
-    private final String nativeType;
+    private final boolean signed;
 
     BigIntegerBasedNumericDatatypes(final String nativeType,
-            BiConsumer<BigInteger, ContractFunctionParameters> addParam, BigInteger minValue, BigInteger maxValue) {
+            BiConsumer<BigInteger, ContractFunctionParameters> addParam, final int bitCount, final boolean signed) {
         this.nativeType = nativeType;
         this.addParam = addParam;
-        this.minValue = minValue;
-        this.maxValue = maxValue;
+        this.bitCount = bitCount;
+        this.signed = signed;
     }
 
     @Override
     public void addParamToFunctionParameters(@NonNull final BigInteger value, final ContractFunctionParameters params) {
         Objects.requireNonNull(value, "value must not be null");
-        if (value.compareTo(minValue) < 0 || value.compareTo(maxValue) > 0) {
+        if (!isValidParam(value)) {
             throw new IllegalArgumentException("value out of range for type '" + this + "': " + value);
         }
         addParam.accept(value, params);
     }
 
+    /**
+     * Checks the range of the value by its bit length. A signed type of n bits covers all values with a bit length
+     * (without sign bit) of at most n - 1, an unsigned type of n bits covers all non-negative values with a bit length
+     * of at most n. In contrast to a comparison against {@code 2^n} bounds, no bound needs to be kept per type.
+     */
     @Override
     public boolean isValidParam(final BigInteger value) {
         if (value == null) {
             return false;
         }
-        return value.compareTo(minValue) >= 0 && value.compareTo(maxValue) <= 0;
+        if (signed) {
+            return value.bitLength() < bitCount;
+        }
+        return value.signum() >= 0 && value.bitLength() <= bitCount;
+    }
+
+    /**
+     * Checks if the given {@code long} value is in the range of this type without converting it to a
+     * {@link BigInteger}. All types have more than 64 bits, so every {@code long} is valid for the signed types and
+     * every non-negative {@code long} is valid for the unsigned types.
+     *
+     * @param value the value
+     * @return true if the value is in the range of this type
+     */
+    public boolean isValidParam(final long value) {
+        return signed || value >= 0;
     }
 
     @Override
     public String getNativeType() {
         return nativeType;
     }
-
-
 }
@@ -0,0 +1,204 @@
+package com.openelements.hiero.base.mirrornode;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Flow.Subscriber} that forwards all signals to a delegate and commits the sequence number of the processed
+ * messages to a {@link TopicCheckpointStore}. A message is processed once {@link Subscriber#onNext(Object)} of the
+ * delegate returned.
+ * <p>
+ * Not every message is committed: a checkpoint is committed after {@code commitEveryMessages} processed messages or if
+ * the last commit is older than {@code commitInterval} when a message has been processed. The last processed message is
+ * always committed and flushed when the stream terminates or the delegate cancels its subscription. If a checkpoint
+ * can not be committed, the subscription is cancelled and the delegate receives the error.
+ * <p>
+ * Example that resumes a consumer after a restart:
+ * <pre>{@code
+ * TopicReplayPublisher.fromCheckpoint(mirrorNodeClient, topicClient, topicId, store)
+ *         .subscribe(new CheckpointingTopicSubscriber(store, topicId, consumer));
+ * }</pre>
+ */
+public final class CheckpointingTopicSubscriber implements Flow.Subscriber<TopicMessage> {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointingTopicSubscriber.class);
+
+    /**
+     * Default number of processed messages after which a checkpoint is committed.
+     */
+    public static final int DEFAULT_COMMIT_EVERY_MESSAGES = 100;
+
+    /**
+     * Default maximum age of the last commit after which the next processed message is committed.
+     */
+    public static final Duration DEFAULT_COMMIT_INTERVAL = Duration.ofSeconds(1);
+
+    private final TopicCheckpointStore store;
+
+    private final TopicId topicId;
+
+    private final Subscriber<? super TopicMessage> delegate;
+
+    private final int commitEveryMessages;
+
+    private final long commitIntervalNanos;
+
+    /**
+     * Lock for the commit state, since the delegate may cancel its subscription from another thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Flow.Subscription upstream;
+
+    private volatile long processedSequenceNumber;
+
+    private long committedSequenceNumber;
+
+    private int uncommitted;
+
+    private long lastCommitNanos;
+
+    private boolean terminated;
+
+    /**
+     * Creates a subscriber with the default commit settings.
+     *
+     * @param store    the store of the checkpoints
+     * @param topicId  the ID of the topic
+     * @param delegate the subscriber that processes the messages
+     */
+    public CheckpointingTopicSubscriber(@NonNull final TopicCheckpointStore store, @NonNull final TopicId topicId,
+            @NonNull final Subscriber<? super TopicMessage> delegate) {
+        this(store, topicId, delegate, DEFAULT_COMMIT_EVERY_MESSAGES, DEFAULT_COMMIT_INTERVAL);
+    }
+
+    /**
+     * Creates a subscriber.
+     *
+     * @param store               the store of the checkpoints
+     * @param topicId             the ID of the topic
+     * @param delegate            the subscriber that processes the messages
+     * @param commitEveryMessages number of processed messages after which a checkpoint is committed
+     * @param commitInterval      maximum age of the last commit after which the next processed message is committed
+     */
+    public CheckpointingTopicSubscriber(@NonNull final TopicCheckpointStore store, @NonNull final TopicId topicId,
+            @NonNull final Subscriber<? super TopicMessage> delegate, final int commitEveryMessages,
+            @NonNull final Duration commitInterval) {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        this.topicId = Objects.requireNonNull(topicId, "topicId must not be null");
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(commitInterval, "commitInterval must not be null");
+        if (commitEveryMessages < 1) {
+            throw new IllegalArgumentException("commitEveryMessages must be greater than 0");
+        }
+        if (commitInterval.isNegative()) {
+            throw new IllegalArgumentException("commitInterval must not be negative");
+        }
+        this.commitEveryMessages = commitEveryMessages;
+        this.commitIntervalNanos = commitInterval.toNanos();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        upstream = Objects.requireNonNull(subscription, "subscription must not be null");
+        lastCommitNanos = System.nanoTime();
+        delegate.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                subscription.cancel();
+                try {
+                    commitAndFlush();
+                } catch (final HieroException e) {
+                    log.warn("Could not commit checkpoint of topic {} after cancel", topicId, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onNext(final TopicMessage message) {
+        if (terminated) {
+            return;
+        }
+        delegate.onNext(message);
+        processedSequenceNumber = message.sequenceNumber();
+        uncommitted++;
+        if (uncommitted >= commitEveryMessages || System.nanoTime() - lastCommitNanos >= commitIntervalNanos) {
+            try {
+                commit();
+            } catch (final HieroException e) {
+                terminated = true;
+                upstream.cancel();
+                delegate.onError(e);
+            }
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        if (terminated) {
+            return;
+        }
+        terminated = true;
+        try {
+            commitAndFlush();
+        } catch (final HieroException e) {
+            throwable.addSuppressed(e);
+        }
+        delegate.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (terminated) {
+            return;
+        }
+        terminated = true;
+        try {
+            commitAndFlush();
+        } catch (final HieroException e) {
+            delegate.onError(e);
+            return;
+        }
+        delegate.onComplete();
+    }
+
+    private void commit() throws HieroException {
+        lock.lock();
+        try {
+            final long sequenceNumber = processedSequenceNumber;
+            if (sequenceNumber > committedSequenceNumber) {
+                store.commit(topicId, sequenceNumber);
+                committedSequenceNumber = sequenceNumber;
+            }
+            uncommitted = 0;
+            lastCommitNanos = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void commitAndFlush() throws HieroException {
+        lock.lock();
+        try {
+            commit();
+            store.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
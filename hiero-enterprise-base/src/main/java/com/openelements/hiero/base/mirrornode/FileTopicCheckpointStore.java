@@ -0,0 +1,311 @@
+package com.openelements.hiero.base.mirrornode;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TopicCheckpointStore} that appends every checkpoint as a line {@code <topicId> <sequenceNumber>} to a local
+ * file.
+ * <p>
+ * Appending is cheap, the expensive part is forcing the file to the storage device. Therefore the file is only synced
+ * once {@code syncBatchSize} checkpoints have been appended or the last sync is older than {@code syncInterval}, and on
+ * {@link #flush()} and {@link #close()}. If no further checkpoint is committed, a virtual thread syncs the file once
+ * the interval has passed, so that no checkpoint stays unsynced for longer than {@code syncInterval}. A crash loses at
+ * most the checkpoints since the last sync, which only means that the consumer replays a few more messages.
+ * <p>
+ * When the store is opened the file is read and rewritten with only the latest checkpoint per topic. A line that has
+ * not been written completely before a crash is ignored. The file is also rewritten while the store is open once it
+ * contains {@value #COMPACTION_THRESHOLD} outdated checkpoints.
+ */
+public final class FileTopicCheckpointStore implements TopicCheckpointStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileTopicCheckpointStore.class);
+
+    /**
+     * Default number of appended checkpoints after which the file is synced.
+     */
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 64;
+
+    /**
+     * Default maximum time between appending a checkpoint and the sync of the file.
+     */
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(200);
+
+    /**
+     * Number of outdated checkpoints in the file after which the file is rewritten.
+     */
+    public static final int COMPACTION_THRESHOLD = 100_000;
+
+    private final Path file;
+
+    private final int syncBatchSize;
+
+    private final long syncIntervalNanos;
+
+    private final Map<TopicId, Long> checkpoints = new HashMap<>();
+
+    /**
+     * Lock for all state of the store. A lock is used instead of {@code synchronized} since the file is written while
+     * holding it, which would pin a virtual thread to its carrier.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    private int records;
+
+    private int unsynced;
+
+    private long lastSyncNanos;
+
+    private boolean syncScheduled;
+
+    private FileTopicCheckpointStore(@NonNull final Path file, final int syncBatchSize,
+            @NonNull final Duration syncInterval) {
+        this.file = Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(syncInterval, "syncInterval must not be null");
+        if (syncBatchSize < 1) {
+            throw new IllegalArgumentException("syncBatchSize must be greater than 0");
+        }
+        if (syncInterval.isNegative()) {
+            throw new IllegalArgumentException("syncInterval must not be negative");
+        }
+        this.syncBatchSize = syncBatchSize;
+        this.syncIntervalNanos = syncInterval.toNanos();
+    }
+
+    /**
+     * Opens the store with the given file and the default sync settings. The file is created if it does not exist.
+     *
+     * @param file the file of the store
+     * @return the store
+     * @throws HieroException if the file could not be read or written
+     */
+    @NonNull
+    public static FileTopicCheckpointStore open(@NonNull final Path file) throws HieroException {
+        return open(file, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Opens the store with the given file. The file is created if it does not exist.
+     *
+     * @param file          the file of the store
+     * @param syncBatchSize number of appended checkpoints after which the file is synced
+     * @param syncInterval  maximum time between appending a checkpoint and syncing the file
+     * @return the store
+     * @throws HieroException if the file could not be read or written
+     */
+    @NonNull
+    public static FileTopicCheckpointStore open(@NonNull final Path file, final int syncBatchSize,
+            @NonNull final Duration syncInterval) throws HieroException {
+        final FileTopicCheckpointStore store = new FileTopicCheckpointStore(file, syncBatchSize, syncInterval);
+        store.readFile();
+        store.compact();
+        return store;
+    }
+
+    @NonNull
+    @Override
+    public OptionalLong load(@NonNull final TopicId topicId) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        lock.lock();
+        try {
+            final Long sequenceNumber = checkpoints.get(topicId);
+            return sequenceNumber != null ? OptionalLong.of(sequenceNumber) : OptionalLong.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void commit(@NonNull final TopicId topicId, final long sequenceNumber) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (sequenceNumber < 1) {
+            throw new IllegalArgumentException("sequenceNumber must be greater than 0");
+        }
+        lock.lock();
+        try {
+            ensureOpen();
+            final Long current = checkpoints.get(topicId);
+            if (current != null && current >= sequenceNumber) {
+                return;
+            }
+            checkpoints.put(topicId, sequenceNumber);
+            try {
+                final ByteBuffer line = ByteBuffer.wrap(toLine(topicId, sequenceNumber));
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+                records++;
+                unsynced++;
+                final long sinceLastSync = System.nanoTime() - lastSyncNanos;
+                if (unsynced >= syncBatchSize || sinceLastSync >= syncIntervalNanos) {
+                    sync();
+                } else if (!syncScheduled) {
+                    syncScheduled = true;
+                    final long delayNanos = syncIntervalNanos - sinceLastSync;
+                    Thread.ofVirtual().name("hiero-checkpoint-sync").start(() -> syncLater(delayNanos));
+                }
+            } catch (final IOException e) {
+                throw new HieroException("Error while writing checkpoint of topic " + topicId + " to " + file, e);
+            }
+            if (records - checkpoints.size() >= COMPACTION_THRESHOLD) {
+                compact();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws HieroException {
+        lock.lock();
+        try {
+            ensureOpen();
+            sync();
+        } catch (final IOException e) {
+            throw new HieroException("Error while syncing checkpoints to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws HieroException {
+        lock.lock();
+        try {
+            if (channel == null) {
+                return;
+            }
+            try (FileChannel toClose = channel) {
+                channel = null;
+                if (unsynced > 0) {
+                    toClose.force(false);
+                    unsynced = 0;
+                }
+            }
+        } catch (final IOException e) {
+            throw new HieroException("Error while closing checkpoint file " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("Checkpoint store " + file + " is closed");
+        }
+    }
+
+    private void sync() throws IOException {
+        if (unsynced > 0) {
+            channel.force(false);
+            unsynced = 0;
+        }
+        lastSyncNanos = System.nanoTime();
+    }
+
+    /**
+     * Syncs the file after the given delay, so that a checkpoint is not kept unsynced for longer than the sync
+     * interval if no further checkpoint is committed.
+     */
+    private void syncLater(final long delayNanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(delayNanos));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        lock.lock();
+        try {
+            syncScheduled = false;
+            if (channel != null) {
+                sync();
+            }
+        } catch (final IOException e) {
+            log.warn("Error while syncing checkpoints to {}", file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void readFile() throws HieroException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.ISO_8859_1);
+        } catch (final IOException e) {
+            throw new HieroException("Error while reading checkpoint file " + file, e);
+        }
+        for (final String line : lines) {
+            final int separator = line.indexOf(' ');
+            try {
+                if (separator < 0) {
+                    throw new IllegalArgumentException("missing separator");
+                }
+                final TopicId topicId = TopicId.fromString(line.substring(0, separator));
+                final long sequenceNumber = Long.parseLong(line.substring(separator + 1));
+                checkpoints.merge(topicId, sequenceNumber, Math::max);
+            } catch (final RuntimeException e) {
+                log.warn("Ignoring incomplete checkpoint '{}' in {}", line, file);
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with the latest checkpoint per topic. The new content is written to a temporary file that
+     * replaces the file atomically, so that a crash while compacting keeps the old content.
+     */
+    private void compact() throws HieroException {
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            try (FileChannel out = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (final Map.Entry<TopicId, Long> entry : checkpoints.entrySet()) {
+                    final ByteBuffer line = ByteBuffer.wrap(toLine(entry.getKey(), entry.getValue()));
+                    while (line.hasRemaining()) {
+                        out.write(line);
+                    }
+                }
+                out.force(false);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            records = checkpoints.size();
+            unsynced = 0;
+            lastSyncNanos = System.nanoTime();
+            log.debug("Compacted checkpoint file {} to {} checkpoints", file, records);
+        } catch (final IOException e) {
+            throw new HieroException("Error while compacting checkpoint file " + file, e);
+        }
+    }
+
+    @NonNull
+    private static byte[] toLine(@NonNull final TopicId topicId, final long sequenceNumber) {
+        return (topicId + " " + sequenceNumber + "\n").getBytes(StandardCharsets.US_ASCII);
+    }
+}
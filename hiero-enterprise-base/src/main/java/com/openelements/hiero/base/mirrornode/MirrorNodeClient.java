@@ -20,6 +20,7 @@ import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
 import com.openelements.hiero.base.data.Result;
 import com.openelements.hiero.base.data.BalanceModification;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -413,6 +414,30 @@ public interface MirrorNodeClient {
     @NonNull
     Page<TopicMessage> queryTopicMessages(TopicId topicId) throws HieroException;
 
+    /**
+     * Return TopicMessages for given topicId in ascending order, starting with the message with the given sequence
+     * number.
+     *
+     * @param topicId            id of the topic
+     * @param fromSequenceNumber sequence number of the first message
+     * @return Page of TopicMessage
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    Page<TopicMessage> queryTopicMessages(TopicId topicId, long fromSequenceNumber) throws HieroException;
+
+    /**
+     * Return TopicMessages for given topicId in ascending order, starting with the first message that reached
+     * consensus at or after the given timestamp.
+     *
+     * @param topicId                id of the topic
+     * @param fromConsensusTimestamp consensus timestamp of the first message
+     * @return Page of TopicMessage
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    Page<TopicMessage> queryTopicMessages(TopicId topicId, Instant fromConsensusTimestamp) throws HieroException;
+
     /**
      * Return TopicMessages for given topicId.
      *
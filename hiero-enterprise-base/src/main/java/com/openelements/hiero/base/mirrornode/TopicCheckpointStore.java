@@ -0,0 +1,57 @@
+package com.openelements.hiero.base.mirrornode;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import java.util.OptionalLong;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Store for the sequence number of the last message of a topic that has been processed by a consumer. A consumer that
+ * is restarted resumes with the message after the stored sequence number instead of replaying the whole topic (see
+ * {@link TopicReplayPublisher#fromCheckpoint(MirrorNodeClient, com.openelements.hiero.base.TopicClient, TopicId,
+ * TopicCheckpointStore)}).
+ * <p>
+ * Implementations must be thread safe. A checkpoint only moves forward: committing a sequence number that is not
+ * greater than the stored one has no effect. Implementations may batch the writes to the underlying storage, a
+ * checkpoint is only guaranteed to be durable after {@link #flush()} or {@link #close()} returned. Consumers must
+ * therefore be able to process messages that have already been processed before a crash (at-least-once delivery).
+ *
+ * @see FileTopicCheckpointStore
+ * @see CheckpointingTopicSubscriber
+ */
+public interface TopicCheckpointStore extends AutoCloseable {
+
+    /**
+     * Returns the sequence number of the last processed message of the given topic.
+     *
+     * @param topicId the ID of the topic
+     * @return the sequence number or an empty result if no checkpoint has been committed for the topic
+     * @throws HieroException if the checkpoint could not be read
+     */
+    @NonNull
+    OptionalLong load(@NonNull TopicId topicId) throws HieroException;
+
+    /**
+     * Commits the sequence number of the last processed message of the given topic.
+     *
+     * @param topicId        the ID of the topic
+     * @param sequenceNumber the sequence number of the last processed message
+     * @throws HieroException if the checkpoint could not be written
+     */
+    void commit(@NonNull TopicId topicId, long sequenceNumber) throws HieroException;
+
+    /**
+     * Makes all committed checkpoints durable.
+     *
+     * @throws HieroException if the checkpoints could not be written
+     */
+    void flush() throws HieroException;
+
+    /**
+     * Flushes all committed checkpoints and releases the resources of the store.
+     *
+     * @throws HieroException if the checkpoints could not be written
+     */
+    @Override
+    void close() throws HieroException;
+}
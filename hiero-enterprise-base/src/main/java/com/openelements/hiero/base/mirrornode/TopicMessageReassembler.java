@@ -0,0 +1,231 @@
+package com.openelements.hiero.base.mirrornode;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reassembles the chunks of topic messages that have been sent in several transactions, as returned by the mirror node
+ * (see {@link MirrorNodeClient#queryTopicMessages(com.hedera.hashgraph.sdk.TopicId)}). Chunks are grouped by
+ * {@link ChunkInfo#initialTransactionId()}. Once all chunks of a group have been added, the reassembled message is
+ * returned. The reassembled message has no {@link TopicMessage#chunkInfo()}, the raw contents of all chunks in the
+ * order of their numbers, decoded as one message, the payer of the first chunk and the consensus timestamp, running hash and sequence number of the
+ * last chunk. This matches the messages of the live stream ({@link com.openelements.hiero.base.TopicClient#subscribe(
+ * com.hedera.hashgraph.sdk.TopicId)}).
+ * <p>
+ * The memory of the reassembler is bounded: at most {@code maxPendingGroups} incomplete groups are kept, if a new
+ * group would exceed the limit the oldest group is dropped. A group is also dropped once a chunk has been added whose
+ * consensus timestamp is more than {@code timeout} after the first chunk of the group. Consensus time is used instead
+ * of the wall clock, so that a replay of old messages behaves exactly like the live stream.
+ * <p>
+ * Instances are thread safe.
+ */
+public final class TopicMessageReassembler {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicMessageReassembler.class);
+
+    /**
+     * Default maximum number of incomplete groups.
+     */
+    public static final int DEFAULT_MAX_PENDING_GROUPS = 1024;
+
+    /**
+     * Default maximum consensus time between the first and the last chunk of a group.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int maxPendingGroups;
+
+    private final Duration timeout;
+
+    /**
+     * Incomplete groups in the order of their first chunk.
+     */
+    private final LinkedHashMap<TransactionId, Group> groups = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long timedOutCount;
+
+    private long evictedCount;
+
+    private record Group(@NonNull Instant firstConsensusTimestamp, int total,
+                         @NonNull TreeMap<Integer, TopicMessage> chunks) {
+    }
+
+    /**
+     * Creates a reassembler with {@link #DEFAULT_MAX_PENDING_GROUPS} and {@link #DEFAULT_TIMEOUT}.
+     */
+    public TopicMessageReassembler() {
+        this(DEFAULT_MAX_PENDING_GROUPS, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates a reassembler.
+     *
+     * @param maxPendingGroups maximum number of incomplete groups
+     * @param timeout          maximum consensus time between the first and the last chunk of a group
+     */
+    public TopicMessageReassembler(final int maxPendingGroups, @NonNull final Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        if (maxPendingGroups < 1) {
+            throw new IllegalArgumentException("maxPendingGroups must be greater than 0");
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        this.maxPendingGroups = maxPendingGroups;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Adds a message. A message without chunk info or with only one chunk is returned as it is.
+     *
+     * @param message the message or chunk
+     * @return the complete message if the given message completes its group, otherwise an empty result
+     */
+    @NonNull
+    public Optional<TopicMessage> add(@NonNull final TopicMessage message) {
+        Objects.requireNonNull(message, "message must not be null");
+        final ChunkInfo chunkInfo = message.chunkInfo();
+        if (chunkInfo == null || chunkInfo.total() <= 1) {
+            return Optional.of(message);
+        }
+        if (chunkInfo.number() < 1 || chunkInfo.number() > chunkInfo.total()) {
+            log.warn("Ignoring chunk {} of {} of message {} with invalid number", chunkInfo.number(),
+                    chunkInfo.total(), chunkInfo.initialTransactionId());
+            return Optional.empty();
+        }
+        lock.lock();
+        try {
+            expire(message.consensusTimestamp());
+            Group group = groups.get(chunkInfo.initialTransactionId());
+            if (group == null) {
+                evictIfFull();
+                group = new Group(message.consensusTimestamp(), chunkInfo.total(), new TreeMap<>());
+                groups.put(chunkInfo.initialTransactionId(), group);
+            }
+            group.chunks().putIfAbsent(chunkInfo.number(), message);
+            if (group.chunks().size() < group.total()) {
+                return Optional.empty();
+            }
+            groups.remove(chunkInfo.initialTransactionId());
+            return Optional.of(join(group));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of incomplete groups.
+     *
+     * @return the number of incomplete groups
+     */
+    public int getPendingGroupCount() {
+        lock.lock();
+        try {
+            return groups.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the consensus timestamp of the first chunk of the oldest incomplete group.
+     *
+     * @return the timestamp or an empty result if no group is incomplete
+     */
+    @NonNull
+    public Optional<Instant> getOldestPendingTimestamp() {
+        lock.lock();
+        try {
+            return groups.values().stream()
+                    .map(Group::firstConsensusTimestamp)
+                    .min(Instant::compareTo);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of incomplete groups that have been dropped because of the timeout.
+     *
+     * @return the number of timed out groups
+     */
+    public long getTimedOutCount() {
+        lock.lock();
+        try {
+            return timedOutCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of incomplete groups that have been dropped because of the maximum number of groups.
+     *
+     * @return the number of evicted groups
+     */
+    public long getEvictedCount() {
+        lock.lock();
+        try {
+            return evictedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire(@NonNull final Instant now) {
+        final Iterator<Map.Entry<TransactionId, Group>> iterator = groups.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<TransactionId, Group> entry = iterator.next();
+            if (!entry.getValue().firstConsensusTimestamp().plus(timeout).isBefore(now)) {
+                return;
+            }
+            iterator.remove();
+            timedOutCount++;
+            log.warn("Dropping message {} after timeout, received {} of {} chunks", entry.getKey(),
+                    entry.getValue().chunks().size(), entry.getValue().total());
+        }
+    }
+
+    private void evictIfFull() {
+        if (groups.size() < maxPendingGroups) {
+            return;
+        }
+        final Iterator<Map.Entry<TransactionId, Group>> iterator = groups.entrySet().iterator();
+        final Map.Entry<TransactionId, Group> eldest = iterator.next();
+        iterator.remove();
+        evictedCount++;
+        log.warn("Dropping message {} since {} messages are incomplete, received {} of {} chunks", eldest.getKey(),
+                maxPendingGroups, eldest.getValue().chunks().size(), eldest.getValue().total());
+    }
+
+    @NonNull
+    private static TopicMessage join(@NonNull final Group group) {
+        final TopicMessage first = group.chunks().firstEntry().getValue();
+        final TopicMessage last = group.chunks().lastEntry().getValue();
+        // chunks are split on byte boundaries, a character can span two chunks and must only be decoded once joined
+        final int length = group.chunks().values().stream().mapToInt(chunk -> chunk.contents().length).sum();
+        final byte[] contents = new byte[length];
+        int offset = 0;
+        for (final TopicMessage chunk : group.chunks().values()) {
+            System.arraycopy(chunk.contents(), 0, contents, offset, chunk.contents().length);
+            offset += chunk.contents().length;
+        }
+        return TopicMessage.of(null, last.consensusTimestamp(), contents, first.payerAccountId(), last.runningHash(),
+                last.runningHashVersion(), last.sequenceNumber(), last.topicId());
+    }
+}
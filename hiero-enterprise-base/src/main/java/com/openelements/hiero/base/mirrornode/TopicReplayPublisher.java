@@ -0,0 +1,431 @@
+package com.openelements.hiero.base.mirrornode;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TopicClient;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Flow.Publisher} that replays the messages of a topic from a sequence number or consensus timestamp and
+ * continues with the live messages of the topic without gaps or duplicates.
+ * <p>
+ * The history is read through the REST pages of the mirror node ({@link MirrorNodeClient#queryTopicMessages(TopicId,
+ * long)}), with the next pages prefetched while the current page is delivered. The mirror node returns the chunks of
+ * a message that has been sent in several transactions, these chunks are joined by a {@link TopicMessageReassembler},
+ * so that the history delivers the same messages as the live stream: one message per chunk group with the sequence
+ * number of its last chunk. Once the history is drained, the publisher subscribes to the live stream of the topic
+ * ({@link TopicClient#subscribe(TopicId, Instant, TopicSubscriptionSettings)}), starting at the consensus timestamp of
+ * the last delivered message, or of the first chunk of an incomplete chunk group if that chunk is older. Messages of
+ * the live stream with a sequence number that has already been delivered are skipped. If no message has been replayed and
+ * the message before the start sequence number is not known by the mirror node, the start of the live stream can not
+ * be determined and the subscriber receives an error.
+ * <p>
+ * Each subscriber gets its own replay. The history is delivered on a virtual thread as requested by the subscriber,
+ * the live messages on the thread of the live stream.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, topicId, lastProcessed + 1)
+ *         .subscribe(subscriber);
+ * }</pre>
+ */
+public final class TopicReplayPublisher implements Flow.Publisher<TopicMessage> {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicReplayPublisher.class);
+
+    /**
+     * Default number of REST pages that are prefetched while the history is replayed.
+     */
+    public static final int DEFAULT_PREFETCH_DEPTH = 2;
+
+    private final MirrorNodeClient mirrorNodeClient;
+
+    private final TopicClient topicClient;
+
+    private final TopicId topicId;
+
+    private final long fromSequenceNumber;
+
+    private final Instant fromConsensusTimestamp;
+
+    private final TopicSubscriptionSettings settings;
+
+    private final int prefetchDepth;
+
+    private TopicReplayPublisher(@NonNull final MirrorNodeClient mirrorNodeClient,
+            @NonNull final TopicClient topicClient, @NonNull final TopicId topicId, final long fromSequenceNumber,
+            @Nullable final Instant fromConsensusTimestamp, @NonNull final TopicSubscriptionSettings settings,
+            final int prefetchDepth) {
+        this.mirrorNodeClient = Objects.requireNonNull(mirrorNodeClient, "mirrorNodeClient must not be null");
+        this.topicClient = Objects.requireNonNull(topicClient, "topicClient must not be null");
+        this.topicId = Objects.requireNonNull(topicId, "topicId must not be null");
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative");
+        }
+        this.fromSequenceNumber = fromSequenceNumber;
+        this.fromConsensusTimestamp = fromConsensusTimestamp;
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    /**
+     * Creates a publisher that replays the messages of a topic starting with the given sequence number.
+     *
+     * @param mirrorNodeClient   the client that is used to read the history
+     * @param topicClient        the client that is used to subscribe to the live messages
+     * @param topicId            the ID of the topic
+     * @param fromSequenceNumber the sequence number of the first message
+     * @return the publisher
+     */
+    @NonNull
+    public static TopicReplayPublisher fromSequenceNumber(@NonNull final MirrorNodeClient mirrorNodeClient,
+            @NonNull final TopicClient topicClient, @NonNull final TopicId topicId, final long fromSequenceNumber) {
+        return fromSequenceNumber(mirrorNodeClient, topicClient, topicId, fromSequenceNumber,
+                TopicSubscriptionSettings.DEFAULT, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    /**
+     * Creates a publisher that replays the messages of a topic starting with the given sequence number.
+     *
+     * @param mirrorNodeClient   the client that is used to read the history
+     * @param topicClient        the client that is used to subscribe to the live messages
+     * @param topicId            the ID of the topic
+     * @param fromSequenceNumber the sequence number of the first message
+     * @param settings           the settings of the live subscription
+     * @param prefetchDepth      the number of REST pages that are prefetched
+     * @return the publisher
+     */
+    @NonNull
+    public static TopicReplayPublisher fromSequenceNumber(@NonNull final MirrorNodeClient mirrorNodeClient,
+            @NonNull final TopicClient topicClient, @NonNull final TopicId topicId, final long fromSequenceNumber,
+            @NonNull final TopicSubscriptionSettings settings, final int prefetchDepth) {
+        if (fromSequenceNumber < 1) {
+            throw new IllegalArgumentException("fromSequenceNumber must be greater than 0");
+        }
+        return new TopicReplayPublisher(mirrorNodeClient, topicClient, topicId, fromSequenceNumber, null, settings,
+                prefetchDepth);
+    }
+
+    /**
+     * Creates a publisher that replays the messages of a topic starting with the message after the checkpoint of the
+     * topic in the given store, or with the first message of the topic if the store contains no checkpoint.
+     *
+     * @param mirrorNodeClient the client that is used to read the history
+     * @param topicClient      the client that is used to subscribe to the live messages
+     * @param topicId          the ID of the topic
+     * @param store            the store that contains the checkpoint of the topic
+     * @return the publisher
+     * @throws HieroException if the checkpoint could not be read
+     * @see CheckpointingTopicSubscriber
+     */
+    @NonNull
+    public static TopicReplayPublisher fromCheckpoint(@NonNull final MirrorNodeClient mirrorNodeClient,
+            @NonNull final TopicClient topicClient, @NonNull final TopicId topicId,
+            @NonNull final TopicCheckpointStore store) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(store, "store must not be null");
+        final long fromSequenceNumber = store.load(topicId).orElse(0) + 1;
+        log.debug("Resuming topic {} from sequence number {}", topicId, fromSequenceNumber);
+        return fromSequenceNumber(mirrorNodeClient, topicClient, topicId, fromSequenceNumber);
+    }
+
+    /**
+     * Creates a publisher that replays the messages of a topic starting with the first message that reached consensus
+     * at or after the given timestamp.
+     *
+     * @param mirrorNodeClient       the client that is used to read the history
+     * @param topicClient            the client that is used to subscribe to the live messages
+     * @param topicId                the ID of the topic
+     * @param fromConsensusTimestamp the consensus timestamp of the first message
+     * @return the publisher
+     */
+    @NonNull
+    public static TopicReplayPublisher fromTimestamp(@NonNull final MirrorNodeClient mirrorNodeClient,
+            @NonNull final TopicClient topicClient, @NonNull final TopicId topicId,
+            @NonNull final Instant fromConsensusTimestamp) {
+        Objects.requireNonNull(fromConsensusTimestamp, "fromConsensusTimestamp must not be null");
+        return new TopicReplayPublisher(mirrorNodeClient, topicClient, topicId, 1, fromConsensusTimestamp,
+                TopicSubscriptionSettings.DEFAULT, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super TopicMessage> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        final ReplaySubscription subscription = new ReplaySubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        Thread.ofVirtual().name("hiero-topic-replay-" + topicId).start(subscription::replay);
+    }
+
+    private final class ReplaySubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super TopicMessage> subscriber;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition demandAvailable = lock.newCondition();
+
+        private final ReentrantLock signalLock = new ReentrantLock();
+
+        private final TopicMessageReassembler reassembler = new TopicMessageReassembler();
+
+        private long requested;
+
+        private boolean live;
+
+        private volatile boolean cancelled;
+
+        private boolean terminated;
+
+        private Flow.Subscription liveSubscription;
+
+        private long lastSequenceNumber;
+
+        private Instant lastConsensusTimestamp;
+
+        private ReplaySubscription(final Flow.Subscriber<? super TopicMessage> subscriber) {
+            this.subscriber = subscriber;
+            this.lastSequenceNumber = fromSequenceNumber - 1;
+        }
+
+        private void replay() {
+            try {
+                final Page<TopicMessage> page;
+                if (fromConsensusTimestamp != null) {
+                    page = mirrorNodeClient.queryTopicMessages(topicId, fromConsensusTimestamp);
+                } else {
+                    page = mirrorNodeClient.queryTopicMessages(topicId, fromSequenceNumber);
+                }
+                long replayed = 0;
+                try (Stream<TopicMessage> history = page.stream(prefetchDepth)) {
+                    final Iterator<TopicMessage> iterator = history.iterator();
+                    while (iterator.hasNext()) {
+                        final TopicMessage chunk = iterator.next();
+                        if (chunk.sequenceNumber() <= lastSequenceNumber) {
+                            continue;
+                        }
+                        final Optional<TopicMessage> message = reassembler.add(chunk);
+                        if (message.isEmpty()) {
+                            continue;
+                        }
+                        if (!awaitDemand()) {
+                            return;
+                        }
+                        deliver(message.get());
+                        replayed++;
+                    }
+                }
+                log.debug("Replayed {} messages of topic {}, switching to live stream", replayed, topicId);
+                if (!cancelled) {
+                    topicClient.subscribe(topicId, liveStartTime(), settings).subscribe(new LiveSubscriber());
+                }
+            } catch (final HieroException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Returns the consensus timestamp from which the live stream starts. The live stream starts at the timestamp
+         * of the last delivered message (that message is skipped as a duplicate), so that no message is missed that
+         * reached consensus after the history has been read. If no message has been delivered, the live stream starts
+         * at the timestamp of the message before the start sequence number. Starting at the beginning of the topic
+         * instead would deliver the complete topic again. If the history ends within a chunk group, the live stream
+         * starts at the first chunk of that group at the latest, so that the live stream can reassemble the message.
+         */
+        @NonNull
+        private Instant liveStartTime() throws HieroException {
+            final Instant historyEnd = historyEndTime();
+            return reassembler.getOldestPendingTimestamp()
+                    .filter(pending -> pending.isBefore(historyEnd))
+                    .orElse(historyEnd);
+        }
+
+        @NonNull
+        private Instant historyEndTime() throws HieroException {
+            if (lastConsensusTimestamp != null) {
+                return lastConsensusTimestamp;
+            }
+            if (fromConsensusTimestamp != null) {
+                return fromConsensusTimestamp;
+            }
+            if (lastSequenceNumber > 0) {
+                final Optional<TopicMessage> previous = mirrorNodeClient.queryTopicMessageBySequenceNumber(topicId,
+                        lastSequenceNumber);
+                return previous.map(TopicMessage::consensusTimestamp)
+                        .orElseThrow(() -> new HieroException("Message " + lastSequenceNumber + " of topic " + topicId
+                                + " is not known by the mirror node, can not start the live stream"));
+            }
+            return Instant.EPOCH;
+        }
+
+        private boolean awaitDemand() {
+            lock.lock();
+            try {
+                while (requested == 0 && !cancelled) {
+                    demandAvailable.awaitUninterruptibly();
+                }
+                if (cancelled) {
+                    return false;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    requested--;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * All signals to the subscriber are sent while holding the signal lock, so that they never overlap and no
+         * signal follows a terminal signal.
+         */
+        private void deliver(@NonNull final TopicMessage message) {
+            signalLock.lock();
+            try {
+                if (terminated) {
+                    return;
+                }
+                lastSequenceNumber = message.sequenceNumber();
+                lastConsensusTimestamp = message.consensusTimestamp();
+                subscriber.onNext(message);
+            } finally {
+                signalLock.unlock();
+            }
+        }
+
+        private void fail(@NonNull final Throwable throwable) {
+            if (!cancelled) {
+                cancelled = true;
+                signalError(throwable);
+            }
+        }
+
+        private void signalError(@NonNull final Throwable throwable) {
+            signalLock.lock();
+            try {
+                if (!terminated) {
+                    terminated = true;
+                    subscriber.onError(throwable);
+                }
+            } finally {
+                signalLock.unlock();
+            }
+        }
+
+        private void signalComplete() {
+            signalLock.lock();
+            try {
+                if (!terminated) {
+                    terminated = true;
+                    subscriber.onComplete();
+                }
+            } finally {
+                signalLock.unlock();
+            }
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancel();
+                signalError(new IllegalArgumentException("request must be greater than 0, but was " + n));
+                return;
+            }
+            final Flow.Subscription forwardTo;
+            lock.lock();
+            try {
+                if (live) {
+                    forwardTo = liveSubscription;
+                } else {
+                    requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                    demandAvailable.signalAll();
+                    forwardTo = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (forwardTo != null) {
+                forwardTo.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            final Flow.Subscription toCancel;
+            lock.lock();
+            try {
+                demandAvailable.signalAll();
+                toCancel = liveSubscription;
+            } finally {
+                lock.unlock();
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+        }
+
+        private final class LiveSubscriber implements Flow.Subscriber<TopicMessage> {
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                final long outstanding;
+                lock.lock();
+                try {
+                    liveSubscription = subscription;
+                    live = true;
+                    outstanding = requested;
+                    requested = 0;
+                } finally {
+                    lock.unlock();
+                }
+                if (cancelled) {
+                    subscription.cancel();
+                } else if (outstanding > 0) {
+                    subscription.request(outstanding);
+                }
+            }
+
+            @Override
+            public void onNext(final TopicMessage message) {
+                if (cancelled) {
+                    return;
+                }
+                if (message.sequenceNumber() <= lastSequenceNumber) {
+                    log.debug("Skipped message {} of topic {} that has already been replayed",
+                            message.sequenceNumber(), topicId);
+                    liveSubscription.request(1);
+                    return;
+                }
+                deliver(message);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                if (!cancelled) {
+                    cancelled = true;
+                    signalComplete();
+                }
+            }
+        }
+    }
+}
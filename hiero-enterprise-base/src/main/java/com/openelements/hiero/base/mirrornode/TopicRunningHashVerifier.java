@@ -0,0 +1,273 @@
+package com.openelements.hiero.base.mirrornode;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.RunningHashVerificationResult;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the running hashes of the messages of a topic to detect messages that have been tampered with or are
+ * missing. The running hash of a message is the SHA-384 hash of the running hash of the previous message and the
+ * content of the message, the running hash of a new topic consists of 48 zero bytes. Starting from a known running
+ * hash the verifier recalculates the chain and reports the sequence number of the first message that is missing or
+ * whose running hash does not match.
+ * <p>
+ * The messages are split into contiguous ranges of {@code rangeSize} messages that are verified in parallel. A range
+ * starts with the running hash of the last message of the previous range, so that each range can be verified
+ * independently. A range is only accepted if the previous ranges have been verified, a running hash that is reported
+ * for the last message of a range is therefore verified by that range before it is trusted. Messages are read while
+ * ranges are verified and at most {@code 2 * parallelism} ranges are held in memory, so that the messages of a
+ * {@link com.openelements.hiero.base.data.Page} are fetched lazily.
+ * <p>
+ * Only messages with running hash version {@value #RUNNING_HASH_VERSION} can be verified. The messages must be the
+ * chunks as returned by the mirror node ({@link MirrorNodeClient#queryTopicMessages(TopicId)}) and not reassembled
+ * messages. The hash is calculated from the raw {@link TopicMessage#contents()} of a message, so that messages whose
+ * content is no valid UTF-8 are verified as well.
+ * <p>
+ * Instances are thread safe.
+ */
+public final class TopicRunningHashVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicRunningHashVerifier.class);
+
+    /**
+     * Running hash version that is supported by the verifier.
+     */
+    public static final int RUNNING_HASH_VERSION = 3;
+
+    /**
+     * Default number of messages that are verified together.
+     */
+    public static final int DEFAULT_RANGE_SIZE = 4096;
+
+    private static final String HASH_ALGORITHM = "SHA-384";
+
+    private static final int HASH_LENGTH = 48;
+
+    private final int parallelism;
+
+    private final int rangeSize;
+
+    private record Range(long previousSequenceNumber, @NonNull byte[] previousRunningHash,
+                         @NonNull List<TopicMessage> messages) {
+    }
+
+    /**
+     * Creates a verifier that uses all available processors and {@link #DEFAULT_RANGE_SIZE}.
+     */
+    public TopicRunningHashVerifier() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_RANGE_SIZE);
+    }
+
+    /**
+     * Creates a verifier.
+     *
+     * @param parallelism number of ranges that are verified in parallel
+     * @param rangeSize   number of messages that are verified together
+     */
+    public TopicRunningHashVerifier(final int parallelism, final int rangeSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("rangeSize must be greater than 0");
+        }
+        this.parallelism = parallelism;
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * Verifies the messages of a topic starting with the first message of the topic.
+     *
+     * @param messages the messages in ascending order of their sequence numbers
+     * @return the result of the verification
+     * @throws HieroException if the messages can not be verified
+     */
+    @NonNull
+    public RunningHashVerificationResult verify(@NonNull final Iterable<TopicMessage> messages)
+            throws HieroException {
+        return verify(0, new byte[HASH_LENGTH], messages);
+    }
+
+    /**
+     * Verifies the messages of a topic that follow a known message.
+     *
+     * @param previousSequenceNumber sequence number of the known message
+     * @param previousRunningHash    running hash of the known message
+     * @param messages               the messages that follow the known message in ascending order of their sequence
+     *                               numbers
+     * @return the result of the verification
+     * @throws HieroException if the messages can not be verified
+     */
+    @NonNull
+    public RunningHashVerificationResult verify(final long previousSequenceNumber,
+            @NonNull final byte[] previousRunningHash, @NonNull final Iterable<TopicMessage> messages)
+            throws HieroException {
+        Objects.requireNonNull(previousRunningHash, "previousRunningHash must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+        if (previousSequenceNumber < 0) {
+            throw new IllegalArgumentException("previousSequenceNumber must not be negative");
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("hiero-running-hash-", 0).daemon().factory());
+        try {
+            final Deque<Future<RunningHashVerificationResult>> pending = new ArrayDeque<>();
+            RunningHashVerificationResult result = new RunningHashVerificationResult(0, previousSequenceNumber,
+                    previousRunningHash, null);
+            long boundarySequenceNumber = previousSequenceNumber;
+            byte[] boundaryRunningHash = previousRunningHash;
+            List<TopicMessage> messagesOfRange = new ArrayList<>(rangeSize);
+            final Iterator<TopicMessage> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                messagesOfRange.add(Objects.requireNonNull(iterator.next(), "message must not be null"));
+                if (messagesOfRange.size() == rangeSize || !iterator.hasNext()) {
+                    final Range range = new Range(boundarySequenceNumber, boundaryRunningHash, messagesOfRange);
+                    pending.add(executor.submit(() -> verifyRange(range)));
+                    final TopicMessage last = messagesOfRange.getLast();
+                    boundarySequenceNumber = last.sequenceNumber();
+                    boundaryRunningHash = last.runningHash() != null ? last.runningHash() : new byte[0];
+                    messagesOfRange = new ArrayList<>(rangeSize);
+                    while (pending.size() >= 2 * parallelism) {
+                        result = append(result, pending.removeFirst());
+                        if (!result.isValid()) {
+                            return result;
+                        }
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                result = append(result, pending.removeFirst());
+                if (!result.isValid()) {
+                    return result;
+                }
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Calculates the running hash of a message.
+     *
+     * @param previousRunningHash running hash of the previous message
+     * @param message             the message
+     * @return the running hash of the message
+     */
+    @NonNull
+    public static byte[] calculateRunningHash(@NonNull final byte[] previousRunningHash,
+            @NonNull final TopicMessage message) {
+        Objects.requireNonNull(previousRunningHash, "previousRunningHash must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(message.payerAccountId(), "payerAccountId of message must not be null");
+        return calculateRunningHash(createDigest(), previousRunningHash, message);
+    }
+
+    @NonNull
+    private static byte[] calculateRunningHash(@NonNull final MessageDigest digest,
+            @NonNull final byte[] previousRunningHash, @NonNull final TopicMessage message) {
+        final byte[] messageHash = digest.digest(message.contents());
+        final AccountId payer = message.payerAccountId();
+        final TopicId topicId = message.topicId();
+        final ByteBuffer buffer = ByteBuffer.allocate(previousRunningHash.length + 9 * Long.BYTES + Integer.BYTES
+                + messageHash.length);
+        buffer.put(previousRunningHash);
+        buffer.putLong(RUNNING_HASH_VERSION);
+        buffer.putLong(payer.shard).putLong(payer.realm).putLong(payer.num);
+        buffer.putLong(topicId.shard).putLong(topicId.realm).putLong(topicId.num);
+        buffer.putLong(message.consensusTimestamp().getEpochSecond());
+        buffer.putInt(message.consensusTimestamp().getNano());
+        buffer.putLong(message.sequenceNumber());
+        buffer.put(messageHash);
+        return digest.digest(buffer.array());
+    }
+
+    @NonNull
+    private static RunningHashVerificationResult verifyRange(@NonNull final Range range) {
+        final MessageDigest digest = createDigest();
+        long verifiedCount = 0;
+        long sequenceNumber = range.previousSequenceNumber();
+        byte[] runningHash = range.previousRunningHash();
+        for (final TopicMessage message : range.messages()) {
+            final Long divergence = check(digest, sequenceNumber, runningHash, message);
+            if (divergence != null) {
+                return new RunningHashVerificationResult(verifiedCount, sequenceNumber, runningHash, divergence);
+            }
+            verifiedCount++;
+            sequenceNumber = message.sequenceNumber();
+            runningHash = message.runningHash();
+        }
+        return new RunningHashVerificationResult(verifiedCount, sequenceNumber, runningHash, null);
+    }
+
+    @Nullable
+    private static Long check(@NonNull final MessageDigest digest, final long previousSequenceNumber,
+            @NonNull final byte[] previousRunningHash, @NonNull final TopicMessage message) {
+        final long expectedSequenceNumber = previousSequenceNumber + 1;
+        if (message.sequenceNumber() != expectedSequenceNumber) {
+            log.warn("Expected message {} of topic {} but found message {}", expectedSequenceNumber,
+                    message.topicId(), message.sequenceNumber());
+            return expectedSequenceNumber;
+        }
+        if (message.runningHashVersion() != RUNNING_HASH_VERSION || message.payerAccountId() == null
+                || message.runningHash() == null) {
+            log.warn("Running hash of message {} of topic {} can not be verified", message.sequenceNumber(),
+                    message.topicId());
+            return message.sequenceNumber();
+        }
+        final byte[] expected = calculateRunningHash(digest, previousRunningHash, message);
+        if (!MessageDigest.isEqual(expected, message.runningHash())) {
+            log.warn("Running hash of message {} of topic {} does not match", message.sequenceNumber(),
+                    message.topicId());
+            return message.sequenceNumber();
+        }
+        return null;
+    }
+
+    @NonNull
+    private static RunningHashVerificationResult append(@NonNull final RunningHashVerificationResult result,
+            @NonNull final Future<RunningHashVerificationResult> future) throws HieroException {
+        final RunningHashVerificationResult range;
+        try {
+            range = future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while verifying running hashes", e);
+        } catch (final ExecutionException e) {
+            throw new HieroException("Error while verifying running hashes", e.getCause());
+        }
+        if (range.verifiedCount() == 0) {
+            return new RunningHashVerificationResult(result.verifiedCount(), result.lastSequenceNumber(),
+                    result.lastRunningHash(), range.firstDivergentSequenceNumber());
+        }
+        return new RunningHashVerificationResult(result.verifiedCount() + range.verifiedCount(),
+                range.lastSequenceNumber(), range.lastRunningHash(), range.firstDivergentSequenceNumber());
+    }
+
+    @NonNull
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algorithm " + HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.openelements.hiero.base.protocol;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.AccountCreateResult;
+import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
+import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateResult;
+import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
+import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsRequest;
+import com.openelements.hiero.base.protocol.data.FileContentsResponse;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
+import com.openelements.hiero.base.protocol.data.FileDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileInfoRequest;
+import com.openelements.hiero.base.protocol.data.FileInfoResponse;
+import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
+import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
+import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenDissociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnResult;
+import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateResult;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
+import com.openelements.hiero.base.protocol.data.TopicDeleteResult;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
+import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptRequest;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Non-blocking variant of {@link ProtocolLayerClient}. Every call returns as soon as the request has been handed to the
+ * network layer. The returned {@link CompletableFuture} completes once the receipt (or record) of the transaction is
+ * available and completes exceptionally with a {@link com.openelements.hiero.base.HieroException} if the call fails.
+ * This allows a small number of threads to keep a large number of transactions in flight.
+ *
+ * @see ProtocolLayerClient
+ */
+public interface AsyncProtocolLayerClient {
+
+    /**
+     * Execute an account balance query.
+     *
+     * @param request the request
+     * @return a future that completes with the response
+     */
+    @NonNull
+    CompletableFuture<AccountBalanceResponse> executeAccountBalanceQuery(@NonNull AccountBalanceRequest request);
+
+    /**
+     * Execute a file contents query.
+     *
+     * @param request the request
+     * @return a future that completes with the response
+     */
+    @NonNull
+    CompletableFuture<FileContentsResponse> executeFileContentsQuery(@NonNull FileContentsRequest request);
+
+    /**
+     * Execute a file append transaction.
+     *
+     * @param request the request
+     * @return a future that completes with the result
+     */
+    @NonNull
+    CompletableFuture<FileAppendResult> executeFileAppendRequestTransaction(@NonNull FileAppendRequest request);
+
+    /**
+     * Execute a file delete transaction.
+     *
+     * @param request the request
+     * @return a future that completes with the result
+     */
+    @NonNull
+    CompletableFuture<FileDeleteResult> executeFileDeleteTransaction(@NonNull FileDeleteRequest request);
+
+    /**
+     * Execute a file create transaction.
+     *
+     * @param request the request
+     * @return a future that completes with the result
+     */
+    @NonNull
+    CompletableFuture<FileCreateResult> executeFileCreateTransaction(@NonNull FileCreateRequest request);
+
+    /**
+     * Execute a file update transaction.
+     *
+     * @param request the request containing the details of the file update
+     * @return a future that completes with the result of the file update transaction
+     */
+    @NonNull
+    CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransaction(@NonNull FileUpdateRequest request);
+
+    /**
+     * Execute a file info query.
+     *
+     * @param request the request containing the details of the file info query
+     * @return a future that completes with the response containing the information about the file
+     */
+    @NonNull
+    CompletableFuture<FileInfoResponse> executeFileInfoQuery(@NonNull FileInfoRequest request);
+
+    /**
+     * Execute a contract create transaction.
+     *
+     * @param request the request
+     * @return a future that completes with the result
+     */
+    @NonNull
+    CompletableFuture<ContractCreateResult> executeContractCreateTransaction(@NonNull ContractCreateRequest request);
+
+    /**
+     * Execute a contract call transaction.
+     *
+     * @param request the request
+     * @return a future that completes with the result
+     */
+    @NonNull
+    CompletableFuture<ContractCallResult> executeContractCallTransaction(@NonNull ContractCallRequest request);
+
+    /**
+     * Execute a read-only contract call as a query against a node. Other than a contract call transaction the query
+     * does not need to reach consensus and does not change the state of the contract.
+     *
+     * @param request the request
+     * @return a future that completes with the response
+     */
+    @NonNull
+    CompletableFuture<ContractCallQueryResponse> executeContractCallQuery(@NonNull ContractCallQueryRequest request);
+
+    /**
+     * Execute a receipt query for a transaction that has been submitted before. The query does not fail if the
+     * transaction reached consensus with a failure status, the status is part of the response.
+     *
+     * @param request the request
+     * @return a future that completes with the response
+     */
+    @NonNull
+    CompletableFuture<TransactionReceiptResponse> executeTransactionReceiptQuery(
+            @NonNull TransactionReceiptRequest request);
+
+    /**
+     * Executes a contract delete transaction.
+     *
+     * @param request the request containing the details of the contract delete transaction
+     * @return a future that completes with the result of the contract delete transaction
+     */
+    @NonNull
+    CompletableFuture<ContractDeleteResult> executeContractDeleteTransaction(@NonNull ContractDeleteRequest request);
+
+    /**
+     * Executes an account create transaction.
+     *
+     * @param request the request containing the details of the account create transaction
+     * @return a future that completes with the result of the account create transaction
+     */
+    @NonNull
+    CompletableFuture<AccountCreateResult> executeAccountCreateTransaction(@NonNull AccountCreateRequest request);
+
+    /**
+     * Executes an account delete transaction.
+     *
+     * @param request the request containing the details of the account delete transaction
+     * @return a future that completes with the result of the account delete transaction
+     */
+    @NonNull
+    CompletableFuture<AccountDeleteResult> executeAccountDeleteTransaction(@NonNull AccountDeleteRequest request);
+
+    /**
+     * Executes a token create transaction.
+     *
+     * @param request the request containing the details of the token create transaction
+     * @return a future that completes with the result of the token create transaction
+     */
+    @NonNull
+    CompletableFuture<TokenCreateResult> executeTokenCreateTransaction(@NonNull TokenCreateRequest request);
+
+    /**
+     * Executes a token associate transaction.
+     *
+     * @param request the request containing the details of the token associate transaction
+     * @return a future that completes with the result of the token associate transaction
+     */
+    @NonNull
+    CompletableFuture<TokenAssociateResult> executeTokenAssociateTransaction(@NonNull TokenAssociateRequest request);
+
+    /**
+     * Executes a token dissociate transaction.
+     *
+     * @param request the request containing the details of the token dissociate transaction
+     * @return a future that completes with the result of the token dissociate transaction
+     */
+    @NonNull
+    CompletableFuture<TokenDissociateResult> executeTokenDissociateTransaction(@NonNull TokenDissociateRequest request);
+
+    /**
+     * Executes a token mint transaction.
+     *
+     * @param request the request containing the details of the token mint transaction
+     * @return a future that completes with the result of the token mint transaction
+     */
+    @NonNull
+    CompletableFuture<TokenMintResult> executeMintTokenTransaction(@NonNull TokenMintRequest request);
+
+    /**
+     * Executes a token burn transaction.
+     *
+     * @param request the request containing the details of the token burn transaction
+     * @return a future that completes with the result of the token burn transaction
+     */
+    @NonNull
+    CompletableFuture<TokenBurnResult> executeBurnTokenTransaction(@NonNull TokenBurnRequest request);
+
+    /**
+     * Executes a transfer transaction for an NFT.
+     *
+     * @param request the request containing the details of the token transfer transaction
+     * @return a future that completes with the result of the token transfer transaction
+     */
+    @NonNull
+    CompletableFuture<TokenTransferResult> executeTransferTransaction(@NonNull TokenTransferRequest request);
+
+    /**
+     * Executes a topic create transaction.
+     *
+     * @param request the request containing the details of the topic create transaction
+     * @return a future that completes with the result of the topic create transaction
+     */
+    @NonNull
+    CompletableFuture<TopicCreateResult> executeTopicCreateTransaction(@NonNull TopicCreateRequest request);
+
+    /**
+     * Executes a topic update transaction.
+     *
+     * @param request the request containing the details of the topic update transaction
+     * @return a future that completes with the result of the topic update transaction
+     */
+    @NonNull
+    CompletableFuture<TopicUpdateResult> executeTopicUpdateTransaction(@NonNull TopicUpdateRequest request);
+
+    /**
+     * Executes a topic delete transaction.
+     *
+     * @param request the request containing the details of the topic delete transaction
+     * @return a future that completes with the result of the topic delete transaction
+     */
+    @NonNull
+    CompletableFuture<TopicDeleteResult> executeTopicDeleteTransaction(@NonNull TopicDeleteRequest request);
+
+    /**
+     * Executes a topic message submit transaction.
+     *
+     * @param request the request containing the details of the topic message submit transaction
+     * @return a future that completes with the result of the topic message submit transaction
+     */
+    @NonNull
+    CompletableFuture<TopicSubmitMessageResult> executeTopicMessageSubmitTransaction(
+            @NonNull TopicSubmitMessageRequest request);
+
+    /**
+     * Executes a topic message query.
+     *
+     * @param request the request containing the details of the topic message query
+     * @return a future that completes with the result of the topic message query
+     */
+    @NonNull
+    CompletableFuture<TopicMessageResult> executeTopicMessageQuery(@NonNull TopicMessageRequest request);
+
+    /**
+     * Adds a transaction listener to the protocol layer client. The listener will be notified asynchronously when a
+     * transaction is submitted, handled and when its record has been received.
+     *
+     * @param listener the transaction listener to be added
+     * @return a Runnable object that can be used to remove the listener
+     */
+    @NonNull
+    Runnable addTransactionListener(@NonNull TransactionListener listener);
+
+    /**
+     * Sets the interceptor that is called to receive the record of a transaction.
+     *
+     * @param recordInterceptor the interceptor
+     */
+    void setRecordInterceptor(@NonNull ReceiveRecordInterceptor recordInterceptor);
+
+    /**
+     * Returns the number of events that have not been passed to the transaction listeners because the listeners could
+     * not keep up with the executed transactions.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedTransactionEventCount();
+
+    /**
+     * Returns the account ID of the operator account.
+     *
+     * @return the account ID of the operator account
+     */
+    @NonNull
+    AccountId getOperatorAccountId();
+
+    /**
+     * Returns the usage statistics of all operator accounts that pay for the transactions of this client. The operator
+     * account of the context is always the first entry.
+     *
+     * @return the statistics of all operator accounts
+     */
+    @NonNull
+    List<OperatorStatistics> getOperatorStatistics();
+
+    /**
+     * Executes an account balance query for every operator account that pays for the transactions of this client.
+     *
+     * @return a future that completes with the balances by the account IDs of the operator accounts
+     */
+    @NonNull
+    CompletableFuture<Map<AccountId, AccountBalanceResponse>> executeOperatorBalanceQueries();
+}
@@ -0,0 +1,38 @@
+package com.openelements.hiero.base.protocol;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.NftMintCheckpoint;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thrown by {@link NftBulkMinter} if not all NFTs could be minted. The exception contains the checkpoint of the mint
+ * that can be used to resume the mint by {@code NftBulkMinter.resume(...)}.
+ */
+public class NftBulkMintException extends HieroException {
+
+    private final NftMintCheckpoint checkpoint;
+
+    /**
+     * Constructs a new exception.
+     *
+     * @param message    the detail message
+     * @param checkpoint the checkpoint of the mint
+     * @param cause      the cause
+     */
+    public NftBulkMintException(@NonNull final String message, @NonNull final NftMintCheckpoint checkpoint,
+            @NonNull final Throwable cause) {
+        super(message, cause);
+        this.checkpoint = Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+    }
+
+    /**
+     * Returns the checkpoint of the mint.
+     *
+     * @return the checkpoint
+     */
+    @NonNull
+    public NftMintCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+}
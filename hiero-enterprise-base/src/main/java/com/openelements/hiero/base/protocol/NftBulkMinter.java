@@ -0,0 +1,329 @@
+package com.openelements.hiero.base.protocol;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TransactionInDoubtException;
+import com.openelements.hiero.base.protocol.data.NftMintCheckpoint;
+import com.openelements.hiero.base.protocol.data.NftMintCheckpoint.PendingMint;
+import com.openelements.hiero.base.protocol.data.PipelineResult;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptRequest;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptResponse;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mints large numbers of NFTs. The metadata is split in chunks of at most {@link #DEFAULT_CHUNK_SIZE} entries (the
+ * maximum number of NFTs the network allows to mint in one transaction) and the mint transactions are executed by a
+ * {@link TransactionPipeline} so that several transactions are in flight at once. The metadata is consumed lazily in
+ * windows of in-flight transactions, therefore the input can be larger than the available memory.
+ * <p>
+ * The serials are returned in the order of the metadata. If a mint transaction fails, no further metadata is consumed
+ * and a {@link NftBulkMintException} is thrown that contains a {@link NftMintCheckpoint}. The mint can be resumed by
+ * calling {@link #resume(NftMintCheckpoint, PrivateKey, Iterable)} with the checkpoint and the same metadata. Entries
+ * that have already been minted are skipped.
+ * <p>
+ * A mint transaction that failed after it has been submitted (see {@link TransactionInDoubtException}) might still
+ * have minted its NFTs. Such a transaction is stored as {@link NftMintCheckpoint.PendingMint} in the checkpoint and its
+ * entries are never minted again before the transaction has been settled. On resume the receipts of all pending
+ * transactions are queried first: entries of a successful transaction get its serials, entries of a failed
+ * transaction are minted again. If the receipt is not available anymore the pending mint must be settled by
+ * {@link NftMintCheckpoint#settle(TransactionId, List)}, for example based on the transaction at the mirror node.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * NftBulkMinter minter = new NftBulkMinter(asyncProtocolLayerClient);
+ * try {
+ *     List<Long> serials = minter.mint(tokenId, supplyKey, metadata);
+ * } catch (NftBulkMintException e) {
+ *     List<Long> serials = minter.resume(e.getCheckpoint(), supplyKey, metadata);
+ * }
+ * }</pre>
+ */
+public final class NftBulkMinter {
+
+    private static final Logger log = LoggerFactory.getLogger(NftBulkMinter.class);
+
+    /**
+     * Default number of NFTs that are minted in one transaction. This is the maximum that is allowed by the network.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 10;
+
+    private final AsyncProtocolLayerClient client;
+
+    private final TransactionPipeline<TokenMintRequest, TokenMintResult> pipeline;
+
+    private final int chunkSize;
+
+    /**
+     * Creates a minter with {@link #DEFAULT_CHUNK_SIZE} and the default settings of {@link TransactionPipeline}.
+     *
+     * @param client the client that executes the mint transactions
+     */
+    public NftBulkMinter(@NonNull final AsyncProtocolLayerClient client) {
+        this(client, DEFAULT_CHUNK_SIZE, TransactionPipeline.DEFAULT_MAX_IN_FLIGHT,
+                TransactionPipeline.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates a minter.
+     *
+     * @param client         the client that executes the mint transactions
+     * @param chunkSize      maximum number of NFTs that are minted in one transaction
+     * @param maxInFlight    maximum number of mint transactions that are submitted but not yet handled
+     * @param maxConcurrency maximum number of mint transactions that are submitted concurrently
+     */
+    public NftBulkMinter(@NonNull final AsyncProtocolLayerClient client, final int chunkSize, final int maxInFlight,
+            final int maxConcurrency) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        this.pipeline = new TransactionPipeline<>(client::executeMintTokenTransaction, maxInFlight, maxConcurrency);
+    }
+
+    /**
+     * Mints one NFT for every metadata entry.
+     *
+     * @param tokenId   the ID of the NFT type
+     * @param supplyKey the supply key of the NFT type
+     * @param metadata  the metadata of the NFTs
+     * @return the serials of the new NFTs in the order of the metadata
+     * @throws NftBulkMintException if not all NFTs could be minted
+     * @throws HieroException       if the mint was interrupted
+     */
+    @NonNull
+    public List<Long> mint(@NonNull final TokenId tokenId, @NonNull final PrivateKey supplyKey,
+            @NonNull final Iterable<byte[]> metadata) throws HieroException {
+        Objects.requireNonNull(tokenId, "tokenId must not be null");
+        return resume(NftMintCheckpoint.start(tokenId), supplyKey, metadata);
+    }
+
+    /**
+     * Mints one NFT for every metadata entry of the stream.
+     *
+     * @param tokenId   the ID of the NFT type
+     * @param supplyKey the supply key of the NFT type
+     * @param metadata  the metadata of the NFTs
+     * @return the serials of the new NFTs in the order of the metadata
+     * @throws NftBulkMintException if not all NFTs could be minted
+     * @throws HieroException       if the mint was interrupted
+     */
+    @NonNull
+    public List<Long> mint(@NonNull final TokenId tokenId, @NonNull final PrivateKey supplyKey,
+            @NonNull final Stream<byte[]> metadata) throws HieroException {
+        Objects.requireNonNull(metadata, "metadata must not be null");
+        return mint(tokenId, supplyKey, metadata::iterator);
+    }
+
+    /**
+     * Resumes a mint. The metadata must be the same metadata (in the same order) that has been used for the mint that
+     * created the checkpoint. Entries that are marked as minted in the checkpoint are skipped. Pending mints of the
+     * checkpoint are settled by their receipts before any entry is minted, entries of pending mints that can not be
+     * settled are skipped as well.
+     *
+     * @param checkpoint the checkpoint of the mint
+     * @param supplyKey  the supply key of the NFT type
+     * @param metadata   the metadata of the NFTs
+     * @return the serials of all NFTs in the order of the metadata
+     * @throws NftBulkMintException if not all NFTs could be minted
+     * @throws HieroException       if the mint was interrupted
+     */
+    @NonNull
+    public List<Long> resume(@NonNull final NftMintCheckpoint checkpoint, @NonNull final PrivateKey supplyKey,
+            @NonNull final Iterable<byte[]> metadata) throws HieroException {
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        Objects.requireNonNull(supplyKey, "supplyKey must not be null");
+        Objects.requireNonNull(metadata, "metadata must not be null");
+        final TokenId tokenId = checkpoint.tokenId();
+        final List<Long> serials = new ArrayList<>(checkpoint.serials());
+        final List<PendingMint> pending = new ArrayList<>();
+        final Throwable settleError = settle(checkpoint.pending(), serials, pending);
+        final Set<Integer> pendingPositions = new HashSet<>();
+        pending.forEach(mint -> pendingPositions.addAll(mint.positions()));
+        final Iterator<byte[]> iterator = metadata.iterator();
+        final int windowSize = pipeline.getMaxInFlight();
+        int index = 0;
+        Throwable error = null;
+        while (error == null) {
+            final List<TokenMintRequest> requests = new ArrayList<>();
+            final List<int[]> positions = new ArrayList<>();
+            final List<byte[]> chunk = new ArrayList<>(chunkSize);
+            final int[] chunkPositions = new int[chunkSize];
+            try {
+                while (requests.size() < windowSize && iterator.hasNext()) {
+                    final byte[] entry = Objects.requireNonNull(iterator.next(), "metadata entry must not be null");
+                    final int position = index++;
+                    if ((position < serials.size() && serials.get(position) != null)
+                            || pendingPositions.contains(position)) {
+                        continue;
+                    }
+                    chunkPositions[chunk.size()] = position;
+                    chunk.add(entry);
+                    if (chunk.size() == chunkSize) {
+                        requests.add(createRequest(tokenId, supplyKey, chunk));
+                        positions.add(chunkPositions.clone());
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    requests.add(createRequest(tokenId, supplyKey, chunk));
+                    positions.add(Arrays.copyOf(chunkPositions, chunk.size()));
+                }
+            } catch (final RuntimeException e) {
+                error = e;
+            }
+            if (requests.isEmpty()) {
+                break;
+            }
+            final List<PipelineResult<TokenMintRequest, TokenMintResult>> results = pipeline.executeAndWait(requests);
+            for (final PipelineResult<TokenMintRequest, TokenMintResult> result : results) {
+                final int[] chunkIndices = positions.get(result.index());
+                if (result.isSuccess() && result.result().serials().size() == chunkIndices.length) {
+                    for (int i = 0; i < chunkIndices.length; i++) {
+                        set(serials, chunkIndices[i], result.result().serials().get(i));
+                    }
+                    continue;
+                }
+                for (final int chunkIndex : chunkIndices) {
+                    set(serials, chunkIndex, null);
+                }
+                // a transaction that reached consensus or might still reach it must never be minted again
+                final TransactionId transactionId = result.isSuccess() ? result.result().transactionId()
+                        : inDoubtTransactionId(result.error());
+                if (transactionId != null) {
+                    final PendingMint mint = new PendingMint(transactionId,
+                            Arrays.stream(chunkIndices).boxed().toList());
+                    pending.add(mint);
+                    pendingPositions.addAll(mint.positions());
+                }
+                if (error == null) {
+                    error = result.isSuccess()
+                            ? new HieroException("Mint transaction '" + transactionId + "' returned "
+                            + result.result().serials().size() + " serials for " + chunkIndices.length
+                            + " metadata entries")
+                            : result.error();
+                }
+            }
+            log.debug("Minted {} of {} processed NFTs of token {}", serials.stream().filter(Objects::nonNull).count(),
+                    serials.size(), tokenId);
+        }
+        if (error == null && IntStream.range(0, serials.size())
+                .anyMatch(i -> serials.get(i) == null && !pendingPositions.contains(i))) {
+            error = new IllegalArgumentException("metadata ended before all entries of the checkpoint were minted");
+        }
+        if (error == null) {
+            error = settleError;
+        } else if (settleError != null) {
+            error.addSuppressed(settleError);
+        }
+        if (error != null) {
+            final NftMintCheckpoint newCheckpoint = new NftMintCheckpoint(tokenId, serials, pending);
+            throw new NftBulkMintException("Minted " + newCheckpoint.mintedCount() + " of "
+                    + newCheckpoint.processedCount() + " processed NFTs of token " + tokenId + ", "
+                    + pending.size() + " mint transactions are pending", newCheckpoint, error);
+        }
+        return List.copyOf(serials);
+    }
+
+    /**
+     * Settles the given pending mints by their receipts. Entries of successful transactions get the serials of the
+     * receipt, entries of failed transactions stay {@code null} and will be minted again. Mints that can not be
+     * settled are added to {@code stillPending}.
+     *
+     * @return the first error of a mint that could not be settled or {@code null}
+     */
+    @Nullable
+    private Throwable settle(@NonNull final List<PendingMint> pending, @NonNull final List<Long> serials,
+            @NonNull final List<PendingMint> stillPending) throws HieroException {
+        final List<CompletableFuture<TransactionReceiptResponse>> receipts = pending.stream()
+                .map(mint -> client.executeTransactionReceiptQuery(TransactionReceiptRequest.of(mint.transactionId())))
+                .toList();
+        Throwable error = null;
+        for (int i = 0; i < pending.size(); i++) {
+            final PendingMint mint = pending.get(i);
+            final TransactionReceiptResponse receipt;
+            try {
+                receipt = receipts.get(i).get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HieroException("Interrupted while settling pending mint transactions", e);
+            } catch (final ExecutionException e) {
+                stillPending.add(mint);
+                if (error == null) {
+                    error = new HieroException("Failed to settle mint transaction '" + mint.transactionId()
+                            + "', settle it by NftMintCheckpoint.settle(...)", e.getCause());
+                }
+                continue;
+            }
+            if (receipt.status() != Status.SUCCESS) {
+                log.debug("Pending mint transaction '{}' failed with status {}, its entries are minted again",
+                        mint.transactionId(), receipt.status());
+            } else if (receipt.serials().size() == mint.positions().size()) {
+                for (int j = 0; j < receipt.serials().size(); j++) {
+                    serials.set(mint.positions().get(j), receipt.serials().get(j));
+                }
+            } else {
+                stillPending.add(mint);
+                if (error == null) {
+                    error = new HieroException("Mint transaction '" + mint.transactionId() + "' returned "
+                            + receipt.serials().size() + " serials for " + mint.positions().size()
+                            + " metadata entries");
+                }
+            }
+        }
+        return error;
+    }
+
+    @Nullable
+    private static TransactionId inDoubtTransactionId(@Nullable final Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof TransactionInDoubtException inDoubt) {
+                return inDoubt.getTransactionId();
+            }
+        }
+        return null;
+    }
+
+    @NonNull
+    private static TokenMintRequest createRequest(@NonNull final TokenId tokenId, @NonNull final PrivateKey supplyKey,
+            @NonNull final List<byte[]> chunk) {
+        return new TokenMintRequest(TransactionRequest.DEFAULT_MAX_TRANSACTION_FEE,
+                TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION, tokenId, supplyKey, null, List.copyOf(chunk));
+    }
+
+    private static void set(@NonNull final List<Long> serials, final int position, final Long serial) {
+        while (serials.size() <= position) {
+            serials.add(null);
+        }
+        serials.set(position, serial);
+    }
+
+    /**
+     * Returns the number of NFTs that are minted in one transaction.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
@@ -8,6 +8,8 @@ import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
 import com.openelements.hiero.base.protocol.data.AccountCreateResult;
 import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
 import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
 import com.openelements.hiero.base.protocol.data.ContractCallRequest;
 import com.openelements.hiero.base.protocol.data.ContractCallResult;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
@@ -26,6 +28,7 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
 import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
@@ -48,6 +51,10 @@ import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptRequest;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptResponse;
+import java.util.List;
+import java.util.Map;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -146,6 +153,30 @@ public interface ProtocolLayerClient {
     @NonNull
     ContractCallResult executeContractCallTransaction(@NonNull ContractCallRequest request) throws HieroException;
 
+    /**
+     * Execute a read-only contract call as a query against a node. Other than a contract call transaction the query
+     * does not need to reach consensus and does not change the state of the contract.
+     *
+     * @param request the request
+     * @return the response
+     * @throws HieroException if the query could not be executed
+     */
+    @NonNull
+    ContractCallQueryResponse executeContractCallQuery(@NonNull ContractCallQueryRequest request)
+            throws HieroException;
+
+    /**
+     * Execute a receipt query for a transaction that has been submitted before. The query does not fail if the
+     * transaction reached consensus with a failure status, the status is part of the response.
+     *
+     * @param request the request
+     * @return the response
+     * @throws HieroException if the query could not be executed
+     */
+    @NonNull
+    TransactionReceiptResponse executeTransactionReceiptQuery(@NonNull TransactionReceiptRequest request)
+            throws HieroException;
+
     /**
      * Executes a contract delete transaction.
      *
@@ -294,8 +325,8 @@ public interface ProtocolLayerClient {
 
 
     /**
-     * Adds a transaction listener to the protocol layer client. The listener will be notified when a transaction is
-     * executed.
+     * Adds a transaction listener to the protocol layer client. The listener will be notified asynchronously when a
+     * transaction is submitted, handled and when its record has been received.
      *
      * @param listener the transaction listener to be added
      * @return a Runnable object that can be used to remove the listener
@@ -303,6 +334,14 @@ public interface ProtocolLayerClient {
     @NonNull
     Runnable addTransactionListener(@NonNull TransactionListener listener);
 
+    /**
+     * Returns the number of events that have not been passed to the transaction listeners because the listeners could
+     * not keep up with the executed transactions.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedTransactionEventCount();
+
     /**
      * Returns the account ID of the operator account.
      *
@@ -310,4 +349,22 @@ public interface ProtocolLayerClient {
      */
     @NonNull
     AccountId getOperatorAccountId();
+
+    /**
+     * Returns the usage statistics of all operator accounts that pay for the transactions of this client. The operator
+     * account of the context is always the first entry.
+     *
+     * @return the statistics of all operator accounts
+     */
+    @NonNull
+    List<OperatorStatistics> getOperatorStatistics();
+
+    /**
+     * Executes an account balance query for every operator account that pays for the transactions of this client.
+     *
+     * @return the balances by the account IDs of the operator accounts
+     * @throws HieroException if a query could not be executed
+     */
+    @NonNull
+    Map<AccountId, AccountBalanceResponse> executeOperatorBalanceQueries() throws HieroException;
 }
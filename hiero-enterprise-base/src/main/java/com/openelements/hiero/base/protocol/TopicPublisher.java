@@ -0,0 +1,396 @@
+package com.openelements.hiero.base.protocol;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.TopicPublisherMetrics;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Submits messages to topics with high throughput. Messages are accepted into a bounded queue and submitted by several
+ * submitters without waiting for the receipt of one message before the next one is submitted. The number of messages
+ * that have been submitted but whose receipt has not been received yet is bounded by the in-flight window, like in a
+ * {@link TransactionPipeline}. If the queue is full, accepting a message blocks until there is space in the queue.
+ * <p>
+ * Messages can be published fire-and-forget ({@link #publish(TopicSubmitMessageRequest)}), a failure is then only
+ * logged and counted, or with a confirmation ({@link #submit(TopicSubmitMessageRequest)}) that completes once the
+ * receipt of the message has been received. Messages of the same topic are submitted concurrently, their consensus
+ * order is therefore not guaranteed to match the order in which they have been accepted.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * try (TopicPublisher publisher = new TopicPublisher(asyncProtocolLayerClient)) {
+ *     for (String event : events) {
+ *         publisher.publish(topicId, event);
+ *     }
+ *     CompletableFuture<TopicSubmitMessageResult> confirmation = publisher.submit(topicId, "done");
+ * }
+ * }</pre>
+ */
+public final class TopicPublisher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicPublisher.class);
+
+    /**
+     * Default maximum number of messages in the queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    /**
+     * Number of the most recent handled messages that are used to calculate throughput and latencies.
+     */
+    static final int SAMPLE_SIZE = 1024;
+
+    private final AsyncProtocolLayerClient client;
+
+    private final BlockingQueue<Entry> queue;
+
+    private final Semaphore inFlight;
+
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+
+    private final List<Thread> submitters;
+
+    /**
+     * Lock for the number of pending messages and the closed state.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition idle = lock.newCondition();
+
+    private long pending;
+
+    private boolean closed;
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+
+    private final AtomicLong succeededCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final ReentrantLock sampleLock = new ReentrantLock();
+
+    private final long[] latencySamples = new long[SAMPLE_SIZE];
+
+    private final long[] completionSamples = new long[SAMPLE_SIZE];
+
+    private long sampleCount;
+
+    private record Entry(@NonNull TopicSubmitMessageRequest request,
+                         @Nullable CompletableFuture<TopicSubmitMessageResult> confirmation, long acceptedNanos) {
+    }
+
+    /**
+     * Creates a publisher with {@link #DEFAULT_QUEUE_CAPACITY} and the default settings of
+     * {@link TransactionPipeline}.
+     *
+     * @param client the client that submits the messages
+     */
+    public TopicPublisher(@NonNull final AsyncProtocolLayerClient client) {
+        this(client, DEFAULT_QUEUE_CAPACITY, TransactionPipeline.DEFAULT_MAX_IN_FLIGHT,
+                TransactionPipeline.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param client         the client that submits the messages
+     * @param queueCapacity  maximum number of messages in the queue
+     * @param maxInFlight    maximum number of messages that are submitted but not yet handled
+     * @param maxConcurrency maximum number of messages that are submitted concurrently
+     */
+    public TopicPublisher(@NonNull final AsyncProtocolLayerClient client, final int queueCapacity,
+            final int maxInFlight, final int maxConcurrency) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be greater than 0");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(maxInFlight);
+        final List<Thread> threads = new ArrayList<>(maxConcurrency);
+        for (int i = 0; i < maxConcurrency; i++) {
+            threads.add(Thread.ofVirtual().name("hiero-topic-publisher-" + i).start(this::submitLoop));
+        }
+        this.submitters = List.copyOf(threads);
+    }
+
+    /**
+     * Accepts a message without confirmation. A failure of the message is logged and counted in
+     * {@link TopicPublisherMetrics#failedCount()}.
+     *
+     * @param request the message
+     * @throws HieroException if the calling thread is interrupted while waiting for space in the queue
+     */
+    public void publish(@NonNull final TopicSubmitMessageRequest request) throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        accept(new Entry(request, null, System.nanoTime()));
+    }
+
+    /**
+     * Accepts a message without confirmation.
+     *
+     * @param topicId the ID of the topic
+     * @param message the message
+     * @throws HieroException if the calling thread is interrupted while waiting for space in the queue
+     */
+    public void publish(@NonNull final TopicId topicId, @NonNull final String message) throws HieroException {
+        publish(TopicSubmitMessageRequest.of(topicId, message));
+    }
+
+    /**
+     * Accepts a message without confirmation.
+     *
+     * @param topicId the ID of the topic
+     * @param message the message
+     * @throws HieroException if the calling thread is interrupted while waiting for space in the queue
+     */
+    public void publish(@NonNull final TopicId topicId, @NonNull final byte[] message) throws HieroException {
+        publish(TopicSubmitMessageRequest.of(topicId, message));
+    }
+
+    /**
+     * Accepts a message with confirmation.
+     *
+     * @param request the message
+     * @return future that completes with the result once the receipt of the message has been received, or
+     * exceptionally with a {@link HieroException} if the message could not be submitted
+     * @throws HieroException if the calling thread is interrupted while waiting for space in the queue
+     */
+    @NonNull
+    public CompletableFuture<TopicSubmitMessageResult> submit(@NonNull final TopicSubmitMessageRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        final CompletableFuture<TopicSubmitMessageResult> confirmation = new CompletableFuture<>();
+        accept(new Entry(request, confirmation, System.nanoTime()));
+        return confirmation;
+    }
+
+    /**
+     * Accepts a message with confirmation.
+     *
+     * @param topicId the ID of the topic
+     * @param message the message
+     * @return future that completes with the result once the receipt of the message has been received
+     * @throws HieroException if the calling thread is interrupted while waiting for space in the queue
+     */
+    @NonNull
+    public CompletableFuture<TopicSubmitMessageResult> submit(@NonNull final TopicId topicId,
+            @NonNull final String message) throws HieroException {
+        return submit(TopicSubmitMessageRequest.of(topicId, message));
+    }
+
+    /**
+     * Accepts a message with confirmation.
+     *
+     * @param topicId the ID of the topic
+     * @param message the message
+     * @return future that completes with the result once the receipt of the message has been received
+     * @throws HieroException if the calling thread is interrupted while waiting for space in the queue
+     */
+    @NonNull
+    public CompletableFuture<TopicSubmitMessageResult> submit(@NonNull final TopicId topicId,
+            @NonNull final byte[] message) throws HieroException {
+        return submit(TopicSubmitMessageRequest.of(topicId, message));
+    }
+
+    /**
+     * Blocks until all accepted messages have been handled.
+     *
+     * @throws HieroException if the calling thread is interrupted while waiting
+     */
+    public void flush() throws HieroException {
+        lock.lock();
+        try {
+            while (pending > 0) {
+                idle.await();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while waiting for pending messages", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting messages, blocks until all accepted messages have been handled and stops the submitters.
+     *
+     * @throws HieroException if the calling thread is interrupted while waiting
+     */
+    @Override
+    public void close() throws HieroException {
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        flush();
+        submitters.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the publisher.
+     *
+     * @return the metrics
+     */
+    @NonNull
+    public TopicPublisherMetrics getMetrics() {
+        final long[] latencies;
+        final double throughput;
+        sampleLock.lock();
+        try {
+            final int size = (int) Math.min(sampleCount, SAMPLE_SIZE);
+            latencies = Arrays.copyOf(latencySamples, size);
+            if (size > 1) {
+                final int newest = (int) ((sampleCount - 1) % SAMPLE_SIZE);
+                final int oldest = (int) ((sampleCount - size) % SAMPLE_SIZE);
+                final long window = completionSamples[newest] - completionSamples[oldest];
+                throughput = window > 0 ? (size - 1) * 1_000_000_000.0 / window : 0;
+            } else {
+                throughput = 0;
+            }
+        } finally {
+            sampleLock.unlock();
+        }
+        Arrays.sort(latencies);
+        return new TopicPublisherMetrics(acceptedCount.get(), succeededCount.get(), failedCount.get(), queue.size(),
+                inFlightCount.get(), throughput, percentile(latencies, 50),
+                percentile(latencies, 90), percentile(latencies, 99));
+    }
+
+    private void accept(@NonNull final Entry entry) throws HieroException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("TopicPublisher is closed");
+            }
+            pending++;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            queue.put(entry);
+            acceptedCount.incrementAndGet();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handled();
+            throw new HieroException("Interrupted while waiting for space in the queue", e);
+        }
+    }
+
+    private void submitLoop() {
+        while (true) {
+            final Entry entry;
+            try {
+                inFlight.acquire();
+            } catch (final InterruptedException e) {
+                return;
+            }
+            try {
+                // the permit is acquired first, so that a message stays in the queue until it can be submitted
+                entry = queue.take();
+            } catch (final InterruptedException e) {
+                inFlight.release();
+                return;
+            }
+            inFlightCount.incrementAndGet();
+            CompletableFuture<TopicSubmitMessageResult> future;
+            try {
+                future = client.executeTopicMessageSubmitTransaction(entry.request());
+            } catch (final Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((result, error) -> {
+                inFlightCount.decrementAndGet();
+                inFlight.release();
+                complete(entry, result, error);
+            });
+        }
+    }
+
+    private void complete(@NonNull final Entry entry, @Nullable final TopicSubmitMessageResult result,
+            @Nullable final Throwable error) {
+        final long now = System.nanoTime();
+        sampleLock.lock();
+        try {
+            final int index = (int) (sampleCount % SAMPLE_SIZE);
+            latencySamples[index] = now - entry.acceptedNanos();
+            completionSamples[index] = now;
+            sampleCount++;
+        } finally {
+            sampleLock.unlock();
+        }
+        if (error == null && result != null) {
+            succeededCount.incrementAndGet();
+            if (entry.confirmation() != null) {
+                entry.confirmation().complete(result);
+            }
+        } else {
+            failedCount.incrementAndGet();
+            final Throwable cause = unwrap(error != null ? error
+                    : new IllegalStateException("Transaction completed without result"));
+            if (entry.confirmation() != null) {
+                entry.confirmation().completeExceptionally(cause instanceof HieroException ? cause
+                        : new HieroException("Failed to submit message to topic " + entry.request().topicId(),
+                                cause));
+            } else {
+                log.warn("Failed to submit message to topic {}", entry.request().topicId(), cause);
+            }
+        }
+        handled();
+    }
+
+    private void handled() {
+        lock.lock();
+        try {
+            pending--;
+            if (pending == 0) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    private static Duration percentile(@NonNull final long[] sorted, final int percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        final int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, index)]);
+    }
+
+    @NonNull
+    private static Throwable unwrap(@NonNull final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -1,12 +1,39 @@
 package com.openelements.hiero.base.protocol;
 
-import com.hedera.hashgraph.sdk.Status;
-import com.hedera.hashgraph.sdk.TransactionId;
-import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import org.jspecify.annotations.NonNull;
 
+/**
+ * Listener that is notified about the transactions that are executed by a protocol layer client. Listeners are called
+ * asynchronously on a dedicated thread in the order of the events, so that a slow listener does not slow down the
+ * execution of transactions. If the listeners can not keep up with the transactions, events are dropped and counted
+ * (see {@link AsyncProtocolLayerClient#getDroppedTransactionEventCount()}).
+ */
 public interface TransactionListener {
 
-    void transactionSubmitted(TransactionType transactionType, TransactionId transactionId);
+    /**
+     * Called once a transaction has been submitted to a node.
+     *
+     * @param event the event
+     */
+    default void transactionSubmitted(@NonNull TransactionEvent event) {
+    }
 
-    void transactionHandled(TransactionType transactionType, TransactionId transactionId, Status transactionStatus);
+    /**
+     * Called once the receipt of a transaction has been received. A transaction that is split into several chunks is
+     * reported once per chunk.
+     *
+     * @param event the event, including the receipt time and status
+     */
+    default void transactionHandled(@NonNull TransactionEvent event) {
+    }
+
+    /**
+     * Called once the record of a transaction has been received. Records are only requested for transactions whose
+     * result contains information of the record.
+     *
+     * @param event the event, including the record time and the charged fee
+     */
+    default void transactionRecordReceived(@NonNull TransactionEvent event) {
+    }
 }
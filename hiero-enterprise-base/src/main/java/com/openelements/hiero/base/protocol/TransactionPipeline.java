@@ -0,0 +1,230 @@
+package com.openelements.hiero.base.protocol;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.PipelineResult;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import com.openelements.hiero.base.protocol.data.TransactionResult;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes many transactions of the same type without waiting for the receipt of one transaction before the next one
+ * is submitted. Transactions are submitted back-to-back by a bounded number of submitters while receipts are gathered
+ * asynchronously. The number of transactions that have been submitted but whose receipt has not been received yet is
+ * bounded by the in-flight window of the pipeline. The window is shared by all calls on the same pipeline instance.
+ * <p>
+ * A failing transaction does not stop the pipeline: its failure is reported in the {@link PipelineResult} at its
+ * position and all other transactions are still executed. Results are always returned in submission order.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * TransactionPipeline<TopicSubmitMessageRequest, TopicSubmitMessageResult> pipeline =
+ *         new TransactionPipeline<>(asyncClient::executeTopicMessageSubmitTransaction);
+ * List<PipelineResult<TopicSubmitMessageRequest, TopicSubmitMessageResult>> results = pipeline.executeAndWait(requests);
+ * }</pre>
+ *
+ * @param <Q> the request type
+ * @param <R> the result type
+ * @see AsyncProtocolLayerClient
+ */
+public final class TransactionPipeline<Q extends TransactionRequest, R extends TransactionResult> {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPipeline.class);
+
+    /**
+     * Default maximum number of transactions that are submitted but not yet handled.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+    /**
+     * Default maximum number of transactions that are submitted concurrently.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final Function<Q, CompletableFuture<R>> call;
+
+    private final int maxInFlight;
+
+    private final int maxConcurrency;
+
+    private final Semaphore inFlight;
+
+    /**
+     * Creates a pipeline with {@link #DEFAULT_MAX_IN_FLIGHT} and {@link #DEFAULT_MAX_CONCURRENCY}.
+     *
+     * @param call the asynchronous call that executes one transaction, normally a method of
+     *             {@link AsyncProtocolLayerClient}
+     */
+    public TransactionPipeline(@NonNull final Function<Q, CompletableFuture<R>> call) {
+        this(call, DEFAULT_MAX_IN_FLIGHT, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param call           the asynchronous call that executes one transaction, normally a method of
+     *                       {@link AsyncProtocolLayerClient}
+     * @param maxInFlight    maximum number of transactions that are submitted but not yet handled
+     * @param maxConcurrency maximum number of transactions that are submitted concurrently
+     */
+    public TransactionPipeline(@NonNull final Function<Q, CompletableFuture<R>> call, final int maxInFlight,
+            final int maxConcurrency) {
+        this.call = Objects.requireNonNull(call, "call must not be null");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxConcurrency = maxConcurrency;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Submits all requests and returns a future that completes once every transaction has been handled. The future
+     * never completes exceptionally; failures of single transactions are part of the returned results.
+     *
+     * @param requests the requests
+     * @return future with one result per request, in the order of the requests
+     */
+    @NonNull
+    public CompletableFuture<List<PipelineResult<Q, R>>> execute(@NonNull final List<Q> requests) {
+        Objects.requireNonNull(requests, "requests must not be null");
+        final List<Q> toSubmit = List.copyOf(requests);
+        if (toSubmit.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        final Run run = new Run(toSubmit);
+        final int submitters = Math.min(maxConcurrency, toSubmit.size());
+        for (int i = 0; i < submitters; i++) {
+            Thread.ofVirtual().name("hiero-pipeline-submitter-" + i).start(run::submitLoop);
+        }
+        return run.done;
+    }
+
+    /**
+     * Submits all requests and blocks until every transaction has been handled.
+     *
+     * @param requests the requests
+     * @return one result per request, in the order of the requests
+     * @throws HieroException if the calling thread is interrupted while waiting
+     */
+    @NonNull
+    public List<PipelineResult<Q, R>> executeAndWait(@NonNull final List<Q> requests) throws HieroException {
+        try {
+            return execute(requests).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while waiting for pipeline", e);
+        } catch (final ExecutionException e) {
+            throw new HieroException("Failed to execute pipeline", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the maximum number of transactions that are submitted but not yet handled.
+     *
+     * @return the in-flight window
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Returns the maximum number of transactions that are submitted concurrently.
+     *
+     * @return the maximum concurrency
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of transactions of all running calls that are submitted but not yet handled.
+     *
+     * @return the number of in-flight transactions
+     */
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private final class Run {
+
+        private final List<Q> requests;
+
+        private final PipelineResult<Q, R>[] results;
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        private final AtomicInteger remaining;
+
+        private final CompletableFuture<List<PipelineResult<Q, R>>> done = new CompletableFuture<>();
+
+        @SuppressWarnings("unchecked")
+        private Run(@NonNull final List<Q> requests) {
+            this.requests = requests;
+            this.results = new PipelineResult[requests.size()];
+            this.remaining = new AtomicInteger(requests.size());
+        }
+
+        private void submitLoop() {
+            int index;
+            while ((index = next.getAndIncrement()) < requests.size()) {
+                final Q request = requests.get(index);
+                try {
+                    inFlight.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    handled(PipelineResult.failure(index, request, e));
+                    continue;
+                }
+                CompletableFuture<R> future;
+                try {
+                    future = call.apply(request);
+                } catch (final Exception e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                final int position = index;
+                future.whenComplete((result, error) -> {
+                    inFlight.release();
+                    if (error != null) {
+                        log.debug("Transaction {} of pipeline failed", position, error);
+                        handled(PipelineResult.failure(position, request, unwrap(error)));
+                    } else if (result == null) {
+                        handled(PipelineResult.failure(position, request,
+                                new IllegalStateException("Transaction completed without result")));
+                    } else {
+                        handled(PipelineResult.success(position, request, result));
+                    }
+                });
+            }
+        }
+
+        private void handled(@NonNull final PipelineResult<Q, R> result) {
+            results[result.index()] = result;
+            if (remaining.decrementAndGet() == 0) {
+                done.complete(Collections.unmodifiableList(Arrays.asList(results)));
+            }
+        }
+    }
+
+    @NonNull
+    private static Throwable unwrap(@NonNull final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -0,0 +1,54 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request for a read-only call of a smart contract function that is executed as a query against a node. No
+ * transaction is created, so the state of the contract is not changed.
+ *
+ * @param contractId      the ID of the contract
+ * @param functionCall    the encoded function call: the selector followed by the ABI encoded parameters
+ * @param queryPayment    the payment for the query, the cost of the query is used if not defined
+ * @param maxQueryPayment the maximum payment for the query
+ */
+public record ContractCallQueryRequest(@NonNull ContractId contractId, @NonNull byte[] functionCall,
+                                       @Nullable Hbar queryPayment,
+                                       @Nullable Hbar maxQueryPayment) implements QueryRequest {
+
+    public ContractCallQueryRequest {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(functionCall, "functionCall must not be null");
+        if (functionCall.length < 4) {
+            throw new IllegalArgumentException("functionCall must contain at least the function selector");
+        }
+    }
+
+    @NonNull
+    public static ContractCallQueryRequest of(@NonNull ContractId contractId, @NonNull byte[] functionCall) {
+        return new ContractCallQueryRequest(contractId, functionCall, null, null);
+    }
+
+    @NonNull
+    public static ContractCallQueryRequest of(@NonNull ContractId contractId,
+            @NonNull PreparedContractFunction function, @NonNull List<ContractParam<?>> params) {
+        Objects.requireNonNull(function, "function must not be null");
+        return of(contractId, function.encode(params));
+    }
+
+    @Override
+    public Hbar queryPayment() {
+        return queryPayment;
+    }
+
+    @Override
+    public Hbar maxQueryPayment() {
+        return maxQueryPayment;
+    }
+}
@@ -0,0 +1,15 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.ContractFunctionResult;
+import com.hedera.hashgraph.sdk.ContractId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record ContractCallQueryResponse(@NonNull ContractId contractId,
+                                        @NonNull ContractFunctionResult contractFunctionResult) {
+
+    public ContractCallQueryResponse {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(contractFunctionResult, "contractFunctionResult must not be null");
+    }
+}
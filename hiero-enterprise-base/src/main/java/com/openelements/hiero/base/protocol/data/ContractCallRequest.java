@@ -3,6 +3,7 @@ package com.openelements.hiero.base.protocol.data;
 import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.Hbar;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
@@ -14,7 +15,8 @@ ContractCallRequest(@NonNull Hbar maxTransactionFee,
                     @NonNull Duration transactionValidDuration,
                     @NonNull ContractId contractId,
                     @NonNull String functionName,
-                    @NonNull List<ContractParam<?>> constructorParams) implements TransactionRequest {
+                    @NonNull List<ContractParam<?>> constructorParams,
+                    @Nullable PreparedContractFunction preparedFunction) implements TransactionRequest {
 
     public ContractCallRequest {
         Objects.requireNonNull(maxTransactionFee, "maxTransactionFee is required");
@@ -31,6 +33,15 @@ ContractCallRequest(@NonNull Hbar maxTransactionFee,
         if (functionName.isBlank() || functionName.contains(" ")) {
             throw new IllegalArgumentException("functionName must not be blank or contain spaces");
         }
+        if (preparedFunction != null && !preparedFunction.functionName().equals(functionName)) {
+            throw new IllegalArgumentException("functionName must match the name of the prepared function");
+        }
+    }
+
+    public ContractCallRequest(@NonNull Hbar maxTransactionFee, @NonNull Duration transactionValidDuration,
+            @NonNull ContractId contractId, @NonNull String functionName,
+            @NonNull List<ContractParam<?>> constructorParams) {
+        this(maxTransactionFee, transactionValidDuration, contractId, functionName, constructorParams, null);
     }
 
     @NonNull
@@ -63,4 +74,12 @@ ContractCallRequest(@NonNull Hbar maxTransactionFee,
         return new ContractCallRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, contractId,
                 functionName, List.copyOf(constructorParams));
     }
+
+    @NonNull
+    public static ContractCallRequest of(@NonNull ContractId contractId, @NonNull PreparedContractFunction function,
+            @NonNull List<ContractParam<?>> params) {
+        Objects.requireNonNull(function, "function must not be null");
+        return new ContractCallRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, contractId,
+                function.functionName(), List.copyOf(params), function);
+    }
 }
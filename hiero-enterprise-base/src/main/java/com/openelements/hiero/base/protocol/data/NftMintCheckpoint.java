@@ -0,0 +1,143 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * State of a bulk mint of NFTs that can be used to resume the mint after a partial failure. The serials are in the
+ * order of the metadata that has been processed: the serial at index {@code i} is the serial of the NFT that has been
+ * minted for the metadata entry at index {@code i}, or {@code null} if the entry has not been minted.
+ * <p>
+ * Mint transactions that have been submitted but whose outcome is unknown (for example because the receipt could not
+ * be received in time) are stored as {@link PendingMint}. The entries of a pending mint might have been minted and
+ * must not be minted again before the transaction is settled by its receipt or by the mirror node, see
+ * {@link #settle(TransactionId, List)}.
+ *
+ * @param tokenId the ID of the NFT type
+ * @param serials the serials of the processed metadata entries, {@code null} for entries that have not been minted
+ * @param pending the mint transactions whose outcome is unknown
+ */
+public record NftMintCheckpoint(@NonNull TokenId tokenId, @NonNull List<@Nullable Long> serials,
+                                @NonNull List<PendingMint> pending) {
+
+    /**
+     * A mint transaction whose outcome is unknown.
+     *
+     * @param transactionId the ID of the mint transaction
+     * @param positions     the indices of the metadata entries that are minted by the transaction, in the order of
+     *                      the serials of the transaction
+     */
+    public record PendingMint(@NonNull TransactionId transactionId, @NonNull List<Integer> positions) {
+
+        public PendingMint {
+            Objects.requireNonNull(transactionId, "transactionId must not be null");
+            Objects.requireNonNull(positions, "positions must not be null");
+            positions = List.copyOf(positions);
+        }
+    }
+
+    public NftMintCheckpoint {
+        Objects.requireNonNull(tokenId, "tokenId must not be null");
+        Objects.requireNonNull(serials, "serials must not be null");
+        Objects.requireNonNull(pending, "pending must not be null");
+        serials = Collections.unmodifiableList(new ArrayList<>(serials));
+        pending = List.copyOf(pending);
+        for (final PendingMint mint : pending) {
+            for (final int position : mint.positions()) {
+                if (position >= serials.size() || serials.get(position) != null) {
+                    throw new IllegalArgumentException("position " + position + " of pending mint "
+                            + mint.transactionId() + " must be a processed entry that has not been minted");
+                }
+            }
+        }
+    }
+
+    public NftMintCheckpoint(@NonNull TokenId tokenId, @NonNull List<@Nullable Long> serials) {
+        this(tokenId, serials, List.of());
+    }
+
+    /**
+     * Returns a checkpoint for a mint that has not been started yet.
+     *
+     * @param tokenId the ID of the NFT type
+     * @return the checkpoint
+     */
+    @NonNull
+    public static NftMintCheckpoint start(@NonNull final TokenId tokenId) {
+        return new NftMintCheckpoint(tokenId, List.of());
+    }
+
+    /**
+     * Returns the number of metadata entries that have been processed.
+     *
+     * @return the number of processed entries
+     */
+    public int processedCount() {
+        return serials.size();
+    }
+
+    /**
+     * Returns the number of metadata entries that have been minted.
+     *
+     * @return the number of minted entries
+     */
+    public int mintedCount() {
+        return (int) serials.stream().filter(Objects::nonNull).count();
+    }
+
+    /**
+     * Returns true if the metadata entry at the given index has been minted.
+     *
+     * @param index the index of the metadata entry
+     * @return true if the entry has been minted
+     */
+    public boolean isMinted(final int index) {
+        return index < serials.size() && serials.get(index) != null;
+    }
+
+    /**
+     * Returns true if the metadata entry at the given index belongs to a mint transaction whose outcome is unknown.
+     *
+     * @param index the index of the metadata entry
+     * @return true if the entry is pending
+     */
+    public boolean isPending(final int index) {
+        return pending.stream().anyMatch(mint -> mint.positions().contains(index));
+    }
+
+    /**
+     * Returns a checkpoint in which the pending mint with the given transaction ID is settled. This can be used to
+     * settle a pending mint by the outcome that has been looked up at the mirror node.
+     *
+     * @param transactionId the ID of the pending mint transaction
+     * @param serials       the serials that have been minted by the transaction, an empty list if the transaction
+     *                      failed
+     * @return the new checkpoint
+     */
+    @NonNull
+    public NftMintCheckpoint settle(@NonNull final TransactionId transactionId, @NonNull final List<Long> serials) {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        Objects.requireNonNull(serials, "serials must not be null");
+        final PendingMint mint = pending.stream()
+                .filter(m -> m.transactionId().equals(transactionId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("no pending mint for transaction " + transactionId));
+        if (!serials.isEmpty() && serials.size() != mint.positions().size()) {
+            throw new IllegalArgumentException("transaction " + transactionId + " minted " + mint.positions().size()
+                    + " NFTs but " + serials.size() + " serials are given");
+        }
+        final List<Long> newSerials = new ArrayList<>(this.serials);
+        for (int i = 0; i < serials.size(); i++) {
+            newSerials.set(mint.positions().get(i), Objects.requireNonNull(serials.get(i), "serial must not be null"));
+        }
+        final List<PendingMint> newPending = new ArrayList<>(pending);
+        newPending.remove(mint);
+        return new NftMintCheckpoint(tokenId, newSerials, newPending);
+    }
+}
@@ -0,0 +1,36 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Snapshot of the usage of one operator account of the protocol layer client. The counters cover the whole lifetime
+ * of the client.
+ *
+ * @param accountId      the account ID of the operator account
+ * @param inFlightCount  number of transactions paid by the operator that are waiting for a permit of the rate
+ *                       limiter or for their receipt
+ * @param submittedCount number of transactions that have been submitted with the operator as payer
+ * @param throttledCount number of submitted transactions that have been rejected because the network was busy or the
+ *                       operator has been throttled
+ */
+public record OperatorStatistics(@NonNull AccountId accountId, int inFlightCount, long submittedCount,
+                                 long throttledCount) {
+
+    public OperatorStatistics {
+        Objects.requireNonNull(accountId, "accountId must not be null");
+    }
+
+    /**
+     * Returns the share of submitted transactions that have been throttled.
+     *
+     * @return the throttle rate between 0 and 1
+     */
+    public double throttleRate() {
+        if (submittedCount == 0) {
+            return 0;
+        }
+        return (double) throttledCount / submittedCount;
+    }
+}
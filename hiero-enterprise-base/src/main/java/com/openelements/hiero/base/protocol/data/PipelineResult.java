@@ -0,0 +1,56 @@
+package com.openelements.hiero.base.protocol.data;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of a single transaction that has been executed by a
+ * {@link com.openelements.hiero.base.protocol.TransactionPipeline}. Exactly one of {@code result} and {@code error}
+ * is set.
+ *
+ * @param index   the position of the request in the submitted list
+ * @param request the request
+ * @param result  the result, or null if the transaction failed
+ * @param error   the failure, or null if the transaction succeeded
+ * @param <Q>     the request type
+ * @param <R>     the result type
+ */
+public record PipelineResult<Q extends TransactionRequest, R extends TransactionResult>(int index,
+                                                                                       @NonNull Q request,
+                                                                                       @Nullable R result,
+                                                                                       @Nullable Throwable error) {
+
+    public PipelineResult {
+        if (index < 0) {
+            throw new IllegalArgumentException("index must be non-negative");
+        }
+        Objects.requireNonNull(request, "request must not be null");
+        if ((result == null) == (error == null)) {
+            throw new IllegalArgumentException("exactly one of result and error must be set");
+        }
+    }
+
+    /**
+     * Returns true if the transaction reached consensus and a receipt was received.
+     *
+     * @return true if the transaction succeeded
+     */
+    public boolean isSuccess() {
+        return result != null;
+    }
+
+    @NonNull
+    public static <Q extends TransactionRequest, R extends TransactionResult> PipelineResult<Q, R> success(
+            final int index, @NonNull final Q request, @NonNull final R result) {
+        Objects.requireNonNull(result, "result must not be null");
+        return new PipelineResult<>(index, request, result, null);
+    }
+
+    @NonNull
+    public static <Q extends TransactionRequest, R extends TransactionResult> PipelineResult<Q, R> failure(
+            final int index, @NonNull final Q request, @NonNull final Throwable error) {
+        Objects.requireNonNull(error, "error must not be null");
+        return new PipelineResult<>(index, request, null, error);
+    }
+}
@@ -12,7 +12,9 @@ import org.jspecify.annotations.Nullable;
 public record TopicMessageRequest(@NonNull TopicId topicId, @NonNull Consumer<TopicMessage> subscription,
                                   @Nullable Instant startTime, @Nullable Instant endTime,
                                   long limit,
-                                  Hbar queryPayment, Hbar maxQueryPayment) implements
+                                  Hbar queryPayment, Hbar maxQueryPayment,
+                                  @Nullable Consumer<Throwable> errorHandler,
+                                  @Nullable Runnable completionHandler) implements
         QueryRequest {
 
     private final static long NO_LIMIT = -1;
@@ -24,6 +26,16 @@ public record TopicMessageRequest(@NonNull TopicId topicId, @NonNull Consumer<To
 
     @NonNull
     public static TopicMessageRequest of(@NonNull TopicId topicId, @NonNull Consumer<TopicMessage> subscription) {
-        return new TopicMessageRequest(topicId, subscription, null, null, NO_LIMIT, null, null);
+        return new TopicMessageRequest(topicId, subscription, null, null, NO_LIMIT, null, null, null, null);
+    }
+
+    @NonNull
+    public static TopicMessageRequest of(@NonNull TopicId topicId, @Nullable Instant startTime,
+            @NonNull Consumer<TopicMessage> subscription, @NonNull Consumer<Throwable> errorHandler,
+            @NonNull Runnable completionHandler) {
+        Objects.requireNonNull(errorHandler, "errorHandler must not be null");
+        Objects.requireNonNull(completionHandler, "completionHandler must not be null");
+        return new TopicMessageRequest(topicId, subscription, startTime, null, NO_LIMIT, null, null, errorHandler,
+                completionHandler);
     }
 }
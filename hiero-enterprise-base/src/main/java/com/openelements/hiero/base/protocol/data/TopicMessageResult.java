@@ -1,4 +1,12 @@
 package com.openelements.hiero.base.protocol.data;
 
-public record TopicMessageResult() {
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record TopicMessageResult(@NonNull SubscriptionHandle subscriptionHandle) {
+
+    public TopicMessageResult {
+        Objects.requireNonNull(subscriptionHandle, "subscriptionHandle must not be null");
+    }
 }
@@ -0,0 +1,30 @@
+package com.openelements.hiero.base.protocol.data;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Snapshot of the metrics of a {@link com.openelements.hiero.base.protocol.TopicPublisher}. Throughput and latencies
+ * are calculated from the most recent handled messages, the counters cover the whole lifetime of the publisher.
+ *
+ * @param acceptedCount       number of messages that have been accepted into the queue
+ * @param succeededCount      number of messages whose receipt has been received
+ * @param failedCount         number of messages that could not be submitted or whose transaction failed
+ * @param queueDepth          number of messages in the queue that have not been submitted yet
+ * @param inFlightCount       number of messages that have been submitted but not yet handled
+ * @param throughputPerSecond number of handled messages per second
+ * @param latencyP50          median time between accepting a message and receiving its receipt
+ * @param latencyP90          90th percentile of the time between accepting a message and receiving its receipt
+ * @param latencyP99          99th percentile of the time between accepting a message and receiving its receipt
+ */
+public record TopicPublisherMetrics(long acceptedCount, long succeededCount, long failedCount, int queueDepth,
+                                    int inFlightCount, double throughputPerSecond, @NonNull Duration latencyP50,
+                                    @NonNull Duration latencyP90, @NonNull Duration latencyP99) {
+
+    public TopicPublisherMetrics {
+        Objects.requireNonNull(latencyP50, "latencyP50 must not be null");
+        Objects.requireNonNull(latencyP90, "latencyP90 must not be null");
+        Objects.requireNonNull(latencyP99, "latencyP99 must not be null");
+    }
+}
@@ -15,7 +15,20 @@ public record TopicSubmitMessageRequest(Hbar maxTransactionFee,
                                         @Nullable PrivateKey submitKey,
                                         @NonNull byte[] message) implements TransactionRequest {
 
-    static final int MAX_MESSAGE_LENGTH = 1024;
+    /**
+     * Maximum number of bytes that are sent in one transaction. Larger messages are split into chunks of this size.
+     */
+    public static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Maximum number of chunks of a message.
+     */
+    public static final int MAX_CHUNKS = 20;
+
+    /**
+     * Maximum number of bytes of a message.
+     */
+    public static final int MAX_MESSAGE_LENGTH = CHUNK_SIZE * MAX_CHUNKS;
 
     public TopicSubmitMessageRequest {
         Objects.requireNonNull(topicId, "TopicId cannot be null");
@@ -25,6 +38,16 @@ public record TopicSubmitMessageRequest(Hbar maxTransactionFee,
         }
     }
 
+    /**
+     * Returns the number of chunks the message is sent in. All chunks share the transaction ID of the first chunk as
+     * initial transaction ID.
+     *
+     * @return the number of chunks
+     */
+    public int chunkCount() {
+        return Math.max(1, (message.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
     public static TopicSubmitMessageRequest of(@NonNull final TopicId topicId,  @NonNull final String message) {
         Objects.requireNonNull(message, "Message cannot be null");
         return of(topicId, null, message);
@@ -0,0 +1,81 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Event about a transaction that is passed to a {@link com.openelements.hiero.base.protocol.TransactionListener}. The
+ * values that are not known yet in the phase of the transaction are null: the receipt time and status are set once
+ * the receipt has been received, the record time and the charged fee once the record has been received.
+ *
+ * @param transactionType the type of the transaction
+ * @param transactionId   the ID of the transaction
+ * @param nodeAccountId   the account ID of the node the transaction has been submitted to
+ * @param submitTime      the time the transaction has been submitted
+ * @param receiptTime     the time the receipt has been received, or null
+ * @param recordTime      the time the record has been received, or null
+ * @param status          the status of the receipt, or null
+ * @param chargedFee      the fee that has been charged for the transaction as reported by the record, or null
+ */
+public record TransactionEvent(@NonNull TransactionType transactionType, @NonNull TransactionId transactionId,
+                               @NonNull AccountId nodeAccountId, @NonNull Instant submitTime,
+                               @Nullable Instant receiptTime, @Nullable Instant recordTime, @Nullable Status status,
+                               @Nullable Hbar chargedFee) {
+
+    public TransactionEvent {
+        Objects.requireNonNull(transactionType, "transactionType must not be null");
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        Objects.requireNonNull(nodeAccountId, "nodeAccountId must not be null");
+        Objects.requireNonNull(submitTime, "submitTime must not be null");
+    }
+
+    /**
+     * Returns the time between submitting the transaction and receiving its receipt.
+     *
+     * @return the time until the receipt has been received, or null if the receipt has not been received yet
+     */
+    @Nullable
+    public Duration receiptLatency() {
+        return receiptTime == null ? null : Duration.between(submitTime, receiptTime);
+    }
+
+    /**
+     * Returns the time between receiving the receipt and receiving the record of the transaction.
+     *
+     * @return the time until the record has been received, or null if the record has not been received yet
+     */
+    @Nullable
+    public Duration recordLatency() {
+        return receiptTime == null || recordTime == null ? null : Duration.between(receiptTime, recordTime);
+    }
+
+    @NonNull
+    public static TransactionEvent submitted(@NonNull final TransactionType transactionType,
+            @NonNull final TransactionId transactionId, @NonNull final AccountId nodeAccountId,
+            @NonNull final Instant submitTime) {
+        return new TransactionEvent(transactionType, transactionId, nodeAccountId, submitTime, null, null, null, null);
+    }
+
+    @NonNull
+    public TransactionEvent withReceipt(@NonNull final Instant receiptTime, @NonNull final Status status) {
+        Objects.requireNonNull(receiptTime, "receiptTime must not be null");
+        Objects.requireNonNull(status, "status must not be null");
+        return new TransactionEvent(transactionType, transactionId, nodeAccountId, submitTime, receiptTime, null,
+                status, null);
+    }
+
+    @NonNull
+    public TransactionEvent withRecord(@NonNull final Instant recordTime, @NonNull final Hbar chargedFee) {
+        Objects.requireNonNull(recordTime, "recordTime must not be null");
+        Objects.requireNonNull(chargedFee, "chargedFee must not be null");
+        return new TransactionEvent(transactionType, transactionId, nodeAccountId, submitTime, receiptTime,
+                recordTime, status, chargedFee);
+    }
+}
@@ -0,0 +1,23 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Request for the receipt of a transaction. Receipts are free and are available for a few minutes after the
+ * transaction has reached consensus.
+ *
+ * @param transactionId the ID of the transaction
+ */
+public record TransactionReceiptRequest(@NonNull TransactionId transactionId) {
+
+    public TransactionReceiptRequest {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+    }
+
+    @NonNull
+    public static TransactionReceiptRequest of(@NonNull TransactionId transactionId) {
+        return new TransactionReceiptRequest(transactionId);
+    }
+}
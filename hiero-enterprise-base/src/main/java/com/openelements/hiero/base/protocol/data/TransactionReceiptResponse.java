@@ -0,0 +1,26 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Receipt of a transaction that has reached consensus.
+ *
+ * @param transactionId the ID of the transaction
+ * @param status        the status of the transaction, the transaction has been applied if it is
+ *                      {@link Status#SUCCESS}
+ * @param serials       the serials of the NFTs that have been minted by the transaction
+ */
+public record TransactionReceiptResponse(@NonNull TransactionId transactionId, @NonNull Status status,
+                                         @NonNull List<Long> serials) {
+
+    public TransactionReceiptResponse {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        Objects.requireNonNull(status, "status must not be null");
+        Objects.requireNonNull(serials, "serials must not be null");
+        serials = List.copyOf(serials);
+    }
+}
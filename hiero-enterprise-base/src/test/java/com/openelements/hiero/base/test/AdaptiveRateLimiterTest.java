@@ -0,0 +1,193 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.AdaptiveRateLimiter;
+import com.openelements.hiero.base.implementation.RateLimiterSettings;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveRateLimiterTest {
+
+    private static final AccountId OPERATOR = AccountId.fromString("0.0.1001");
+
+    private static final AccountId OTHER_OPERATOR = AccountId.fromString("0.0.1002");
+
+    private static final RateLimiterSettings SETTINGS = new RateLimiterSettings(10, 1, 20, 2, 0.5, 5);
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    private void advance(final Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void testBurstIsNotDelayed() throws HieroException {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(SETTINGS, now::get);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(Duration.ZERO, limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1));
+        }
+        final Duration wait = limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1);
+
+        //then
+        Assertions.assertEquals(Duration.ofMillis(100), wait);
+    }
+
+    @Test
+    void testReservationsAreQueued() throws HieroException {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(SETTINGS, now::get);
+        limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 5);
+
+        //when
+        final Duration first = limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1);
+        final Duration second = limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 2);
+        advance(Duration.ofMillis(300));
+        final Duration third = limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1);
+
+        //then
+        Assertions.assertEquals(Duration.ofMillis(100), first);
+        Assertions.assertEquals(Duration.ofMillis(300), second);
+        Assertions.assertEquals(Duration.ofMillis(100), third);
+    }
+
+    @Test
+    void testBudgetsAreSeparatedByOperatorAndType() throws HieroException {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(SETTINGS, now::get);
+        limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 5);
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+
+        //when
+        final Duration otherType = limiter.reserve(OPERATOR, TransactionType.CRYPTO_TRANSFER, 5);
+        final Duration otherOperator = limiter.reserve(OTHER_OPERATOR, TransactionType.TOKEN_MINT, 5);
+
+        //then
+        Assertions.assertEquals(Duration.ZERO, otherType);
+        Assertions.assertEquals(Duration.ZERO, otherOperator);
+        Assertions.assertEquals(5, limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT));
+        Assertions.assertEquals(10, limiter.getRate(OPERATOR, TransactionType.CRYPTO_TRANSFER));
+        Assertions.assertEquals(10, limiter.getRate(OTHER_OPERATOR, TransactionType.TOKEN_MINT));
+    }
+
+    @Test
+    void testRateDecreasesOncePerSecond() {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(SETTINGS, now::get);
+
+        //when
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+        final double afterBurst = limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT);
+        advance(Duration.ofSeconds(1));
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+        final double afterSecond = limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT);
+        for (int i = 0; i < 10; i++) {
+            advance(Duration.ofSeconds(1));
+            limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+        }
+
+        //then
+        Assertions.assertEquals(5, afterBurst);
+        Assertions.assertEquals(2.5, afterSecond);
+        Assertions.assertEquals(1, limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT));
+    }
+
+    @Test
+    void testThrottleDropsBurstCredit() throws HieroException {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(SETTINGS, now::get);
+
+        //when
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+        final Duration wait = limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1);
+
+        //then
+        Assertions.assertEquals(Duration.ofMillis(200), wait);
+    }
+
+    @Test
+    void testRateRecoversWithoutThrottling() {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(SETTINGS, now::get);
+        limiter.onThrottled(OPERATOR, TransactionType.TOKEN_MINT);
+
+        //when
+        limiter.onAccepted(OPERATOR, TransactionType.TOKEN_MINT);
+        final double directlyAfterThrottle = limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT);
+        advance(Duration.ofSeconds(1));
+        limiter.onAccepted(OPERATOR, TransactionType.TOKEN_MINT);
+        limiter.onAccepted(OPERATOR, TransactionType.TOKEN_MINT);
+        final double afterOneSecond = limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT);
+        for (int i = 0; i < 20; i++) {
+            advance(Duration.ofSeconds(1));
+            limiter.onAccepted(OPERATOR, TransactionType.TOKEN_MINT);
+        }
+
+        //then
+        Assertions.assertEquals(5, directlyAfterThrottle);
+        Assertions.assertEquals(7, afterOneSecond);
+        Assertions.assertEquals(20, limiter.getRate(OPERATOR, TransactionType.TOKEN_MINT));
+    }
+
+    @Test
+    void testAcquireCompletesAfterWait() throws Exception {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(
+                new RateLimiterSettings(10, 1, 10, 1, 0.5, 1));
+        limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1);
+
+        //when
+        final long start = System.nanoTime();
+        final CompletableFuture<Void> future = limiter.acquire(OPERATOR, TransactionType.TOKEN_MINT, 1);
+        future.get(5, TimeUnit.SECONDS);
+        final Duration waited = Duration.ofNanos(System.nanoTime() - start);
+
+        //then
+        Assertions.assertTrue(waited.toMillis() >= 50, "waited only " + waited);
+    }
+
+    @Test
+    void testReservationExceedingMaxWaitIsRejected() throws HieroException {
+        //given
+        final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(
+                new RateLimiterSettings(10, 1, 20, 2, 0.5, 5, Duration.ofMillis(250)), now::get);
+        limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 5);
+        limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 2);
+
+        //then
+        Assertions.assertThrows(HieroException.class, () -> limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1));
+        Assertions.assertThrows(HieroException.class, () -> limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1));
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> limiter.acquire(OPERATOR, TransactionType.TOKEN_MINT, 1).get());
+        Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+        advance(Duration.ofMillis(100));
+        Assertions.assertEquals(Duration.ofMillis(200), limiter.reserve(OPERATOR, TransactionType.TOKEN_MINT, 1));
+    }
+
+    @Test
+    void testInvalidSettings() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiterSettings(10, 0, 20, 1, 0.5, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiterSettings(10, 5, 2, 1, 0.5, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiterSettings(30, 1, 20, 1, 0.5, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiterSettings(10, 1, 20, 0, 0.5, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiterSettings(10, 1, 20, 1, 1, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiterSettings(10, 1, 20, 1, 0.5, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new RateLimiterSettings(10, 1, 20, 1, 0.5, 5, Duration.ZERO));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new RateLimiterSettings(10, 1, 20, 1, 0.5, 5, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveRateLimiter(SETTINGS).reserve(OPERATOR, TransactionType.TOKEN_MINT, 0));
+    }
+}
@@ -0,0 +1,108 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.AsyncProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AsyncProtocolLayerClientTests {
+
+    @Test
+    void testNullConstructorParam() {
+        Assertions.assertThrows(NullPointerException.class, () -> new AsyncProtocolLayerClientImpl(null));
+        Assertions.assertThrows(NullPointerException.class, () -> ProtocolLayerClientImpl.of(null));
+    }
+
+    @Test
+    void testNullParams() {
+        //given
+        final AsyncProtocolLayerClient client = new AsyncProtocolLayerClientImpl(mock(HieroContext.class));
+
+        //then
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeAccountBalanceQuery(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeFileContentsQuery(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeFileAppendRequestTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeFileDeleteTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeFileCreateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeFileUpdateRequestTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeContractCreateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeContractCallTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeFileInfoQuery(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeAccountDeleteTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeContractDeleteTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeAccountCreateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTokenCreateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTokenAssociateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTokenDissociateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTopicCreateTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTopicDeleteTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTopicMessageSubmitTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeBurnTokenTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeMintTokenTransaction(null));
+        Assertions.assertThrows(NullPointerException.class, () -> client.executeTransferTransaction(null));
+    }
+
+    @Test
+    void testBlockingClientReturnsResultOfAsyncClient() throws Exception {
+        //given
+        final AsyncProtocolLayerClient asyncClient = mock(AsyncProtocolLayerClient.class);
+        final AccountBalanceResponse response = new AccountBalanceResponse(Hbar.from(10));
+        when(asyncClient.executeAccountBalanceQuery(any(AccountBalanceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        final ProtocolLayerClient client = ProtocolLayerClientImpl.of(asyncClient);
+
+        //when
+        final AccountBalanceResponse result = client.executeAccountBalanceQuery(
+                AccountBalanceRequest.of(AccountId.fromString("0.0.12345")));
+
+        //then
+        Assertions.assertSame(response, result);
+    }
+
+    @Test
+    void testBlockingClientRethrowsHieroException() {
+        //given
+        final AsyncProtocolLayerClient asyncClient = mock(AsyncProtocolLayerClient.class);
+        final HieroException exception = new HieroException("Failed to execute query");
+        when(asyncClient.executeAccountBalanceQuery(any(AccountBalanceRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(exception));
+        final ProtocolLayerClient client = ProtocolLayerClientImpl.of(asyncClient);
+
+        //when
+        final HieroException thrown = Assertions.assertThrows(HieroException.class,
+                () -> client.executeAccountBalanceQuery(AccountBalanceRequest.of(AccountId.fromString("0.0.12345"))));
+
+        //then
+        Assertions.assertSame(exception, thrown);
+    }
+
+    @Test
+    void testBlockingClientPassesRecordInterceptorToAsyncClient() {
+        //given
+        final AsyncProtocolLayerClient asyncClient = mock(AsyncProtocolLayerClient.class);
+        final ProtocolLayerClientImpl client = ProtocolLayerClientImpl.of(asyncClient);
+        final ReceiveRecordInterceptor interceptor = handler -> handler.handle();
+
+        //when
+        client.setRecordInterceptor(interceptor);
+
+        //then
+        verify(asyncClient).setRecordInterceptor(interceptor);
+        Assertions.assertThrows(NullPointerException.class, () -> client.setRecordInterceptor(null));
+    }
+}
@@ -0,0 +1,40 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.implementation.data.BigIntegerBasedNumericDatatypes;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class BigIntegerBasedNumericDatatypesTest {
+
+    @ParameterizedTest
+    @EnumSource(BigIntegerBasedNumericDatatypes.class)
+    void checkIsValidParamBounds(final BigIntegerBasedNumericDatatypes type) {
+        //given
+        final boolean signed = !type.getNativeType().startsWith("u");
+        final int bits = Integer.parseInt(type.getNativeType().substring(signed ? 3 : 4));
+        final BigInteger min = signed ? BigInteger.ONE.shiftLeft(bits - 1).negate() : BigInteger.ZERO;
+        final BigInteger max = BigInteger.ONE.shiftLeft(signed ? bits - 1 : bits).subtract(BigInteger.ONE);
+
+        //then
+        Assertions.assertTrue(type.isValidParam(min));
+        Assertions.assertTrue(type.isValidParam(max));
+        Assertions.assertFalse(type.isValidParam(min.subtract(BigInteger.ONE)));
+        Assertions.assertFalse(type.isValidParam(max.add(BigInteger.ONE)));
+        Assertions.assertFalse(type.isValidParam((BigInteger) null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(BigIntegerBasedNumericDatatypes.class)
+    void checkIsValidParamForLong(final BigIntegerBasedNumericDatatypes type) {
+        //given
+        final long[] values = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE};
+
+        //then
+        for (final long value : values) {
+            Assertions.assertEquals(type.isValidParam(BigInteger.valueOf(value)), type.isValidParam(value),
+                    "unexpected result for " + value);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.ExchangeRates;
+import com.openelements.hiero.base.data.TokenInfo;
+import com.openelements.hiero.base.data.Topic;
+import com.openelements.hiero.base.implementation.CachingMirrorNodeClient;
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings;
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings.CachedQuery;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class CachingMirrorNodeClientTest {
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+    }
+
+    private MirrorNodeClient delegate;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setup() {
+        delegate = Mockito.mock(MirrorNodeClient.class);
+        clock = new MutableClock();
+    }
+
+    @Test
+    void testInvalidSettings() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new CachingMirrorNodeClient(null, MirrorNodeCacheSettings.DEFAULT));
+        Assertions.assertThrows(NullPointerException.class, () -> new CachingMirrorNodeClient(delegate, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeCacheSettings(0, Duration.ofSeconds(1), Map.of()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeCacheSettings(1, Duration.ofSeconds(-1), Map.of()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeCacheSettings(1, Duration.ofSeconds(1),
+                        Map.of(CachedQuery.TOKEN, Duration.ofSeconds(-1))));
+    }
+
+    @Test
+    void testCachesUntilTtlExpires() throws HieroException {
+        //given
+        final ExchangeRates rates = Mockito.mock(ExchangeRates.class);
+        Mockito.when(delegate.queryExchangeRates()).thenReturn(Optional.of(rates));
+        final MirrorNodeCacheSettings settings = MirrorNodeCacheSettings.DEFAULT
+                .withTtl(CachedQuery.EXCHANGE_RATES, Duration.ofSeconds(10));
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate, settings, clock);
+
+        //when
+        final Optional<ExchangeRates> first = client.queryExchangeRates();
+        clock.advance(Duration.ofSeconds(9));
+        final Optional<ExchangeRates> second = client.queryExchangeRates();
+        clock.advance(Duration.ofSeconds(1));
+        final Optional<ExchangeRates> third = client.queryExchangeRates();
+
+        //then
+        Assertions.assertSame(rates, first.orElseThrow());
+        Assertions.assertSame(rates, second.orElseThrow());
+        Assertions.assertSame(rates, third.orElseThrow());
+        Mockito.verify(delegate, Mockito.times(2)).queryExchangeRates();
+        final CachingMirrorNodeClient.Statistics statistics = client.getStatistics();
+        Assertions.assertEquals(1, statistics.hitCount());
+        Assertions.assertEquals(2, statistics.missCount());
+        Assertions.assertEquals(1, statistics.size());
+    }
+
+    @Test
+    void testCachesPerArgument() throws HieroException {
+        //given
+        final TokenId tokenA = TokenId.fromString("0.0.1001");
+        final TokenId tokenB = TokenId.fromString("0.0.1002");
+        Mockito.when(delegate.queryTokenById(tokenA)).thenReturn(Optional.of(Mockito.mock(TokenInfo.class)));
+        Mockito.when(delegate.queryTokenById(tokenB)).thenReturn(Optional.of(Mockito.mock(TokenInfo.class)));
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT, clock);
+
+        //when
+        client.queryTokenById(tokenA);
+        client.queryTokenById(tokenB);
+        client.queryTokenById(tokenA);
+        client.queryTokenById("0.0.1002");
+
+        //then
+        Mockito.verify(delegate, Mockito.times(1)).queryTokenById(tokenA);
+        Mockito.verify(delegate, Mockito.times(1)).queryTokenById(tokenB);
+        Assertions.assertEquals(2, client.getStatistics().hitCount());
+    }
+
+    @Test
+    void testNegativeCaching() throws HieroException {
+        //given
+        final TopicId topicId = TopicId.fromString("0.0.2000");
+        Mockito.when(delegate.queryTopicById(topicId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(Mockito.mock(Topic.class)));
+        final MirrorNodeCacheSettings settings = new MirrorNodeCacheSettings(100, Duration.ofSeconds(2),
+                Map.of(CachedQuery.TOPIC, Duration.ofMinutes(5)));
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate, settings, clock);
+
+        //when
+        final Optional<Topic> first = client.queryTopicById(topicId);
+        clock.advance(Duration.ofSeconds(1));
+        final Optional<Topic> second = client.queryTopicById(topicId);
+        clock.advance(Duration.ofSeconds(1));
+        final Optional<Topic> third = client.queryTopicById(topicId);
+        clock.advance(Duration.ofMinutes(1));
+        final Optional<Topic> fourth = client.queryTopicById(topicId);
+
+        //then
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertTrue(second.isEmpty());
+        Assertions.assertTrue(third.isPresent());
+        Assertions.assertTrue(fourth.isPresent());
+        Mockito.verify(delegate, Mockito.times(2)).queryTopicById(topicId);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() throws HieroException {
+        //given
+        final TokenId tokenA = TokenId.fromString("0.0.1001");
+        final TokenId tokenB = TokenId.fromString("0.0.1002");
+        final TokenId tokenC = TokenId.fromString("0.0.1003");
+        Mockito.when(delegate.queryTokenById(Mockito.any(TokenId.class)))
+                .thenAnswer(invocation -> Optional.of(Mockito.mock(TokenInfo.class)));
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                new MirrorNodeCacheSettings(2, Duration.ofSeconds(5), Map.of()), clock);
+
+        //when
+        client.queryTokenById(tokenA);
+        client.queryTokenById(tokenB);
+        client.queryTokenById(tokenA);
+        client.queryTokenById(tokenC);
+        client.queryTokenById(tokenA);
+        client.queryTokenById(tokenB);
+
+        //then
+        Mockito.verify(delegate, Mockito.times(1)).queryTokenById(tokenA);
+        Mockito.verify(delegate, Mockito.times(2)).queryTokenById(tokenB);
+        Mockito.verify(delegate, Mockito.times(1)).queryTokenById(tokenC);
+        final CachingMirrorNodeClient.Statistics statistics = client.getStatistics();
+        Assertions.assertEquals(2, statistics.evictionCount());
+        Assertions.assertEquals(2, statistics.size());
+    }
+
+    @Test
+    void testZeroTtlDisablesCaching() throws HieroException {
+        //given
+        Mockito.when(delegate.queryExchangeRates()).thenReturn(Optional.empty());
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT.withTtl(CachedQuery.EXCHANGE_RATES, Duration.ZERO), clock);
+
+        //when
+        client.queryExchangeRates();
+        client.queryExchangeRates();
+
+        //then
+        Mockito.verify(delegate, Mockito.times(2)).queryExchangeRates();
+        Assertions.assertEquals(0, client.getStatistics().size());
+    }
+
+    @Test
+    void testFailuresAreNotCached() throws HieroException {
+        //given
+        Mockito.when(delegate.queryExchangeRates())
+                .thenThrow(new HieroException("Error"))
+                .thenReturn(Optional.of(Mockito.mock(ExchangeRates.class)));
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT, clock);
+
+        //then
+        Assertions.assertThrows(HieroException.class, client::queryExchangeRates);
+        Assertions.assertTrue(client.queryExchangeRates().isPresent());
+        Assertions.assertTrue(client.queryExchangeRates().isPresent());
+        Mockito.verify(delegate, Mockito.times(2)).queryExchangeRates();
+    }
+
+    @Test
+    void testConcurrentQueriesAreLoadedOnce() throws Exception {
+        //given
+        final TokenId tokenId = TokenId.fromString("0.0.1001");
+        final TokenInfo tokenInfo = Mockito.mock(TokenInfo.class);
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(delegate.queryTokenById(tokenId)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            Assertions.assertTrue(release.await(10, TimeUnit.SECONDS));
+            return Optional.of(tokenInfo);
+        });
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT, clock);
+
+        //when
+        final CompletableFuture<Optional<TokenInfo>> first = CompletableFuture.supplyAsync(
+                () -> query(client, tokenId));
+        Assertions.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+        final List<CompletableFuture<Optional<TokenInfo>>> others = List.of(
+                CompletableFuture.supplyAsync(() -> query(client, tokenId)),
+                CompletableFuture.supplyAsync(() -> query(client, tokenId)));
+        while (client.getStatistics().hitCount() < others.size()) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        //then
+        Assertions.assertSame(tokenInfo, first.get(10, TimeUnit.SECONDS).orElseThrow());
+        for (final CompletableFuture<Optional<TokenInfo>> other : others) {
+            Assertions.assertSame(tokenInfo, other.get(10, TimeUnit.SECONDS).orElseThrow());
+        }
+        Mockito.verify(delegate, Mockito.times(1)).queryTokenById(tokenId);
+        Assertions.assertEquals(1, client.getStatistics().missCount());
+    }
+
+    @Test
+    void testConcurrentQueriesReceiveFailure() throws Exception {
+        //given
+        final TokenId tokenId = TokenId.fromString("0.0.1001");
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(delegate.queryTokenById(tokenId)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            Assertions.assertTrue(release.await(10, TimeUnit.SECONDS));
+            throw new HieroException("Error");
+        });
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT, clock);
+
+        //when
+        final CompletableFuture<Optional<TokenInfo>> first = CompletableFuture.supplyAsync(
+                () -> query(client, tokenId));
+        Assertions.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<Optional<TokenInfo>> other = CompletableFuture.supplyAsync(
+                () -> query(client, tokenId));
+        while (client.getStatistics().hitCount() < 1) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        //then
+        Assertions.assertThrows(Exception.class, () -> first.get(10, TimeUnit.SECONDS));
+        Assertions.assertThrows(Exception.class, () -> other.get(10, TimeUnit.SECONDS));
+        Mockito.verify(delegate, Mockito.times(1)).queryTokenById(tokenId);
+        Assertions.assertEquals(0, client.getStatistics().size());
+    }
+
+    @Test
+    void testAccountsAreNotCachedByDefault() throws HieroException {
+        //given
+        final AccountId accountId = AccountId.fromString("0.0.1234");
+        Mockito.when(delegate.queryAccount(accountId)).thenReturn(Optional.of(Mockito.mock(AccountInfo.class)));
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT, clock);
+
+        //when
+        client.queryAccount(accountId);
+        client.queryAccount(accountId);
+
+        //then
+        Mockito.verify(delegate, Mockito.times(2)).queryAccount(accountId);
+        Assertions.assertEquals(Duration.ZERO, MirrorNodeCacheSettings.DEFAULT.ttl(CachedQuery.ACCOUNT));
+    }
+
+    private static Optional<TokenInfo> query(final CachingMirrorNodeClient client, final TokenId tokenId) {
+        try {
+            return client.queryTokenById(tokenId);
+        } catch (HieroException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void testPagesAreNotCached() throws HieroException {
+        //given
+        final TokenId tokenId = TokenId.fromString("0.0.1001");
+        final CachingMirrorNodeClient client = new CachingMirrorNodeClient(delegate,
+                MirrorNodeCacheSettings.DEFAULT, clock);
+
+        //when
+        client.queryNftsByTokenId(tokenId);
+        client.queryNftsByTokenId(tokenId);
+
+        //then
+        Mockito.verify(delegate, Mockito.times(2)).queryNftsByTokenId(tokenId);
+        Assertions.assertEquals(0, client.getStatistics().missCount());
+    }
+}
@@ -1035,4 +1035,25 @@ public class ContractParamTests {
                 Arguments.of(BigInteger.valueOf(2).pow(256), false)
         );
     }
+
+    @ParameterizedTest
+    @MethodSource("provideLongArguments")
+    public void testLongFactoryMatchesBigIntegerFactory(long value) {
+        Assertions.assertEquals(ContractParam.int72(BigInteger.valueOf(value)), ContractParam.int72(value));
+        Assertions.assertEquals(ContractParam.int256(BigInteger.valueOf(value)), ContractParam.int256(value));
+        if (value >= 0) {
+            Assertions.assertEquals(ContractParam.uint256(BigInteger.valueOf(value)), ContractParam.uint256(value));
+        } else {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ContractParam.uint256(value));
+        }
+    }
+
+    static Stream<Arguments> provideLongArguments() {
+        return Stream.of(
+                Arguments.of(Long.MIN_VALUE),
+                Arguments.of(-1L),
+                Arguments.of(0L),
+                Arguments.of(Long.MAX_VALUE)
+        );
+    }
 }
@@ -13,13 +13,27 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
 import com.openelements.hiero.base.protocol.data.FileContentsResponse;
+import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -124,7 +138,7 @@ public class FileClientImplTest {
         final String message = "contents must not be null";
 
         final NullPointerException exception = Assertions.assertThrows(
-                NullPointerException.class, () -> fileClientImpl.createFile(null)
+                NullPointerException.class, () -> fileClientImpl.createFile((byte[]) null)
         );
         Assertions.assertTrue(exception.getMessage().contains(message));
     }
@@ -441,4 +455,224 @@ public class FileClientImplTest {
                 NullPointerException.class, () -> fileClientImpl.updateExpirationTime(null, null)
         );
     }
+
+    @Test
+    void testCreateFileChunksContentInOrder() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+        when(fileCreateResult.fileId()).thenReturn(fileId);
+        final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 3 + 17];
+        new Random(42).nextBytes(content);
+        final List<byte[]> chunks = new ArrayList<>();
+        when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class))).thenAnswer(invocation -> {
+            chunks.add(invocation.<FileCreateRequest>getArgument(0).contents());
+            return fileCreateResult;
+        });
+        when(protocolLayerClient.executeFileAppendRequestTransaction(any(FileAppendRequest.class)))
+                .thenAnswer(invocation -> {
+                    chunks.add(invocation.<FileAppendRequest>getArgument(0).contents());
+                    return null;
+                });
+
+        // when
+        final FileId result = fileClientImpl.createFile(content);
+
+        // then
+        assertEquals(fileId, result);
+        assertEquals(4, chunks.size());
+        assertEquals(17, chunks.get(3).length);
+        final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        chunks.forEach(uploaded::writeBytes);
+        Assertions.assertArrayEquals(content, uploaded.toByteArray());
+    }
+
+    @Test
+    void testUpdateFileChunksContentInOrder() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 2 + 1];
+        new Random(42).nextBytes(content);
+        final List<byte[]> chunks = new ArrayList<>();
+        when(protocolLayerClient.executeFileUpdateRequestTransaction(any(FileUpdateRequest.class)))
+                .thenAnswer(invocation -> {
+                    chunks.add(invocation.<FileUpdateRequest>getArgument(0).contents());
+                    return null;
+                });
+        when(protocolLayerClient.executeFileAppendRequestTransaction(any(FileAppendRequest.class)))
+                .thenAnswer(invocation -> {
+                    chunks.add(invocation.<FileAppendRequest>getArgument(0).contents());
+                    return null;
+                });
+
+        // when
+        fileClientImpl.updateFile(fileId, content);
+
+        // then
+        assertEquals(3, chunks.size());
+        final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        chunks.forEach(uploaded::writeBytes);
+        Assertions.assertArrayEquals(content, uploaded.toByteArray());
+    }
+
+    private List<byte[]> captureCreateAndAppendChunks(final FileId fileId) throws HieroException {
+        final List<byte[]> chunks = new ArrayList<>();
+        final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+        when(fileCreateResult.fileId()).thenReturn(fileId);
+        when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class))).thenAnswer(invocation -> {
+            chunks.add(invocation.<FileCreateRequest>getArgument(0).contents());
+            return fileCreateResult;
+        });
+        when(protocolLayerClient.executeFileAppendRequestTransaction(any(FileAppendRequest.class)))
+                .thenAnswer(invocation -> {
+                    chunks.add(invocation.<FileAppendRequest>getArgument(0).contents());
+                    return null;
+                });
+        return chunks;
+    }
+
+    private static byte[] concat(final List<byte[]> chunks) {
+        final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        chunks.forEach(uploaded::writeBytes);
+        return uploaded.toByteArray();
+    }
+
+    @Test
+    void testCreateFileFromInputStream() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final List<byte[]> chunks = captureCreateAndAppendChunks(fileId);
+        final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 5 + 100];
+        new Random(7).nextBytes(content);
+
+        // when
+        final FileId result = fileClientImpl.createFile(new ByteArrayInputStream(content));
+
+        // then
+        assertEquals(fileId, result);
+        assertEquals(6, chunks.size());
+        assertTrue(chunks.stream().allMatch(c -> c.length <= FileCreateRequest.FILE_CREATE_MAX_SIZE));
+        Assertions.assertArrayEquals(content, concat(chunks));
+    }
+
+    @Test
+    void testCreateFileFromEmptyInputStream() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final List<byte[]> chunks = captureCreateAndAppendChunks(fileId);
+
+        // when
+        final FileId result = fileClientImpl.createFile(new ByteArrayInputStream(new byte[0]));
+
+        // then
+        assertEquals(fileId, result);
+        assertEquals(1, chunks.size());
+        assertEquals(0, chunks.get(0).length);
+    }
+
+    @Test
+    void testCreateFileFromChannel() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final List<byte[]> chunks = captureCreateAndAppendChunks(fileId);
+        final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 2];
+        new Random(7).nextBytes(content);
+
+        // when
+        final FileId result = fileClientImpl.createFile(Channels.newChannel(new ByteArrayInputStream(content)));
+
+        // then
+        assertEquals(fileId, result);
+        assertEquals(2, chunks.size());
+        Assertions.assertArrayEquals(content, concat(chunks));
+    }
+
+    @Test
+    void testCreateFileFromPath(@TempDir final Path tempDir) throws Exception {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final List<byte[]> chunks = captureCreateAndAppendChunks(fileId);
+        final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 3 + 1];
+        new Random(7).nextBytes(content);
+        final Path path = Files.write(tempDir.resolve("contract.bin"), content);
+
+        // when
+        final FileId result = fileClientImpl.createFile(path);
+
+        // then
+        assertEquals(fileId, result);
+        assertEquals(4, chunks.size());
+        Assertions.assertArrayEquals(content, concat(chunks));
+    }
+
+    @Test
+    void testCreateFileFromPathThrowsExceptionForSizeGreaterThanMaxFileSize(@TempDir final Path tempDir)
+            throws Exception {
+        // given
+        final Path path = Files.write(tempDir.resolve("large.bin"), new byte[FileCreateRequest.FILE_MAX_SIZE + 1]);
+
+        // then
+        assertThrows(HieroException.class, () -> fileClientImpl.createFile(path));
+        verify(protocolLayerClient, times(0)).executeFileCreateTransaction(any(FileCreateRequest.class));
+    }
+
+    @Test
+    void testCreateFileFromInputStreamThrowsExceptionForSizeGreaterThanMaxFileSize() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        final List<byte[]> chunks = captureCreateAndAppendChunks(fileId);
+        final byte[] content = new byte[FileCreateRequest.FILE_MAX_SIZE + 1];
+
+        // then
+        final HieroException exception = assertThrows(HieroException.class,
+                () -> fileClientImpl.createFile(new ByteArrayInputStream(content)));
+        assertTrue(exception.getMessage().contains(fileId.toString()));
+        assertEquals(FileCreateRequest.FILE_MAX_SIZE, concat(chunks).length);
+        final ArgumentCaptor<FileDeleteRequest> deleteRequest = ArgumentCaptor.forClass(FileDeleteRequest.class);
+        verify(protocolLayerClient, times(1)).executeFileDeleteTransaction(deleteRequest.capture());
+        assertEquals(fileId, deleteRequest.getValue().fileId());
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    void testCreateFileFromChannelKeepsSizeErrorIfDeleteFails() throws HieroException {
+        // given
+        final FileId fileId = FileId.fromString("1.2.3");
+        captureCreateAndAppendChunks(fileId);
+        when(protocolLayerClient.executeFileDeleteTransaction(any(FileDeleteRequest.class)))
+                .thenThrow(new HieroException("delete failed"));
+        final byte[] content = new byte[FileCreateRequest.FILE_MAX_SIZE + 1];
+
+        // when
+        final HieroException exception = assertThrows(HieroException.class,
+                () -> fileClientImpl.createFile(Channels.newChannel(new ByteArrayInputStream(content))));
+
+        // then
+        assertTrue(exception.getMessage().startsWith("File contents must be less than"));
+        assertEquals(1, exception.getSuppressed().length);
+        verify(protocolLayerClient, times(1)).executeFileDeleteTransaction(any(FileDeleteRequest.class));
+    }
+
+    @Test
+    void testCreateFileFromStreamsThrowsExceptionForNullArguments() {
+        assertThrows(NullPointerException.class, () -> fileClientImpl.createFile((InputStream) null));
+        assertThrows(NullPointerException.class, () -> fileClientImpl.createFile((ReadableByteChannel) null));
+        assertThrows(NullPointerException.class, () -> fileClientImpl.createFile((Path) null));
+    }
+
+    @Test
+    void testCreateFileFromFailingInputStream() {
+        // given
+        final InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken");
+            }
+        };
+
+        // then
+        final HieroException exception = assertThrows(HieroException.class,
+                () -> fileClientImpl.createFile(failing));
+        assertTrue(exception.getCause() instanceof IOException);
+    }
 }
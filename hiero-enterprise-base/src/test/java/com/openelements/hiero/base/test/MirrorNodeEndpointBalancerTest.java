@@ -0,0 +1,260 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.MirrorNodeBalancerSettings;
+import com.openelements.hiero.base.implementation.MirrorNodeEndpointBalancer;
+import com.openelements.hiero.base.implementation.MirrorNodeEndpointBalancer.EndpointStatistics;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeEndpointBalancerTest {
+
+    private static class FakeEndpoint {
+
+        private final String name;
+
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        private final AtomicInteger callCount = new AtomicInteger();
+
+        private volatile long latencyInMs;
+
+        FakeEndpoint(String name) {
+            this.name = name;
+        }
+
+        String get() throws HieroException {
+            callCount.incrementAndGet();
+            if (latencyInMs > 0) {
+                try {
+                    Thread.sleep(latencyInMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new HieroException("Interrupted", e);
+                }
+            }
+            if (failing.get()) {
+                throw new HieroException("Endpoint " + name + " failed");
+            }
+            return name;
+        }
+    }
+
+    private static Map<String, FakeEndpoint> endpoints(String... names) {
+        final Map<String, FakeEndpoint> endpoints = new LinkedHashMap<>();
+        for (String name : names) {
+            endpoints.put(name, new FakeEndpoint(name));
+        }
+        return endpoints;
+    }
+
+    private static EndpointStatistics statistics(MirrorNodeEndpointBalancer<?> balancer, String name) {
+        return balancer.getStatistics().stream()
+                .filter(s -> s.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void testInvalidParams() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new MirrorNodeEndpointBalancer<>(null, MirrorNodeBalancerSettings.DEFAULT));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeEndpointBalancer<>(Map.of(), MirrorNodeBalancerSettings.DEFAULT));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeBalancerSettings(0, 1, Duration.ZERO, false, 0.5, Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeBalancerSettings(0.5, 0, Duration.ZERO, false, 0.5, Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeBalancerSettings(0.5, 1, Duration.ZERO, false, 1.5, Duration.ZERO));
+    }
+
+    @Test
+    void testSpreadsCallsAcrossEndpoints() throws HieroException {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b", "c");
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                MirrorNodeBalancerSettings.DEFAULT)) {
+
+            //when
+            final Map<String, Integer> results = new ConcurrentHashMap<>();
+            for (int i = 0; i < 300; i++) {
+                results.merge(balancer.execute(FakeEndpoint::get), 1, Integer::sum);
+            }
+
+            //then
+            Assertions.assertEquals(3, results.size());
+            endpoints.values().forEach(e -> Assertions.assertTrue(e.callCount.get() > 0));
+        }
+    }
+
+    @Test
+    void testFailoverAndEjection() throws HieroException {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        endpoints.get("a").failing.set(true);
+        final MirrorNodeBalancerSettings settings = new MirrorNodeBalancerSettings(0.2, 1, Duration.ofMinutes(1),
+                false, 0.95, Duration.ZERO);
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                settings)) {
+
+            //when
+            for (int i = 0; i < 50; i++) {
+                Assertions.assertEquals("b", balancer.execute(FakeEndpoint::get));
+            }
+
+            //then
+            Assertions.assertEquals(1, endpoints.get("a").callCount.get());
+            Assertions.assertTrue(statistics(balancer, "a").ejected());
+            Assertions.assertEquals(1, statistics(balancer, "a").failureCount());
+            Assertions.assertFalse(statistics(balancer, "b").ejected());
+        }
+    }
+
+    @Test
+    void testEjectedEndpointIsProbedBackIn() throws Exception {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        endpoints.get("a").failing.set(true);
+        final MirrorNodeBalancerSettings settings = new MirrorNodeBalancerSettings(0.2, 1, Duration.ofMillis(50),
+                false, 0.95, Duration.ZERO);
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                settings)) {
+            while (endpoints.get("a").callCount.get() == 0) {
+                balancer.execute(FakeEndpoint::get);
+            }
+            Assertions.assertTrue(statistics(balancer, "a").ejected());
+
+            //when
+            endpoints.get("a").failing.set(false);
+            Thread.sleep(100);
+            balancer.execute(FakeEndpoint::get);
+
+            //then
+            Assertions.assertEquals(2, endpoints.get("a").callCount.get());
+            Assertions.assertFalse(statistics(balancer, "a").ejected());
+        }
+    }
+
+    @Test
+    void testAllEndpointsFailing() {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        endpoints.values().forEach(e -> e.failing.set(true));
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                MirrorNodeBalancerSettings.DEFAULT)) {
+
+            //then
+            Assertions.assertThrows(HieroException.class, () -> balancer.execute(FakeEndpoint::get));
+            Assertions.assertEquals(1, endpoints.get("a").callCount.get());
+            Assertions.assertEquals(1, endpoints.get("b").callCount.get());
+        }
+    }
+
+    @Test
+    void testClientErrorIsNotRetried() {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        final AtomicInteger calls = new AtomicInteger();
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                MirrorNodeBalancerSettings.DEFAULT)) {
+
+            //then
+            Assertions.assertThrows(IllegalArgumentException.class, () -> balancer.execute(e -> {
+                calls.incrementAndGet();
+                throw new IllegalArgumentException("Bad request");
+            }));
+            Assertions.assertEquals(1, calls.get());
+            balancer.getStatistics().forEach(s -> Assertions.assertEquals(0, s.failureCount()));
+        }
+    }
+
+    @Test
+    void testHedgingSlowEndpoint() throws HieroException {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        final MirrorNodeBalancerSettings settings = MirrorNodeBalancerSettings.DEFAULT.withHedging(true);
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                settings)) {
+            for (int i = 0; i < 40; i++) {
+                balancer.execute(FakeEndpoint::get);
+            }
+
+            //when
+            final AtomicBoolean firstCall = new AtomicBoolean(true);
+            final Map<String, Boolean> called = new ConcurrentHashMap<>();
+            final long start = System.nanoTime();
+            final String result = balancer.execute(endpoint -> {
+                called.put(endpoint.name, true);
+                if (firstCall.getAndSet(false)) {
+                    endpoint.latencyInMs = 2_000;
+                }
+                return endpoint.get();
+            });
+            final long durationInMs = (System.nanoTime() - start) / 1_000_000;
+
+            //then
+            Assertions.assertEquals(2, called.size());
+            Assertions.assertEquals(1, balancer.getHedgeCount());
+            Assertions.assertTrue(durationInMs < 2_000, "hedged call took " + durationInMs + " ms");
+            Assertions.assertEquals(0, endpoints.get(result).latencyInMs);
+        }
+    }
+
+    @Test
+    void testSelectPrefersHealthyEndpoint() throws HieroException {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        endpoints.get("a").failing.set(true);
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                MirrorNodeBalancerSettings.DEFAULT)) {
+            for (int i = 0; i < 10; i++) {
+                balancer.execute(FakeEndpoint::get);
+            }
+
+            //then
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertEquals("b", balancer.select().name);
+            }
+        }
+    }
+
+    @Test
+    void testEjectedEndpointRecoversAfterPagedQueries() throws Exception {
+        //given
+        final Map<String, FakeEndpoint> endpoints = endpoints("a", "b");
+        endpoints.get("a").failing.set(true);
+        final MirrorNodeBalancerSettings settings = new MirrorNodeBalancerSettings(0.2, 1, Duration.ofMillis(50),
+                false, 0.95, Duration.ZERO);
+        try (MirrorNodeEndpointBalancer<FakeEndpoint> balancer = new MirrorNodeEndpointBalancer<>(endpoints,
+                settings)) {
+            while (endpoints.get("a").callCount.get() == 0) {
+                balancer.execute(FakeEndpoint::get);
+            }
+            endpoints.get("a").failing.set(false);
+            Thread.sleep(100);
+
+            //when
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertEquals("b", balancer.select().name);
+            }
+            for (int i = 0; i < 10; i++) {
+                final FakeEndpoint pageEndpoint = balancer.execute(endpoint -> {
+                    endpoint.get();
+                    return endpoint;
+                });
+                pageEndpoint.get();
+            }
+
+            //then
+            Assertions.assertFalse(statistics(balancer, "a").ejected());
+            Assertions.assertTrue(endpoints.get("a").callCount.get() > 1);
+        }
+    }
+}
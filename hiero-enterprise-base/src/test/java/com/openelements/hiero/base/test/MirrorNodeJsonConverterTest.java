@@ -0,0 +1,43 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
+import java.time.Instant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeJsonConverterTest {
+
+    @Test
+    void testParseConsensusTimestampKeepsNanoseconds() {
+        //when
+        final Instant timestamp = MirrorNodeJsonConverter.parseConsensusTimestamp("1718000000.177126709");
+
+        //then
+        Assertions.assertEquals(Instant.ofEpochSecond(1718000000L, 177126709L), timestamp);
+    }
+
+    @Test
+    void testParseConsensusTimestampWithShortFraction() {
+        //when
+        final Instant timestamp = MirrorNodeJsonConverter.parseConsensusTimestamp("1718000000.5");
+
+        //then
+        Assertions.assertEquals(Instant.ofEpochSecond(1718000000L, 500_000_000L), timestamp);
+    }
+
+    @Test
+    void testParseConsensusTimestampWithoutFraction() {
+        //when
+        final Instant timestamp = MirrorNodeJsonConverter.parseConsensusTimestamp("1718000000");
+
+        //then
+        Assertions.assertEquals(Instant.ofEpochSecond(1718000000L), timestamp);
+    }
+
+    @Test
+    void testParseConsensusTimestampWithInvalidValue() {
+        Assertions.assertThrows(NullPointerException.class, () -> MirrorNodeJsonConverter.parseConsensusTimestamp(null));
+        Assertions.assertThrows(NumberFormatException.class,
+                () -> MirrorNodeJsonConverter.parseConsensusTimestamp("abc"));
+    }
+}
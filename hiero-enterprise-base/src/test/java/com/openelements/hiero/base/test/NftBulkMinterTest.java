@@ -0,0 +1,289 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TransactionInDoubtException;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.NftBulkMintException;
+import com.openelements.hiero.base.protocol.NftBulkMinter;
+import com.openelements.hiero.base.protocol.data.NftMintCheckpoint;
+import com.openelements.hiero.base.protocol.data.NftMintCheckpoint.PendingMint;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptRequest;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class NftBulkMinterTest {
+
+    private static final TokenId TOKEN_ID = TokenId.fromString("0.0.5000");
+
+    private static final PrivateKey SUPPLY_KEY = PrivateKey.generateECDSA();
+
+    private AsyncProtocolLayerClient client;
+
+    private final AtomicLong nextSerial = new AtomicLong(1);
+
+    private final Map<String, Long> mintedSerials = new ConcurrentHashMap<>();
+
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    private volatile Predicate<TokenMintRequest> failing = r -> false;
+
+    private volatile Predicate<TokenMintRequest> inDoubt = r -> false;
+
+    private final Map<TransactionId, TransactionReceiptResponse> receipts = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setup() {
+        client = Mockito.mock(AsyncProtocolLayerClient.class);
+        Mockito.when(client.executeMintTokenTransaction(ArgumentMatchers.any(TokenMintRequest.class)))
+                .thenAnswer(invocation -> {
+                    final TokenMintRequest request = invocation.getArgument(0);
+                    synchronized (chunkSizes) {
+                        chunkSizes.add(request.metadata().size());
+                    }
+                    if (failing.test(request)) {
+                        return CompletableFuture.failedFuture(new HieroException("Mint failed"));
+                    }
+                    final boolean receiptFails = inDoubt.test(request);
+                    return CompletableFuture.supplyAsync(() -> {
+                        final TransactionId transactionId = TransactionId.generate(AccountId.fromString("0.0.2"));
+                        final List<Long> serials = new ArrayList<>();
+                        for (byte[] metadata : request.metadata()) {
+                            final long serial = nextSerial.getAndIncrement();
+                            final Long previous = mintedSerials.put(new String(metadata, StandardCharsets.UTF_8),
+                                    serial);
+                            Assertions.assertNull(previous, "metadata minted twice");
+                            serials.add(serial);
+                        }
+                        receipts.put(transactionId, new TransactionReceiptResponse(transactionId, Status.SUCCESS,
+                                serials));
+                        if (receiptFails) {
+                            throw new CompletionException(new HieroException("Failed to execute mint token transaction",
+                                    new TransactionInDoubtException("Failed to receive receipt", transactionId,
+                                            new TimeoutException())));
+                        }
+                        return new TokenMintResult(transactionId, Status.SUCCESS, serials, (long) serials.size());
+                    }, CompletableFuture.delayedExecutor(ThreadLocalRandom.current().nextInt(5),
+                            TimeUnit.MILLISECONDS));
+                });
+        Mockito.when(client.executeTransactionReceiptQuery(ArgumentMatchers.any(TransactionReceiptRequest.class)))
+                .thenAnswer(invocation -> {
+                    final TransactionReceiptRequest request = invocation.getArgument(0);
+                    final TransactionReceiptResponse receipt = receipts.get(request.transactionId());
+                    if (receipt == null) {
+                        return CompletableFuture.failedFuture(new HieroException("Receipt not found"));
+                    }
+                    return CompletableFuture.completedFuture(receipt);
+                });
+    }
+
+    private static List<byte[]> metadata(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ("nft-" + i).getBytes(StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private void assertSerialsInInputOrder(List<byte[]> metadata, List<Long> serials) {
+        Assertions.assertEquals(metadata.size(), serials.size());
+        for (int i = 0; i < metadata.size(); i++) {
+            Assertions.assertEquals(mintedSerials.get(new String(metadata.get(i), StandardCharsets.UTF_8)),
+                    serials.get(i));
+        }
+    }
+
+    @Test
+    void testInvalidParams() {
+        Assertions.assertThrows(NullPointerException.class, () -> new NftBulkMinter(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NftBulkMinter(client, 0, 1, 1));
+        final NftBulkMinter minter = new NftBulkMinter(client);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> minter.mint(null, SUPPLY_KEY, metadata(1)));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> minter.mint(TOKEN_ID, null, metadata(1)));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> minter.resume(null, SUPPLY_KEY, metadata(1)));
+    }
+
+    @Test
+    void testMintInChunksAndInputOrder() throws HieroException {
+        //given
+        final List<byte[]> metadata = metadata(95);
+        final NftBulkMinter minter = new NftBulkMinter(client, 10, 4, 2);
+
+        //when
+        final List<Long> serials = minter.mint(TOKEN_ID, SUPPLY_KEY, metadata);
+
+        //then
+        assertSerialsInInputOrder(metadata, serials);
+        Assertions.assertEquals(10, chunkSizes.size());
+        Assertions.assertTrue(chunkSizes.stream().allMatch(size -> size <= 10));
+        Assertions.assertEquals(95, Set.copyOf(serials).size());
+    }
+
+    @Test
+    void testMintStream() throws HieroException {
+        //given
+        final List<byte[]> metadata = metadata(23);
+        final NftBulkMinter minter = new NftBulkMinter(client);
+
+        //when
+        final List<Long> serials = minter.mint(TOKEN_ID, SUPPLY_KEY, metadata.stream());
+
+        //then
+        assertSerialsInInputOrder(metadata, serials);
+        Assertions.assertEquals(3, chunkSizes.size());
+    }
+
+    @Test
+    void testMintEmpty() throws HieroException {
+        //given
+        final NftBulkMinter minter = new NftBulkMinter(client);
+
+        //then
+        Assertions.assertTrue(minter.mint(TOKEN_ID, SUPPLY_KEY, List.of()).isEmpty());
+        Mockito.verifyNoInteractions(client);
+    }
+
+    @Test
+    void testResumeAfterPartialFailure() throws HieroException {
+        //given
+        final List<byte[]> metadata = metadata(200);
+        final NftBulkMinter minter = new NftBulkMinter(client, 10, 5, 2);
+        failing = r -> r.metadata().stream()
+                .anyMatch(m -> new String(m, StandardCharsets.UTF_8).equals("nft-73"));
+
+        //when
+        final NftBulkMintException exception = Assertions.assertThrows(NftBulkMintException.class,
+                () -> minter.mint(TOKEN_ID, SUPPLY_KEY, metadata));
+        final NftMintCheckpoint checkpoint = exception.getCheckpoint();
+        failing = r -> false;
+        final List<Long> serials = minter.resume(checkpoint, SUPPLY_KEY, metadata);
+
+        //then
+        Assertions.assertEquals(TOKEN_ID, checkpoint.tokenId());
+        Assertions.assertFalse(checkpoint.isMinted(73));
+        Assertions.assertTrue(checkpoint.isMinted(0));
+        Assertions.assertTrue(checkpoint.processedCount() < 200);
+        Assertions.assertEquals(checkpoint.processedCount() - 10, checkpoint.mintedCount());
+        assertSerialsInInputOrder(metadata, serials);
+        Assertions.assertEquals(200, mintedSerials.size());
+    }
+
+    @Test
+    void testInvalidMetadataStopsMint() {
+        //given
+        final List<byte[]> metadata = new ArrayList<>(metadata(30));
+        metadata.set(25, new byte[101]);
+        final NftBulkMinter minter = new NftBulkMinter(client, 10, 100, 2);
+
+        //when
+        final NftBulkMintException exception = Assertions.assertThrows(NftBulkMintException.class,
+                () -> minter.mint(TOKEN_ID, SUPPLY_KEY, metadata));
+
+        //then
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        Assertions.assertEquals(20, exception.getCheckpoint().mintedCount());
+        Assertions.assertEquals(20, exception.getCheckpoint().processedCount());
+    }
+
+    @Test
+    void testResumeWithShorterMetadata() {
+        //given
+        final NftMintCheckpoint checkpoint = new NftMintCheckpoint(TOKEN_ID, Arrays.asList(1L, null, 3L));
+        final NftBulkMinter minter = new NftBulkMinter(client);
+
+        //then
+        Assertions.assertThrows(NftBulkMintException.class, () -> minter.resume(checkpoint, SUPPLY_KEY, List.of()));
+    }
+
+    @Test
+    void testReceiptFailureAfterSubmissionIsNotMintedAgain() throws HieroException {
+        //given
+        final List<byte[]> metadata = metadata(50);
+        final NftBulkMinter minter = new NftBulkMinter(client, 10, 2, 2);
+        inDoubt = r -> r.metadata().stream()
+                .anyMatch(m -> new String(m, StandardCharsets.UTF_8).equals("nft-13"));
+
+        //when
+        final NftBulkMintException exception = Assertions.assertThrows(NftBulkMintException.class,
+                () -> minter.mint(TOKEN_ID, SUPPLY_KEY, metadata));
+        final NftMintCheckpoint checkpoint = exception.getCheckpoint();
+        inDoubt = r -> false;
+        final List<Long> serials = minter.resume(checkpoint, SUPPLY_KEY, metadata);
+
+        //then
+        Assertions.assertEquals(1, checkpoint.pending().size());
+        Assertions.assertEquals(List.of(10, 11, 12, 13, 14, 15, 16, 17, 18, 19),
+                checkpoint.pending().get(0).positions());
+        Assertions.assertTrue(checkpoint.isPending(13));
+        Assertions.assertFalse(checkpoint.isMinted(13));
+        assertSerialsInInputOrder(metadata, serials);
+        Assertions.assertEquals(50, mintedSerials.size());
+        Assertions.assertEquals(5, chunkSizes.size());
+    }
+
+    @Test
+    void testPendingMintWithoutReceiptIsNotMintedAgain() throws HieroException {
+        //given
+        final TransactionId transactionId = TransactionId.generate(AccountId.fromString("0.0.2"));
+        final NftMintCheckpoint checkpoint = new NftMintCheckpoint(TOKEN_ID, Arrays.asList(1L, null, null),
+                List.of(new PendingMint(transactionId, List.of(1))));
+        final List<byte[]> metadata = metadata(3);
+        final NftBulkMinter minter = new NftBulkMinter(client);
+
+        //when
+        final NftBulkMintException exception = Assertions.assertThrows(NftBulkMintException.class,
+                () -> minter.resume(checkpoint, SUPPLY_KEY, metadata));
+        final NftMintCheckpoint settled = exception.getCheckpoint().settle(transactionId, List.of(7L));
+        final List<Long> serials = minter.resume(settled, SUPPLY_KEY, metadata);
+
+        //then
+        Assertions.assertTrue(exception.getCheckpoint().isPending(1));
+        Assertions.assertTrue(exception.getCheckpoint().isMinted(2));
+        Assertions.assertEquals(List.of(1L, 7L, mintedSerials.get("nft-2")), serials);
+        Assertions.assertEquals(Set.of("nft-2"), mintedSerials.keySet());
+    }
+
+    @Test
+    void testFailedPendingMintIsMintedAgain() throws HieroException {
+        //given
+        final TransactionId transactionId = TransactionId.generate(AccountId.fromString("0.0.2"));
+        receipts.put(transactionId, new TransactionReceiptResponse(transactionId, Status.INVALID_SIGNATURE,
+                List.of()));
+        final NftMintCheckpoint checkpoint = new NftMintCheckpoint(TOKEN_ID, Arrays.asList(1L, null),
+                List.of(new PendingMint(transactionId, List.of(1))));
+        final NftBulkMinter minter = new NftBulkMinter(client);
+
+        //when
+        final List<Long> serials = minter.resume(checkpoint, SUPPLY_KEY, metadata(2));
+
+        //then
+        Assertions.assertEquals(List.of(1L, mintedSerials.get("nft-1")), serials);
+        Assertions.assertEquals(Set.of("nft-1"), mintedSerials.keySet());
+    }
+}
@@ -0,0 +1,283 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.data.Page;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class PageStreamTest {
+
+    /**
+     * Page that simulates a mirror node page. Like the rest based pages the data is fetched when the page is created.
+     */
+    private static class FakePage implements Page<Integer> {
+
+        private final int index;
+
+        private final int pageCount;
+
+        private final int pageSize;
+
+        private final long latencyInMs;
+
+        private final AtomicInteger fetchCount;
+
+        private final int failAtIndex;
+
+        private final boolean failWithError;
+
+        FakePage(int index, int pageCount, int pageSize, long latencyInMs, AtomicInteger fetchCount,
+                int failAtIndex) {
+            this(index, pageCount, pageSize, latencyInMs, fetchCount, failAtIndex, false);
+        }
+
+        FakePage(int index, int pageCount, int pageSize, long latencyInMs, AtomicInteger fetchCount,
+                int failAtIndex, boolean failWithError) {
+            this.index = index;
+            this.pageCount = pageCount;
+            this.pageSize = pageSize;
+            this.latencyInMs = latencyInMs;
+            this.fetchCount = fetchCount;
+            this.failAtIndex = failAtIndex;
+            this.failWithError = failWithError;
+            if (index == failAtIndex && failWithError) {
+                throw new OutOfMemoryError("Error fetching page " + index);
+            }
+            if (index == failAtIndex) {
+                throw new IllegalStateException("Error fetching page " + index);
+            }
+            if (latencyInMs > 0) {
+                try {
+                    Thread.sleep(latencyInMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted", e);
+                }
+            }
+            fetchCount.incrementAndGet();
+        }
+
+        @Override
+        public int getPageIndex() {
+            return index;
+        }
+
+        @Override
+        public int getSize() {
+            return getData().size();
+        }
+
+        @Override
+        public List<Integer> getData() {
+            return IntStream.range(index * pageSize, (index + 1) * pageSize).boxed().toList();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < pageCount - 1;
+        }
+
+        @Override
+        public Page<Integer> next() {
+            if (!hasNext()) {
+                throw new IllegalStateException("No next page");
+            }
+            return new FakePage(index + 1, pageCount, pageSize, latencyInMs, fetchCount, failAtIndex,
+                    failWithError);
+        }
+
+        @Override
+        public Page<Integer> first() {
+            return new FakePage(0, pageCount, pageSize, latencyInMs, fetchCount, failAtIndex);
+        }
+
+        @Override
+        public boolean isFirst() {
+            return index == 0;
+        }
+    }
+
+    private static FakePage firstPage(int pageCount, int pageSize, long latencyInMs, AtomicInteger fetchCount) {
+        return new FakePage(0, pageCount, pageSize, latencyInMs, fetchCount, -1);
+    }
+
+    @Test
+    void testIteratorFollowsNextPages() {
+        //given
+        final AtomicInteger fetchCount = new AtomicInteger();
+        final Page<Integer> page = firstPage(5, 3, 0, fetchCount);
+
+        //when
+        final List<Integer> elements = new ArrayList<>();
+        for (Integer element : page) {
+            elements.add(element);
+        }
+
+        //then
+        Assertions.assertEquals(IntStream.range(0, 15).boxed().toList(), elements);
+        Assertions.assertEquals(5, fetchCount.get());
+    }
+
+    @Test
+    void testIteratorIsLazy() {
+        //given
+        final AtomicInteger fetchCount = new AtomicInteger();
+        final Page<Integer> page = firstPage(5, 3, 0, fetchCount);
+
+        //when
+        final List<Integer> elements = page.stream().limit(4).toList();
+
+        //then
+        Assertions.assertEquals(List.of(0, 1, 2, 3), elements);
+        Assertions.assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    void testIteratorOnSinglePage() {
+        //given
+        final Page<Integer> page = firstPage(1, 2, 0, new AtomicInteger());
+
+        //when
+        final Iterator<Integer> iterator = page.iterator();
+
+        //then
+        Assertions.assertEquals(0, iterator.next());
+        Assertions.assertEquals(1, iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testStreamWithPrefetch() {
+        //given
+        final AtomicInteger fetchCount = new AtomicInteger();
+        final Page<Integer> page = firstPage(20, 10, 1, fetchCount);
+
+        //when
+        final List<Integer> elements;
+        try (Stream<Integer> stream = page.stream(4)) {
+            elements = stream.toList();
+        }
+
+        //then
+        Assertions.assertEquals(IntStream.range(0, 200).boxed().toList(), elements);
+        Assertions.assertEquals(20, fetchCount.get());
+    }
+
+    @Test
+    void testPrefetchOverlapsLatency() {
+        //given
+        final int pageCount = 10;
+        final long latencyInMs = 20;
+        final Page<Integer> page = firstPage(pageCount, 1, latencyInMs, new AtomicInteger());
+        final Page<Integer> page2 = firstPage(pageCount, 1, latencyInMs, new AtomicInteger());
+
+        //when
+        final long sequential = measure(page.stream(0), latencyInMs);
+        final long prefetched = measure(page2.stream(4), latencyInMs);
+
+        //then
+        Assertions.assertTrue(prefetched < sequential,
+                "prefetched scan took " + prefetched + " ms, sequential scan " + sequential + " ms");
+    }
+
+    private static long measure(Stream<Integer> stream, long processingInMs) {
+        final long start = System.nanoTime();
+        try (stream) {
+            stream.forEach(i -> {
+                try {
+                    Thread.sleep(processingInMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    @Test
+    void testPrefetchIsBoundedByDepth() throws Exception {
+        //given
+        final AtomicInteger fetchCount = new AtomicInteger();
+        final Page<Integer> page = firstPage(100, 1, 0, fetchCount);
+
+        //when
+        final Integer first;
+        try (Stream<Integer> stream = page.stream(3)) {
+            final Iterator<Integer> iterator = stream.iterator();
+            first = iterator.next();
+            Thread.sleep(100);
+
+            //then
+            Assertions.assertEquals(0, first);
+            // first page, 3 buffered pages and the page the fetcher is blocked on
+            Assertions.assertTrue(fetchCount.get() <= 5, "fetched " + fetchCount.get() + " pages");
+        }
+    }
+
+    @Test
+    void testPrefetchPropagatesError() {
+        //given
+        final Page<Integer> page = new FakePage(0, 10, 2, 0, new AtomicInteger(), 3);
+
+        //when
+        final List<Integer> elements = new ArrayList<>();
+        final IllegalStateException exception;
+        try (Stream<Integer> stream = page.stream(2)) {
+            exception = Assertions.assertThrows(IllegalStateException.class, () -> stream.forEach(elements::add));
+        }
+
+        //then
+        Assertions.assertEquals("Error fetching page 3", exception.getMessage());
+        Assertions.assertEquals(IntStream.range(0, 6).boxed().toList(), elements);
+    }
+
+    @Test
+    @Timeout(10)
+    void testPrefetchPropagatesErrorThrownByFetcher() {
+        //given
+        final Page<Integer> page = new FakePage(0, 10, 2, 0, new AtomicInteger(), 3, true);
+
+        //when
+        final List<Integer> elements = new ArrayList<>();
+        final OutOfMemoryError error;
+        try (Stream<Integer> stream = page.stream(2)) {
+            error = Assertions.assertThrows(OutOfMemoryError.class, () -> stream.forEach(elements::add));
+        }
+
+        //then
+        Assertions.assertEquals("Error fetching page 3", error.getMessage());
+        Assertions.assertEquals(IntStream.range(0, 6).boxed().toList(), elements);
+    }
+
+    @Test
+    void testUnreadStreamDoesNotPrefetch() throws Exception {
+        //given
+        final AtomicInteger fetchCount = new AtomicInteger();
+        final Page<Integer> page = firstPage(10, 1, 0, fetchCount);
+
+        //when
+        try (Stream<Integer> stream = page.stream(4)) {
+            Thread.sleep(100);
+
+            //then
+            Assertions.assertEquals(1, fetchCount.get());
+        }
+    }
+
+    @Test
+    void testInvalidPrefetchDepth() {
+        //given
+        final Page<Integer> page = firstPage(2, 1, 0, new AtomicInteger());
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> page.stream(-1));
+    }
+}
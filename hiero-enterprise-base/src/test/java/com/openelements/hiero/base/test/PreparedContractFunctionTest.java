@@ -0,0 +1,138 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PreparedContractFunctionTest {
+
+    @Test
+    void testEncodeMatchesSdkEncoding() {
+        //given
+        final List<ContractParam<?>> params = List.of(
+                ContractParam.address(AccountId.fromString("0.0.4500001")),
+                ContractParam.uint256(BigInteger.TWO.pow(256).subtract(BigInteger.ONE)),
+                ContractParam.int64(-42L),
+                ContractParam.uint32(4_000_000_000L),
+                ContractParam.uint8((short) 200),
+                ContractParam.int128(BigInteger.ONE.shiftLeft(100).negate()),
+                ContractParam.int256(BigInteger.ONE.shiftLeft(255).negate()),
+                ContractParam.bool(true),
+                ContractParam.string("Hello Hiero, this string is longer than one single ABI word"),
+                ContractParam.bytes32(new byte[]{1, 2, 3}),
+                ContractParam.bytes(new byte[]{4, 5}),
+                ContractParam.string(""));
+        final PreparedContractFunction function = PreparedContractFunction.of("check",
+                params.stream().map(ContractParam::nativeType).toList());
+
+        //when
+        final byte[] encoded = function.encode(params);
+
+        //then
+        Assertions.assertArrayEquals(encodeBySdk("check", params), encoded);
+    }
+
+    @Test
+    void testEncodeIsRepeatable() {
+        //given
+        final PreparedContractFunction function = PreparedContractFunction.of("set", "string", "int256");
+
+        //when
+        final byte[] first = function.encode(ContractParam.string("first value"), ContractParam.int256(1));
+        final byte[] second = function.encode(ContractParam.string("second"), ContractParam.int256(-1));
+
+        //then
+        Assertions.assertArrayEquals(encodeBySdk("set",
+                List.of(ContractParam.string("first value"), ContractParam.int256(1))), first);
+        Assertions.assertArrayEquals(encodeBySdk("set",
+                List.of(ContractParam.string("second"), ContractParam.int256(-1))), second);
+    }
+
+    @Test
+    void testSelectorAndSignature() {
+        //given
+        final PreparedContractFunction function = PreparedContractFunction.of("transfer", "address", "uint256");
+
+        //then
+        Assertions.assertEquals("transfer(address,uint256)", function.signature());
+        Assertions.assertArrayEquals(new byte[]{(byte) 0xa9, 0x05, (byte) 0x9c, (byte) 0xbb}, function.selector());
+        Assertions.assertArrayEquals(function.selector(), Arrays.copyOf(function.encode(
+                ContractParam.address(AccountId.fromString("0.0.2")), ContractParam.uint256(1)), 4));
+        Assertions.assertEquals(PreparedContractFunction.of("transfer", "address", "uint256"), function);
+    }
+
+    @Test
+    void testEncodeWithoutParams() {
+        //given
+        final PreparedContractFunction function = PreparedContractFunction.of("get");
+
+        //when
+        final byte[] encoded = function.encode();
+
+        //then
+        Assertions.assertArrayEquals(encodeBySdk("get", List.of()), encoded);
+    }
+
+    @Test
+    void testInvalidParams() {
+        //given
+        final PreparedContractFunction function = PreparedContractFunction.of("set", "int256");
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> function.encode());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> function.encode(ContractParam.int128(1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> function.encode(ContractParam.int256(1), ContractParam.int256(2)));
+        Assertions.assertThrows(NullPointerException.class, () -> function.encode((List<ContractParam<?>>) null));
+    }
+
+    @Test
+    void testInvalidFunction() {
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PreparedContractFunction.of("set", "int7"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PreparedContractFunction.of("set", "uint64"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PreparedContractFunction.of(" set"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PreparedContractFunction.of(""));
+        Assertions.assertThrows(NullPointerException.class, () -> PreparedContractFunction.of(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> PreparedContractFunction.of("set", (String) null));
+    }
+
+    @Test
+    void testContractCallRequest() {
+        //given
+        final ContractId contractId = ContractId.fromString("0.0.4500200");
+        final PreparedContractFunction function = PreparedContractFunction.of("set", "int256");
+
+        //when
+        final ContractCallRequest request = ContractCallRequest.of(contractId, function,
+                List.of(ContractParam.int256(1)));
+
+        //then
+        Assertions.assertEquals("set", request.functionName());
+        Assertions.assertSame(function, request.preparedFunction());
+        Assertions.assertNull(ContractCallRequest.of(contractId, "set", ContractParam.int256(1)).preparedFunction());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractCallRequest(request.maxTransactionFee(), request.transactionValidDuration(),
+                        contractId, "get", request.constructorParams(), function));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static byte[] encodeBySdk(final String functionName, final List<ContractParam<?>> params) {
+        final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+        for (final ContractParam param : params) {
+            param.supplier().addParamToFunctionParameters(param.value(), functionParameters);
+        }
+        return new ContractExecuteTransaction().setFunction(functionName, functionParameters)
+                .getFunctionParameters().toByteArray();
+    }
+}
@@ -1112,13 +1112,17 @@ public class ProtocolLayerDataCreationTests {
         final TopicId validTopicId = TopicId.fromString("0.0.12345");
         final String validMessage = "This is a valid message";
         final byte[] validMessageBytes = validMessage.getBytes(StandardCharsets.UTF_8);
-        final byte[] largeMessage = new byte[1025];
+        final byte[] chunkedMessage = new byte[1025];
+        final byte[] largeMessage = new byte[TopicSubmitMessageRequest.MAX_MESSAGE_LENGTH + 1];
         final Hbar validMaxTransactionFee = Hbar.fromTinybars(100_000);
         final Duration validTransactionValidDuration = Duration.ofMinutes(2);
 
         // Then
         Assertions.assertDoesNotThrow(() -> TopicSubmitMessageRequest.of(validTopicId, validMessage));
         Assertions.assertDoesNotThrow(() -> TopicSubmitMessageRequest.of(validTopicId, validMessageBytes));
+        Assertions.assertEquals(1, TopicSubmitMessageRequest.of(validTopicId, validMessageBytes).chunkCount());
+        Assertions.assertEquals(2, TopicSubmitMessageRequest.of(validTopicId, chunkedMessage).chunkCount());
+        Assertions.assertEquals(1, TopicSubmitMessageRequest.of(validTopicId, new byte[0]).chunkCount());
         Assertions.assertDoesNotThrow(
                 () -> new TopicSubmitMessageRequest(validMaxTransactionFee, validTransactionValidDuration, validTopicId, null,
                         validMessage.getBytes(StandardCharsets.UTF_8)));
@@ -0,0 +1,288 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractFunctionResult;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.FileClient;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
+import com.openelements.hiero.base.implementation.ContractQueryCacheSettings;
+import com.openelements.hiero.base.implementation.SmartContractClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class SmartContractClientImplTest {
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+    }
+
+    private static final ContractId CONTRACT_ID = ContractId.fromString("0.0.4500200");
+
+    private ProtocolLayerClient protocolLayerClient;
+
+    private FileClient fileClient;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setup() throws HieroException {
+        protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+        fileClient = Mockito.mock(FileClient.class);
+        clock = new MutableClock();
+        final ContractFunctionResult functionResult = Mockito.mock(ContractFunctionResult.class);
+        Mockito.when(protocolLayerClient.executeContractCallQuery(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> new ContractCallQueryResponse(CONTRACT_ID, functionResult));
+        Mockito.when(protocolLayerClient.executeContractCallTransaction(ArgumentMatchers.any()))
+                .thenReturn(new ContractCallResult(TransactionId.generate(AccountId.fromString("0.0.2")),
+                        Status.SUCCESS, new byte[0], Instant.now(), Hbar.from(1), functionResult));
+    }
+
+    @Test
+    void testQueryIsExecutedAsQuery() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient);
+        final PreparedContractFunction function = PreparedContractFunction.of("get", "int256");
+        final ArgumentCaptor<ContractCallQueryRequest> captor = ArgumentCaptor.forClass(
+                ContractCallQueryRequest.class);
+
+        //when
+        client.queryContractFunction(CONTRACT_ID, "get", ContractParam.int256(7));
+
+        //then
+        Mockito.verify(protocolLayerClient).executeContractCallQuery(captor.capture());
+        Mockito.verify(protocolLayerClient, Mockito.never()).executeContractCallTransaction(ArgumentMatchers.any());
+        Assertions.assertEquals(CONTRACT_ID, captor.getValue().contractId());
+        Assertions.assertArrayEquals(function.encode(ContractParam.int256(7)), captor.getValue().functionCall());
+    }
+
+    @Test
+    void testQueryIsNotCachedByDefault() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient);
+
+        //when
+        client.queryContractFunction(CONTRACT_ID, "get");
+        client.queryContractFunction(CONTRACT_ID, "get");
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(2)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testQueryIsCachedUntilTtlExpires() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+        final PreparedContractFunction function = PreparedContractFunction.of("get", "int256");
+
+        //when
+        client.queryContractFunction(CONTRACT_ID, function, ContractParam.int256(7));
+        client.queryContractFunction(CONTRACT_ID, "get", ContractParam.int256(7));
+        clock.advance(ContractQueryCacheSettings.DEFAULT_TTL.minusMillis(1));
+        client.queryContractFunction(CONTRACT_ID, function, ContractParam.int256(7));
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(1)).executeContractCallQuery(ArgumentMatchers.any());
+
+        //when
+        clock.advance(Duration.ofMillis(1));
+        client.queryContractFunction(CONTRACT_ID, function, ContractParam.int256(7));
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(2)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testQueryCacheIsKeyedByContractAndArguments() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+
+        //when
+        client.queryContractFunction(CONTRACT_ID, "get", ContractParam.int256(7));
+        client.queryContractFunction(CONTRACT_ID, "get", ContractParam.int256(8));
+        client.queryContractFunction(CONTRACT_ID, "get", ContractParam.int128(7));
+        client.queryContractFunction(CONTRACT_ID, "other", ContractParam.int256(7));
+        client.queryContractFunction(ContractId.fromString("0.0.4500201"), "get", ContractParam.int256(7));
+        client.queryContractFunction(CONTRACT_ID, "get", ContractParam.int256(7));
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(5)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testContractCallInvalidatesCachedQueries() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+
+        //when
+        client.queryContractFunction(CONTRACT_ID, "get");
+        client.callContractFunction(CONTRACT_ID, "set", ContractParam.int256(1));
+        client.queryContractFunction(CONTRACT_ID, "get");
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(2)).executeContractCallQuery(ArgumentMatchers.any());
+        Mockito.verify(protocolLayerClient).executeContractCallTransaction(ArgumentMatchers.any(
+                ContractCallRequest.class));
+    }
+
+    @Test
+    void testQueryRunningDuringContractCallIsNotCached() throws Exception {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+        final ContractFunctionResult functionResult = Mockito.mock(ContractFunctionResult.class);
+        final CountDownLatch queryStarted = new CountDownLatch(1);
+        final CountDownLatch callDone = new CountDownLatch(1);
+        Mockito.when(protocolLayerClient.executeContractCallQuery(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    Assertions.assertTrue(callDone.await(10, TimeUnit.SECONDS));
+                    return new ContractCallQueryResponse(CONTRACT_ID, functionResult);
+                })
+                .thenAnswer(invocation -> new ContractCallQueryResponse(CONTRACT_ID, functionResult));
+
+        //when
+        final CompletableFuture<Void> query = CompletableFuture.runAsync(() -> {
+            try {
+                client.queryContractFunction(CONTRACT_ID, "get");
+            } catch (HieroException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assertions.assertTrue(queryStarted.await(10, TimeUnit.SECONDS));
+        client.callContractFunction(CONTRACT_ID, "set", ContractParam.int256(1));
+        callDone.countDown();
+        query.get(10, TimeUnit.SECONDS);
+        client.queryContractFunction(CONTRACT_ID, "get");
+        client.queryContractFunction(CONTRACT_ID, "get");
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(2)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testQueryRunningDuringContractCallIsNotCachedIfOtherQueryFinishedBefore() throws Exception {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+        final ContractFunctionResult functionResult = Mockito.mock(ContractFunctionResult.class);
+        final CountDownLatch queryStarted = new CountDownLatch(1);
+        final CountDownLatch callDone = new CountDownLatch(1);
+        Mockito.when(protocolLayerClient.executeContractCallQuery(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    Assertions.assertTrue(callDone.await(10, TimeUnit.SECONDS));
+                    return new ContractCallQueryResponse(CONTRACT_ID, functionResult);
+                })
+                .thenAnswer(invocation -> new ContractCallQueryResponse(CONTRACT_ID, functionResult));
+
+        //when
+        final CompletableFuture<Void> query = CompletableFuture.runAsync(() -> {
+            try {
+                client.queryContractFunction(CONTRACT_ID, "get");
+            } catch (HieroException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assertions.assertTrue(queryStarted.await(10, TimeUnit.SECONDS));
+        client.queryContractFunction(CONTRACT_ID, "other");
+        client.callContractFunction(CONTRACT_ID, "set", ContractParam.int256(1));
+        callDone.countDown();
+        query.get(10, TimeUnit.SECONDS);
+        client.queryContractFunction(CONTRACT_ID, "get");
+        client.queryContractFunction(CONTRACT_ID, "get");
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(3)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testQueryAfterContractCallIsCached() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+
+        //when
+        client.callContractFunction(CONTRACT_ID, "set", ContractParam.int256(1));
+        client.queryContractFunction(CONTRACT_ID, "get");
+        client.queryContractFunction(CONTRACT_ID, "get");
+
+        //then
+        Mockito.verify(protocolLayerClient, Mockito.times(1)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testFailedQueryIsNotCached() throws HieroException {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient,
+                ContractQueryCacheSettings.DEFAULT, clock);
+        Mockito.when(protocolLayerClient.executeContractCallQuery(ArgumentMatchers.any()))
+                .thenThrow(new HieroException("failed"));
+
+        //then
+        Assertions.assertThrows(HieroException.class, () -> client.queryContractFunction(CONTRACT_ID, "get"));
+        Assertions.assertThrows(HieroException.class, () -> client.queryContractFunction(CONTRACT_ID, "get"));
+        Mockito.verify(protocolLayerClient, Mockito.times(2)).executeContractCallQuery(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testInvalidQuery() {
+        //given
+        final SmartContractClientImpl client = new SmartContractClientImpl(protocolLayerClient, fileClient);
+        final PreparedContractFunction function = PreparedContractFunction.of("get", "int256");
+
+        //then
+        Assertions.assertThrows(HieroException.class,
+                () -> client.queryContractFunction(CONTRACT_ID, function, ContractParam.int128(1)));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> client.queryContractFunction(CONTRACT_ID, (PreparedContractFunction) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContractQueryCacheSettings(0,
+                Duration.ofSeconds(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContractQueryCacheSettings(1,
+                Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,252 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.mirrornode.CheckpointingTopicSubscriber;
+import com.openelements.hiero.base.mirrornode.FileTopicCheckpointStore;
+import com.openelements.hiero.base.mirrornode.TopicCheckpointStore;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public class TopicCheckpointStoreTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final TopicId OTHER_TOPIC_ID = TopicId.fromString("0.0.5678");
+
+    @TempDir
+    Path tempDir;
+
+    private static class TestSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final List<Long> sequenceNumbers = new ArrayList<>();
+
+        private Flow.Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TopicMessage item) {
+            sequenceNumbers.add(item.sequenceNumber());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static TopicMessage message(long sequenceNumber) {
+        return new TopicMessage(null, Instant.ofEpochSecond(1_700_000_000L, sequenceNumber), "message",
+                AccountId.fromString("0.0.99"), new byte[48], 3, sequenceNumber, TOPIC_ID);
+    }
+
+    @Test
+    void testInvalidParams() throws HieroException {
+        final Path file = tempDir.resolve("checkpoints");
+        Assertions.assertThrows(NullPointerException.class, () -> FileTopicCheckpointStore.open(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> FileTopicCheckpointStore.open(file, 0, Duration.ZERO));
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            Assertions.assertThrows(NullPointerException.class, () -> store.commit(null, 1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.commit(TOPIC_ID, 0));
+            Assertions.assertThrows(NullPointerException.class,
+                    () -> new CheckpointingTopicSubscriber(store, TOPIC_ID, null));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new CheckpointingTopicSubscriber(store, TOPIC_ID, new TestSubscriber(), 0, Duration.ZERO));
+        }
+    }
+
+    @Test
+    void testCheckpointsSurviveReopen() throws Exception {
+        //given
+        final Path file = tempDir.resolve("checkpoints");
+
+        //when
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            Assertions.assertEquals(OptionalLong.empty(), store.load(TOPIC_ID));
+            for (long i = 1; i <= 1000; i++) {
+                store.commit(TOPIC_ID, i);
+            }
+            store.commit(OTHER_TOPIC_ID, 7);
+            store.commit(OTHER_TOPIC_ID, 3);
+        }
+
+        //then
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            Assertions.assertEquals(OptionalLong.of(1000), store.load(TOPIC_ID));
+            Assertions.assertEquals(OptionalLong.of(7), store.load(OTHER_TOPIC_ID));
+        }
+        Assertions.assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void testIncompleteLineIsIgnored() throws Exception {
+        //given
+        final Path file = tempDir.resolve("checkpoints");
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            store.commit(TOPIC_ID, 42);
+        }
+        Files.write(file, "0.0.56".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+
+        //when
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            store.commit(OTHER_TOPIC_ID, 5);
+        }
+
+        //then
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            Assertions.assertEquals(OptionalLong.of(42), store.load(TOPIC_ID));
+            Assertions.assertEquals(OptionalLong.of(5), store.load(OTHER_TOPIC_ID));
+        }
+    }
+
+    @Test
+    void testCheckpointIsSyncedAfterInterval() throws Exception {
+        //given
+        final Path file = tempDir.resolve("checkpoints");
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file, 1_000, Duration.ofMillis(50))) {
+            store.commit(TOPIC_ID, 7);
+
+            //when
+            Thread.sleep(200);
+            store.commit(OTHER_TOPIC_ID, 3);
+        }
+        Thread.sleep(200);
+
+        //then
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            Assertions.assertEquals(OptionalLong.of(7), store.load(TOPIC_ID));
+            Assertions.assertEquals(OptionalLong.of(3), store.load(OTHER_TOPIC_ID));
+        }
+    }
+
+    @Test
+    void testClosedStoreRejectsCommits() throws Exception {
+        //given
+        final FileTopicCheckpointStore store = FileTopicCheckpointStore.open(tempDir.resolve("checkpoints"));
+
+        //when
+        store.close();
+
+        //then
+        Assertions.assertThrows(IllegalStateException.class, () -> store.commit(TOPIC_ID, 1));
+        store.close();
+    }
+
+    @Test
+    void testSubscriberCommitsInIntervals() throws Exception {
+        //given
+        final TopicCheckpointStore store = Mockito.mock(TopicCheckpointStore.class);
+        final TestSubscriber delegate = new TestSubscriber();
+        final CheckpointingTopicSubscriber subscriber = new CheckpointingTopicSubscriber(store, TOPIC_ID, delegate,
+                10, Duration.ofHours(1));
+        subscriber.onSubscribe(Mockito.mock(Flow.Subscription.class));
+
+        //when
+        for (long i = 1; i <= 25; i++) {
+            subscriber.onNext(message(i));
+        }
+
+        //then
+        Assertions.assertEquals(25, delegate.sequenceNumbers.size());
+        Mockito.verify(store).commit(TOPIC_ID, 10);
+        Mockito.verify(store).commit(TOPIC_ID, 20);
+        Mockito.verifyNoMoreInteractions(store);
+        subscriber.onComplete();
+        Mockito.verify(store).commit(TOPIC_ID, 25);
+        Mockito.verify(store).flush();
+        Assertions.assertTrue(delegate.completed);
+    }
+
+    @Test
+    void testSubscriberCommitsOnCancel() throws Exception {
+        //given
+        final TopicCheckpointStore store = Mockito.mock(TopicCheckpointStore.class);
+        final Flow.Subscription upstream = Mockito.mock(Flow.Subscription.class);
+        final TestSubscriber delegate = new TestSubscriber();
+        final CheckpointingTopicSubscriber subscriber = new CheckpointingTopicSubscriber(store, TOPIC_ID, delegate);
+        subscriber.onSubscribe(upstream);
+        subscriber.onNext(message(1));
+        subscriber.onNext(message(2));
+
+        //when
+        delegate.subscription.request(5);
+        delegate.subscription.cancel();
+
+        //then
+        Mockito.verify(upstream).request(5);
+        Mockito.verify(upstream).cancel();
+        Mockito.verify(store).commit(TOPIC_ID, 2);
+        Mockito.verify(store).flush();
+    }
+
+    @Test
+    void testCommitFailureCancelsSubscription() throws Exception {
+        //given
+        final TopicCheckpointStore store = Mockito.mock(TopicCheckpointStore.class);
+        Mockito.doThrow(new HieroException("disk full")).when(store).commit(TOPIC_ID, 1);
+        final Flow.Subscription upstream = Mockito.mock(Flow.Subscription.class);
+        final TestSubscriber delegate = new TestSubscriber();
+        final CheckpointingTopicSubscriber subscriber = new CheckpointingTopicSubscriber(store, TOPIC_ID, delegate,
+                1, Duration.ofHours(1));
+        subscriber.onSubscribe(upstream);
+
+        //when
+        subscriber.onNext(message(1));
+        subscriber.onNext(message(2));
+
+        //then
+        Mockito.verify(upstream).cancel();
+        Assertions.assertEquals("disk full", delegate.error.getMessage());
+        Assertions.assertEquals(List.of(1L), delegate.sequenceNumbers);
+    }
+
+    @Test
+    void testSubscriberWithFileStoreResumes() throws Exception {
+        //given
+        final Path file = tempDir.resolve("checkpoints");
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            final CheckpointingTopicSubscriber subscriber = new CheckpointingTopicSubscriber(store, TOPIC_ID,
+                    new TestSubscriber());
+            subscriber.onSubscribe(Mockito.mock(Flow.Subscription.class));
+
+            //when
+            for (long i = 1; i <= 250; i++) {
+                subscriber.onNext(message(i));
+            }
+            subscriber.onError(new RuntimeException("connection lost"));
+        }
+
+        //then
+        try (FileTopicCheckpointStore store = FileTopicCheckpointStore.open(file)) {
+            Assertions.assertEquals(OptionalLong.of(250), store.load(TOPIC_ID));
+        }
+    }
+}
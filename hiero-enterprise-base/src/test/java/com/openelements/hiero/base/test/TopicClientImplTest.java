@@ -564,13 +564,36 @@ public class TopicClientImplTest {
         Assertions.assertEquals(submitKey, request.submitKey());
     }
 
+    @Test
+    void shouldSubmitChunkedMessageToTopic() throws HieroException {
+        // mock
+        final TopicSubmitMessageResult topicSubmitMessageResult = Mockito.mock(TopicSubmitMessageResult.class);
+
+        // given
+        final TopicId topicId = TopicId.fromString("1.2.3");
+        final byte[] message = new byte[TopicSubmitMessageRequest.CHUNK_SIZE * 3 + 1];
+
+        // when
+        when(protocolLayerClient.executeTopicMessageSubmitTransaction(any(TopicSubmitMessageRequest.class)))
+                .thenReturn(topicSubmitMessageResult);
+        topicClient.submitMessage(topicId, message);
+
+        // then
+        verify(protocolLayerClient, times(1))
+                .executeTopicMessageSubmitTransaction(topicSubmitCaptor.capture());
+
+        final TopicSubmitMessageRequest request = topicSubmitCaptor.getValue();
+        Assertions.assertEquals(message, request.message());
+        Assertions.assertEquals(4, request.chunkCount());
+    }
+
     @Test
     void shouldThrowExceptionIfMessageGreaterThanMaxLenOnSubmitMessage() throws HieroException {
-        final String e_message = "Message cannot be longer than 1024 bytes";
+        final String e_message = "Message cannot be longer than 20480 bytes";
         // given
         final TopicId topicId = TopicId.fromString("1.2.3");
         final PrivateKey submitKey = PrivateKey.generateECDSA();
-        final byte[] message = new byte[1025];
+        final byte[] message = new byte[TopicSubmitMessageRequest.MAX_MESSAGE_LENGTH + 1];
 
         // then
         final IllegalArgumentException e1 = Assertions.assertThrows(IllegalArgumentException.class,
@@ -0,0 +1,277 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings.OverflowPolicy;
+import com.openelements.hiero.base.implementation.TopicMessagePublisher;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TopicMessagePublisherTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private ProtocolLayerClient client;
+
+    private SubscriptionHandle handle;
+
+    private final AtomicReference<TopicMessageRequest> request = new AtomicReference<>();
+
+    private static class TestSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final List<TopicMessage> messages = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TopicMessage item) {
+            messages.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        List<Long> sequenceNumbers() {
+            return messages.stream().map(TopicMessage::sequenceNumber).toList();
+        }
+    }
+
+    private static com.hedera.hashgraph.sdk.TopicMessage sdkMessage(long sequenceNumber) throws Exception {
+        final Constructor<?> constructor = com.hedera.hashgraph.sdk.TopicMessage.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        return (com.hedera.hashgraph.sdk.TopicMessage) constructor.newInstance(
+                Instant.ofEpochSecond(1_700_000_000L, sequenceNumber),
+                ("message-" + sequenceNumber).getBytes(StandardCharsets.UTF_8), new byte[48], sequenceNumber, null,
+                TransactionId.generate(AccountId.fromString("0.0.99")));
+    }
+
+    private void emit(long... sequenceNumbers) throws Exception {
+        for (long sequenceNumber : sequenceNumbers) {
+            request.get().subscription().accept(sdkMessage(sequenceNumber));
+        }
+    }
+
+    private TestSubscriber subscribe(TopicSubscriptionSettings settings) {
+        final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TOPIC_ID, null, settings);
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        return subscriber;
+    }
+
+    @BeforeEach
+    void setup() throws HieroException {
+        client = Mockito.mock(ProtocolLayerClient.class);
+        handle = Mockito.mock(SubscriptionHandle.class);
+        Mockito.when(client.executeTopicMessageQuery(ArgumentMatchers.any(TopicMessageRequest.class)))
+                .thenAnswer(invocation -> {
+                    request.set(invocation.getArgument(0));
+                    return new TopicMessageResult(handle);
+                });
+    }
+
+    @Test
+    void testInvalidParams() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new TopicMessagePublisher(null, TOPIC_ID, null, TopicSubscriptionSettings.DEFAULT));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new TopicMessagePublisher(client, null, null, TopicSubscriptionSettings.DEFAULT));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new TopicMessagePublisher(client, TOPIC_ID, null, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicSubscriptionSettings.of(0));
+    }
+
+    @Test
+    void testDeliversOnlyRequestedMessages() throws Exception {
+        //given
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.DEFAULT);
+
+        //when
+        emit(1, 2, 3, 4, 5);
+        subscriber.subscription.request(2);
+
+        //then
+        Assertions.assertEquals(List.of(1L, 2L), subscriber.sequenceNumbers());
+        subscriber.subscription.request(10);
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L, 5L), subscriber.sequenceNumbers());
+        emit(6);
+        Assertions.assertEquals(6, subscriber.messages.size());
+        final TopicMessage message = subscriber.messages.get(0);
+        Assertions.assertEquals("message-1", message.message());
+        Assertions.assertEquals(TOPIC_ID, message.topicId());
+        Assertions.assertEquals(AccountId.fromString("0.0.99"), message.payerAccountId());
+    }
+
+    @Test
+    void testDropPolicy() throws Exception {
+        //given
+        final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TOPIC_ID, null,
+                new TopicSubscriptionSettings(2, OverflowPolicy.DROP));
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        //when
+        emit(1, 2, 3, 4, 5);
+        subscriber.subscription.request(10);
+        emit(6);
+
+        //then
+        Assertions.assertEquals(List.of(1L, 2L, 6L), subscriber.sequenceNumbers());
+        Assertions.assertEquals(3, publisher.getDroppedCount());
+        Assertions.assertNull(subscriber.error);
+    }
+
+    @Test
+    void testFailPolicy() throws Exception {
+        //given
+        final TestSubscriber subscriber = subscribe(new TopicSubscriptionSettings(2, OverflowPolicy.FAIL));
+
+        //when
+        emit(1, 2, 3, 4);
+        subscriber.subscription.request(10);
+
+        //then
+        Assertions.assertInstanceOf(HieroException.class, subscriber.error);
+        Assertions.assertTrue(subscriber.messages.isEmpty());
+        Mockito.verify(handle).unsubscribe();
+    }
+
+    @Test
+    void testBlockPolicy() throws Exception {
+        //given
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.of(1));
+        final CountDownLatch producerDone = new CountDownLatch(1);
+
+        //when
+        final Thread producer = Thread.ofVirtual().start(() -> {
+            try {
+                emit(1, 2, 3, 4);
+                producerDone.countDown();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        //then
+        Assertions.assertFalse(producerDone.await(200, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 4; i++) {
+            subscriber.subscription.request(1);
+            Thread.sleep(20);
+        }
+        Assertions.assertTrue(producerDone.await(5, TimeUnit.SECONDS));
+        producer.join();
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), subscriber.sequenceNumbers());
+    }
+
+    @Test
+    void testCancelUnsubscribes() throws Exception {
+        //given
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.DEFAULT);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        emit(1);
+
+        //when
+        subscriber.subscription.cancel();
+        emit(2, 3);
+
+        //then
+        Mockito.verify(handle).unsubscribe();
+        Assertions.assertEquals(List.of(1L), subscriber.sequenceNumbers());
+        Assertions.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void testCompletionAfterBufferedMessages() throws Exception {
+        //given
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.DEFAULT);
+        emit(1, 2);
+
+        //when
+        request.get().completionHandler().run();
+
+        //then
+        Assertions.assertFalse(subscriber.completed);
+        subscriber.subscription.request(2);
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertEquals(List.of(1L, 2L), subscriber.sequenceNumbers());
+    }
+
+    @Test
+    void testNetworkErrorIsSignalled() throws Exception {
+        //given
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.DEFAULT);
+        subscriber.subscription.request(1);
+
+        //when
+        request.get().errorHandler().accept(new RuntimeException("stream failed"));
+
+        //then
+        Assertions.assertTrue(subscriber.terminated.await(1, TimeUnit.SECONDS));
+        Assertions.assertEquals("stream failed", subscriber.error.getMessage());
+    }
+
+    @Test
+    void testInvalidRequestIsSignalled() {
+        //given
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.DEFAULT);
+
+        //when
+        subscriber.subscription.request(0);
+
+        //then
+        Assertions.assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        Mockito.verify(handle).unsubscribe();
+    }
+
+    @Test
+    void testQueryFailureIsSignalled() throws HieroException {
+        //given
+        Mockito.when(client.executeTopicMessageQuery(ArgumentMatchers.any(TopicMessageRequest.class)))
+                .thenThrow(new HieroException("no connection"));
+
+        //when
+        final TestSubscriber subscriber = subscribe(TopicSubscriptionSettings.DEFAULT);
+
+        //then
+        Assertions.assertEquals("no connection", subscriber.error.getMessage());
+    }
+}
@@ -0,0 +1,162 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.mirrornode.TopicMessageReassembler;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicMessageReassemblerTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final AccountId PAYER = AccountId.fromString("0.0.99");
+
+    private static final Instant START = Instant.ofEpochSecond(1_700_000_000L);
+
+    private static TopicMessage chunk(TransactionId initialTransactionId, int number, int total, long sequenceNumber,
+            long second, String message) {
+        return new TopicMessage(new ChunkInfo(initialTransactionId, 0, number, total, false),
+                START.plusSeconds(second), message, PAYER, new byte[]{(byte) sequenceNumber}, 3, sequenceNumber,
+                TOPIC_ID);
+    }
+
+    private static TopicMessage chunk(TransactionId initialTransactionId, int number, int total, long sequenceNumber,
+            byte[] contents) {
+        return TopicMessage.of(new ChunkInfo(initialTransactionId, 0, number, total, false),
+                START.plusSeconds(sequenceNumber), contents, PAYER, new byte[]{(byte) sequenceNumber}, 3,
+                sequenceNumber, TOPIC_ID);
+    }
+
+    private static TransactionId transactionId(long second) {
+        return TransactionId.withValidStart(PAYER, START.plusSeconds(second));
+    }
+
+    @Test
+    void testInvalidParams() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TopicMessageReassembler(0, Duration.ofSeconds(1)));
+        Assertions.assertThrows(NullPointerException.class, () -> new TopicMessageReassembler(1, null));
+        Assertions.assertThrows(NullPointerException.class, () -> new TopicMessageReassembler().add(null));
+    }
+
+    @Test
+    void testUnchunkedMessageIsReturned() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler();
+        final TopicMessage message = new TopicMessage(null, START, "hello", PAYER, new byte[48], 3, 1, TOPIC_ID);
+        final TopicMessage singleChunk = chunk(transactionId(0), 1, 1, 2, 0, "single");
+
+        //then
+        Assertions.assertSame(message, reassembler.add(message).orElseThrow());
+        Assertions.assertSame(singleChunk, reassembler.add(singleChunk).orElseThrow());
+        Assertions.assertEquals(0, reassembler.getPendingGroupCount());
+    }
+
+    @Test
+    void testCharacterSplitBetweenChunksIsDecodedOnce() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler();
+        final TransactionId initialTransactionId = transactionId(0);
+        final byte[] contents = "a\u20acb".getBytes(StandardCharsets.UTF_8);
+        final byte[] firstPart = Arrays.copyOfRange(contents, 0, 3);
+        final byte[] secondPart = Arrays.copyOfRange(contents, 3, contents.length);
+
+        //when
+        final Optional<TopicMessage> r1 = reassembler.add(chunk(initialTransactionId, 1, 2, 1, firstPart));
+        final Optional<TopicMessage> r2 = reassembler.add(chunk(initialTransactionId, 2, 2, 2, secondPart));
+
+        //then
+        Assertions.assertTrue(r1.isEmpty());
+        final TopicMessage message = r2.orElseThrow();
+        Assertions.assertEquals("a\u20acb", message.message());
+        Assertions.assertArrayEquals(contents, message.contents());
+    }
+
+    @Test
+    void testChunksAreJoinedInOrder() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler();
+        final TransactionId first = transactionId(0);
+        final TransactionId second = transactionId(1);
+
+        //when
+        final Optional<TopicMessage> r1 = reassembler.add(chunk(first, 2, 3, 10, 1, "b"));
+        final Optional<TopicMessage> r2 = reassembler.add(chunk(second, 1, 2, 11, 1, "x"));
+        final Optional<TopicMessage> r3 = reassembler.add(chunk(first, 1, 3, 12, 2, "a"));
+        final Optional<TopicMessage> r4 = reassembler.add(chunk(first, 1, 3, 13, 2, "duplicate"));
+        final Optional<TopicMessage> r5 = reassembler.add(chunk(first, 3, 3, 14, 3, "c"));
+        final Optional<TopicMessage> r6 = reassembler.add(chunk(second, 2, 2, 15, 3, "y"));
+
+        //then
+        Assertions.assertTrue(r1.isEmpty());
+        Assertions.assertTrue(r2.isEmpty());
+        Assertions.assertTrue(r3.isEmpty());
+        Assertions.assertTrue(r4.isEmpty());
+        final TopicMessage message = r5.orElseThrow();
+        Assertions.assertEquals("abc", message.message());
+        Assertions.assertNull(message.chunkInfo());
+        Assertions.assertEquals(14, message.sequenceNumber());
+        Assertions.assertEquals(START.plusSeconds(3), message.consensusTimestamp());
+        Assertions.assertArrayEquals(new byte[]{14}, message.runningHash());
+        Assertions.assertEquals(PAYER, message.payerAccountId());
+        Assertions.assertEquals("xy", r6.orElseThrow().message());
+        Assertions.assertEquals(0, reassembler.getPendingGroupCount());
+    }
+
+    @Test
+    void testIncompleteGroupTimesOut() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler(10, Duration.ofSeconds(60));
+        final TransactionId incomplete = transactionId(0);
+        reassembler.add(chunk(incomplete, 1, 2, 1, 0, "a"));
+
+        //when
+        reassembler.add(chunk(transactionId(30), 1, 2, 2, 30, "x"));
+        reassembler.add(chunk(transactionId(61), 1, 2, 3, 61, "y"));
+        final Optional<TopicMessage> late = reassembler.add(chunk(incomplete, 2, 2, 4, 62, "b"));
+
+        //then
+        Assertions.assertEquals(1, reassembler.getTimedOutCount());
+        Assertions.assertTrue(late.isEmpty());
+        Assertions.assertEquals(3, reassembler.getPendingGroupCount());
+    }
+
+    @Test
+    void testPendingGroupsAreBounded() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler(2, Duration.ofHours(1));
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            reassembler.add(chunk(transactionId(i), 1, 2, i + 1, i, "a"));
+        }
+
+        //then
+        Assertions.assertEquals(2, reassembler.getPendingGroupCount());
+        Assertions.assertEquals(3, reassembler.getEvictedCount());
+        Assertions.assertEquals("ab", reassembler.add(chunk(transactionId(4), 2, 2, 6, 5, "b")).orElseThrow()
+                .message());
+    }
+
+    @Test
+    void testInvalidChunkNumberIsIgnored() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler();
+
+        //when
+        final Optional<TopicMessage> result = reassembler.add(chunk(transactionId(0), 3, 2, 1, 0, "a"));
+
+        //then
+        Assertions.assertTrue(result.isEmpty());
+        Assertions.assertEquals(0, reassembler.getPendingGroupCount());
+    }
+}
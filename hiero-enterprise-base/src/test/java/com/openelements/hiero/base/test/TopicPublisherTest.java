@@ -0,0 +1,173 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.TopicPublisher;
+import com.openelements.hiero.base.protocol.data.TopicPublisherMetrics;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TopicPublisherTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1000");
+
+    private AsyncProtocolLayerClient client;
+
+    private final ConcurrentLinkedQueue<CompletableFuture<TopicSubmitMessageResult>> inFlight =
+            new ConcurrentLinkedQueue<>();
+
+    private static TopicSubmitMessageResult result() {
+        return new TopicSubmitMessageResult(TransactionId.generate(AccountId.fromString("0.0.2")), Status.SUCCESS);
+    }
+
+    private void awaitInFlight(int count) throws InterruptedException {
+        final long end = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (inFlight.size() < count && System.nanoTime() < end) {
+            Thread.sleep(5);
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        client = Mockito.mock(AsyncProtocolLayerClient.class);
+        Mockito.when(client.executeTopicMessageSubmitTransaction(ArgumentMatchers.any(TopicSubmitMessageRequest.class)))
+                .thenAnswer(invocation -> {
+                    final CompletableFuture<TopicSubmitMessageResult> future = new CompletableFuture<>();
+                    inFlight.add(future);
+                    return future;
+                });
+    }
+
+    @Test
+    void testInvalidParams() throws HieroException {
+        Assertions.assertThrows(NullPointerException.class, () -> new TopicPublisher(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicPublisher(client, 0, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicPublisher(client, 1, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicPublisher(client, 1, 1, 0));
+        try (TopicPublisher publisher = new TopicPublisher(client)) {
+            Assertions.assertThrows(NullPointerException.class, () -> publisher.publish(null));
+            Assertions.assertThrows(NullPointerException.class, () -> publisher.submit(null));
+        }
+    }
+
+    @Test
+    void testSubmitCompletesWithReceipt() throws Exception {
+        //given
+        try (TopicPublisher publisher = new TopicPublisher(client)) {
+
+            //when
+            final CompletableFuture<TopicSubmitMessageResult> confirmation = publisher.submit(TOPIC_ID, "hello");
+            awaitInFlight(1);
+            final TopicSubmitMessageResult result = result();
+            inFlight.poll().complete(result);
+
+            //then
+            Assertions.assertSame(result, confirmation.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testInFlightWindowIsBounded() throws Exception {
+        //given
+        final TopicPublisher publisher = new TopicPublisher(client, 100, 5, 2);
+
+        //when
+        final List<CompletableFuture<TopicSubmitMessageResult>> confirmations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            confirmations.add(publisher.submit(TOPIC_ID, "message-" + i));
+        }
+        awaitInFlight(5);
+        Thread.sleep(50);
+
+        //then
+        Assertions.assertEquals(5, inFlight.size());
+        final TopicPublisherMetrics metrics = publisher.getMetrics();
+        Assertions.assertEquals(5, metrics.inFlightCount());
+        Assertions.assertEquals(15, metrics.queueDepth());
+        Assertions.assertEquals(20, metrics.acceptedCount());
+        int completed = 0;
+        while (completed < 20) {
+            final CompletableFuture<TopicSubmitMessageResult> next = inFlight.poll();
+            if (next != null) {
+                next.complete(result());
+                completed++;
+            } else {
+                Thread.sleep(1);
+            }
+        }
+        CompletableFuture.allOf(confirmations.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        publisher.close();
+        Mockito.verify(client, Mockito.times(20))
+                .executeTopicMessageSubmitTransaction(ArgumentMatchers.any(TopicSubmitMessageRequest.class));
+    }
+
+    @Test
+    void testFailuresAreReportedAndCounted() throws Exception {
+        //given
+        try (TopicPublisher publisher = new TopicPublisher(client)) {
+
+            //when
+            final CompletableFuture<TopicSubmitMessageResult> confirmation = publisher.submit(TOPIC_ID, "fails");
+            publisher.publish(TOPIC_ID, "fails too");
+            awaitInFlight(2);
+            inFlight.poll().completeExceptionally(new HieroException("INVALID_TOPIC_ID"));
+            inFlight.poll().completeExceptionally(new RuntimeException("connection lost"));
+            publisher.flush();
+
+            //then
+            final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                    () -> confirmation.get(5, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(HieroException.class, e.getCause());
+            final TopicPublisherMetrics metrics = publisher.getMetrics();
+            Assertions.assertEquals(2, metrics.failedCount());
+            Assertions.assertEquals(0, metrics.succeededCount());
+        }
+    }
+
+    @Test
+    void testFlushWaitsForPendingMessages() throws Exception {
+        //given
+        Mockito.when(client.executeTopicMessageSubmitTransaction(ArgumentMatchers.any(TopicSubmitMessageRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return result();
+                }));
+        final TopicPublisher publisher = new TopicPublisher(client, 10, 4, 2);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            publisher.publish(TOPIC_ID, new byte[]{(byte) i});
+        }
+        publisher.close();
+
+        //then
+        final TopicPublisherMetrics metrics = publisher.getMetrics();
+        Assertions.assertEquals(100, metrics.succeededCount());
+        Assertions.assertEquals(0, metrics.queueDepth());
+        Assertions.assertEquals(0, metrics.inFlightCount());
+        Assertions.assertTrue(metrics.throughputPerSecond() > 0);
+        Assertions.assertTrue(metrics.latencyP50().compareTo(Duration.ZERO) > 0);
+        Assertions.assertTrue(metrics.latencyP50().compareTo(metrics.latencyP99()) <= 0);
+        Assertions.assertThrows(IllegalStateException.class, () -> publisher.publish(TOPIC_ID, "closed"));
+    }
+}
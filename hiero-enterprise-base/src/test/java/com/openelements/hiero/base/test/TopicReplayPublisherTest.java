@@ -0,0 +1,458 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.TopicClient;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicSubscriptionSettings;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import com.openelements.hiero.base.mirrornode.TopicCheckpointStore;
+import com.openelements.hiero.base.mirrornode.TopicReplayPublisher;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class TopicReplayPublisherTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final Instant START = Instant.ofEpochSecond(1_700_000_000L);
+
+    private MirrorNodeClient mirrorNodeClient;
+
+    private TopicClient topicClient;
+
+    private LivePublisher livePublisher;
+
+    /**
+     * Page over a list of messages with a fixed page size.
+     */
+    private record ListPage(List<TopicMessage> messages, int index, int pageSize) implements Page<TopicMessage> {
+
+        @Override
+        public int getPageIndex() {
+            return index;
+        }
+
+        @Override
+        public int getSize() {
+            return getData().size();
+        }
+
+        @Override
+        public List<TopicMessage> getData() {
+            return messages.subList(Math.min(index * pageSize, messages.size()),
+                    Math.min((index + 1) * pageSize, messages.size()));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index + 1) * pageSize < messages.size();
+        }
+
+        @Override
+        public Page<TopicMessage> next() {
+            return new ListPage(messages, index + 1, pageSize);
+        }
+
+        @Override
+        public Page<TopicMessage> first() {
+            return new ListPage(messages, 0, pageSize);
+        }
+
+        @Override
+        public boolean isFirst() {
+            return index == 0;
+        }
+    }
+
+    /**
+     * Live stream that is controlled by the test.
+     */
+    private static class LivePublisher implements Flow.Publisher<TopicMessage> {
+
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile Flow.Subscriber<? super TopicMessage> subscriber;
+
+        private volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super TopicMessage> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+            subscribed.countDown();
+        }
+
+        void emit(TopicMessage message) {
+            subscriber.onNext(message);
+        }
+
+        void emit(long... sequenceNumbers) {
+            for (long sequenceNumber : sequenceNumbers) {
+                subscriber.onNext(message(sequenceNumber));
+            }
+        }
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final List<Long> sequenceNumbers = new CopyOnWriteArrayList<>();
+
+        private final List<TopicMessage> messages = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TopicMessage item) {
+            messages.add(item);
+            sequenceNumbers.add(item.sequenceNumber());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        void awaitCount(int count) throws InterruptedException {
+            final long end = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (sequenceNumbers.size() < count && System.nanoTime() < end) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static TopicMessage message(long sequenceNumber) {
+        return new TopicMessage(null, START.plusSeconds(sequenceNumber), "message-" + sequenceNumber,
+                AccountId.fromString("0.0.99"), new byte[48], 3, sequenceNumber, TOPIC_ID);
+    }
+
+    private static TopicMessage chunk(TransactionId initialTransactionId, int number, int total, long sequenceNumber,
+            String content) {
+        return new TopicMessage(new ChunkInfo(initialTransactionId, 0, number, total, false),
+                START.plusSeconds(sequenceNumber), content, AccountId.fromString("0.0.99"), new byte[48], 3,
+                sequenceNumber, TOPIC_ID);
+    }
+
+    private static List<TopicMessage> messages(long from, long to) {
+        return LongStream.rangeClosed(from, to).mapToObj(TopicReplayPublisherTest::message).toList();
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    @BeforeEach
+    void setup() {
+        mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        topicClient = Mockito.mock(TopicClient.class);
+        livePublisher = new LivePublisher();
+        Mockito.when(topicClient.subscribe(ArgumentMatchers.eq(TOPIC_ID), ArgumentMatchers.any(Instant.class),
+                ArgumentMatchers.any(TopicSubscriptionSettings.class))).thenReturn(livePublisher);
+    }
+
+    @Test
+    void testInvalidParams() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> TopicReplayPublisher.fromSequenceNumber(null, topicClient, TOPIC_ID, 1));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, null, TOPIC_ID, 1));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, null, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 0));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> TopicReplayPublisher.fromTimestamp(mirrorNodeClient, topicClient, TOPIC_ID, null));
+    }
+
+    @Test
+    void testReplayThenLiveWithoutGapsOrDuplicates() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 5L))
+                .thenReturn(new ListPage(messages(5, 54), 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 5).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+        livePublisher.emit(53, 54, 55, 56);
+
+        //then
+        subscriber.awaitCount(52);
+        Assertions.assertEquals(range(5, 56), subscriber.sequenceNumbers);
+        Mockito.verify(topicClient).subscribe(ArgumentMatchers.eq(TOPIC_ID),
+                ArgumentMatchers.eq(START.plusSeconds(54)), ArgumentMatchers.any(TopicSubscriptionSettings.class));
+    }
+
+    @Test
+    void testChunkGroupSpanningSwitchToLiveIsDeliveredOnce() throws Exception {
+        //given
+        final TransactionId initialTransactionId = TransactionId.withValidStart(AccountId.fromString("0.0.99"),
+                START.plusSeconds(3));
+        final List<TopicMessage> history = List.of(message(1), message(2),
+                chunk(initialTransactionId, 1, 2, 3, "hello "), message(4));
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L)).thenReturn(new ListPage(history, 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+        livePublisher.emit(message(4));
+        livePublisher.emit(new TopicMessage(null, START.plusSeconds(5), "hello world",
+                AccountId.fromString("0.0.99"), new byte[48], 3, 5, TOPIC_ID));
+        livePublisher.emit(6);
+
+        //then
+        subscriber.awaitCount(5);
+        Assertions.assertEquals(List.of(1L, 2L, 4L, 5L, 6L), subscriber.sequenceNumbers);
+        Assertions.assertEquals("hello world", subscriber.messages.get(3).message());
+        subscriber.messages.forEach(message -> Assertions.assertNull(message.chunkInfo()));
+        Mockito.verify(topicClient).subscribe(ArgumentMatchers.eq(TOPIC_ID),
+                ArgumentMatchers.eq(START.plusSeconds(3)), ArgumentMatchers.any(TopicSubscriptionSettings.class));
+    }
+
+    @Test
+    void testChunkGroupInHistoryIsReassembled() throws Exception {
+        //given
+        final TransactionId initialTransactionId = TransactionId.withValidStart(AccountId.fromString("0.0.99"),
+                START.plusSeconds(2));
+        final List<TopicMessage> history = List.of(message(1), chunk(initialTransactionId, 1, 2, 2, "hello "),
+                chunk(initialTransactionId, 2, 2, 3, "world"));
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L)).thenReturn(new ListPage(history, 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+        livePublisher.emit(new TopicMessage(null, START.plusSeconds(3), "hello world",
+                AccountId.fromString("0.0.99"), new byte[48], 3, 3, TOPIC_ID));
+        livePublisher.emit(4);
+
+        //then
+        subscriber.awaitCount(3);
+        Assertions.assertEquals(List.of(1L, 3L, 4L), subscriber.sequenceNumbers);
+        Assertions.assertEquals("hello world", subscriber.messages.get(1).message());
+    }
+
+    @Test
+    void testHistoryHonoursDemand() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L))
+                .thenReturn(new ListPage(messages(1, 30), 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+        subscriber.subscription.request(5);
+        subscriber.awaitCount(5);
+        Thread.sleep(50);
+
+        //then
+        Assertions.assertEquals(range(1, 5), subscriber.sequenceNumbers);
+        subscriber.subscription.request(30);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(range(1, 30), subscriber.sequenceNumbers);
+        Assertions.assertEquals(5, livePublisher.requested.get());
+    }
+
+    @Test
+    void testDuplicatesOfLiveStreamDoNotConsumeDemand() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L))
+                .thenReturn(new ListPage(messages(1, 3), 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+        subscriber.subscription.request(4);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+
+        //when
+        livePublisher.emit(3, 4);
+
+        //then
+        Assertions.assertEquals(range(1, 4), subscriber.sequenceNumbers);
+        Assertions.assertEquals(2, livePublisher.requested.get());
+    }
+
+    @Test
+    void testEmptyHistoryStartsLiveAfterPreviousMessage() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 10L)).thenReturn(new ListPage(List.of(), 0, 10));
+        Mockito.when(mirrorNodeClient.queryTopicMessageBySequenceNumber(TOPIC_ID, 9L))
+                .thenReturn(Optional.of(message(9)));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 10).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+        livePublisher.emit(9, 10);
+
+        //then
+        Assertions.assertEquals(List.of(10L), subscriber.sequenceNumbers);
+        Mockito.verify(topicClient).subscribe(ArgumentMatchers.eq(TOPIC_ID),
+                ArgumentMatchers.eq(START.plusSeconds(9)), ArgumentMatchers.any(TopicSubscriptionSettings.class));
+    }
+
+    @Test
+    void testReplayFromTimestamp() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, START.plusSeconds(20)))
+                .thenReturn(new ListPage(messages(20, 25), 0, 4));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromTimestamp(mirrorNodeClient, topicClient, TOPIC_ID, START.plusSeconds(20))
+                .subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+
+        //then
+        Assertions.assertEquals(range(20, 25), subscriber.sequenceNumbers);
+    }
+
+    @Test
+    void testReplayFromCheckpoint() throws Exception {
+        //given
+        final TopicCheckpointStore store = Mockito.mock(TopicCheckpointStore.class);
+        Mockito.when(store.load(TOPIC_ID)).thenReturn(OptionalLong.of(41));
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 42L))
+                .thenReturn(new ListPage(messages(42, 45), 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromCheckpoint(mirrorNodeClient, topicClient, TOPIC_ID, store).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+
+        //then
+        Assertions.assertEquals(range(42, 45), subscriber.sequenceNumbers);
+    }
+
+    @Test
+    void testCancelStopsReplayAndLiveStream() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L))
+                .thenReturn(new ListPage(messages(1, 2), 0, 10));
+        final TestSubscriber subscriber = new TestSubscriber();
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(livePublisher.subscribed.await(5, TimeUnit.SECONDS));
+
+        //when
+        subscriber.subscription.cancel();
+        livePublisher.emit(3);
+
+        //then
+        Assertions.assertTrue(livePublisher.cancelled);
+        Assertions.assertEquals(range(1, 2), subscriber.sequenceNumbers);
+    }
+
+    @Test
+    void testHistoryFailureIsSignalled() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L))
+                .thenThrow(new HieroException("mirror node not reachable"));
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+
+        //then
+        Assertions.assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("mirror node not reachable", subscriber.error.getMessage());
+        Mockito.verifyNoInteractions(topicClient);
+    }
+
+    @Test
+    void testUnknownPreviousMessageIsSignalled() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 10L)).thenReturn(new ListPage(List.of(), 0, 10));
+        Mockito.when(mirrorNodeClient.queryTopicMessageBySequenceNumber(TOPIC_ID, 9L)).thenReturn(Optional.empty());
+        final TestSubscriber subscriber = new TestSubscriber();
+
+        //when
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 10).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //then
+        Assertions.assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(HieroException.class, subscriber.error);
+        Assertions.assertTrue(subscriber.sequenceNumbers.isEmpty());
+        Mockito.verifyNoInteractions(topicClient);
+    }
+
+    @Test
+    void testInvalidRequestIsSignalledOnce() throws Exception {
+        //given
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 1L))
+                .thenReturn(new ListPage(messages(1, 2), 0, 10));
+        final AtomicLong errorCount = new AtomicLong();
+        final TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onError(Throwable throwable) {
+                errorCount.incrementAndGet();
+                super.onError(throwable);
+            }
+        };
+        TopicReplayPublisher.fromSequenceNumber(mirrorNodeClient, topicClient, TOPIC_ID, 1).subscribe(subscriber);
+
+        //when
+        subscriber.subscription.request(0);
+        subscriber.subscription.request(-1);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //then
+        Assertions.assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        Thread.sleep(50);
+        Assertions.assertEquals(1, errorCount.get());
+        Assertions.assertTrue(subscriber.sequenceNumbers.isEmpty());
+    }
+}
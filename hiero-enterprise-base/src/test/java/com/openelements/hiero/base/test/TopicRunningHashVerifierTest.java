@@ -0,0 +1,231 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.RunningHashVerificationResult;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.mirrornode.TopicRunningHashVerifier;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicRunningHashVerifierTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.4321");
+
+    private static final AccountId PAYER = AccountId.fromString("0.0.1001");
+
+    private static final Instant START = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+
+    private static TopicMessage message(long sequenceNumber, String content, byte[] runningHash) {
+        return new TopicMessage(null, START.plusMillis(sequenceNumber), content, PAYER, runningHash,
+                TopicRunningHashVerifier.RUNNING_HASH_VERSION, sequenceNumber, TOPIC_ID);
+    }
+
+    private static TopicMessage binaryMessage(long sequenceNumber, byte[] contents, byte[] runningHash) {
+        return TopicMessage.of(null, START.plusMillis(sequenceNumber), contents, PAYER, runningHash,
+                TopicRunningHashVerifier.RUNNING_HASH_VERSION, sequenceNumber, TOPIC_ID);
+    }
+
+    private static List<TopicMessage> chain(int count) {
+        final List<TopicMessage> messages = new ArrayList<>(count);
+        byte[] runningHash = new byte[48];
+        for (int i = 1; i <= count; i++) {
+            runningHash = TopicRunningHashVerifier.calculateRunningHash(runningHash, message(i, "audit-" + i, null));
+            messages.add(message(i, "audit-" + i, runningHash));
+        }
+        return messages;
+    }
+
+    @Test
+    void testInvalidParams() {
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicRunningHashVerifier(0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicRunningHashVerifier(1, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> verifier.verify(null));
+        Assertions.assertThrows(NullPointerException.class, () -> verifier.verify(0, null, List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> verifier.verify(-1, new byte[48], List.of()));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> TopicRunningHashVerifier.calculateRunningHash(new byte[48], null));
+    }
+
+    @Test
+    void testRunningHashLayout() throws Exception {
+        //given
+        final byte[] previousRunningHash = new byte[48];
+        previousRunningHash[0] = 7;
+        final TopicMessage message = message(42, "hello", null);
+
+        //when
+        final byte[] runningHash = TopicRunningHashVerifier.calculateRunningHash(previousRunningHash, message);
+
+        //then
+        final MessageDigest digest = MessageDigest.getInstance("SHA-384");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(previousRunningHash);
+        out.writeLong(3);
+        out.writeLong(0);
+        out.writeLong(0);
+        out.writeLong(1001);
+        out.writeLong(0);
+        out.writeLong(0);
+        out.writeLong(4321);
+        out.writeLong(message.consensusTimestamp().getEpochSecond());
+        out.writeInt(message.consensusTimestamp().getNano());
+        out.writeLong(42);
+        out.write(digest.digest("hello".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertArrayEquals(digest.digest(bytes.toByteArray()), runningHash);
+        Assertions.assertEquals(48, runningHash.length);
+    }
+
+    @Test
+    void testValidChainIsVerified() throws Exception {
+        //given
+        final List<TopicMessage> messages = chain(1000);
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier(4, 64);
+
+        //when
+        final RunningHashVerificationResult result = verifier.verify(messages);
+
+        //then
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertNull(result.firstDivergentSequenceNumber());
+        Assertions.assertEquals(1000, result.verifiedCount());
+        Assertions.assertEquals(1000, result.lastSequenceNumber());
+        Assertions.assertArrayEquals(messages.getLast().runningHash(), result.lastRunningHash());
+    }
+
+    @Test
+    void testBinaryMessagesAreVerified() throws Exception {
+        //given
+        final byte[] contents = new byte[]{(byte) 0xC3, 0x28, (byte) 0xFF, 0x00, (byte) 0x80};
+        final List<TopicMessage> messages = new ArrayList<>();
+        byte[] runningHash = new byte[48];
+        for (int i = 1; i <= 10; i++) {
+            runningHash = TopicRunningHashVerifier.calculateRunningHash(runningHash, binaryMessage(i, contents, null));
+            messages.add(binaryMessage(i, contents, runningHash));
+        }
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier(2, 4);
+
+        //when
+        final RunningHashVerificationResult result = verifier.verify(messages);
+
+        //then
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertEquals(10, result.verifiedCount());
+        Assertions.assertArrayEquals(contents, messages.getFirst().contents());
+        Assertions.assertNotEquals(contents.length,
+                messages.getFirst().message().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testBinaryMessageHashUsesRawContents() throws Exception {
+        //given
+        final byte[] contents = new byte[]{(byte) 0xC3, 0x28, (byte) 0xFF};
+        final TopicMessage message = binaryMessage(1, contents, null);
+
+        //when
+        final byte[] runningHash = TopicRunningHashVerifier.calculateRunningHash(new byte[48], message);
+
+        //then
+        final MessageDigest digest = MessageDigest.getInstance("SHA-384");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[48]);
+        out.writeLong(3);
+        out.writeLong(0);
+        out.writeLong(0);
+        out.writeLong(1001);
+        out.writeLong(0);
+        out.writeLong(0);
+        out.writeLong(4321);
+        out.writeLong(message.consensusTimestamp().getEpochSecond());
+        out.writeInt(message.consensusTimestamp().getNano());
+        out.writeLong(1);
+        out.write(digest.digest(contents));
+        Assertions.assertArrayEquals(digest.digest(bytes.toByteArray()), runningHash);
+    }
+
+    @Test
+    void testTamperedMessageIsDetected() throws Exception {
+        //given
+        final List<TopicMessage> messages = new ArrayList<>(chain(1000));
+        final TopicMessage original = messages.get(536);
+        messages.set(536, message(original.sequenceNumber(), "tampered", original.runningHash()));
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier(4, 64);
+
+        //when
+        final RunningHashVerificationResult result = verifier.verify(messages);
+
+        //then
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertEquals(537, result.firstDivergentSequenceNumber());
+        Assertions.assertEquals(536, result.verifiedCount());
+        Assertions.assertEquals(536, result.lastSequenceNumber());
+        Assertions.assertArrayEquals(messages.get(535).runningHash(), result.lastRunningHash());
+    }
+
+    @Test
+    void testTamperedRangeBoundaryIsDetected() throws Exception {
+        //given
+        final List<TopicMessage> messages = new ArrayList<>(chain(256));
+        final TopicMessage original = messages.get(63);
+        messages.set(63, message(original.sequenceNumber(), original.message(), new byte[48]));
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier(4, 64);
+
+        //when
+        final RunningHashVerificationResult result = verifier.verify(messages);
+
+        //then
+        Assertions.assertEquals(64, result.firstDivergentSequenceNumber());
+        Assertions.assertEquals(63, result.verifiedCount());
+    }
+
+    @Test
+    void testMissingMessageIsDetected() throws Exception {
+        //given
+        final List<TopicMessage> messages = new ArrayList<>(chain(500));
+        messages.remove(299);
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier(2, 100);
+
+        //when
+        final RunningHashVerificationResult result = verifier.verify(messages);
+
+        //then
+        Assertions.assertEquals(300, result.firstDivergentSequenceNumber());
+        Assertions.assertEquals(299, result.verifiedCount());
+    }
+
+    @Test
+    void testVerificationFromKnownMessage() throws Exception {
+        //given
+        final List<TopicMessage> messages = chain(300);
+        final TopicMessage known = messages.get(99);
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier(3, 16);
+
+        //when
+        final RunningHashVerificationResult result = verifier.verify(known.sequenceNumber(), known.runningHash(),
+                messages.subList(100, 300));
+        final RunningHashVerificationResult wrongStart = verifier.verify(known.sequenceNumber(), new byte[48],
+                messages.subList(100, 300));
+        final RunningHashVerificationResult empty = verifier.verify(known.sequenceNumber(), known.runningHash(),
+                List.of());
+
+        //then
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertEquals(200, result.verifiedCount());
+        Assertions.assertEquals(300, result.lastSequenceNumber());
+        Assertions.assertEquals(101, wrongStart.firstDivergentSequenceNumber());
+        Assertions.assertEquals(0, wrongStart.verifiedCount());
+        Assertions.assertArrayEquals(new byte[48], wrongStart.lastRunningHash());
+        Assertions.assertTrue(empty.isValid());
+        Assertions.assertEquals(100, empty.lastSequenceNumber());
+    }
+}
@@ -0,0 +1,168 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.implementation.TransactionEventDispatcher;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionEventDispatcherTest {
+
+    private static final AccountId NODE = AccountId.fromString("0.0.3");
+
+    private static final Instant SUBMIT_TIME = Instant.ofEpochSecond(1_700_000_000L);
+
+    private static TransactionEvent event(int index) {
+        return TransactionEvent.submitted(TransactionType.TOPIC_MESSAGE_SUBMIT,
+                TransactionId.withValidStart(AccountId.fromString("0.0.2"), SUBMIT_TIME.plusSeconds(index)), NODE,
+                SUBMIT_TIME);
+    }
+
+    @Test
+    void testInvalidParams() {
+        final TransactionEventDispatcher dispatcher = new TransactionEventDispatcher();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TransactionEventDispatcher(0));
+        Assertions.assertThrows(NullPointerException.class, () -> dispatcher.addListener(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> dispatcher.dispatch(null, TransactionListener::transactionSubmitted));
+        Assertions.assertThrows(NullPointerException.class, () -> dispatcher.dispatch(event(0), null));
+        Assertions.assertThrows(NullPointerException.class, () -> TransactionEvent.submitted(null,
+                event(0).transactionId(), NODE, SUBMIT_TIME));
+    }
+
+    @Test
+    void testEventLatencies() {
+        //given
+        final TransactionEvent submitted = event(0);
+
+        //when
+        final TransactionEvent handled = submitted.withReceipt(SUBMIT_TIME.plusMillis(2500), Status.SUCCESS);
+        final TransactionEvent recorded = handled.withRecord(SUBMIT_TIME.plusMillis(2700), Hbar.fromTinybars(42));
+
+        //then
+        Assertions.assertNull(submitted.receiptLatency());
+        Assertions.assertNull(submitted.recordLatency());
+        Assertions.assertEquals(Duration.ofMillis(2500), handled.receiptLatency());
+        Assertions.assertNull(handled.recordLatency());
+        Assertions.assertEquals(Duration.ofMillis(200), recorded.recordLatency());
+        Assertions.assertEquals(Status.SUCCESS, recorded.status());
+        Assertions.assertEquals(Hbar.fromTinybars(42), recorded.chargedFee());
+        Assertions.assertEquals(TransactionType.TOPIC_MESSAGE_SUBMIT, recorded.transactionType());
+        Assertions.assertEquals(NODE, recorded.nodeAccountId());
+    }
+
+    @Test
+    void testListenersAreCalledInOrderOnOtherThread() throws Exception {
+        //given
+        final TransactionEventDispatcher dispatcher = new TransactionEventDispatcher();
+        final List<TransactionEvent> received = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(100);
+        dispatcher.addListener(new TransactionListener() {
+            @Override
+            public void transactionSubmitted(TransactionEvent event) {
+                threads.add(Thread.currentThread());
+                throw new IllegalStateException("listener failure must not stop other listeners");
+            }
+        });
+        dispatcher.addListener(new TransactionListener() {
+            @Override
+            public void transactionSubmitted(TransactionEvent event) {
+                received.add(event);
+                done.countDown();
+            }
+        });
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(event(i), TransactionListener::transactionSubmitted);
+        }
+
+        //then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(event(i), received.get(i));
+        }
+        Assertions.assertFalse(threads.contains(Thread.currentThread()));
+        Assertions.assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void testEventsAreDroppedIfListenerIsSlow() throws Exception {
+        //given
+        final TransactionEventDispatcher dispatcher = new TransactionEventDispatcher(10);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<TransactionEvent> received = new CopyOnWriteArrayList<>();
+        dispatcher.addListener(new TransactionListener() {
+            @Override
+            public void transactionHandled(TransactionEvent event) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(event);
+            }
+        });
+        dispatcher.dispatch(event(0), TransactionListener::transactionHandled);
+        Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        //when
+        final long start = System.nanoTime();
+        for (int i = 1; i <= 30; i++) {
+            dispatcher.dispatch(event(i), TransactionListener::transactionHandled);
+        }
+        final Duration dispatchTime = Duration.ofNanos(System.nanoTime() - start);
+        release.countDown();
+
+        //then
+        Assertions.assertEquals(20, dispatcher.getDroppedCount());
+        Assertions.assertTrue(dispatchTime.compareTo(Duration.ofSeconds(1)) < 0);
+        final long end = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (received.size() < 11 && System.nanoTime() < end) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(11, received.size());
+    }
+
+    @Test
+    void testRemovedListenerIsNotCalled() throws Exception {
+        //given
+        final TransactionEventDispatcher dispatcher = new TransactionEventDispatcher();
+        final List<TransactionEvent> removedReceived = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final Runnable remove = dispatcher.addListener(new TransactionListener() {
+            @Override
+            public void transactionRecordReceived(TransactionEvent event) {
+                removedReceived.add(event);
+            }
+        });
+        dispatcher.addListener(new TransactionListener() {
+            @Override
+            public void transactionRecordReceived(TransactionEvent event) {
+                done.countDown();
+            }
+        });
+
+        //when
+        remove.run();
+        dispatcher.dispatch(event(0), TransactionListener::transactionRecordReceived);
+
+        //then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(removedReceived.isEmpty());
+    }
+}
@@ -0,0 +1,136 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.TransactionPipeline;
+import com.openelements.hiero.base.protocol.data.PipelineResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionPipelineTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1000");
+
+    private static TopicSubmitMessageRequest request(final int i) {
+        return TopicSubmitMessageRequest.of(TOPIC_ID, "message-" + i);
+    }
+
+    private static TopicSubmitMessageResult result() {
+        return new TopicSubmitMessageResult(TransactionId.generate(AccountId.fromString("0.0.2")), Status.SUCCESS);
+    }
+
+    @Test
+    void testInvalidConstructorParams() {
+        Assertions.assertThrows(NullPointerException.class, () -> new TransactionPipeline<>(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TransactionPipeline<TopicSubmitMessageRequest, TopicSubmitMessageResult>(
+                        r -> CompletableFuture.completedFuture(result()), 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TransactionPipeline<TopicSubmitMessageRequest, TopicSubmitMessageResult>(
+                        r -> CompletableFuture.completedFuture(result()), 1, 0));
+    }
+
+    @Test
+    void testEmptyRequests() throws HieroException {
+        //given
+        final TransactionPipeline<TopicSubmitMessageRequest, TopicSubmitMessageResult> pipeline =
+                new TransactionPipeline<>(r -> CompletableFuture.completedFuture(result()));
+
+        //then
+        Assertions.assertTrue(pipeline.executeAndWait(List.of()).isEmpty());
+        Assertions.assertThrows(NullPointerException.class, () -> pipeline.execute(null));
+    }
+
+    @Test
+    void testResultsInSubmissionOrderWithFailures() throws Exception {
+        //given
+        final ConcurrentLinkedQueue<CompletableFuture<TopicSubmitMessageResult>> pending =
+                new ConcurrentLinkedQueue<>();
+        final List<TopicSubmitMessageRequest> requests = IntStream.range(0, 50)
+                .mapToObj(TransactionPipelineTest::request)
+                .toList();
+        final TransactionPipeline<TopicSubmitMessageRequest, TopicSubmitMessageResult> pipeline =
+                new TransactionPipeline<>(r -> {
+                    if (new String(r.message()).equals("message-7")) {
+                        throw new IllegalStateException("submit failed");
+                    }
+                    final CompletableFuture<TopicSubmitMessageResult> future = new CompletableFuture<>();
+                    pending.add(future);
+                    return future;
+                }, 100, 4);
+
+        //when
+        final CompletableFuture<List<PipelineResult<TopicSubmitMessageRequest, TopicSubmitMessageResult>>> future =
+                pipeline.execute(requests);
+        final List<CompletableFuture<TopicSubmitMessageResult>> completed = new ArrayList<>();
+        while (completed.size() < 49) {
+            final CompletableFuture<TopicSubmitMessageResult> next = pending.poll();
+            if (next != null) {
+                completed.add(next);
+            } else {
+                Thread.sleep(1);
+            }
+        }
+        for (int i = completed.size() - 1; i >= 0; i--) {
+            if (i == 20) {
+                completed.get(i).completeExceptionally(new HieroException("receipt failed"));
+            } else {
+                completed.get(i).complete(result());
+            }
+        }
+        final List<PipelineResult<TopicSubmitMessageRequest, TopicSubmitMessageResult>> results =
+                future.get(10, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertEquals(50, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertEquals(i, results.get(i).index());
+            Assertions.assertSame(requests.get(i), results.get(i).request());
+        }
+        Assertions.assertFalse(results.get(7).isSuccess());
+        Assertions.assertInstanceOf(IllegalStateException.class, results.get(7).error());
+        Assertions.assertEquals(2, results.stream().filter(r -> !r.isSuccess()).count());
+        Assertions.assertEquals(0, pipeline.getInFlightCount());
+    }
+
+    @Test
+    void testInFlightWindowIsBounded() throws Exception {
+        //given
+        final int window = 5;
+        final AtomicInteger current = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final List<TopicSubmitMessageRequest> requests = IntStream.range(0, 100)
+                .mapToObj(TransactionPipelineTest::request)
+                .toList();
+        final TransactionPipeline<TopicSubmitMessageRequest, TopicSubmitMessageResult> pipeline =
+                new TransactionPipeline<>(r -> {
+                    final int value = current.incrementAndGet();
+                    max.accumulateAndGet(value, Math::max);
+                    return CompletableFuture.supplyAsync(() -> {
+                        current.decrementAndGet();
+                        return result();
+                    }, CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS));
+                }, window, 8);
+
+        //when
+        final List<PipelineResult<TopicSubmitMessageRequest, TopicSubmitMessageResult>> results =
+                pipeline.executeAndWait(requests);
+
+        //then
+        Assertions.assertEquals(100, results.size());
+        Assertions.assertTrue(results.stream().allMatch(PipelineResult::isSuccess));
+        Assertions.assertTrue(max.get() <= window, "max in-flight was " + max.get());
+    }
+}
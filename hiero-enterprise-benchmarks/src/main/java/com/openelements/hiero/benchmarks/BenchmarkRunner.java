@@ -0,0 +1,47 @@
+package com.openelements.hiero.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts all command line options of JMH (see {@code -h}). If no result format is
+ * given, the results are written as JSON to {@value #DEFAULT_RESULT_FILE} so that two runs can be compared, for
+ * example by the JMH visualizer or by a diff of the score fields.
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl hiero-enterprise-benchmarks -am package -DskipTests
+ * java -jar hiero-enterprise-benchmarks/target/benchmarks.jar
+ * java -jar hiero-enterprise-benchmarks/target/benchmarks.jar ContractParam -rff contract-params.json
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * File the results are written to if no file is given by {@code -rff}.
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
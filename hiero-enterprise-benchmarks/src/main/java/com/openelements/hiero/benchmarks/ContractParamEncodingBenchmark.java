@@ -0,0 +1,98 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.PreparedContractFunction;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the creation of {@link ContractParam} instances (including the validation of the values) and their
+ * encoding to {@link ContractFunctionParameters} the same way the protocol layer client does it for contract calls.
+ * The encoding of a complete function call by the SDK is compared with the encoding by a
+ * {@link PreparedContractFunction}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractParamEncodingBenchmark {
+
+    private static final AccountId RECEIVER = AccountId.fromString("0.0.4500001");
+
+    private static final String FUNCTION_NAME = "check";
+
+    private List<ContractParam<?>> params;
+
+    private PreparedContractFunction preparedFunction;
+
+    @Setup
+    public void setup() {
+        params = createParams();
+        preparedFunction = PreparedContractFunction.of(FUNCTION_NAME,
+                params.stream().map(ContractParam::nativeType).toList());
+    }
+
+    @Benchmark
+    public List<ContractParam<?>> create() {
+        return createParams();
+    }
+
+    @Benchmark
+    public ContractFunctionParameters encode() {
+        return encode(params);
+    }
+
+    @Benchmark
+    public ContractFunctionParameters createAndEncode() {
+        return encode(createParams());
+    }
+
+    @Benchmark
+    public byte[] encodeCall() {
+        return new ContractExecuteTransaction().setFunction(FUNCTION_NAME, encode(params))
+                .getFunctionParameters().toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodePreparedCall() {
+        return preparedFunction.encode(params);
+    }
+
+    private static List<ContractParam<?>> createParams() {
+        return List.of(
+                ContractParam.address(RECEIVER),
+                ContractParam.uint256(1_000_000_000_000L),
+                ContractParam.int64(-42L),
+                ContractParam.uint32(4_000_000_000L),
+                ContractParam.uint8((short) 200),
+                ContractParam.int128(BigInteger.ONE.shiftLeft(100)),
+                ContractParam.bool(true),
+                ContractParam.string("Hello Hiero"),
+                ContractParam.bytes32(new byte[32]));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ContractFunctionParameters encode(final List<ContractParam<?>> params) {
+        final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+        for (final ContractParam param : params) {
+            param.supplier().addParamToFunctionParameters(param.value(), functionParameters);
+        }
+        return functionParameters;
+    }
+}
@@ -0,0 +1,43 @@
+package com.openelements.hiero.benchmarks;
+
+import com.openelements.hiero.base.data.ContractParam;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two ways to create a numeric {@link ContractParam} of a type that is based on {@link BigInteger} out of
+ * a {@code long}. {@code bigIntegerFactory} is the former path that converts the value first and lets the factory
+ * check the {@link BigInteger}, {@code longFactory} checks the {@code long} once and converts it afterwards. Both run
+ * on the same values. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractParamValidationBenchmark {
+
+    @Param({"42", "1000000000000"})
+    private long value;
+
+    @Benchmark
+    public ContractParam<BigInteger> bigIntegerFactory() {
+        return ContractParam.int72(BigInteger.valueOf(value));
+    }
+
+    @Benchmark
+    public ContractParam<BigInteger> longFactory() {
+        return ContractParam.int72(value);
+    }
+}
@@ -0,0 +1,101 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.FileClient;
+import com.openelements.hiero.base.implementation.FileClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks how {@link FileClientImpl} splits content into one FileCreate and several FileAppend requests. The
+ * protocol layer is replaced by a stub that answers immediately, so only the chunking of the different sources is
+ * measured. Run with {@code -prof gc} to check that the allocation per upload grows linearly with the file size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileClientChunkingBenchmark {
+
+    private static final FileId FILE_ID = FileId.fromString("0.0.4500300");
+
+    private static final TransactionId TRANSACTION_ID = TransactionId.generate(AccountId.fromString("0.0.2"));
+
+    @Param({"1024", "65536", "1024000"})
+    private int size;
+
+    private byte[] contents;
+
+    private Path path;
+
+    private FileClient fileClient;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        contents = new byte[size];
+        new Random(size).nextBytes(contents);
+        path = Files.createTempFile("hiero-benchmark", ".bin");
+        Files.write(path, contents);
+        fileClient = new FileClientImpl(stubProtocolLayerClient());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public FileId fromByteArray() throws Exception {
+        return fileClient.createFile(contents);
+    }
+
+    @Benchmark
+    public FileId fromInputStream() throws Exception {
+        return fileClient.createFile(new ByteArrayInputStream(contents));
+    }
+
+    @Benchmark
+    public FileId fromPath() throws Exception {
+        return fileClient.createFile(path);
+    }
+
+    private static ProtocolLayerClient stubProtocolLayerClient() {
+        return (ProtocolLayerClient) Proxy.newProxyInstance(ProtocolLayerClient.class.getClassLoader(),
+                new Class<?>[]{ProtocolLayerClient.class}, (proxy, method, args) -> {
+                    if (args != null && args[0] instanceof FileCreateRequest) {
+                        return new FileCreateResult(TRANSACTION_ID, Status.SUCCESS, FILE_ID);
+                    }
+                    if (args != null && args[0] instanceof FileAppendRequest) {
+                        return new FileAppendResult(TRANSACTION_ID, Status.SUCCESS);
+                    }
+                    throw new UnsupportedOperationException("Not supported by the stub: " + method.getName());
+                });
+    }
+}
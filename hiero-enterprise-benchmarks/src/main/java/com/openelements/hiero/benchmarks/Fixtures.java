@@ -0,0 +1,47 @@
+package com.openelements.hiero.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Access to the mirror node responses in {@code src/main/resources/fixtures}. The fixtures have the structure of the
+ * responses of the mirror node REST API and contain one page (25 entries) for the list endpoints.
+ */
+final class Fixtures {
+
+    static final String ACCOUNT = "account.json";
+
+    static final String TOKEN = "token.json";
+
+    static final String NFTS = "nfts.json";
+
+    static final String TRANSACTIONS = "transactions.json";
+
+    static final String TOPIC_MESSAGES = "topic-messages.json";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Loads a fixture.
+     *
+     * @param name the name of the fixture
+     * @return the content of the fixture
+     */
+    @NonNull
+    static String load(@NonNull final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Fixture '" + name + "' not found");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read fixture '" + name + "'", e);
+        }
+    }
+}
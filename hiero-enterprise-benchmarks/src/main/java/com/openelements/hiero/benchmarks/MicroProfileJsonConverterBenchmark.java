@@ -0,0 +1,93 @@
+package com.openelements.hiero.benchmarks;
+
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.TokenInfo;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the conversion of mirror node responses by the {@link MirrorNodeJsonConverterImpl} of the MicroProfile
+ * module. Only the responses that the converter can read are covered: the converter expects strings for some numeric
+ * fields of transactions and topic messages that the mirror node returns as numbers. The MicroProfile module has no
+ * streaming decoder, the comparison of tree conversion and streaming decoding is part of
+ * {@link SpringJsonConverterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MicroProfileJsonConverterBenchmark {
+
+    private final MirrorNodeJsonConverterImpl converter = new MirrorNodeJsonConverterImpl();
+
+    private JsonObject account;
+
+    private JsonObject token;
+
+    private JsonArray nfts;
+
+    private String tokenJson;
+
+    @Setup
+    public void setup() {
+        account = read(Fixtures.load(Fixtures.ACCOUNT));
+        tokenJson = Fixtures.load(Fixtures.TOKEN);
+        token = read(tokenJson);
+        nfts = read(Fixtures.load(Fixtures.NFTS)).getJsonArray("nfts");
+        if (nfts().size() != nfts.size()) {
+            throw new IllegalStateException("Fixtures are not converted completely");
+        }
+    }
+
+    @Benchmark
+    public Optional<AccountInfo> accountInfo() {
+        return converter.toAccountInfo(account);
+    }
+
+    @Benchmark
+    public Optional<TokenInfo> tokenInfo() {
+        return converter.toTokenInfo(token);
+    }
+
+    @Benchmark
+    public List<Nft> nfts() {
+        final List<Nft> result = new ArrayList<>(nfts.size());
+        for (final JsonValue nft : nfts) {
+            converter.toNft(nft.asJsonObject()).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Optional<TokenInfo> parseAndConvert() {
+        return converter.toTokenInfo(read(tokenJson));
+    }
+
+    private static JsonObject read(final String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
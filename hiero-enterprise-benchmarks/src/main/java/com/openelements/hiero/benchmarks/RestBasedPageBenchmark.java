@@ -0,0 +1,136 @@
+package com.openelements.hiero.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder.PageDecoder;
+import com.openelements.hiero.spring.implementation.RestBasedPage;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Benchmarks the traversal of all pages of a paged mirror node response by the {@link RestBasedPage} of the Spring
+ * module. A local HTTP server answers every page with the topic message fixture and a link to the next page, so the
+ * benchmark measures the HTTP round trips, the parsing and the conversion of each page. {@link #traverse()} converts
+ * each page by a JSON tree and {@link #traverseStreaming()} decodes it directly from the response stream, like the
+ * {@code MirrorNodeClientImpl} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestBasedPageBenchmark {
+
+    private static final String PATH = "/api/v1/topics/0.0.4500100/messages";
+
+    private static final String PAGE_PARAMETER = "page=";
+
+    @Param({"1", "10", "40"})
+    private int pageCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MirrorNodeJsonConverterImpl converter = new MirrorNodeJsonConverterImpl();
+
+    private final PageDecoder<TopicMessage> decoder = new MirrorNodeStreamingDecoder().topicMessagePageDecoder();
+
+    private byte[][] pages;
+
+    private ExecutorService executor;
+
+    private HttpServer server;
+
+    private RestClient.Builder restClientBuilder;
+
+    @Setup
+    public void setup() throws IOException {
+        final ObjectNode fixture = (ObjectNode) objectMapper.readTree(Fixtures.load(Fixtures.TOPIC_MESSAGES));
+        pages = new byte[pageCount][];
+        for (int i = 0; i < pageCount; i++) {
+            final ObjectNode links = fixture.putObject("links");
+            if (i + 1 < pageCount) {
+                links.put("next", PATH + "?limit=25&" + PAGE_PARAMETER + (i + 1));
+            } else {
+                links.putNull("next");
+            }
+            pages[i] = objectMapper.writeValueAsBytes(fixture);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        restClientBuilder = RestClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        if (traverse() != 25L * pageCount || traverseStreaming() != 25L * pageCount) {
+            throw new IllegalStateException("Pages are not traversed completely");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long traverse() {
+        return count(new RestBasedPage<>(objectMapper, restClientBuilder, PATH + "?limit=25",
+                converter::toTopicMessages));
+    }
+
+    @Benchmark
+    public long traverseStreaming() {
+        return count(new RestBasedPage<>(restClientBuilder, PATH + "?limit=25", decoder));
+    }
+
+    private static long count(final Page<TopicMessage> firstPage) {
+        Page<TopicMessage> page = firstPage;
+        long count = page.getSize();
+        while (page.hasNext()) {
+            page = page.next();
+            count += page.getSize();
+        }
+        return count;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final String query = exchange.getRequestURI().getRawQuery();
+            final int pageParameter = query == null ? -1 : query.indexOf(PAGE_PARAMETER);
+            final int index = pageParameter < 0 ? 0
+                    : Integer.parseInt(query.substring(pageParameter + PAGE_PARAMETER.length()));
+            final byte[] body = pages[index];
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.openelements.hiero.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.TokenInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the conversion of mirror node responses by the {@link MirrorNodeJsonConverterImpl} of the Spring module.
+ * The fixtures are parsed once, the benchmarks measure the conversion of the parsed tree. {@link #parseAndConvert()}
+ * measures parsing and conversion of a page of transactions like it happens for every mirror node call.
+ * <p>
+ * The {@code *PageTree} and {@code *PageStreaming} benchmarks compare the two ways a page response body can be decoded:
+ * buffering the body as a {@code String}, parsing it into a {@code JsonNode} tree and converting the tree, or decoding
+ * the body stream directly with {@link MirrorNodeStreamingDecoder}. Run with {@code -prof gc} to compare the
+ * allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpringJsonConverterBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MirrorNodeJsonConverterImpl converter = new MirrorNodeJsonConverterImpl();
+
+    private final MirrorNodeStreamingDecoder decoder = new MirrorNodeStreamingDecoder();
+
+    private JsonNode account;
+
+    private JsonNode token;
+
+    private JsonNode nfts;
+
+    private JsonNode transactions;
+
+    private JsonNode topicMessages;
+
+    private String transactionsJson;
+
+    private byte[] nftsBody;
+
+    private byte[] transactionsBody;
+
+    private byte[] topicMessagesBody;
+
+    @Setup
+    public void setup() throws Exception {
+        account = objectMapper.readTree(Fixtures.load(Fixtures.ACCOUNT));
+        token = objectMapper.readTree(Fixtures.load(Fixtures.TOKEN));
+        nfts = objectMapper.readTree(Fixtures.load(Fixtures.NFTS));
+        transactionsJson = Fixtures.load(Fixtures.TRANSACTIONS);
+        transactions = objectMapper.readTree(transactionsJson);
+        topicMessages = objectMapper.readTree(Fixtures.load(Fixtures.TOPIC_MESSAGES));
+        if (converter.toTransactionInfos(transactions).size() != 25
+                || converter.toTopicMessages(topicMessages).size() != 25
+                || converter.toNfts(nfts).size() != 25) {
+            throw new IllegalStateException("Fixtures are not converted completely");
+        }
+        nftsBody = Fixtures.load(Fixtures.NFTS).getBytes(StandardCharsets.UTF_8);
+        transactionsBody = transactionsJson.getBytes(StandardCharsets.UTF_8);
+        topicMessagesBody = Fixtures.load(Fixtures.TOPIC_MESSAGES).getBytes(StandardCharsets.UTF_8);
+        if (nftPageStreaming().size() != 25
+                || transactionPageStreaming().size() != 25
+                || topicMessagePageStreaming().size() != 25) {
+            throw new IllegalStateException("Fixtures are not decoded completely");
+        }
+    }
+
+    @Benchmark
+    public Optional<AccountInfo> accountInfo() {
+        return converter.toAccountInfo(account);
+    }
+
+    @Benchmark
+    public Optional<TokenInfo> tokenInfo() {
+        return converter.toTokenInfo(token);
+    }
+
+    @Benchmark
+    public List<Nft> nfts() {
+        return converter.toNfts(nfts);
+    }
+
+    @Benchmark
+    public List<TransactionInfo> transactions() {
+        return converter.toTransactionInfos(transactions);
+    }
+
+    @Benchmark
+    public List<TopicMessage> topicMessages() {
+        return converter.toTopicMessages(topicMessages);
+    }
+
+    @Benchmark
+    public List<TransactionInfo> parseAndConvert() throws Exception {
+        return converter.toTransactionInfos(objectMapper.readTree(transactionsJson));
+    }
+
+    @Benchmark
+    public List<Nft> nftPageTree() throws Exception {
+        return converter.toNfts(objectMapper.readTree(new String(nftsBody, StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public List<Nft> nftPageStreaming() throws Exception {
+        return decoder.nftPageDecoder().decode(new ByteArrayInputStream(nftsBody)).data();
+    }
+
+    @Benchmark
+    public List<TransactionInfo> transactionPageTree() throws Exception {
+        final String body = new String(transactionsBody, StandardCharsets.UTF_8);
+        return converter.toTransactionInfos(objectMapper.readTree(body));
+    }
+
+    @Benchmark
+    public List<TransactionInfo> transactionPageStreaming() throws Exception {
+        return decoder.transactionInfoPageDecoder().decode(new ByteArrayInputStream(transactionsBody)).data();
+    }
+
+    @Benchmark
+    public List<TopicMessage> topicMessagePageTree() throws Exception {
+        return converter.toTopicMessages(objectMapper.readTree(new String(topicMessagesBody, StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public List<TopicMessage> topicMessagePageStreaming() throws Exception {
+        return decoder.topicMessagePageDecoder().decode(new ByteArrayInputStream(topicMessagesBody)).data();
+    }
+}
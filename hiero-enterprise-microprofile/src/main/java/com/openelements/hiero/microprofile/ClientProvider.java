@@ -9,8 +9,12 @@ import com.openelements.hiero.base.SmartContractClient;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.implementation.AccountClientImpl;
 import com.openelements.hiero.base.implementation.AccountRepositoryImpl;
+import com.openelements.hiero.base.implementation.AsyncProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.CachingMirrorNodeClient;
 import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
+import com.openelements.hiero.base.implementation.MirrorNodeBalancerSettings;
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings;
 import com.openelements.hiero.base.implementation.NetworkRepositoryImpl;
 import com.openelements.hiero.base.implementation.NftClientImpl;
 import com.openelements.hiero.base.implementation.NftRepositoryImpl;
@@ -24,6 +28,7 @@ import com.openelements.hiero.base.mirrornode.NetworkRepository;
 import com.openelements.hiero.base.mirrornode.NftRepository;
 import com.openelements.hiero.base.mirrornode.TokenRepository;
 import com.openelements.hiero.base.mirrornode.TransactionRepository;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.verification.ContractVerificationClient;
 import com.openelements.hiero.microprofile.implementation.ContractVerificationClientImpl;
@@ -31,14 +36,22 @@ import com.openelements.hiero.microprofile.implementation.HieroConfigImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientSettings;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.List;
 import org.eclipse.microprofile.config.inject.ConfigProperties;
 import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ClientProvider {
 
+    private final static Logger log = LoggerFactory.getLogger(ClientProvider.class);
+
     @Inject
     @ConfigProperties
     private HieroOperatorConfiguration configuration;
@@ -64,8 +77,15 @@ public class ClientProvider {
     @NonNull
     @Produces
     @ApplicationScoped
-    ProtocolLayerClient createProtocolLayerClient(@NonNull final HieroContext hieroContext) {
-        return new ProtocolLayerClientImpl(hieroContext);
+    AsyncProtocolLayerClient createAsyncProtocolLayerClient(@NonNull final HieroContext hieroContext) {
+        return new AsyncProtocolLayerClientImpl(hieroContext);
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    ProtocolLayerClient createProtocolLayerClient(@NonNull final AsyncProtocolLayerClient asyncProtocolLayerClient) {
+        return ProtocolLayerClientImpl.of(asyncProtocolLayerClient);
     }
 
     @NonNull
@@ -117,12 +137,39 @@ public class ClientProvider {
     @Produces
     @ApplicationScoped
     MirrorNodeClient createMirrorNodeClient(@NonNull final HieroConfig hieroConfig) {
-        final String target = hieroConfig.getMirrorNodeAddresses().stream()
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No mirror node addresses configured"));
-        final MirrorNodeRestClientImpl restClient = new MirrorNodeRestClientImpl(target);
+        if (hieroConfig.getMirrorNodeAddresses().isEmpty()) {
+            throw new IllegalStateException("No mirror node addresses configured");
+        }
+        final MirrorNodeRestClientSettings settings = MirrorNodeRestClientSettings.of(networkConfiguration);
+        final List<MirrorNodeRestClientImpl> restClients = hieroConfig.getMirrorNodeAddresses().stream()
+                .map(target -> new MirrorNodeRestClientImpl(target, settings))
+                .toList();
+        final MirrorNodeBalancerSettings balancerSettings = MirrorNodeBalancerSettings.DEFAULT
+                .withHedging(networkConfiguration.isMirrornodeHedgingEnabled());
         final MirrorNodeJsonConverterImpl jsonConverter = new MirrorNodeJsonConverterImpl();
-        return new MirrorNodeClientImpl(restClient, jsonConverter);
+        final MirrorNodeClientImpl mirrorNodeClient = new MirrorNodeClientImpl(restClients, jsonConverter,
+                balancerSettings);
+        if (networkConfiguration.isMirrornodeCacheEnabled()) {
+            log.debug("Caching of mirror node lookups is enabled");
+            final MirrorNodeCacheSettings cacheSettings = new MirrorNodeCacheSettings(
+                    networkConfiguration.getMirrornodeCacheMaximumSize()
+                            .orElse(MirrorNodeCacheSettings.DEFAULT_MAXIMUM_SIZE),
+                    networkConfiguration.getMirrornodeCacheNegativeTtlInMs().map(Duration::ofMillis)
+                            .orElse(MirrorNodeCacheSettings.DEFAULT_NEGATIVE_TTL),
+                    networkConfiguration.getMirrornodeCacheTtls());
+            return new CachingMirrorNodeClient(mirrorNodeClient, cacheSettings);
+        }
+        return mirrorNodeClient;
+    }
+
+    void closeMirrorNodeClient(@Disposes final MirrorNodeClient mirrorNodeClient) {
+        if (mirrorNodeClient instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (final Exception e) {
+                log.warn("Failed to close mirror node client", e);
+            }
+        }
     }
 
     @NonNull
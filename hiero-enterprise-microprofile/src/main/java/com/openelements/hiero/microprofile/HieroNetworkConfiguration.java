@@ -2,7 +2,10 @@ package com.openelements.hiero.microprofile;
 
 import com.openelements.hiero.base.config.ConsensusNode;
 import jakarta.enterprise.context.Dependent;
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings.CachedQuery;
 import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -26,10 +29,87 @@ public class HieroNetworkConfiguration {
 
     private Optional<Long> requestTimeoutInMs;
 
+    @ConfigProperty(name = "mirrornode.connectTimeoutInMs")
+    private Optional<Long> mirrornodeConnectTimeoutInMs;
+
+    @ConfigProperty(name = "mirrornode.readTimeoutInMs")
+    private Optional<Long> mirrornodeReadTimeoutInMs;
+
+    @ConfigProperty(name = "mirrornode.poolSize")
+    private Optional<Integer> mirrornodePoolSize;
+
+    @ConfigProperty(name = "mirrornode.idleTimeoutInMs")
+    private Optional<Long> mirrornodeIdleTimeoutInMs;
+
+    @ConfigProperty(name = "mirrornode.hedgingEnabled", defaultValue = "false")
+    private boolean mirrornodeHedgingEnabled;
+
+    @ConfigProperty(name = "mirrornode.cache.enabled", defaultValue = "false")
+    private boolean mirrornodeCacheEnabled;
+
+    @ConfigProperty(name = "mirrornode.cache.maximumSize")
+    private Optional<Integer> mirrornodeCacheMaximumSize;
+
+    @ConfigProperty(name = "mirrornode.cache.negativeTtlInMs")
+    private Optional<Long> mirrornodeCacheNegativeTtlInMs;
+
+    @ConfigProperty(name = "mirrornode.cache.ttlInMs")
+    private Optional<String> mirrornodeCacheTtlInMs;
+
     public Optional<Long> getRequestTimeoutInMs() {
         return requestTimeoutInMs;
     }
 
+    public Optional<Long> getMirrornodeConnectTimeoutInMs() {
+        return mirrornodeConnectTimeoutInMs;
+    }
+
+    public Optional<Long> getMirrornodeReadTimeoutInMs() {
+        return mirrornodeReadTimeoutInMs;
+    }
+
+    public Optional<Integer> getMirrornodePoolSize() {
+        return mirrornodePoolSize;
+    }
+
+    public Optional<Long> getMirrornodeIdleTimeoutInMs() {
+        return mirrornodeIdleTimeoutInMs;
+    }
+
+    public boolean isMirrornodeHedgingEnabled() {
+        return mirrornodeHedgingEnabled;
+    }
+
+    public boolean isMirrornodeCacheEnabled() {
+        return mirrornodeCacheEnabled;
+    }
+
+    public Optional<Integer> getMirrornodeCacheMaximumSize() {
+        return mirrornodeCacheMaximumSize;
+    }
+
+    public Optional<Long> getMirrornodeCacheNegativeTtlInMs() {
+        return mirrornodeCacheNegativeTtlInMs;
+    }
+
+    public Map<CachedQuery, Duration> getMirrornodeCacheTtls() {
+        return mirrornodeCacheTtlInMs.map(t -> t.split(","))
+                .map(t -> Stream.of(t))
+                .orElse(Stream.empty())
+                .map(String::trim)
+                .filter(t -> !t.isEmpty())
+                .map(t -> {
+                    // TOKEN=60000
+                    final String[] split = t.split("=");
+                    if (split.length != 2) {
+                        throw new IllegalStateException("Can not parse cache ttl for '" + t + "'");
+                    }
+                    final CachedQuery query = CachedQuery.valueOf(split[0].trim());
+                    final Duration ttl = Duration.ofMillis(Long.parseLong(split[1].trim()));
+                    return Map.entry(query, ttl);
+                }).collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
     public Optional<String> getName() {
         return name;
     }
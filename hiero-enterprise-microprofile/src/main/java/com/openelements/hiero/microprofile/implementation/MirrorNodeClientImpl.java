@@ -14,25 +14,86 @@ import com.openelements.hiero.base.data.Result;
 import com.openelements.hiero.base.data.BalanceModification;
 import com.openelements.hiero.base.data.TopicMessage;
 import com.openelements.hiero.base.implementation.AbstractMirrorNodeClient;
+import com.openelements.hiero.base.implementation.MirrorNodeBalancerSettings;
+import com.openelements.hiero.base.implementation.MirrorNodeEndpointBalancer;
+import com.openelements.hiero.base.implementation.MirrorNodeEndpointBalancer.EndpointStatistics;
 import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import jakarta.json.JsonObject;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
 
-public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
+public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> implements AutoCloseable {
 
-    private final MirrorNodeRestClientImpl restClient;
+    private final List<MirrorNodeRestClientImpl> restClients;
+
+    private final MirrorNodeEndpointBalancer<MirrorNodeRestClientImpl> balancer;
+
+    private final MirrorNodeRestClient<JsonObject> restClient;
 
     private final MirrorNodeJsonConverter<JsonObject> jsonConverter;
 
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     public MirrorNodeClientImpl(MirrorNodeRestClientImpl restClient,
             MirrorNodeJsonConverter<JsonObject> jsonConverter) {
-        this.restClient = Objects.requireNonNull(restClient, "restClient must not be null");
+        this(List.of(Objects.requireNonNull(restClient, "restClient must not be null")), jsonConverter,
+                MirrorNodeBalancerSettings.DEFAULT);
+    }
+
+    /**
+     * Constructor for a client that spreads the calls across several mirror nodes. Single lookups are routed by a
+     * {@link MirrorNodeEndpointBalancer} and fail over to the other mirror nodes. All pages of a paged query are
+     * fetched from the mirror node that has been selected for the first page.
+     *
+     * @param restClients   the rest clients, one per mirror node
+     * @param jsonConverter the json converter
+     * @param settings      the settings of the balancer
+     */
+    public MirrorNodeClientImpl(List<MirrorNodeRestClientImpl> restClients,
+            MirrorNodeJsonConverter<JsonObject> jsonConverter, MirrorNodeBalancerSettings settings) {
+        Objects.requireNonNull(restClients, "restClients must not be null");
         this.jsonConverter = Objects.requireNonNull(jsonConverter, "jsonConverter must not be null");
+        Objects.requireNonNull(settings, "settings must not be null");
+        this.restClients = List.copyOf(restClients);
+        final Map<String, MirrorNodeRestClientImpl> endpoints = new LinkedHashMap<>();
+        this.restClients.forEach(c -> endpoints.putIfAbsent(c.getTarget(), c));
+        this.balancer = new MirrorNodeEndpointBalancer<>(endpoints, settings);
+        this.restClient = path -> balancer.execute(c -> c.doGetCall(path));
+    }
+
+    /**
+     * Returns the statistics of the mirror nodes that are used by this client.
+     *
+     * @return the statistics
+     */
+    @NonNull
+    public List<EndpointStatistics> getEndpointStatistics() {
+        return balancer.getStatistics();
+    }
+
+    /**
+     * Returns true if the client and the rest clients of all its mirror nodes have been closed.
+     *
+     * @return true if the client has been closed
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            balancer.close();
+            restClients.forEach(MirrorNodeRestClientImpl::close);
+        }
     }
 
     @Override
@@ -67,7 +128,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/tokens?account.id=" + accountId;
         final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction = node -> jsonConverter.toTransactionInfos(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -77,7 +138,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(type, "type must not be null");
         final String path = "/api/v1/tokens?account.id=" + accountId + "&transactiontype=" + type;
         final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction = node -> jsonConverter.toTransactionInfos(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -87,7 +148,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(result, "result must not be null");
         final String path = "/api/v1/tokens?account.id=" + accountId + "&result=" + result;
         final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction = node -> jsonConverter.toTransactionInfos(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -97,7 +158,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(type, "type must not be null");
         final String path = "/api/v1/tokens?account.id=" + accountId + "&type=" + type;
         final Function<JsonObject, List<TransactionInfo>> dataExtractionFunction = node -> jsonConverter.toTransactionInfos(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -105,7 +166,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/tokens?account.id=" + accountId;
         final Function<JsonObject, List<Token>> dataExtractionFunction = node -> jsonConverter.toTokens(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -113,7 +174,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(tokenId, "tokenId must not be null");
         final String path = "/api/v1/tokens/" + tokenId + "/balances";
         final Function<JsonObject, List<Balance>> dataExtractionFunction = node -> jsonConverter.toBalances(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -122,7 +183,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/tokens/" + tokenId + "/balances?account.id=" + accountId;
         final Function<JsonObject, List<Balance>> dataExtractionFunction = node -> jsonConverter.toBalances(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
     @Override
@@ -130,9 +191,31 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         Objects.requireNonNull(topicId, "topicId must not be null");
         final String path = "/api/v1/topics/" + topicId + "/messages";
         final Function<JsonObject, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
-        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
+    }
+
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId, long fromSequenceNumber)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        final String path = "/api/v1/topics/" + topicId + "/messages?order=asc&limit=100&sequencenumber=gte:"
+                + fromSequenceNumber;
+        final Function<JsonObject, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
     }
 
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId, Instant fromConsensusTimestamp)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(fromConsensusTimestamp, "fromConsensusTimestamp must not be null");
+        final String path = "/api/v1/topics/" + topicId + "/messages?order=asc&limit=100&timestamp=gte:"
+                + fromConsensusTimestamp.getEpochSecond() + "."
+                + String.format("%09d", fromConsensusTimestamp.getNano());
+        final Function<JsonObject, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
+        return balancer.execute(c -> new RestBasedPage<>(c, dataExtractionFunction, path));
+    }
 
     @Override
     public @NonNull Page<NftMetadata> findNftTypesByOwner(AccountId ownerId) {
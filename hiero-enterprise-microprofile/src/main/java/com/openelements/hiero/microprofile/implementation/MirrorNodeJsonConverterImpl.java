@@ -388,16 +388,16 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
                 chunkInfo = new ChunkInfo(transactionId, nonce, number, total, scheduled);
             }
 
-            final Instant consensusTimestamp =  Instant.ofEpochSecond((long) Double.parseDouble(jsonObject.getString("consensus_timestamp")));
-            final String message = new String(Base64.getDecoder().decode(jsonObject.getString("message")));
+            final Instant consensusTimestamp = MirrorNodeJsonConverter.parseConsensusTimestamp(jsonObject.getString("consensus_timestamp"));
+            final byte[] contents = Base64.getDecoder().decode(jsonObject.getString("message"));
             final AccountId payerAccountId = AccountId.fromString(jsonObject.getString("payer_account_id"));
-            final byte[] runningHash = jsonObject.getString("running_hash").getBytes();
+            final byte[] runningHash = Base64.getDecoder().decode(jsonObject.getString("running_hash"));
             final int runningHashVersion = jsonObject.getInt("running_hash_version");
             final long sequenceNumber = Long.parseLong(jsonObject.getString("sequence_number"));
             final TopicId topicId = TopicId.fromString(jsonObject.getString("topic_id"));
 
             return Optional.of(
-                    new TopicMessage(chunkInfo, consensusTimestamp, message, payerAccountId, runningHash,
+                    TopicMessage.of(chunkInfo, consensusTimestamp, contents, payerAccountId, runningHash,
                             runningHashVersion, sequenceNumber, topicId)
             );
         } catch (final Exception e) {
@@ -607,4 +607,3 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
         }
     }
 }
-
@@ -4,33 +4,72 @@ import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 
-public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonObject> {
+/**
+ * Rest client for a mirror node. The client holds one long-lived JAX-RS client for its target that is shared by all
+ * calls and all pages created by the client. The client must be closed once it is not needed anymore.
+ */
+public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonObject>, AutoCloseable {
 
     private final String target;
 
-    public MirrorNodeRestClientImpl(String target) {
-        this.target = target;
+    private final Client client;
+
+    private final WebTarget webTarget;
+
+    public MirrorNodeRestClientImpl(@NonNull final String target) {
+        this(target, MirrorNodeRestClientSettings.DEFAULT);
+    }
+
+    public MirrorNodeRestClientImpl(@NonNull final String target,
+            @NonNull final MirrorNodeRestClientSettings settings) {
+        this.target = Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(settings, "settings must not be null");
+        this.client = settings.createClient();
+        this.webTarget = client.target(target);
     }
 
     @Override
     public @NonNull JsonObject doGetCall(@NonNull String path) throws HieroException {
-        Client client = ClientBuilder.newClient();
-        Response response = client
-                .target(target)
-                .path(path)
-                .request(MediaType.APPLICATION_JSON)
-                .get();
-
-        if (response.getStatus() == 404 || !response.hasEntity()) {
-            return JsonObject.EMPTY_JSON_OBJECT;
+        Objects.requireNonNull(path, "path must not be null");
+        try (Response response = resolve(path).request(MediaType.APPLICATION_JSON).get()) {
+            if (response.getStatus() == 404 || !response.hasEntity()) {
+                return JsonObject.EMPTY_JSON_OBJECT;
+            }
+            return response.readEntity(JsonObject.class);
+        } catch (final Exception e) {
+            throw new HieroException("Error calling mirror node at '" + target + "' with path '" + path + "'", e);
+        }
+    }
+
+    /**
+     * Resolves the given path, that can contain query parameters, against the target of the client.
+     *
+     * @param path the path
+     * @return the web target
+     */
+    @NonNull
+    WebTarget resolve(@NonNull final String path) {
+        final String[] pathParts = path.split("\\?", 2);
+        WebTarget resolved = webTarget.path(pathParts[0]);
+        if (pathParts.length > 1) {
+            for (String param : pathParts[1].split("&")) {
+                final String[] p = param.split("=", 2);
+                resolved = resolved.queryParam(p[0], p.length > 1 ? p[1] : "");
+            }
         }
-        return response.readEntity(JsonObject.class);
+        return resolved;
     }
 
     public String getTarget() {return target;}
+
+    @Override
+    public void close() {
+        client.close();
+    }
 }
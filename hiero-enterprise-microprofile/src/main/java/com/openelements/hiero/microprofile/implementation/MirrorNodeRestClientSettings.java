@@ -0,0 +1,144 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import com.openelements.hiero.microprofile.HieroNetworkConfiguration;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Settings of the shared JAX-RS client that is used to call a mirror node.
+ * <p>
+ * Connect and read timeouts are applied by the standard JAX-RS API. JAX-RS has no portable API for connection
+ * pooling, therefore pool size and idle timeout are applied in the way of the JAX-RS implementation of the runtime:
+ * <ul>
+ *     <li>RESTEasy Reactive (Quarkus) reads them from the client properties {@value #CONNECTION_POOL_SIZE_PROPERTY}
+ *     and {@value #CONNECTION_TTL_PROPERTY}, which are always set.</li>
+ *     <li>RESTEasy classic only pools connections if a pool size is set on its {@code ResteasyClientBuilder}, the
+ *     settings are applied by calling {@code connectionPoolSize}, {@code maxPooledPerRoute} and
+ *     {@code connectionTTL} on that builder.</li>
+ *     <li>The default connector of Jersey (Helidon) keeps connections alive in the JVM wide cache of
+ *     {@link java.net.HttpURLConnection}, that cache is configured by the {@code http.maxConnections} system property
+ *     and pool size and idle timeout of these settings have no effect.</li>
+ * </ul>
+ *
+ * @param connectTimeout timeout to establish a connection
+ * @param readTimeout    timeout to read a response
+ * @param poolSize       maximum number of pooled connections
+ * @param idleTimeout    time after which an idle pooled connection is closed
+ */
+public record MirrorNodeRestClientSettings(@NonNull Duration connectTimeout, @NonNull Duration readTimeout,
+                                           int poolSize, @NonNull Duration idleTimeout) {
+
+    private static final Logger log = LoggerFactory.getLogger(MirrorNodeRestClientSettings.class);
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+    public static final int DEFAULT_POOL_SIZE = 20;
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(60);
+
+    public static final MirrorNodeRestClientSettings DEFAULT = new MirrorNodeRestClientSettings(
+            DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_POOL_SIZE, DEFAULT_IDLE_TIMEOUT);
+
+    /**
+     * Client property for the pool size of a RESTEasy Reactive client.
+     */
+    public static final String CONNECTION_POOL_SIZE_PROPERTY = "io.quarkus.rest.client.connection-pool-size";
+
+    /**
+     * Client property for the idle timeout in seconds of a RESTEasy Reactive client.
+     */
+    public static final String CONNECTION_TTL_PROPERTY = "io.quarkus.rest.client.connection-ttl";
+
+    private static final String RESTEASY_CLASSIC_BUILDER = "org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder";
+
+    public MirrorNodeRestClientSettings {
+        Objects.requireNonNull(connectTimeout, "connectTimeout must not be null");
+        Objects.requireNonNull(readTimeout, "readTimeout must not be null");
+        Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+        if (connectTimeout.isNegative()) {
+            throw new IllegalArgumentException("connectTimeout must not be negative");
+        }
+        if (readTimeout.isNegative()) {
+            throw new IllegalArgumentException("readTimeout must not be negative");
+        }
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("idleTimeout must not be negative");
+        }
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be greater than 0");
+        }
+    }
+
+    /**
+     * Creates the settings based on the {@code hiero.network.mirrornode.*} configuration. Values that are not
+     * configured are taken from the defaults.
+     *
+     * @param configuration the network configuration
+     * @return the settings
+     */
+    @NonNull
+    public static MirrorNodeRestClientSettings of(@NonNull final HieroNetworkConfiguration configuration) {
+        Objects.requireNonNull(configuration, "configuration must not be null");
+        return new MirrorNodeRestClientSettings(
+                configuration.getMirrornodeConnectTimeoutInMs().map(Duration::ofMillis)
+                        .orElse(DEFAULT_CONNECT_TIMEOUT),
+                configuration.getMirrornodeReadTimeoutInMs().map(Duration::ofMillis)
+                        .orElse(DEFAULT_READ_TIMEOUT),
+                configuration.getMirrornodePoolSize().orElse(DEFAULT_POOL_SIZE),
+                configuration.getMirrornodeIdleTimeoutInMs().map(Duration::ofMillis)
+                        .orElse(DEFAULT_IDLE_TIMEOUT));
+    }
+
+    /**
+     * Creates a new JAX-RS client based on the settings. The client is thread-safe and should be shared and closed
+     * when it is not needed anymore.
+     *
+     * @return the client
+     */
+    @NonNull
+    public Client createClient() {
+        final ClientBuilder builder = ClientBuilder.newBuilder()
+                .connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .property(CONNECTION_POOL_SIZE_PROPERTY, poolSize)
+                .property(CONNECTION_TTL_PROPERTY, (int) Math.min(Integer.MAX_VALUE, idleTimeout.toSeconds()));
+        if (isResteasyClassic(builder.getClass())) {
+            configureResteasyClassicPool(builder);
+        }
+        return builder.build();
+    }
+
+    private void configureResteasyClassicPool(@NonNull final ClientBuilder builder) {
+        try {
+            final Class<?> builderClass = builder.getClass();
+            final Method connectionPoolSize = builderClass.getMethod("connectionPoolSize", int.class);
+            final Method maxPooledPerRoute = builderClass.getMethod("maxPooledPerRoute", int.class);
+            final Method connectionTTL = builderClass.getMethod("connectionTTL", long.class, TimeUnit.class);
+            connectionPoolSize.invoke(builder, poolSize);
+            maxPooledPerRoute.invoke(builder, poolSize);
+            connectionTTL.invoke(builder, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final ReflectiveOperationException e) {
+            log.warn("Can not configure connection pool of RESTEasy client", e);
+        }
+    }
+
+    private static boolean isResteasyClassic(@NonNull final Class<?> builderClass) {
+        Class<?> current = builderClass;
+        while (current != null) {
+            if (RESTEASY_CLASSIC_BUILDER.equals(current.getName())) {
+                return true;
+            }
+            current = current.getSuperclass();
+        }
+        return false;
+    }
+}
@@ -2,11 +2,7 @@ package com.openelements.hiero.microprofile.implementation;
 
 import com.openelements.hiero.base.data.Page;
 import jakarta.json.JsonObject;
-import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
-import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
-import jakarta.ws.rs.core.Response;
 import org.jspecify.annotations.NonNull;
 
 import java.util.Collections;
@@ -15,7 +11,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 public class RestBasedPage<T> implements Page<T> {
-    private final String restTarget;
+    private final MirrorNodeRestClientImpl restClient;
     private final Function<JsonObject, List<T>> dataExtractionFunction;
     private final List<T> data;
     private final String rootPath;
@@ -23,36 +19,24 @@ public class RestBasedPage<T> implements Page<T> {
     private final String nextPath;
     private final int number;
 
-    public RestBasedPage(@NonNull String restTarget, @NonNull Function<JsonObject,
+    public RestBasedPage(@NonNull MirrorNodeRestClientImpl restClient, @NonNull Function<JsonObject,
             @NonNull List<T>> dataExtractionFunction, @NonNull String path) {
-        this(restTarget, dataExtractionFunction, path, path, 0);
+        this(restClient, dataExtractionFunction, path, path, 0);
     }
 
-    public RestBasedPage(@NonNull String restTarget,
+    public RestBasedPage(@NonNull MirrorNodeRestClientImpl restClient,
                          @NonNull Function<JsonObject, List<T>> dataExtractionFunction, @NonNull String path,
                          @NonNull String rootPath, int number) {
-        this.restTarget =  Objects.requireNonNull(restTarget, "restTarget must not be null");
+        this.restClient =  Objects.requireNonNull(restClient, "restClient must not be null");
         this.dataExtractionFunction =  Objects.requireNonNull(dataExtractionFunction, "dataExtractionFunction must not be null");
         this.rootPath = Objects.requireNonNull(rootPath, "rootPath must not be null");
         this.currentPath =  Objects.requireNonNull(path, "path must not be null");
         this.number = number;
 
-        String[] pathParts = currentPath.split("\\?");
-        final String requestPath = pathParts[0];
-
         try {
-            Client client = ClientBuilder.newClient();
-            WebTarget target = client.target(restTarget).path(requestPath);
-            if (pathParts.length > 1) {
-                String[] params = pathParts[1].split("&");
-                for (String param : params) {
-                    String[] p = param.split("=");
-                    target = target.queryParam(p[0], p[1]);
-                }
-            }
-            Response response = target.request(MediaType.APPLICATION_JSON).get();
-
-            final JsonObject jsonObject = response.readEntity(JsonObject.class);
+            final JsonObject jsonObject = restClient.resolve(currentPath)
+                    .request(MediaType.APPLICATION_JSON)
+                    .get(JsonObject.class);
             this.data = Collections.unmodifiableList(dataExtractionFunction.apply(jsonObject));
             this.nextPath = getNextPath(jsonObject);
         } catch (Exception e) {
@@ -107,12 +91,12 @@ public class RestBasedPage<T> implements Page<T> {
         if (nextPath == null) {
             throw new IllegalStateException("No next Page");
         }
-        return new RestBasedPage<T>(restTarget, dataExtractionFunction, nextPath, rootPath, number+1);
+        return new RestBasedPage<T>(restClient, dataExtractionFunction, nextPath, rootPath, number+1);
     }
 
     @Override
     public Page<T> first() {
-        return new RestBasedPage<T>(restTarget, dataExtractionFunction, rootPath);
+        return new RestBasedPage<T>(restClient, dataExtractionFunction, rootPath);
     }
 
     @Override
@@ -0,0 +1,120 @@
+package com.openelements.hiero.microprofile.test;
+
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import com.openelements.hiero.microprofile.ClientProvider;
+import com.openelements.hiero.microprofile.HieroNetworkConfiguration;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.microprofile.implementation.MirrorNodeRestClientSettings;
+import io.helidon.microprofile.tests.junit5.AddBean;
+import io.helidon.microprofile.tests.junit5.Configuration;
+import io.helidon.microprofile.tests.junit5.HelidonTest;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.Client;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+@HelidonTest
+@AddBean(ClientProvider.class)
+@Configuration(useExisting = true)
+public class ClientProviderTest {
+
+    @Inject
+    @ConfigProperties
+    private HieroNetworkConfiguration networkConfiguration;
+
+    @Inject
+    private BeanManager beanManager;
+
+    @BeforeAll
+    static void setup() {
+        final Config build = ConfigProviderResolver.instance()
+                .getBuilder().withSources(new TestConfigSource(), new MirrorNodeConfigSource()).build();
+        ConfigProviderResolver.instance().registerConfig(build, Thread.currentThread().getContextClassLoader());
+    }
+
+    @Test
+    void testMirrorNodeRestClientSettingsAreReadFromConfiguration() {
+        //when
+        final MirrorNodeRestClientSettings settings = MirrorNodeRestClientSettings.of(networkConfiguration);
+
+        //then
+        Assertions.assertEquals(Duration.ofMillis(1_500), settings.connectTimeout());
+        Assertions.assertEquals(Duration.ofMillis(2_500), settings.readTimeout());
+        Assertions.assertEquals(7, settings.poolSize());
+        Assertions.assertEquals(Duration.ofMillis(45_000), settings.idleTimeout());
+    }
+
+    @Test
+    void testPoolSettingsArePassedToClient() {
+        //given
+        final MirrorNodeRestClientSettings settings = MirrorNodeRestClientSettings.of(networkConfiguration);
+
+        //when
+        try (Client client = settings.createClient()) {
+            //then
+            Assertions.assertEquals(7, client.getConfiguration()
+                    .getProperty(MirrorNodeRestClientSettings.CONNECTION_POOL_SIZE_PROPERTY));
+            Assertions.assertEquals(45, client.getConfiguration()
+                    .getProperty(MirrorNodeRestClientSettings.CONNECTION_TTL_PROPERTY));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMirrorNodeClientIsClosedWhenDisposed() {
+        //given
+        final Bean<MirrorNodeClient> bean = (Bean<MirrorNodeClient>) beanManager.resolve(
+                beanManager.getBeans(MirrorNodeClient.class));
+        final CreationalContext<MirrorNodeClient> context = beanManager.createCreationalContext(bean);
+        final MirrorNodeClient mirrorNodeClient = bean.create(context);
+        final MirrorNodeClientImpl client = Assertions.assertInstanceOf(MirrorNodeClientImpl.class,
+                mirrorNodeClient);
+        Assertions.assertFalse(client.isClosed());
+
+        //when
+        bean.destroy(mirrorNodeClient, context);
+
+        //then
+        Assertions.assertTrue(client.isClosed());
+    }
+
+    private static class MirrorNodeConfigSource implements ConfigSource {
+
+        private final Map<String, String> properties = Map.of(
+                "hiero.network.mirrornode.connectTimeoutInMs", "1500",
+                "hiero.network.mirrornode.readTimeoutInMs", "2500",
+                "hiero.network.mirrornode.poolSize", "7",
+                "hiero.network.mirrornode.idleTimeoutInMs", "45000");
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 500;
+        }
+
+        @Override
+        public String getName() {
+            return MirrorNodeConfigSource.class.getName();
+        }
+    }
+}
@@ -10,12 +10,16 @@ import com.openelements.hiero.base.TopicClient;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.implementation.AccountClientImpl;
 import com.openelements.hiero.base.implementation.AccountRepositoryImpl;
+import com.openelements.hiero.base.implementation.AsyncProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.CachingMirrorNodeClient;
+import com.openelements.hiero.base.implementation.ContractQueryCacheSettings;
 import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
 import com.openelements.hiero.base.implementation.NetworkRepositoryImpl;
 import com.openelements.hiero.base.implementation.NftClientImpl;
 import com.openelements.hiero.base.implementation.NftRepositoryImpl;
 import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.RateLimiterSettings;
 import com.openelements.hiero.base.implementation.SmartContractClientImpl;
 import com.openelements.hiero.base.implementation.TokenRepositoryImpl;
 import com.openelements.hiero.base.implementation.TopicClientImpl;
@@ -29,13 +33,17 @@ import com.openelements.hiero.base.mirrornode.NftRepository;
 import com.openelements.hiero.base.mirrornode.TokenRepository;
 import com.openelements.hiero.base.mirrornode.TopicRepository;
 import com.openelements.hiero.base.mirrornode.TransactionRepository;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.verification.ContractVerificationClient;
 import java.net.URI;
 import java.net.URL;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -66,23 +74,36 @@ public class HieroAutoConfiguration {
     }
 
     @Bean
-    ProtocolLayerClient protocolLevelClient(final HieroContext hieroContext,
+    AsyncProtocolLayerClient asyncProtocolLevelClient(final HieroContext hieroContext,
+            final HieroProperties properties,
             @Autowired(required = false) final ReceiveRecordInterceptor interceptor) {
-        ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(hieroContext);
+        final HieroRateLimiterProperties rateLimiter = properties.getRateLimiter();
+        final RateLimiterSettings rateLimiterSettings = rateLimiter.isEnabled() ? rateLimiter.toSettings() : null;
+        final AsyncProtocolLayerClientImpl protocolLayerClient = new AsyncProtocolLayerClientImpl(hieroContext,
+                rateLimiterSettings);
         if (interceptor != null) {
             protocolLayerClient.setRecordInterceptor(interceptor);
         }
         return protocolLayerClient;
     }
 
+    @Bean
+    ProtocolLayerClient protocolLevelClient(final AsyncProtocolLayerClient asyncProtocolLayerClient) {
+        return ProtocolLayerClientImpl.of(asyncProtocolLayerClient);
+    }
+
     @Bean
     FileClient fileClient(final ProtocolLayerClient protocolLayerClient) {
         return new FileClientImpl(protocolLayerClient);
     }
 
     @Bean
-    SmartContractClient smartContractClient(final ProtocolLayerClient protocolLayerClient, FileClient fileClient) {
-        return new SmartContractClientImpl(protocolLayerClient, fileClient);
+    SmartContractClient smartContractClient(final ProtocolLayerClient protocolLayerClient, FileClient fileClient,
+            final HieroProperties properties) {
+        final HieroContractQueryCacheProperties cacheProperties = properties.getContractQueryCache();
+        final ContractQueryCacheSettings cacheSettings = cacheProperties.isEnabled() ? cacheProperties.toSettings()
+                : ContractQueryCacheSettings.DISABLED;
+        return new SmartContractClientImpl(protocolLayerClient, fileClient, cacheSettings);
     }
 
     @Bean
@@ -108,14 +129,33 @@ public class HieroAutoConfiguration {
     @Bean
     @ConditionalOnProperty(prefix = "spring.hiero", name = "mirrorNodeSupported",
             havingValue = "true", matchIfMissing = true)
-    MirrorNodeClient mirrorNodeClient(final HieroContext hieroContext) {
-        final String mirrorNodeEndpoint;
+    MirrorNodeClient mirrorNodeClient(final HieroContext hieroContext, final HieroProperties properties,
+            final ObjectProvider<MirrorNodeRestClientCustomizer> customizers) {
         final List<String> mirrorNetwork = hieroContext.getClient().getMirrorNetwork();
         if (mirrorNetwork.isEmpty()) {
             throw new IllegalArgumentException("Mirror node endpoint must be set");
         }
-        mirrorNodeEndpoint = mirrorNetwork.get(0);
-        final String baseUri;
+        final Map<String, RestClient.Builder> builders = new LinkedHashMap<>();
+        mirrorNetwork.forEach(mirrorNodeEndpoint -> {
+            final String baseUri = toBaseUri(mirrorNodeEndpoint);
+            builders.computeIfAbsent(baseUri, uri -> {
+                final RestClient.Builder builder = RestClient.builder().baseUrl(uri);
+                customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+                return builder;
+            });
+        });
+        log.debug("Using mirror nodes {}", builders.keySet());
+        final MirrorNodeClient mirrorNodeClient = new MirrorNodeClientImpl(builders,
+                properties.getMirrorNodeBalancer().toSettings());
+        final HieroMirrorNodeCacheProperties cacheProperties = properties.getMirrorNodeCache();
+        if (cacheProperties.isEnabled()) {
+            log.debug("Caching of mirror node lookups is enabled");
+            return new CachingMirrorNodeClient(mirrorNodeClient, cacheProperties.toSettings());
+        }
+        return mirrorNodeClient;
+    }
+
+    private static String toBaseUri(final String mirrorNodeEndpoint) {
         try {
             URL url = new URI(mirrorNodeEndpoint).toURL();
             final String mirrorNodeEndpointProtocol = url.getProtocol();
@@ -130,12 +170,10 @@ public class HieroAutoConfiguration {
             } else {
                 mirrorNodeEndpointPort = url.getPort();
             }
-            baseUri = mirrorNodeEndpointProtocol + "://" + mirrorNodeEndpointHost + ":" + mirrorNodeEndpointPort;
+            return mirrorNodeEndpointProtocol + "://" + mirrorNodeEndpointHost + ":" + mirrorNodeEndpointPort;
         } catch (Exception e) {
             throw new IllegalArgumentException("Error parsing mirrorNodeEndpoint '" + mirrorNodeEndpoint + "'", e);
         }
-        RestClient.Builder builder = RestClient.builder().baseUrl(baseUri);
-        return new MirrorNodeClientImpl(builder);
     }
 
     @Bean
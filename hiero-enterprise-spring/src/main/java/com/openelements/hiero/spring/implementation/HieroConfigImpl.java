@@ -5,6 +5,7 @@ import com.hedera.hashgraph.sdk.PrivateKey;
 import com.openelements.hiero.base.config.ConsensusNode;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.config.NetworkSettings;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
 import com.openelements.hiero.base.data.Account;
 import java.time.Duration;
 import java.util.Collections;
@@ -19,6 +20,10 @@ public class HieroConfigImpl implements HieroConfig {
 
     private final Account operatorAccount;
 
+    private final List<Account> additionalOperatorAccounts;
+
+    private final OperatorSelectionStrategy operatorSelectionStrategy;
+
     private final String networkName;
 
     private final Set<String> mirrorNodeAddresses;
@@ -41,6 +46,17 @@ public class HieroConfigImpl implements HieroConfig {
         final PrivateKey operatorPrivateKey = parsePrivateKey(properties.getPrivateKey());
 
         operatorAccount = Account.of(operatorAccountId, operatorPrivateKey);
+        final List<HieroOperatorProperties> additionalOperators = properties.getAdditionalOperators();
+        if (additionalOperators == null) {
+            additionalOperatorAccounts = List.of();
+        } else {
+            additionalOperatorAccounts = additionalOperators.stream()
+                    .map(operator -> Account.of(parseAccountId(operator.getAccountId()),
+                            parsePrivateKey(operator.getPrivateKey())))
+                    .toList();
+        }
+        operatorSelectionStrategy = Optional.ofNullable(properties.getOperatorSelection())
+                .orElse(OperatorSelectionStrategy.LEAST_IN_FLIGHT);
         requestTimeout = Optional.ofNullable(properties.getNetwork().getRequestTimeoutInMs())
                 .map(timeout -> Duration.ofMillis(timeout)).orElse(null);
 
@@ -96,6 +112,16 @@ public class HieroConfigImpl implements HieroConfig {
         return operatorAccount;
     }
 
+    @Override
+    public @NonNull List<Account> getAdditionalOperatorAccounts() {
+        return additionalOperatorAccounts;
+    }
+
+    @Override
+    public @NonNull OperatorSelectionStrategy getOperatorSelectionStrategy() {
+        return operatorSelectionStrategy;
+    }
+
     @Override
     public Optional<String> getNetworkName() {
         return Optional.ofNullable(networkName);
@@ -0,0 +1,54 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.implementation.ContractQueryCacheSettings;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(
+        prefix = "spring.hiero.contract-query-cache"
+)
+public class HieroContractQueryCacheProperties {
+
+    /**
+     * Defines if results of read-only contract queries are cached. Default is false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached results. Default is 1000.
+     */
+    private int maximumSize = ContractQueryCacheSettings.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Time to live of a cached result. Default is 2 seconds.
+     */
+    private Duration ttl = ContractQueryCacheSettings.DEFAULT_TTL;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public ContractQueryCacheSettings toSettings() {
+        return new ContractQueryCacheSettings(maximumSize, ttl);
+    }
+}
@@ -0,0 +1,94 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.implementation.MirrorNodeBalancerSettings;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(
+        prefix = "spring.hiero.mirror-node-balancer"
+)
+public class HieroMirrorNodeBalancerProperties {
+
+    /**
+     * Weight of a new sample in the moving averages of latency and error rate of a mirror node. Default is 0.2.
+     */
+    private double ewmaWeight = MirrorNodeBalancerSettings.DEFAULT_EWMA_WEIGHT;
+
+    /**
+     * Number of consecutive failures after that a mirror node is ejected. Default is 3.
+     */
+    private int ejectionThreshold = MirrorNodeBalancerSettings.DEFAULT_EJECTION_THRESHOLD;
+
+    /**
+     * Time an ejected mirror node is not used before it is probed again. Default is 30 seconds.
+     */
+    private Duration ejectionDuration = MirrorNodeBalancerSettings.DEFAULT_EJECTION_DURATION;
+
+    /**
+     * Defines if slow calls are hedged by a second call to another mirror node. Default is false.
+     */
+    private boolean hedgingEnabled = false;
+
+    /**
+     * Latency percentile of a mirror node after that a call is hedged. Default is 0.95.
+     */
+    private double hedgePercentile = MirrorNodeBalancerSettings.DEFAULT_HEDGE_PERCENTILE;
+
+    /**
+     * Minimum time before a call is hedged. Default is 50 milliseconds.
+     */
+    private Duration minHedgeDelay = MirrorNodeBalancerSettings.DEFAULT_MIN_HEDGE_DELAY;
+
+    public double getEwmaWeight() {
+        return ewmaWeight;
+    }
+
+    public void setEwmaWeight(double ewmaWeight) {
+        this.ewmaWeight = ewmaWeight;
+    }
+
+    public int getEjectionThreshold() {
+        return ejectionThreshold;
+    }
+
+    public void setEjectionThreshold(int ejectionThreshold) {
+        this.ejectionThreshold = ejectionThreshold;
+    }
+
+    public Duration getEjectionDuration() {
+        return ejectionDuration;
+    }
+
+    public void setEjectionDuration(Duration ejectionDuration) {
+        this.ejectionDuration = ejectionDuration;
+    }
+
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    public void setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+    }
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public Duration getMinHedgeDelay() {
+        return minHedgeDelay;
+    }
+
+    public void setMinHedgeDelay(Duration minHedgeDelay) {
+        this.minHedgeDelay = minHedgeDelay;
+    }
+
+    public MirrorNodeBalancerSettings toSettings() {
+        return new MirrorNodeBalancerSettings(ewmaWeight, ejectionThreshold, ejectionDuration, hedgingEnabled,
+                hedgePercentile, minHedgeDelay);
+    }
+}
@@ -0,0 +1,71 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings;
+import com.openelements.hiero.base.implementation.MirrorNodeCacheSettings.CachedQuery;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(
+        prefix = "spring.hiero.mirror-node-cache"
+)
+public class HieroMirrorNodeCacheProperties {
+
+    /**
+     * Defines if results of mirror node lookups are cached. Default is false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached results. Default is 10000.
+     */
+    private int maximumSize = MirrorNodeCacheSettings.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Time to live of empty results. Default is 5 seconds.
+     */
+    private Duration negativeTtl = MirrorNodeCacheSettings.DEFAULT_NEGATIVE_TTL;
+
+    /**
+     * Time to live per query (like token or exchange-rates). A ttl of 0 disables caching for the query. Accounts are
+     * not cached by default since their balance changes with every transfer.
+     */
+    private Map<CachedQuery, Duration> ttl = new EnumMap<>(CachedQuery.class);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    public Map<CachedQuery, Duration> getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Map<CachedQuery, Duration> ttl) {
+        this.ttl = ttl;
+    }
+
+    public MirrorNodeCacheSettings toSettings() {
+        return new MirrorNodeCacheSettings(maximumSize, negativeTtl, ttl);
+    }
+}
@@ -0,0 +1,30 @@
+package com.openelements.hiero.spring.implementation;
+
+public class HieroOperatorProperties {
+
+    /**
+     * Account ID of the additional operator account.
+     */
+    private String accountId;
+
+    /**
+     * Private key of the additional operator account.
+     */
+    private String privateKey;
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(String accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+}
@@ -1,5 +1,8 @@
 package com.openelements.hiero.spring.implementation;
 
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -18,9 +21,33 @@ public class HieroProperties {
      */
     private String privateKey;
 
+    /**
+     * Additional operator accounts. Transactions are distributed over the operator account and all additional
+     * operator accounts.
+     */
+    private List<HieroOperatorProperties> additionalOperators = new ArrayList<>();
+
+    /**
+     * Strategy to pick the operator account for a transaction if additional operator accounts are defined. Default is
+     * least-in-flight.
+     */
+    private OperatorSelectionStrategy operatorSelection = OperatorSelectionStrategy.LEAST_IN_FLIGHT;
+
     @NestedConfigurationProperty
     private HieroNetworkProperties network = new HieroNetworkProperties();
 
+    @NestedConfigurationProperty
+    private HieroMirrorNodeCacheProperties mirrorNodeCache = new HieroMirrorNodeCacheProperties();
+
+    @NestedConfigurationProperty
+    private HieroMirrorNodeBalancerProperties mirrorNodeBalancer = new HieroMirrorNodeBalancerProperties();
+
+    @NestedConfigurationProperty
+    private HieroRateLimiterProperties rateLimiter = new HieroRateLimiterProperties();
+
+    @NestedConfigurationProperty
+    private HieroContractQueryCacheProperties contractQueryCache = new HieroContractQueryCacheProperties();
+
     public String getAccountId() {
         return this.accountId;
     }
@@ -37,6 +64,22 @@ public class HieroProperties {
         this.privateKey = privateKey;
     }
 
+    public List<HieroOperatorProperties> getAdditionalOperators() {
+        return additionalOperators;
+    }
+
+    public void setAdditionalOperators(List<HieroOperatorProperties> additionalOperators) {
+        this.additionalOperators = additionalOperators;
+    }
+
+    public OperatorSelectionStrategy getOperatorSelection() {
+        return operatorSelection;
+    }
+
+    public void setOperatorSelection(OperatorSelectionStrategy operatorSelection) {
+        this.operatorSelection = operatorSelection;
+    }
+
     public HieroNetworkProperties getNetwork() {
         return network;
     }
@@ -44,4 +87,36 @@ public class HieroProperties {
     public void setNetwork(HieroNetworkProperties network) {
         this.network = network;
     }
+
+    public HieroMirrorNodeCacheProperties getMirrorNodeCache() {
+        return mirrorNodeCache;
+    }
+
+    public void setMirrorNodeCache(HieroMirrorNodeCacheProperties mirrorNodeCache) {
+        this.mirrorNodeCache = mirrorNodeCache;
+    }
+
+    public HieroMirrorNodeBalancerProperties getMirrorNodeBalancer() {
+        return mirrorNodeBalancer;
+    }
+
+    public void setMirrorNodeBalancer(HieroMirrorNodeBalancerProperties mirrorNodeBalancer) {
+        this.mirrorNodeBalancer = mirrorNodeBalancer;
+    }
+
+    public HieroRateLimiterProperties getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public void setRateLimiter(HieroRateLimiterProperties rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public HieroContractQueryCacheProperties getContractQueryCache() {
+        return contractQueryCache;
+    }
+
+    public void setContractQueryCache(HieroContractQueryCacheProperties contractQueryCache) {
+        this.contractQueryCache = contractQueryCache;
+    }
 }
@@ -0,0 +1,122 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.implementation.RateLimiterSettings;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(
+        prefix = "spring.hiero.rate-limiter"
+)
+public class HieroRateLimiterProperties {
+
+    /**
+     * Defines if the submission of transactions is paced by an adaptive rate limiter. Default is false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Transactions per second of one transaction type and operator account before the first adjustment. Default is
+     * 10.
+     */
+    private double initialRate = RateLimiterSettings.DEFAULT_INITIAL_RATE;
+
+    /**
+     * Lowest rate in transactions per second the limiter decreases to. Default is 1.
+     */
+    private double minRate = RateLimiterSettings.DEFAULT_MIN_RATE;
+
+    /**
+     * Highest rate in transactions per second the limiter increases to. Default is 100.
+     */
+    private double maxRate = RateLimiterSettings.DEFAULT_MAX_RATE;
+
+    /**
+     * Amount the rate grows by for every second without throttling. Default is 1.
+     */
+    private double additiveIncrease = RateLimiterSettings.DEFAULT_ADDITIVE_INCREASE;
+
+    /**
+     * Factor the rate is multiplied with if a transaction has been throttled. Default is 0.5.
+     */
+    private double decreaseFactor = RateLimiterSettings.DEFAULT_DECREASE_FACTOR;
+
+    /**
+     * Number of transactions that can be submitted at once after a quiet period. Default is 10.
+     */
+    private int burstSize = RateLimiterSettings.DEFAULT_BURST_SIZE;
+
+    /**
+     * Longest time a transaction waits for its permit. A transaction that would have to wait longer fails directly.
+     * Default is 10 seconds.
+     */
+    private Duration maxWait = RateLimiterSettings.DEFAULT_MAX_WAIT;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getInitialRate() {
+        return initialRate;
+    }
+
+    public void setInitialRate(double initialRate) {
+        this.initialRate = initialRate;
+    }
+
+    public double getMinRate() {
+        return minRate;
+    }
+
+    public void setMinRate(double minRate) {
+        this.minRate = minRate;
+    }
+
+    public double getMaxRate() {
+        return maxRate;
+    }
+
+    public void setMaxRate(double maxRate) {
+        this.maxRate = maxRate;
+    }
+
+    public double getAdditiveIncrease() {
+        return additiveIncrease;
+    }
+
+    public void setAdditiveIncrease(double additiveIncrease) {
+        this.additiveIncrease = additiveIncrease;
+    }
+
+    public double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    public void setDecreaseFactor(double decreaseFactor) {
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    public void setBurstSize(int burstSize) {
+        this.burstSize = burstSize;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public RateLimiterSettings toSettings() {
+        return new RateLimiterSettings(initialRate, minRate, maxRate, additiveIncrease, decreaseFactor, burstSize,
+                maxWait);
+    }
+}
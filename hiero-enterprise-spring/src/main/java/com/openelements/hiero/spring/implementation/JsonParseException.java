@@ -16,4 +16,12 @@ public class JsonParseException extends IllegalStateException {
     public JsonParseException(JsonNode node, Throwable cause) {
         super("Error in parsing JSON: " + node, cause);
     }
+
+    public JsonParseException(String message) {
+        super(message);
+    }
+
+    public JsonParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
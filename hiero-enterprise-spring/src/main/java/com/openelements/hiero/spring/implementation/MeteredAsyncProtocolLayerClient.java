@@ -0,0 +1,520 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.AccountCreateResult;
+import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
+import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateResult;
+import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
+import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileAppendRequest;
+import com.openelements.hiero.base.protocol.data.FileAppendResult;
+import com.openelements.hiero.base.protocol.data.FileContentsRequest;
+import com.openelements.hiero.base.protocol.data.FileContentsResponse;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import com.openelements.hiero.base.protocol.data.FileDeleteRequest;
+import com.openelements.hiero.base.protocol.data.FileDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileInfoRequest;
+import com.openelements.hiero.base.protocol.data.FileInfoResponse;
+import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
+import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
+import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
+import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnResult;
+import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateResult;
+import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
+import com.openelements.hiero.base.protocol.data.TokenDissociateResult;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferResult;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
+import com.openelements.hiero.base.protocol.data.TopicDeleteResult;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
+import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptRequest;
+import com.openelements.hiero.base.protocol.data.TransactionReceiptResponse;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link AsyncProtocolLayerClient} that records metrics for all calls of the wrapped client:
+ * <ul>
+ *     <li>{@value #CALL_TIMER_NAME}: duration of every call by operation, outcome and exception</li>
+ *     <li>{@value #RECEIPT_TIMER_NAME}: time until the receipt of a transaction has been received by transaction
+ *     type and receipt status</li>
+ *     <li>{@value #RECORD_TIMER_NAME}: time between the receipt and the record of a transaction by transaction
+ *     type</li>
+ *     <li>{@value #FEE_SUMMARY_NAME}: charged fee in tinybars by transaction type</li>
+ *     <li>{@value #DROPPED_EVENTS_COUNTER_NAME}: transaction events that have been dropped since the listeners could
+ *     not keep up</li>
+ * </ul>
+ * The receipt, record and fee metrics are recorded by a {@link TransactionListener} and therefore off the path of the
+ * transaction. All meters are created once per tag combination and cached, recording a value does not create tags.
+ */
+public class MeteredAsyncProtocolLayerClient implements AsyncProtocolLayerClient {
+
+    public static final String CALL_TIMER_NAME = "hiero.protocol.call";
+    public static final String RECEIPT_TIMER_NAME = "hiero.transaction.receipt";
+    public static final String RECORD_TIMER_NAME = "hiero.transaction.record.latency";
+    public static final String FEE_SUMMARY_NAME = "hiero.transaction.fee";
+    public static final String DROPPED_EVENTS_COUNTER_NAME = "hiero.transaction.events.dropped";
+    public static final String OPERATION_TAG = "operation";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String EXCEPTION_TAG = "exception";
+    public static final String TRANSACTION_TYPE_TAG = "type";
+    public static final String STATUS_TAG = "status";
+
+    /**
+     * Service level objectives of the timers. Transactions reach consensus within a few seconds.
+     */
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(3), Duration.ofSeconds(5),
+            Duration.ofSeconds(10), Duration.ofSeconds(30)};
+
+    private final AsyncProtocolLayerClient delegate;
+
+    private final OperationMeters accountBalanceQueryMeters;
+    private final OperationMeters fileContentsQueryMeters;
+    private final OperationMeters fileAppendRequestTransactionMeters;
+    private final OperationMeters fileDeleteTransactionMeters;
+    private final OperationMeters fileCreateTransactionMeters;
+    private final OperationMeters fileUpdateRequestTransactionMeters;
+    private final OperationMeters fileInfoQueryMeters;
+    private final OperationMeters contractCreateTransactionMeters;
+    private final OperationMeters contractCallTransactionMeters;
+    private final OperationMeters contractCallQueryMeters;
+    private final OperationMeters transactionReceiptQueryMeters;
+    private final OperationMeters contractDeleteTransactionMeters;
+    private final OperationMeters accountCreateTransactionMeters;
+    private final OperationMeters accountDeleteTransactionMeters;
+    private final OperationMeters tokenCreateTransactionMeters;
+    private final OperationMeters tokenAssociateTransactionMeters;
+    private final OperationMeters tokenDissociateTransactionMeters;
+    private final OperationMeters mintTokenTransactionMeters;
+    private final OperationMeters burnTokenTransactionMeters;
+    private final OperationMeters transferTransactionMeters;
+    private final OperationMeters topicCreateTransactionMeters;
+    private final OperationMeters topicUpdateTransactionMeters;
+    private final OperationMeters topicDeleteTransactionMeters;
+    private final OperationMeters topicMessageSubmitTransactionMeters;
+    private final OperationMeters topicMessageQueryMeters;
+
+    /**
+     * Creates a client that records metrics for the given client.
+     *
+     * @param delegate      the client that executes the calls
+     * @param meterRegistry the registry of the meters
+     */
+    public MeteredAsyncProtocolLayerClient(@NonNull final AsyncProtocolLayerClient delegate,
+            @NonNull final MeterRegistry meterRegistry) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        accountBalanceQueryMeters = new OperationMeters(meterRegistry, "account.balance");
+        fileContentsQueryMeters = new OperationMeters(meterRegistry, "file.contents");
+        fileAppendRequestTransactionMeters = new OperationMeters(meterRegistry, "file.append");
+        fileDeleteTransactionMeters = new OperationMeters(meterRegistry, "file.delete");
+        fileCreateTransactionMeters = new OperationMeters(meterRegistry, "file.create");
+        fileUpdateRequestTransactionMeters = new OperationMeters(meterRegistry, "file.update");
+        fileInfoQueryMeters = new OperationMeters(meterRegistry, "file.info");
+        contractCreateTransactionMeters = new OperationMeters(meterRegistry, "contract.create");
+        contractCallTransactionMeters = new OperationMeters(meterRegistry, "contract.call");
+        contractCallQueryMeters = new OperationMeters(meterRegistry, "contract.query");
+        transactionReceiptQueryMeters = new OperationMeters(meterRegistry, "transaction.receipt");
+        contractDeleteTransactionMeters = new OperationMeters(meterRegistry, "contract.delete");
+        accountCreateTransactionMeters = new OperationMeters(meterRegistry, "account.create");
+        accountDeleteTransactionMeters = new OperationMeters(meterRegistry, "account.delete");
+        tokenCreateTransactionMeters = new OperationMeters(meterRegistry, "token.create");
+        tokenAssociateTransactionMeters = new OperationMeters(meterRegistry, "token.associate");
+        tokenDissociateTransactionMeters = new OperationMeters(meterRegistry, "token.dissociate");
+        mintTokenTransactionMeters = new OperationMeters(meterRegistry, "token.mint");
+        burnTokenTransactionMeters = new OperationMeters(meterRegistry, "token.burn");
+        transferTransactionMeters = new OperationMeters(meterRegistry, "token.transfer");
+        topicCreateTransactionMeters = new OperationMeters(meterRegistry, "topic.create");
+        topicUpdateTransactionMeters = new OperationMeters(meterRegistry, "topic.update");
+        topicDeleteTransactionMeters = new OperationMeters(meterRegistry, "topic.delete");
+        topicMessageSubmitTransactionMeters = new OperationMeters(meterRegistry, "topic.message.submit");
+        topicMessageQueryMeters = new OperationMeters(meterRegistry, "topic.message.query");
+        delegate.addTransactionListener(new TransactionMetricsListener(meterRegistry));
+        FunctionCounter.builder(DROPPED_EVENTS_COUNTER_NAME, delegate,
+                        AsyncProtocolLayerClient::getDroppedTransactionEventCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<AccountBalanceResponse> executeAccountBalanceQuery(
+            @NonNull final AccountBalanceRequest request) {
+        final long start = System.nanoTime();
+        return accountBalanceQueryMeters.record(start, delegate.executeAccountBalanceQuery(request));
+    }
+
+    @Override
+    public CompletableFuture<FileContentsResponse> executeFileContentsQuery(
+            @NonNull final FileContentsRequest request) {
+        final long start = System.nanoTime();
+        return fileContentsQueryMeters.record(start, delegate.executeFileContentsQuery(request));
+    }
+
+    @Override
+    public CompletableFuture<FileAppendResult> executeFileAppendRequestTransaction(
+            @NonNull final FileAppendRequest request) {
+        final long start = System.nanoTime();
+        return fileAppendRequestTransactionMeters.record(start, delegate.executeFileAppendRequestTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<FileDeleteResult> executeFileDeleteTransaction(@NonNull final FileDeleteRequest request) {
+        final long start = System.nanoTime();
+        return fileDeleteTransactionMeters.record(start, delegate.executeFileDeleteTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<FileCreateResult> executeFileCreateTransaction(@NonNull final FileCreateRequest request) {
+        final long start = System.nanoTime();
+        return fileCreateTransactionMeters.record(start, delegate.executeFileCreateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransaction(
+            @NonNull final FileUpdateRequest request) {
+        final long start = System.nanoTime();
+        return fileUpdateRequestTransactionMeters.record(start, delegate.executeFileUpdateRequestTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<FileInfoResponse> executeFileInfoQuery(@NonNull final FileInfoRequest request) {
+        final long start = System.nanoTime();
+        return fileInfoQueryMeters.record(start, delegate.executeFileInfoQuery(request));
+    }
+
+    @Override
+    public CompletableFuture<ContractCreateResult> executeContractCreateTransaction(
+            @NonNull final ContractCreateRequest request) {
+        final long start = System.nanoTime();
+        return contractCreateTransactionMeters.record(start, delegate.executeContractCreateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<ContractCallResult> executeContractCallTransaction(
+            @NonNull final ContractCallRequest request) {
+        final long start = System.nanoTime();
+        return contractCallTransactionMeters.record(start, delegate.executeContractCallTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<ContractCallQueryResponse> executeContractCallQuery(
+            @NonNull final ContractCallQueryRequest request) {
+        final long start = System.nanoTime();
+        return contractCallQueryMeters.record(start, delegate.executeContractCallQuery(request));
+    }
+
+    @Override
+    public CompletableFuture<TransactionReceiptResponse> executeTransactionReceiptQuery(
+            @NonNull final TransactionReceiptRequest request) {
+        final long start = System.nanoTime();
+        return transactionReceiptQueryMeters.record(start, delegate.executeTransactionReceiptQuery(request));
+    }
+
+    @Override
+    public CompletableFuture<ContractDeleteResult> executeContractDeleteTransaction(
+            @NonNull final ContractDeleteRequest request) {
+        final long start = System.nanoTime();
+        return contractDeleteTransactionMeters.record(start, delegate.executeContractDeleteTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<AccountCreateResult> executeAccountCreateTransaction(
+            @NonNull final AccountCreateRequest request) {
+        final long start = System.nanoTime();
+        return accountCreateTransactionMeters.record(start, delegate.executeAccountCreateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<AccountDeleteResult> executeAccountDeleteTransaction(
+            @NonNull final AccountDeleteRequest request) {
+        final long start = System.nanoTime();
+        return accountDeleteTransactionMeters.record(start, delegate.executeAccountDeleteTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TokenCreateResult> executeTokenCreateTransaction(
+            @NonNull final TokenCreateRequest request) {
+        final long start = System.nanoTime();
+        return tokenCreateTransactionMeters.record(start, delegate.executeTokenCreateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TokenAssociateResult> executeTokenAssociateTransaction(
+            @NonNull final TokenAssociateRequest request) {
+        final long start = System.nanoTime();
+        return tokenAssociateTransactionMeters.record(start, delegate.executeTokenAssociateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TokenDissociateResult> executeTokenDissociateTransaction(
+            @NonNull final TokenDissociateRequest request) {
+        final long start = System.nanoTime();
+        return tokenDissociateTransactionMeters.record(start, delegate.executeTokenDissociateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TokenMintResult> executeMintTokenTransaction(@NonNull final TokenMintRequest request) {
+        final long start = System.nanoTime();
+        return mintTokenTransactionMeters.record(start, delegate.executeMintTokenTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TokenBurnResult> executeBurnTokenTransaction(@NonNull final TokenBurnRequest request) {
+        final long start = System.nanoTime();
+        return burnTokenTransactionMeters.record(start, delegate.executeBurnTokenTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TokenTransferResult> executeTransferTransaction(
+            @NonNull final TokenTransferRequest request) {
+        final long start = System.nanoTime();
+        return transferTransactionMeters.record(start, delegate.executeTransferTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TopicCreateResult> executeTopicCreateTransaction(
+            @NonNull final TopicCreateRequest request) {
+        final long start = System.nanoTime();
+        return topicCreateTransactionMeters.record(start, delegate.executeTopicCreateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TopicUpdateResult> executeTopicUpdateTransaction(
+            @NonNull final TopicUpdateRequest request) {
+        final long start = System.nanoTime();
+        return topicUpdateTransactionMeters.record(start, delegate.executeTopicUpdateTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TopicDeleteResult> executeTopicDeleteTransaction(
+            @NonNull final TopicDeleteRequest request) {
+        final long start = System.nanoTime();
+        return topicDeleteTransactionMeters.record(start, delegate.executeTopicDeleteTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TopicSubmitMessageResult> executeTopicMessageSubmitTransaction(
+            @NonNull final TopicSubmitMessageRequest request) {
+        final long start = System.nanoTime();
+        return topicMessageSubmitTransactionMeters.record(start,
+                delegate.executeTopicMessageSubmitTransaction(request));
+    }
+
+    @Override
+    public CompletableFuture<TopicMessageResult> executeTopicMessageQuery(@NonNull final TopicMessageRequest request) {
+        final long start = System.nanoTime();
+        return topicMessageQueryMeters.record(start, delegate.executeTopicMessageQuery(request));
+    }
+
+    @NonNull
+    @Override
+    public Runnable addTransactionListener(@NonNull final TransactionListener listener) {
+        return delegate.addTransactionListener(listener);
+    }
+
+    @Override
+    public void setRecordInterceptor(@NonNull final ReceiveRecordInterceptor recordInterceptor) {
+        delegate.setRecordInterceptor(recordInterceptor);
+    }
+
+    @Override
+    public long getDroppedTransactionEventCount() {
+        return delegate.getDroppedTransactionEventCount();
+    }
+
+    @NonNull
+    @Override
+    public AccountId getOperatorAccountId() {
+        return delegate.getOperatorAccountId();
+    }
+
+    @NonNull
+    @Override
+    public List<OperatorStatistics> getOperatorStatistics() {
+        return delegate.getOperatorStatistics();
+    }
+
+    @NonNull
+    @Override
+    public CompletableFuture<Map<AccountId, AccountBalanceResponse>> executeOperatorBalanceQueries() {
+        return delegate.executeOperatorBalanceQueries();
+    }
+
+    @NonNull
+    private static Timer timer(@NonNull final MeterRegistry meterRegistry, @NonNull final String name,
+            @NonNull final String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Timers of one operation. The timer of a failure is created once per exception type.
+     */
+    private static final class OperationMeters {
+
+        private final MeterRegistry meterRegistry;
+
+        private final String operation;
+
+        private final Timer success;
+
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private OperationMeters(@NonNull final MeterRegistry meterRegistry, @NonNull final String operation) {
+            this.meterRegistry = meterRegistry;
+            this.operation = operation;
+            this.success = timer(meterRegistry, CALL_TIMER_NAME, OPERATION_TAG, operation, OUTCOME_TAG, "success",
+                    EXCEPTION_TAG, "none");
+        }
+
+        @NonNull
+        private <T> CompletableFuture<T> record(final long start, @NonNull final CompletableFuture<T> future) {
+            return future.whenComplete((result, error) -> {
+                final long duration = System.nanoTime() - start;
+                if (error == null) {
+                    success.record(duration, TimeUnit.NANOSECONDS);
+                } else {
+                    failure(unwrap(error)).record(duration, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+
+        @NonNull
+        private Timer failure(@NonNull final Throwable error) {
+            final Timer timer = failures.get(error.getClass());
+            if (timer != null) {
+                return timer;
+            }
+            return failures.computeIfAbsent(error.getClass(), type -> timer(meterRegistry, CALL_TIMER_NAME,
+                    OPERATION_TAG, operation, OUTCOME_TAG, "failure", EXCEPTION_TAG, type.getSimpleName()));
+        }
+
+        @NonNull
+        private static Throwable unwrap(@NonNull final Throwable error) {
+            Throwable current = error;
+            while ((current instanceof CompletionException || current instanceof ExecutionException
+                    || current instanceof HieroException) && current.getCause() != null) {
+                current = current.getCause();
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Records the receipt, record and fee metrics of the transaction events.
+     */
+    private static final class TransactionMetricsListener implements TransactionListener {
+
+        private final MeterRegistry meterRegistry;
+
+        private final Map<TransactionType, Map<Status, Timer>> receiptTimers = new ConcurrentHashMap<>();
+
+        private final Map<TransactionType, Timer> recordTimers = new ConcurrentHashMap<>();
+
+        private final Map<TransactionType, DistributionSummary> fees = new ConcurrentHashMap<>();
+
+        private TransactionMetricsListener(@NonNull final MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void transactionHandled(@NonNull final TransactionEvent event) {
+            final Duration latency = event.receiptLatency();
+            if (latency == null || event.status() == null) {
+                return;
+            }
+            receiptTimer(event.transactionType(), event.status()).record(latency);
+        }
+
+        @Override
+        public void transactionRecordReceived(@NonNull final TransactionEvent event) {
+            final Duration latency = event.recordLatency();
+            if (latency != null) {
+                recordTimer(event.transactionType()).record(latency);
+            }
+            if (event.chargedFee() != null) {
+                feeSummary(event.transactionType()).record(event.chargedFee().toTinybars());
+            }
+        }
+
+        @NonNull
+        private Timer recordTimer(@NonNull final TransactionType transactionType) {
+            final Timer timer = recordTimers.get(transactionType);
+            if (timer != null) {
+                return timer;
+            }
+            return recordTimers.computeIfAbsent(transactionType, type -> timer(meterRegistry, RECORD_TIMER_NAME,
+                    TRANSACTION_TYPE_TAG, type.name()));
+        }
+
+        @NonNull
+        private DistributionSummary feeSummary(@NonNull final TransactionType transactionType) {
+            final DistributionSummary summary = fees.get(transactionType);
+            if (summary != null) {
+                return summary;
+            }
+            return fees.computeIfAbsent(transactionType, type -> DistributionSummary.builder(FEE_SUMMARY_NAME)
+                    .baseUnit("tinybars")
+                    .tags(TRANSACTION_TYPE_TAG, type.name())
+                    .register(meterRegistry));
+        }
+
+        @NonNull
+        private Timer receiptTimer(@NonNull final TransactionType transactionType, @NonNull final Status status) {
+            Map<Status, Timer> timers = receiptTimers.get(transactionType);
+            if (timers == null) {
+                timers = receiptTimers.computeIfAbsent(transactionType, type -> new ConcurrentHashMap<>());
+            }
+            final Timer timer = timers.get(status);
+            if (timer != null) {
+                return timer;
+            }
+            return timers.computeIfAbsent(status, s -> timer(meterRegistry, RECEIPT_TIMER_NAME,
+                    TRANSACTION_TYPE_TAG, transactionType.name(), STATUS_TAG, s.name()));
+        }
+    }
+}
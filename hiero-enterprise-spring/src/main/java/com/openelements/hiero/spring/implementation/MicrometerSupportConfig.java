@@ -1,25 +1,33 @@
 package com.openelements.hiero.spring.implementation;
 
 import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TransactionRecord;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.TopicPublisher;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 /**
- * Micrometer support for Hiero. This configuration class is used to create a {@link ReceiveRecordInterceptor} that will
- * measure metrics for Hiero transactions. The config is only loaded if the {@code spring.hiero.metrics.enabled}
- * property is set to {@code true} or not set at all. Next to that, the {@code MetricsAutoConfiguration} configuration
- * must be on the classpath.
+ * Micrometer support for Hiero. This configuration class measures metrics for all calls of the
+ * {@link AsyncProtocolLayerClient} (see {@link MeteredAsyncProtocolLayerClient}), for all requests to the mirror nodes
+ * (see {@link MirrorNodeMetricsInterceptor}) and creates a {@link ReceiveRecordInterceptor} that measures the time to
+ * receive transaction records. The metrics of every {@link TopicPublisher} bean are bound by a
+ * {@link TopicPublisherMeterBinder}. The config is only loaded if the {@code spring.hiero.metrics.enabled} property is
+ * set to {@code true} or not set at all. Next to that, the {@code MetricsAutoConfiguration} configuration must be on
+ * the classpath.
  */
 @AutoConfiguration
 @ConditionalOnProperty(name = "spring.hiero.metrics.enabled", havingValue = "true", matchIfMissing = true)
@@ -32,7 +40,8 @@ public class MicrometerSupportConfig {
     public static final String COUNTER_NAME = "hiero.transaction.record";
 
     /**
-     * Creates a {@link ReceiveRecordInterceptor} that will measure metrics for Hiero transactions.
+     * Creates a {@link ReceiveRecordInterceptor} that will measure metrics for Hiero transactions. The timer and counter
+     * are created once per transaction type and contract.
      *
      * @param meterRegistry the {@link MeterRegistry} to use for metrics
      * @return the {@link ReceiveRecordInterceptor} to use for metrics
@@ -40,20 +49,26 @@ public class MicrometerSupportConfig {
     @Bean
     @NonNull
     public ReceiveRecordInterceptor interceptRecordReceive(@NonNull final MeterRegistry meterRegistry) {
+        final Map<Class<?>, RecordMeters> transactionMeters = new ConcurrentHashMap<>();
+        final Map<ContractId, RecordMeters> contractMeters = new ConcurrentHashMap<>();
         return handler -> {
-            final String transactionType = handler.transaction().getClass().getSimpleName();
-            final Set<Tag> tags = new HashSet<>();
-            tags.add(Tag.of(TRANSACTION_TYPE_TAG, transactionType));
+            final RecordMeters meters;
             if (handler.transaction() instanceof ContractExecuteTransaction contractExecuteTransaction) {
-                tags.add(Tag.of(CONTRACT_ID_TAG,
-                        contractExecuteTransaction.getContractId().toString()));
+                final ContractId contractId = contractExecuteTransaction.getContractId();
+                final RecordMeters cached = contractMeters.get(contractId);
+                meters = cached != null ? cached : contractMeters.computeIfAbsent(contractId,
+                        id -> RecordMeters.of(meterRegistry, Tags.of(TRANSACTION_TYPE_TAG,
+                                ContractExecuteTransaction.class.getSimpleName(), CONTRACT_ID_TAG, id.toString())));
+            } else {
+                final Class<?> transactionType = handler.transaction().getClass();
+                final RecordMeters cached = transactionMeters.get(transactionType);
+                meters = cached != null ? cached : transactionMeters.computeIfAbsent(transactionType,
+                        type -> RecordMeters.of(meterRegistry, Tags.of(TRANSACTION_TYPE_TAG, type.getSimpleName())));
             }
-            final Timer timer = meterRegistry.timer(TIMER_NAME, tags);
-            final Counter counter = meterRegistry.counter(COUNTER_NAME, tags);
-            return timer.record(() -> {
+            return meters.timer().record(() -> {
                 try {
                     final TransactionRecord transactionRecord = handler.handle();
-                    counter.increment();
+                    meters.counter().increment();
                     return transactionRecord;
                 } catch (Exception e) {
                     throw new RuntimeException("Error in handling record interceptor", e);
@@ -61,4 +76,79 @@ public class MicrometerSupportConfig {
             });
         };
     }
+
+    /**
+     * Creates a {@link MirrorNodeRestClientCustomizer} that adds a {@link MirrorNodeMetricsInterceptor} to the REST
+     * clients of the mirror nodes.
+     *
+     * @param meterRegistry the {@link MeterRegistry} to use for metrics
+     * @return the customizer
+     */
+    @Bean
+    @NonNull
+    public MirrorNodeRestClientCustomizer mirrorNodeMetricsCustomizer(@NonNull final MeterRegistry meterRegistry) {
+        final MirrorNodeMetricsInterceptor interceptor = new MirrorNodeMetricsInterceptor(meterRegistry);
+        return builder -> builder.requestInterceptor(interceptor);
+    }
+
+    /**
+     * Creates a {@link BeanPostProcessor} that wraps the {@link AsyncProtocolLayerClient} in a
+     * {@link MeteredAsyncProtocolLayerClient}. The method is static so that the post processor is created before the
+     * other beans of this configuration.
+     *
+     * @param meterRegistry provider of the {@link MeterRegistry} to use for metrics
+     * @return the post processor
+     */
+    @Bean
+    @NonNull
+    public static BeanPostProcessor meteredProtocolLayerClientPostProcessor(
+            @NonNull final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName) {
+                if (bean instanceof AsyncProtocolLayerClient client
+                        && !(bean instanceof MeteredAsyncProtocolLayerClient)) {
+                    final MeterRegistry registry = meterRegistry.getIfAvailable();
+                    if (registry != null) {
+                        return new MeteredAsyncProtocolLayerClient(client, registry);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link BeanPostProcessor} that binds the metrics of every {@link TopicPublisher} bean by a
+     * {@link TopicPublisherMeterBinder}, tagged with the name of the bean. The method is static so that the post
+     * processor is created before the other beans of this configuration.
+     *
+     * @param meterRegistry provider of the {@link MeterRegistry} to use for metrics
+     * @return the post processor
+     */
+    @Bean
+    @NonNull
+    public static BeanPostProcessor topicPublisherMetricsPostProcessor(
+            @NonNull final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName) {
+                if (bean instanceof TopicPublisher publisher) {
+                    final MeterRegistry registry = meterRegistry.getIfAvailable();
+                    if (registry != null) {
+                        new TopicPublisherMeterBinder(publisher, beanName).bindTo(registry);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    private record RecordMeters(@NonNull Timer timer, @NonNull Counter counter) {
+
+        @NonNull
+        private static RecordMeters of(@NonNull final MeterRegistry meterRegistry, @NonNull final Tags tags) {
+            return new RecordMeters(meterRegistry.timer(TIMER_NAME, tags), meterRegistry.counter(COUNTER_NAME, tags));
+        }
+    }
 }
@@ -16,9 +16,15 @@ import com.openelements.hiero.base.data.TopicMessage;
 import com.openelements.hiero.base.data.Result;
 import com.openelements.hiero.base.data.BalanceModification;
 import com.openelements.hiero.base.implementation.AbstractMirrorNodeClient;
+import com.openelements.hiero.base.implementation.MirrorNodeBalancerSettings;
+import com.openelements.hiero.base.implementation.MirrorNodeEndpointBalancer;
+import com.openelements.hiero.base.implementation.MirrorNodeEndpointBalancer.EndpointStatistics;
 import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -26,27 +32,77 @@ import com.openelements.hiero.base.protocol.data.TransactionType;
 import org.jspecify.annotations.NonNull;
 import org.springframework.web.client.RestClient;
 
-public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
+public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> implements AutoCloseable {
 
     private final ObjectMapper objectMapper;
 
-    private final RestClient restClient;
+    private final MirrorNodeEndpointBalancer<Endpoint> balancer;
 
-    private final MirrorNodeRestClientImpl mirrorNodeRestClient;
+    private final MirrorNodeRestClient<JsonNode> mirrorNodeRestClient;
 
     private final MirrorNodeJsonConverter<JsonNode> jsonConverter;
 
+    private final MirrorNodeStreamingDecoder streamingDecoder;
+
+    private record Endpoint(@NonNull RestClient restClient, @NonNull MirrorNodeRestClientImpl mirrorNodeRestClient) {
+    }
+
     /**
      * Constructor.
      *
      * @param restClientBuilder the builder for the REST client that must have the base URL set
      */
     public MirrorNodeClientImpl(final RestClient.Builder restClientBuilder) {
-        Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null");
-        mirrorNodeRestClient = new MirrorNodeRestClientImpl(restClientBuilder);
+        this(Map.of("default", Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null")),
+                MirrorNodeBalancerSettings.DEFAULT);
+    }
+
+    /**
+     * Constructor for a client that spreads the calls across several mirror nodes. Single lookups are routed by a
+     * {@link MirrorNodeEndpointBalancer} and fail over to the other mirror nodes. All pages of a paged query are
+     * fetched from the mirror node that has been selected for the first page.
+     *
+     * @param restClientBuilders the builders for the REST clients by mirror node address, every builder must have
+     *                           the base URL set
+     * @param settings           the settings of the balancer
+     */
+    public MirrorNodeClientImpl(final Map<String, RestClient.Builder> restClientBuilders,
+            final MirrorNodeBalancerSettings settings) {
+        Objects.requireNonNull(restClientBuilders, "restClientBuilders must not be null");
+        Objects.requireNonNull(settings, "settings must not be null");
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        restClientBuilders.forEach((address, builder) -> endpoints.put(address,
+                new Endpoint(builder.build(), new MirrorNodeRestClientImpl(builder))));
+        balancer = new MirrorNodeEndpointBalancer<>(endpoints, settings);
+        mirrorNodeRestClient = path -> balancer.execute(endpoint -> endpoint.mirrorNodeRestClient().doGetCall(path));
         jsonConverter = new MirrorNodeJsonConverterImpl();
+        streamingDecoder = new MirrorNodeStreamingDecoder();
         objectMapper = new ObjectMapper();
-        restClient = restClientBuilder.build();
+    }
+
+    /**
+     * Fetches the first page of a paged query by the balancer, so that the outcome of the call is recorded for the
+     * mirror node and a failed call is retried on another mirror node. All following pages are fetched from the same
+     * mirror node.
+     */
+    private <T> Page<T> fetchPage(@NonNull final Function<RestClient.Builder, Page<T>> pageFactory)
+            throws HieroException {
+        return balancer.execute(endpoint -> pageFactory.apply(endpoint.restClient().mutate().clone()));
+    }
+
+    /**
+     * Returns the statistics of the mirror nodes that are used by this client.
+     *
+     * @return the statistics
+     */
+    @NonNull
+    public List<EndpointStatistics> getEndpointStatistics() {
+        return balancer.getStatistics();
+    }
+
+    @Override
+    public void close() {
+        balancer.close();
     }
 
     @Override
@@ -63,33 +119,29 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
     public Page<Nft> queryNftsByAccount(@NonNull final AccountId accountId) throws HieroException {
         Objects.requireNonNull(accountId, "newAccountId must not be null");
         final String path = "/api/v1/accounts/" + accountId + "/nfts";
-        final Function<JsonNode, List<Nft>> dataExtractionFunction = node -> jsonConverter.toNfts(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.nftPageDecoder()));
     }
 
     @Override
-    public Page<Nft> queryNftsByAccountAndTokenId(@NonNull final AccountId accountId, @NonNull final TokenId tokenId) {
+    public Page<Nft> queryNftsByAccountAndTokenId(@NonNull final AccountId accountId, @NonNull final TokenId tokenId)
+            throws HieroException {
         Objects.requireNonNull(accountId, "accountId must not be null");
         Objects.requireNonNull(tokenId, "tokenId must not be null");
         final String path = "/api/v1/tokens/" + tokenId + "/nfts/?account.id=" + accountId;
-        final Function<JsonNode, List<Nft>> dataExtractionFunction = node -> jsonConverter.toNfts(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.nftPageDecoder()));
     }
 
     @Override
-    public Page<Nft> queryNftsByTokenId(@NonNull TokenId tokenId) {
+    public Page<Nft> queryNftsByTokenId(@NonNull TokenId tokenId) throws HieroException {
         final String path = "/api/v1/tokens/" + tokenId + "/nfts";
-        final Function<JsonNode, List<Nft>> dataExtractionFunction = node -> jsonConverter.toNfts(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.nftPageDecoder()));
     }
 
     @Override
     public Page<TransactionInfo> queryTransactionsByAccount(@NonNull final AccountId accountId) throws HieroException {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/transactions?account.id=" + accountId;
-        final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction = n ->
-                jsonConverter.toTransactionInfos(n);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.transactionInfoPageDecoder()));
     }
 
     @Override
@@ -97,9 +149,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
             throws HieroException {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/transactions?account.id=" + accountId + "&transactiontype=" + type.getType();
-        final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-                n -> jsonConverter.toTransactionInfos(n);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.transactionInfoPageDecoder()));
     }
 
     @Override
@@ -107,9 +157,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
             throws HieroException {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/transactions?account.id=" + accountId + "&result=" + result.name();
-        final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-                n -> jsonConverter.toTransactionInfos(n);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.transactionInfoPageDecoder()));
     }
 
     @Override
@@ -117,9 +165,7 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
             throws HieroException {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/transactions?account.id=" + accountId + "&type=" + type.name();
-        final Function<JsonNode, List<TransactionInfo>> dataExtractionFunction =
-                n -> jsonConverter.toTransactionInfos(n);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.transactionInfoPageDecoder()));
     }
 
     @Override
@@ -127,15 +173,14 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/tokens?account.id=" + accountId;
         final Function<JsonNode, List<Token>> dataExtractionFunction = node -> jsonConverter.toTokens(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(objectMapper, builder, path, dataExtractionFunction));
     }
 
     @Override
     public @NonNull Page<Balance> queryTokenBalances(TokenId tokenId) throws HieroException {
         Objects.requireNonNull(tokenId, "tokenId must not be null");
         final String path = "/api/v1/tokens/" + tokenId +"/balances";
-        final Function<JsonNode, List<Balance>> dataExtractionFunction = node -> jsonConverter.toBalances(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.balancePageDecoder()));
     }
 
     @Override
@@ -143,16 +188,34 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
         Objects.requireNonNull(tokenId, "tokenId must not be null");
         Objects.requireNonNull(accountId, "accountId must not be null");
         final String path = "/api/v1/tokens/" + tokenId +"/balances?account.id=" + accountId;
-        final Function<JsonNode, List<Balance>> dataExtractionFunction = node -> jsonConverter.toBalances(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.balancePageDecoder()));
     }
 
     @Override
-    public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId) {
+    public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId) throws HieroException {
         Objects.requireNonNull(topicId, "topicId must not be null");
         final String path = "/api/v1/topics/" + topicId + "/messages";
-        final Function<JsonNode, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.topicMessagePageDecoder()));
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId, long fromSequenceNumber)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        final String path = "/api/v1/topics/" + topicId + "/messages?order=asc&limit=100&sequencenumber=gte:"
+                + fromSequenceNumber;
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.topicMessagePageDecoder()));
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(TopicId topicId, Instant fromConsensusTimestamp)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(fromConsensusTimestamp, "fromConsensusTimestamp must not be null");
+        final String path = "/api/v1/topics/" + topicId + "/messages?order=asc&limit=100&timestamp=gte:"
+                + fromConsensusTimestamp.getEpochSecond() + "."
+                + String.format("%09d", fromConsensusTimestamp.getNano());
+        return fetchPage(builder -> new RestBasedPage<>(builder, path, streamingDecoder.topicMessagePageDecoder()));
     }
 
     @Override
@@ -541,16 +541,16 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
                 chunkInfo = new ChunkInfo(transactionId, nonce, number, total, scheduled);
             }
 
-            final Instant consensusTimestamp =  Instant.ofEpochSecond(node.get("consensus_timestamp").asLong());
-            final String message = new String(Base64.getDecoder().decode(node.get("message").asText()));
+            final Instant consensusTimestamp = MirrorNodeJsonConverter.parseConsensusTimestamp(node.get("consensus_timestamp").asText());
+            final byte[] contents = Base64.getDecoder().decode(node.get("message").asText());
             final AccountId payerAccountId = AccountId.fromString(node.get("payer_account_id").asText());
-            final byte[] runningHash = node.get("running_hash").asText().getBytes();
+            final byte[] runningHash = Base64.getDecoder().decode(node.get("running_hash").asText());
             final int runningHashVersion = node.get("running_hash_version").asInt();
             final long sequenceNumber = node.get("sequence_number").asLong();
             final TopicId topicId = TopicId.fromString(node.get("topic_id").asText());
 
             return Optional.of(
-                    new TopicMessage(chunkInfo, consensusTimestamp, message, payerAccountId, runningHash,
+                    TopicMessage.of(chunkInfo, consensusTimestamp, contents, payerAccountId, runningHash,
                             runningHashVersion, sequenceNumber, topicId)
             );
         } catch (final Exception e) {
@@ -0,0 +1,287 @@
+package com.openelements.hiero.spring.implementation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Interceptor for the REST clients of the mirror nodes that records metrics for every request, including every page
+ * that is fetched by a {@link RestBasedPage}:
+ * <ul>
+ *     <li>{@value #REQUEST_TIMER_NAME}: duration of a request until the response has been read, by URI and status
+ *     code</li>
+ *     <li>{@value #RESPONSE_SIZE_SUMMARY_NAME}: number of bytes of the response body by URI</li>
+ * </ul>
+ * The URI tag is the path of the request in which every segment that contains a digit, like an account ID or a
+ * timestamp, is replaced by {@code {id}} (for example {@code /api/v1/accounts/{id}/nfts}). The query is not part of the
+ * tag. All meters are created once per tag combination and cached.
+ */
+public class MirrorNodeMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String REQUEST_TIMER_NAME = "hiero.mirrornode.request";
+    public static final String RESPONSE_SIZE_SUMMARY_NAME = "hiero.mirrornode.response.size";
+    public static final String URI_TAG = "uri";
+    public static final String STATUS_TAG = "status";
+    public static final String IO_ERROR_STATUS = "IO_ERROR";
+
+    private static final String ID_SEGMENT = "{id}";
+
+    private static final int MAX_STATUS_CODE = 599;
+
+    /**
+     * Service level objectives of the request timer.
+     */
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofMillis(2500), Duration.ofSeconds(5)};
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, UriMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an interceptor.
+     *
+     * @param meterRegistry the registry of the meters
+     */
+    public MirrorNodeMetricsInterceptor(@NonNull final MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+    }
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(@NonNull final HttpRequest request, @NonNull final byte[] body,
+            @NonNull final ClientHttpRequestExecution execution) throws IOException {
+        final UriMeters uriMeters = meters(toUriTemplate(request.getURI().getRawPath()));
+        final long start = System.nanoTime();
+        final ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (final IOException e) {
+            uriMeters.ioError().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        return new MeteredResponse(response, uriMeters, start);
+    }
+
+    /**
+     * Returns the value of the URI tag for a path.
+     *
+     * @param path the path of a request
+     * @return the path in which every segment that contains a digit is replaced by {@code {id}}
+     */
+    @NonNull
+    static String toUriTemplate(final String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        final StringBuilder template = new StringBuilder(path.length());
+        int segmentStart = 0;
+        while (segmentStart <= path.length()) {
+            int segmentEnd = path.indexOf('/', segmentStart);
+            if (segmentEnd < 0) {
+                segmentEnd = path.length();
+            }
+            if (segmentStart > 0) {
+                template.append('/');
+            }
+            if (isIdSegment(path, segmentStart, segmentEnd)) {
+                template.append(ID_SEGMENT);
+            } else {
+                template.append(path, segmentStart, segmentEnd);
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return template.toString();
+    }
+
+    private static boolean isIdSegment(@NonNull final String path, final int start, final int end) {
+        if (end - start >= 2 && path.charAt(start) == 'v') {
+            boolean version = true;
+            for (int i = start + 1; i < end && version; i++) {
+                version = Character.isDigit(path.charAt(i));
+            }
+            if (version) {
+                return false;
+            }
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.isDigit(path.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NonNull
+    private UriMeters meters(@NonNull final String uri) {
+        final UriMeters uriMeters = meters.get(uri);
+        if (uriMeters != null) {
+            return uriMeters;
+        }
+        return meters.computeIfAbsent(uri, u -> new UriMeters(meterRegistry, u));
+    }
+
+    /**
+     * Meters of one URI. The timer of a status code is created once the status code has been received.
+     */
+    private static final class UriMeters {
+
+        private final MeterRegistry meterRegistry;
+
+        private final String uri;
+
+        private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(MAX_STATUS_CODE + 1);
+
+        private final DistributionSummary responseSize;
+
+        private volatile Timer ioError;
+
+        private UriMeters(@NonNull final MeterRegistry meterRegistry, @NonNull final String uri) {
+            this.meterRegistry = meterRegistry;
+            this.uri = uri;
+            this.responseSize = DistributionSummary.builder(RESPONSE_SIZE_SUMMARY_NAME)
+                    .baseUnit("bytes")
+                    .tags(URI_TAG, uri)
+                    .register(meterRegistry);
+        }
+
+        @NonNull
+        private Timer timer(final int statusCode) {
+            if (statusCode < 0 || statusCode > MAX_STATUS_CODE) {
+                return createTimer(Integer.toString(statusCode));
+            }
+            final Timer timer = timers.get(statusCode);
+            if (timer != null) {
+                return timer;
+            }
+            // registering the same meter twice returns the existing meter
+            final Timer created = createTimer(Integer.toString(statusCode));
+            timers.compareAndSet(statusCode, null, created);
+            return created;
+        }
+
+        @NonNull
+        private Timer ioError() {
+            Timer timer = ioError;
+            if (timer == null) {
+                timer = createTimer(IO_ERROR_STATUS);
+                ioError = timer;
+            }
+            return timer;
+        }
+
+        @NonNull
+        private Timer createTimer(@NonNull final String status) {
+            return Timer.builder(REQUEST_TIMER_NAME)
+                    .tags(URI_TAG, uri, STATUS_TAG, status)
+                    .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Response that counts the bytes of the body and records the metrics once it is closed.
+     */
+    private static final class MeteredResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+
+        private final UriMeters uriMeters;
+
+        private final long start;
+
+        private long bytes;
+
+        private boolean closed;
+
+        private MeteredResponse(@NonNull final ClientHttpResponse delegate, @NonNull final UriMeters uriMeters,
+                final long start) {
+            this.delegate = delegate;
+            this.uriMeters = uriMeters;
+            this.start = start;
+        }
+
+        @Override
+        @NonNull
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        @NonNull
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        @NonNull
+        public InputStream getBody() throws IOException {
+            return new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    final int value = super.read();
+                    if (value >= 0) {
+                        bytes++;
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+                    final int count = super.read(buffer, offset, length);
+                    if (count > 0) {
+                        bytes += count;
+                    }
+                    return count;
+                }
+
+                @Override
+                public long skip(final long n) throws IOException {
+                    final long skipped = super.skip(n);
+                    bytes += skipped;
+                    return skipped;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                final long duration = System.nanoTime() - start;
+                Timer timer;
+                try {
+                    timer = uriMeters.timer(delegate.getStatusCode().value());
+                } catch (final IOException e) {
+                    timer = uriMeters.ioError();
+                }
+                timer.record(duration, TimeUnit.NANOSECONDS);
+                uriMeters.responseSize.record(bytes);
+            }
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.openelements.hiero.spring.implementation;
+
+import org.springframework.web.client.RestClient;
+
+/**
+ * Customizes the {@link RestClient.Builder} of every mirror node that is used by the {@link MirrorNodeClientImpl}.
+ * All beans of this type are applied in their order before the clients are created, for example to add interceptors.
+ */
+@FunctionalInterface
+public interface MirrorNodeRestClientCustomizer {
+
+    /**
+     * Customizes the builder of the REST client of a mirror node.
+     *
+     * @param restClientBuilder the builder that has the base URL of the mirror node set
+     */
+    void customize(RestClient.Builder restClientBuilder);
+}
@@ -1,17 +1,17 @@
 package com.openelements.hiero.spring.implementation;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.Objects;
 import java.util.function.Function;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriBuilder;
 
@@ -32,30 +32,36 @@ public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonNode>
     }
 
     public JsonNode doGetCall(Function<UriBuilder, URI> uriFunction) throws HieroException {
-        final ResponseEntity<String> responseEntity = restClient.get()
-                .uri(uriBuilder -> uriFunction.apply(uriBuilder))
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, (request, response) -> {
-                    if (!HttpStatus.NOT_FOUND.equals(response.getStatusCode())) {
-                        throw new RuntimeException("Client error: " + response.getStatusText());
-                    }
-                })
-                .onStatus(HttpStatusCode::is5xxServerError, (request, response) -> {
-                    throw new RuntimeException("Server error: " + response.getStatusText());
-                })
-                .toEntity(String.class);
-        final String body = responseEntity.getBody();
         try {
-            if (HttpStatus.NOT_FOUND.equals(responseEntity.getStatusCode())) {
-                return objectMapper.readTree("{}");
-            }
-            if (body == null || body.isBlank()) {
-                return objectMapper.readTree("{}");
-            }
-            return objectMapper.readTree(body);
-        } catch (JsonProcessingException e) {
-            throw new HieroException("Error parsing body as JSON: " + body, e);
+            return restClient.get()
+                    .uri(uriBuilder -> uriFunction.apply(uriBuilder))
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange((request, response) -> {
+                        final HttpStatusCode statusCode = response.getStatusCode();
+                        if (HttpStatus.NOT_FOUND.equals(statusCode)) {
+                            return objectMapper.createObjectNode();
+                        }
+                        if (HttpStatus.TOO_MANY_REQUESTS.equals(statusCode)) {
+                            throw new RuntimeException("Rate limited: " + response.getStatusText());
+                        }
+                        if (statusCode.is4xxClientError()) {
+                            throw new IllegalArgumentException("Client error: " + response.getStatusText());
+                        }
+                        if (statusCode.is5xxServerError()) {
+                            throw new RuntimeException("Server error: " + response.getStatusText());
+                        }
+                        try {
+                            final JsonNode node = objectMapper.readTree(response.getBody());
+                            if (node == null || node.isMissingNode()) {
+                                return objectMapper.createObjectNode();
+                            }
+                            return node;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw new HieroException("Error parsing body as JSON", e.getCause());
         }
     }
 }
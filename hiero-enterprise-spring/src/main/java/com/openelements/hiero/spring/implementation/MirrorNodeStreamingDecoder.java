@@ -0,0 +1,513 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.Balance;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.NftTransfer;
+import com.openelements.hiero.base.data.StakingRewardTransfer;
+import com.openelements.hiero.base.data.TokenTransfer;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.data.Transfer;
+import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decodes mirror node responses directly from the HTTP body stream into the data records of the base module. In
+ * contrast to {@link MirrorNodeJsonConverterImpl} no intermediate {@code String} and no {@code JsonNode} tree is
+ * created, the response is read token by token with a Jackson {@link JsonParser}. Unknown fields are skipped.
+ */
+public class MirrorNodeStreamingDecoder {
+
+    /**
+     * Reads one element of a page. The parser is positioned on the first token of the element and must be positioned
+     * on the last token of the element when the method returns.
+     *
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+
+        /**
+         * Reads the element.
+         *
+         * @param parser the parser
+         * @return the element or null if the element is empty
+         * @throws IOException if the element can not be read
+         */
+        @Nullable
+        T read(@NonNull JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Decodes a full page response.
+     *
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    public interface PageDecoder<T> {
+
+        /**
+         * Decodes the page from the given stream.
+         *
+         * @param inputStream the stream of the response body
+         * @return the decoded page
+         * @throws IOException if the page can not be decoded
+         */
+        @NonNull
+        DecodedPage<T> decode(@NonNull InputStream inputStream) throws IOException;
+    }
+
+    /**
+     * Content of a page.
+     *
+     * @param data     the elements of the page
+     * @param nextPath the path of the next page or null if there is no next page
+     * @param <T>      the element type
+     */
+    public record DecodedPage<T>(@NonNull List<T> data, @Nullable String nextPath) {
+
+        public DecodedPage {
+            Objects.requireNonNull(data, "data must not be null");
+        }
+    }
+
+    private final JsonFactory jsonFactory;
+
+    public MirrorNodeStreamingDecoder() {
+        this(new JsonFactory());
+    }
+
+    public MirrorNodeStreamingDecoder(@NonNull final JsonFactory jsonFactory) {
+        this.jsonFactory = Objects.requireNonNull(jsonFactory, "jsonFactory must not be null");
+    }
+
+    @NonNull
+    public PageDecoder<Nft> nftPageDecoder() {
+        return in -> decodePage(in, "nfts", this::readNft);
+    }
+
+    @NonNull
+    public PageDecoder<TransactionInfo> transactionInfoPageDecoder() {
+        return in -> decodePage(in, "transactions", this::readTransactionInfo);
+    }
+
+    @NonNull
+    public PageDecoder<Balance> balancePageDecoder() {
+        return in -> decodePage(in, "balances", this::readBalance);
+    }
+
+    @NonNull
+    public PageDecoder<TopicMessage> topicMessagePageDecoder() {
+        return in -> decodePage(in, "messages", this::readTopicMessage);
+    }
+
+    /**
+     * Decodes a page response. The elements are read from the array with the given name and the path of the next page
+     * is read from {@code links.next}.
+     *
+     * @param inputStream the stream of the response body
+     * @param arrayField  the name of the field that contains the elements
+     * @param reader      the reader for a single element
+     * @param <T>         the element type
+     * @return the decoded page
+     * @throws IOException if the page can not be decoded
+     */
+    @NonNull
+    public <T> DecodedPage<T> decodePage(@NonNull final InputStream inputStream, @NonNull final String arrayField,
+            @NonNull final ElementReader<T> reader) throws IOException {
+        Objects.requireNonNull(inputStream, "inputStream must not be null");
+        Objects.requireNonNull(arrayField, "arrayField must not be null");
+        Objects.requireNonNull(reader, "reader must not be null");
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            final JsonToken first = parser.nextToken();
+            if (first == null) {
+                return new DecodedPage<>(List.of(), null);
+            }
+            if (first != JsonToken.START_OBJECT) {
+                throw new JsonParseException("Page response is not an object: " + first);
+            }
+            List<T> data = List.of();
+            String nextPath = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (arrayField.equals(name)) {
+                    if (value == JsonToken.START_ARRAY) {
+                        data = readArray(parser, reader);
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        throw new IllegalArgumentException(arrayField + " node is not an array: " + value);
+                    }
+                } else if ("links".equals(name) && value == JsonToken.START_OBJECT) {
+                    nextPath = readNextLink(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new DecodedPage<>(data, nextPath);
+        }
+    }
+
+    @Nullable
+    public Nft readNft(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String tokenId = null;
+        String accountId = null;
+        long serial = 0;
+        byte[] metadata = null;
+        boolean empty = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            empty = false;
+            switch (name) {
+                case "token_id" -> tokenId = parser.getText();
+                case "account_id" -> accountId = parser.getText();
+                case "serial_number" -> serial = parser.getValueAsLong();
+                case "metadata" -> metadata = isNull(parser) ? null : parser.getBinaryValue();
+                default -> parser.skipChildren();
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        try {
+            return new Nft(TokenId.fromString(tokenId), serial, AccountId.fromString(accountId), metadata);
+        } catch (final Exception e) {
+            throw new JsonParseException("Error in parsing NFT", e);
+        }
+    }
+
+    @Nullable
+    public Balance readBalance(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String account = null;
+        long balance = 0;
+        long decimals = 0;
+        boolean empty = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            empty = false;
+            switch (name) {
+                case "account" -> account = parser.getText();
+                case "balance" -> balance = parser.getValueAsLong();
+                case "decimals" -> decimals = parser.getValueAsLong();
+                default -> parser.skipChildren();
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        try {
+            return new Balance(AccountId.fromString(account), balance, decimals);
+        } catch (final Exception e) {
+            throw new JsonParseException("Error in parsing balance", e);
+        }
+    }
+
+    @Nullable
+    public TopicMessage readTopicMessage(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        ChunkInfo chunkInfo = null;
+        Instant consensusTimestamp = null;
+        byte[] contents = null;
+        String payerAccountId = null;
+        byte[] runningHash = null;
+        int runningHashVersion = 0;
+        long sequenceNumber = 0;
+        String topicId = null;
+        boolean empty = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            empty = false;
+            switch (name) {
+                case "chunk_info" -> chunkInfo = readChunkInfo(parser);
+                case "consensus_timestamp" -> consensusTimestamp =
+                        MirrorNodeJsonConverter.parseConsensusTimestamp(parser.getText());
+                case "message" -> contents = Base64.getDecoder().decode(parser.getText());
+                case "payer_account_id" -> payerAccountId = parser.getText();
+                case "running_hash" -> runningHash = Base64.getDecoder().decode(parser.getText());
+                case "running_hash_version" -> runningHashVersion = parser.getValueAsInt();
+                case "sequence_number" -> sequenceNumber = parser.getValueAsLong();
+                case "topic_id" -> topicId = parser.getText();
+                default -> parser.skipChildren();
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        try {
+            return TopicMessage.of(chunkInfo, consensusTimestamp, contents, AccountId.fromString(payerAccountId),
+                    runningHash, runningHashVersion, sequenceNumber, TopicId.fromString(topicId));
+        } catch (final Exception e) {
+            throw new JsonParseException("Error in parsing topic message", e);
+        }
+    }
+
+    @Nullable
+    public TransactionInfo readTransactionInfo(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String transactionId = null;
+        byte[] bytes = null;
+        long chargedTxFee = 0;
+        Instant consensusTimestamp = null;
+        String entityId = null;
+        String maxFee = null;
+        byte[] memo = null;
+        String type = null;
+        List<NftTransfer> nftTransfers = List.of();
+        String node = null;
+        int nonce = 0;
+        Instant parentConsensusTimestamp = null;
+        String result = null;
+        boolean scheduled = false;
+        List<StakingRewardTransfer> stakingRewardTransfers = List.of();
+        List<TokenTransfer> tokenTransfers = List.of();
+        byte[] transactionHash = null;
+        List<Transfer> transfers = List.of();
+        String validDurationSeconds = null;
+        Instant validStartTimestamp = null;
+        boolean empty = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            empty = false;
+            switch (name) {
+                case "transaction_id" -> transactionId = parser.getText();
+                case "bytes" -> bytes = parser.getText().getBytes();
+                case "charged_tx_fee" -> chargedTxFee = parser.getValueAsLong();
+                case "consensus_timestamp" -> consensusTimestamp = Instant.ofEpochSecond(parser.getValueAsLong());
+                case "entity_id" -> entityId = nullableText(parser);
+                case "max_fee" -> maxFee = parser.getText();
+                case "memo_base64" -> memo = parser.getText().getBytes();
+                case "name" -> type = parser.getText();
+                case "nft_transfers" -> nftTransfers = readArray(parser, this::readNftTransfer);
+                case "node" -> node = nullableText(parser);
+                case "nonce" -> nonce = parser.getValueAsInt();
+                case "parent_consensus_timestamp" -> parentConsensusTimestamp = isNull(parser) ? null
+                        : Instant.ofEpochSecond(parser.getValueAsLong());
+                case "result" -> result = parser.getText();
+                case "scheduled" -> scheduled = parser.getValueAsBoolean();
+                case "staking_reward_transfers" ->
+                        stakingRewardTransfers = readArray(parser, this::readStakingRewardTransfer);
+                case "token_transfers" -> tokenTransfers = readArray(parser, this::readTokenTransfer);
+                case "transaction_hash" -> transactionHash = parser.getText().getBytes();
+                case "transfers" -> transfers = readArray(parser, this::readTransfer);
+                case "valid_duration_seconds" -> validDurationSeconds = parser.getText();
+                case "valid_start_timestamp" -> validStartTimestamp = Instant.ofEpochSecond(parser.getValueAsLong());
+                default -> parser.skipChildren();
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        try {
+            return new TransactionInfo(transactionId, bytes, chargedTxFee, consensusTimestamp, entityId, maxFee, memo,
+                    TransactionType.from(type), nftTransfers, node, nonce, parentConsensusTimestamp, result, scheduled,
+                    stakingRewardTransfers, tokenTransfers, transactionHash, transfers, validDurationSeconds,
+                    validStartTimestamp);
+        } catch (final Exception e) {
+            throw new JsonParseException("Error in parsing transaction '" + transactionId + "'", e);
+        }
+    }
+
+    @Nullable
+    private ChunkInfo readChunkInfo(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String initialTransactionId = null;
+        int nonce = 0;
+        int number = 0;
+        int total = 0;
+        boolean scheduled = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "initial_transaction_id" -> initialTransactionId = parser.getText();
+                case "nonce" -> nonce = parser.getValueAsInt();
+                case "number" -> number = parser.getValueAsInt();
+                case "total" -> total = parser.getValueAsInt();
+                case "scheduled" -> scheduled = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+        return new ChunkInfo(TransactionId.fromString(initialTransactionId), nonce, number, total, scheduled);
+    }
+
+    @Nullable
+    private Transfer readTransfer(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String account = null;
+        long amount = 0;
+        boolean isApproval = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "account" -> account = parser.getText();
+                case "amount" -> amount = parser.getValueAsLong();
+                case "is_approval" -> isApproval = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Transfer(AccountId.fromString(account), amount, isApproval);
+    }
+
+    @Nullable
+    private TokenTransfer readTokenTransfer(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String tokenId = null;
+        String account = null;
+        long amount = 0;
+        boolean isApproval = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "token_id" -> tokenId = parser.getText();
+                case "account" -> account = parser.getText();
+                case "amount" -> amount = parser.getValueAsLong();
+                case "is_approval" -> isApproval = parser.getValueAsBoolean();
+                default -> parser.skipChildren();
+            }
+        }
+        return new TokenTransfer(TokenId.fromString(tokenId), AccountId.fromString(account), amount, isApproval);
+    }
+
+    @Nullable
+    private StakingRewardTransfer readStakingRewardTransfer(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String account = null;
+        long amount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "account" -> account = parser.getText();
+                case "amount" -> amount = parser.getValueAsLong();
+                default -> parser.skipChildren();
+            }
+        }
+        return new StakingRewardTransfer(AccountId.fromString(account), amount);
+    }
+
+    @Nullable
+    private NftTransfer readNftTransfer(@NonNull final JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        boolean isApproval = false;
+        String receiverAccountId = null;
+        String senderAccountId = null;
+        long serialNumber = 0;
+        String tokenId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "is_approval" -> isApproval = parser.getValueAsBoolean();
+                case "receiver_account_id" -> receiverAccountId = nullableText(parser);
+                case "sender_account_id" -> senderAccountId = nullableText(parser);
+                case "serial_number" -> serialNumber = parser.getValueAsLong();
+                case "token_id" -> tokenId = parser.getText();
+                default -> parser.skipChildren();
+            }
+        }
+        return new NftTransfer(isApproval,
+                receiverAccountId == null ? null : AccountId.fromString(receiverAccountId),
+                senderAccountId == null ? null : AccountId.fromString(senderAccountId),
+                serialNumber, TokenId.fromString(tokenId));
+    }
+
+    @Nullable
+    private String readNextLink(@NonNull final JsonParser parser) throws IOException {
+        String next = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            final JsonToken value = parser.nextToken();
+            if ("next".equals(name) && value != JsonToken.VALUE_NULL) {
+                if (value != JsonToken.VALUE_STRING) {
+                    throw new IllegalArgumentException("Next link is not a string: " + value);
+                }
+                next = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return next;
+    }
+
+    @NonNull
+    private static <T> List<T> readArray(@NonNull final JsonParser parser, @NonNull final ElementReader<T> reader)
+            throws IOException {
+        if (isNull(parser)) {
+            return List.of();
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException("Expected array but found " + parser.currentToken());
+        }
+        final List<T> result = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final T element = reader.read(parser);
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static boolean startObject(@NonNull final JsonParser parser) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException("Expected object but found " + token);
+        }
+        return true;
+    }
+
+    private static boolean isNull(@NonNull final JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NULL;
+    }
+
+    @Nullable
+    private static String nullableText(@NonNull final JsonParser parser) throws IOException {
+        return isNull(parser) ? null : parser.getText();
+    }
+}
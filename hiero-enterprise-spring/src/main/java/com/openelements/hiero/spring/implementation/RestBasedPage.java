@@ -2,10 +2,12 @@ package com.openelements.hiero.spring.implementation;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder.DecodedPage;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder.PageDecoder;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -14,19 +16,15 @@ import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClient;
 
 public class RestBasedPage<T> implements Page<T> {
 
     private static final Logger log = LoggerFactory.getLogger(RestBasedPage.class);
 
-
-    private final ObjectMapper objectMapper;
-
     private final RestClient restClient;
 
-    private final Function<JsonNode, List<T>> dataExtractionFunction;
+    private final PageDecoder<T> pageDecoder;
 
     private final int number;
 
@@ -48,10 +46,18 @@ public class RestBasedPage<T> implements Page<T> {
             final @NonNull String path, int number,
             final @NonNull Function<JsonNode, List<T>> dataExtractionFunction,
             final @NonNull String rootPath) {
-        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        this(restClientBuilder, path, number, treeDecoder(objectMapper, dataExtractionFunction), rootPath);
+    }
+
+    public RestBasedPage(final RestClient.Builder restClientBuilder, final @NonNull String path,
+            final @NonNull PageDecoder<T> pageDecoder) {
+        this(restClientBuilder, path, 0, pageDecoder, path);
+    }
+
+    public RestBasedPage(final RestClient.Builder restClientBuilder, final @NonNull String path, int number,
+            final @NonNull PageDecoder<T> pageDecoder, final @NonNull String rootPath) {
         Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null");
-        this.dataExtractionFunction = Objects.requireNonNull(dataExtractionFunction,
-                "dataExtractionFunction must not be null");
+        this.pageDecoder = Objects.requireNonNull(pageDecoder, "pageDecoder must not be null");
         this.rootPath = Objects.requireNonNull(rootPath, "rootPath must not be null");
         this.currentPath = Objects.requireNonNull(path, "path must not be null");
         this.number = number;
@@ -69,29 +75,40 @@ public class RestBasedPage<T> implements Page<T> {
             requestQuery = null;
         }
 
-        final ResponseEntity<String> response = restClient.get()
+        final DecodedPage<T> page = restClient.get()
                 .uri(uriBuilder -> uriBuilder.path(requestPath).query(requestQuery).build())
                 .accept(APPLICATION_JSON)
-                .retrieve()
-                .toEntity(String.class);
-        final HttpStatusCode statusCode = response.getStatusCode();
-        if (!statusCode.is2xxSuccessful()) {
-            throw new IllegalStateException("HTTP status code: " + statusCode);
-        }
-        final String body = response.getBody();
-        if (body == null) {
-            throw new IllegalStateException("Response body is null");
-        }
-        try {
-            final JsonNode jsonNode = objectMapper.readTree(body);
-            data = Collections.unmodifiableList(dataExtractionFunction.apply(jsonNode));
-            nextPath = getNextPath(jsonNode);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("JSON parsing error", e);
-        }
+                .exchange((request, response) -> {
+                    final HttpStatusCode statusCode = response.getStatusCode();
+                    if (!statusCode.is2xxSuccessful()) {
+                        throw new IllegalStateException("HTTP status code: " + statusCode);
+                    }
+                    try {
+                        return pageDecoder.decode(response.getBody());
+                    } catch (IOException e) {
+                        throw new RuntimeException("JSON parsing error", e);
+                    }
+                });
+        data = page.data();
+        nextPath = page.nextPath();
+    }
+
+    @NonNull
+    private static <T> PageDecoder<T> treeDecoder(final @NonNull ObjectMapper objectMapper,
+            final @NonNull Function<JsonNode, List<T>> dataExtractionFunction) {
+        Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        Objects.requireNonNull(dataExtractionFunction, "dataExtractionFunction must not be null");
+        return inputStream -> {
+            final JsonNode jsonNode = objectMapper.readTree(inputStream);
+            if (jsonNode == null || jsonNode.isMissingNode()) {
+                throw new IllegalStateException("Response body is null");
+            }
+            return new DecodedPage<>(Collections.unmodifiableList(dataExtractionFunction.apply(jsonNode)),
+                    getNextPath(jsonNode));
+        };
     }
 
-    private String getNextPath(final JsonNode jsonNode) {
+    private static String getNextPath(final JsonNode jsonNode) {
         if (!jsonNode.has("links")) {
             return null;
         }
@@ -141,13 +158,12 @@ public class RestBasedPage<T> implements Page<T> {
         if (nextPath == null) {
             throw new IllegalStateException("No next Page");
         }
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), nextPath, number + 1,
-                dataExtractionFunction, rootPath);
+        return new RestBasedPage<>(restClient.mutate().clone(), nextPath, number + 1, pageDecoder, rootPath);
     }
 
     @Override
     public Page<T> first() {
-        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), rootPath, dataExtractionFunction);
+        return new RestBasedPage<>(restClient.mutate().clone(), rootPath, pageDecoder);
     }
 
     @Override
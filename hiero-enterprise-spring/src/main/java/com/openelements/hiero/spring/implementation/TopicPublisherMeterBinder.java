@@ -0,0 +1,83 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.openelements.hiero.base.protocol.TopicPublisher;
+import com.openelements.hiero.base.protocol.data.TopicPublisherMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Binds the metrics of a {@link TopicPublisher} (see {@link TopicPublisher#getMetrics()}) to a {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@value #QUEUE_GAUGE_NAME}: number of messages in the queue that have not been submitted yet</li>
+ *     <li>{@value #IN_FLIGHT_GAUGE_NAME}: number of messages that have been submitted but not yet handled</li>
+ *     <li>{@value #MESSAGES_COUNTER_NAME}: number of messages by outcome ({@code accepted}, {@code succeeded} or
+ *     {@code failed})</li>
+ *     <li>{@value #THROUGHPUT_GAUGE_NAME}: number of handled messages per second</li>
+ *     <li>{@value #LATENCY_GAUGE_NAME}: 99th percentile of the time between accepting a message and receiving its
+ *     receipt</li>
+ * </ul>
+ * All meters are tagged with the name of the publisher. The meters only hold a weak reference to the publisher and
+ * read its metrics when the registry is polled, publishing a message does not touch any meter.
+ */
+public class TopicPublisherMeterBinder implements MeterBinder {
+
+    public static final String QUEUE_GAUGE_NAME = "hiero.topic.publisher.queue";
+    public static final String IN_FLIGHT_GAUGE_NAME = "hiero.topic.publisher.inflight";
+    public static final String MESSAGES_COUNTER_NAME = "hiero.topic.publisher.messages";
+    public static final String THROUGHPUT_GAUGE_NAME = "hiero.topic.publisher.throughput";
+    public static final String LATENCY_GAUGE_NAME = "hiero.topic.publisher.latency.p99";
+    public static final String PUBLISHER_TAG = "publisher";
+    public static final String OUTCOME_TAG = "outcome";
+
+    private final TopicPublisher publisher;
+
+    private final Tags tags;
+
+    /**
+     * Creates a binder for the given publisher.
+     *
+     * @param publisher the publisher
+     * @param name      the name of the publisher that is used as tag
+     */
+    public TopicPublisherMeterBinder(@NonNull final TopicPublisher publisher, @NonNull final String name) {
+        this.publisher = Objects.requireNonNull(publisher, "publisher must not be null");
+        this.tags = Tags.of(PUBLISHER_TAG, Objects.requireNonNull(name, "name must not be null"));
+    }
+
+    @Override
+    public void bindTo(@NonNull final MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        gauge(meterRegistry, QUEUE_GAUGE_NAME, TopicPublisherMetrics::queueDepth);
+        gauge(meterRegistry, IN_FLIGHT_GAUGE_NAME, TopicPublisherMetrics::inFlightCount);
+        gauge(meterRegistry, THROUGHPUT_GAUGE_NAME, TopicPublisherMetrics::throughputPerSecond);
+        counter(meterRegistry, "accepted", TopicPublisherMetrics::acceptedCount);
+        counter(meterRegistry, "succeeded", TopicPublisherMetrics::succeededCount);
+        counter(meterRegistry, "failed", TopicPublisherMetrics::failedCount);
+        TimeGauge.builder(LATENCY_GAUGE_NAME, publisher, TimeUnit.NANOSECONDS,
+                        p -> p.getMetrics().latencyP99().toNanos())
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private void gauge(@NonNull final MeterRegistry meterRegistry, @NonNull final String name,
+            @NonNull final ToDoubleFunction<TopicPublisherMetrics> value) {
+        Gauge.builder(name, publisher, p -> value.applyAsDouble(p.getMetrics()))
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    private void counter(@NonNull final MeterRegistry meterRegistry, @NonNull final String outcome,
+            @NonNull final ToDoubleFunction<TopicPublisherMetrics> value) {
+        FunctionCounter.builder(MESSAGES_COUNTER_NAME, publisher, p -> value.applyAsDouble(p.getMetrics()))
+                .tags(tags.and(OUTCOME_TAG, outcome))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,296 @@
+package com.openelements.hiero.spring.test;
+
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.implementation.AsyncProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.implementation.RateLimiterSettings;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.AccountCreateResult;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.spring.implementation.MirrorNodeClientImpl;
+import com.openelements.hiero.test.FakeHieroNetwork;
+import com.openelements.hiero.test.FakeNetworkSettings;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+public class FakeHieroNetworkTest {
+
+    @Test
+    void testAccountCreate() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start();
+                MirrorNodeClientImpl mirrorNodeClient = new MirrorNodeClientImpl(
+                        RestClient.builder().baseUrl(network.getMirrorNodeBaseUrl()))) {
+            //given
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+
+            //when
+            final AccountCreateResult result = client.executeAccountCreateTransaction(
+                    AccountCreateRequest.of(Hbar.from(5)));
+            final AccountBalanceResponse balance = client.executeAccountBalanceQuery(
+                    AccountBalanceRequest.of(result.newAccount().accountId()));
+            final Optional<AccountInfo> accountInfo = mirrorNodeClient.queryAccount(result.newAccount().accountId());
+
+            //then
+            Assertions.assertEquals(Status.SUCCESS, result.status());
+            Assertions.assertEquals(Hbar.from(5), balance.hbars());
+            Assertions.assertTrue(accountInfo.isPresent());
+            Assertions.assertEquals(Hbar.from(5).toTinybars(), accountInfo.get().balance());
+            Assertions.assertEquals(1, network.getTransactionCount());
+        }
+    }
+
+    @Test
+    void testListenersAndRecordInterceptorAreCalledOnAsyncPath() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final AsyncProtocolLayerClientImpl client = new AsyncProtocolLayerClientImpl(network);
+            final List<String> callbacks = new CopyOnWriteArrayList<>();
+            final CountDownLatch recordReceived = new CountDownLatch(1);
+            client.addTransactionListener(new TransactionListener() {
+                @Override
+                public void transactionSubmitted(TransactionEvent event) {
+                    callbacks.add("submitted " + event.transactionType());
+                }
+
+                @Override
+                public void transactionHandled(TransactionEvent event) {
+                    callbacks.add("handled " + event.status());
+                }
+
+                @Override
+                public void transactionRecordReceived(TransactionEvent event) {
+                    callbacks.add("record " + event.transactionType());
+                    recordReceived.countDown();
+                }
+            });
+            final AtomicInteger interceptorCalls = new AtomicInteger();
+            client.setRecordInterceptor(handler -> {
+                interceptorCalls.incrementAndGet();
+                return handler.handle();
+            });
+
+            //when
+            final AccountCreateResult result = client.executeAccountCreateTransaction(
+                    AccountCreateRequest.of(Hbar.from(1))).get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(Status.SUCCESS, result.status());
+            Assertions.assertEquals(1, interceptorCalls.get());
+            Assertions.assertTrue(recordReceived.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(List.of("submitted " + TransactionType.ACCOUNT_CREATE,
+                    "handled " + Status.SUCCESS, "record " + TransactionType.ACCOUNT_CREATE), callbacks);
+        }
+    }
+
+    @Test
+    void testTopicMessagesAreAvailableAtMirrorNode() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start();
+                MirrorNodeClientImpl mirrorNodeClient = new MirrorNodeClientImpl(
+                        RestClient.builder().baseUrl(network.getMirrorNodeBaseUrl()))) {
+            //given
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+            final TopicCreateResult topic = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+            final TopicId topicId = topic.topicId();
+
+            //when
+            for (int i = 0; i < 3; i++) {
+                final TopicSubmitMessageResult result = client.executeTopicMessageSubmitTransaction(
+                        TopicSubmitMessageRequest.of(topicId, "message " + i));
+                Assertions.assertEquals(Status.SUCCESS, result.status());
+            }
+            final List<TopicMessage> messages = mirrorNodeClient.queryTopicMessages(topicId).getData();
+            final Optional<TopicMessage> second = mirrorNodeClient.queryTopicMessageBySequenceNumber(topicId, 2);
+
+            //then
+            Assertions.assertEquals(3, messages.size());
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals("message " + i, messages.get(i).message());
+                Assertions.assertEquals(i + 1, messages.get(i).sequenceNumber());
+            }
+            Assertions.assertTrue(second.isPresent());
+            Assertions.assertEquals("message 1", second.get().message());
+            Assertions.assertTrue(mirrorNodeClient.queryTopicById(topicId).isPresent());
+        }
+    }
+
+    @Test
+    void testMirrorNodeLag() throws Exception {
+        final FakeNetworkSettings settings = FakeNetworkSettings.defaults()
+                .withLatency(Duration.ZERO, Duration.ZERO, Duration.ofHours(1));
+        try (FakeHieroNetwork network = FakeHieroNetwork.start(settings);
+                MirrorNodeClientImpl mirrorNodeClient = new MirrorNodeClientImpl(
+                        RestClient.builder().baseUrl(network.getMirrorNodeBaseUrl()))) {
+            //given
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+
+            //when
+            final TopicCreateResult topic = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+
+            //then
+            Assertions.assertEquals(Status.SUCCESS, topic.status());
+            Assertions.assertTrue(mirrorNodeClient.queryTopicById(topic.topicId()).isEmpty());
+        }
+    }
+
+    @Test
+    void testFailuresAreRetried() throws Exception {
+        final FakeNetworkSettings settings = FakeNetworkSettings.defaults().withFailures(0.5, Status.BUSY, 42);
+        try (FakeHieroNetwork network = FakeHieroNetwork.start(settings)) {
+            //given
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+
+            //when
+            for (int i = 0; i < 10; i++) {
+                final TopicCreateResult result = client.executeTopicCreateTransaction(
+                        TopicCreateRequest.of(PrivateKey.generateED25519()));
+                Assertions.assertEquals(Status.SUCCESS, result.status());
+            }
+
+            //then
+            Assertions.assertEquals(10, network.getTransactionCount());
+            Assertions.assertTrue(network.getRejectedCount() > 0);
+        }
+    }
+
+    @Test
+    void testConsensusLatency() throws Exception {
+        final FakeNetworkSettings settings = FakeNetworkSettings.defaults()
+                .withLatency(Duration.ofMillis(10), Duration.ofMillis(200), Duration.ZERO);
+        try (FakeHieroNetwork network = FakeHieroNetwork.start(settings)) {
+            //given
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+            final long start = System.nanoTime();
+
+            //when
+            final TopicCreateResult result = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+
+            //then
+            Assertions.assertEquals(Status.SUCCESS, result.status());
+            Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(200)) >= 0);
+        }
+    }
+
+    @Test
+    void testRateLimitedTransactions() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final ProtocolLayerClient client = ProtocolLayerClientImpl.of(new AsyncProtocolLayerClientImpl(network,
+                    new RateLimiterSettings(10, 1, 10, 1, 0.5, 2)));
+            final long start = System.nanoTime();
+
+            //when
+            for (int i = 0; i < 6; i++) {
+                final AccountCreateResult result = client.executeAccountCreateTransaction(
+                        AccountCreateRequest.of(Hbar.from(1)));
+                Assertions.assertEquals(Status.SUCCESS, result.status());
+            }
+
+            //then
+            Assertions.assertEquals(6, network.getTransactionCount());
+            Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(350)) >= 0);
+        }
+    }
+
+    @Test
+    void testRateLimitedTransactionsAreInFlightWhileWaiting() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final AsyncProtocolLayerClientImpl client = new AsyncProtocolLayerClientImpl(network,
+                    new RateLimiterSettings(2, 1, 2, 1, 0.5, 1));
+
+            //when
+            final List<CompletableFuture<AccountCreateResult>> results = List.of(
+                    client.executeAccountCreateTransaction(AccountCreateRequest.of(Hbar.from(1))),
+                    client.executeAccountCreateTransaction(AccountCreateRequest.of(Hbar.from(1))),
+                    client.executeAccountCreateTransaction(AccountCreateRequest.of(Hbar.from(1))));
+            final OperatorStatistics waiting = client.getOperatorStatistics().get(0);
+            for (final CompletableFuture<AccountCreateResult> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+            final OperatorStatistics done = client.getOperatorStatistics().get(0);
+
+            //then
+            Assertions.assertTrue(waiting.inFlightCount() >= 2, "in flight: " + waiting.inFlightCount());
+            Assertions.assertTrue(waiting.submittedCount() <= 1, "submitted: " + waiting.submittedCount());
+            Assertions.assertEquals(0, done.inFlightCount());
+            Assertions.assertEquals(3, done.submittedCount());
+        }
+    }
+
+    @Test
+    void testRateLimitedTransactionIsSignedAfterWaiting() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final AsyncProtocolLayerClientImpl client = new AsyncProtocolLayerClientImpl(network,
+                    new RateLimiterSettings(2, 1, 2, 1, 0.5, 1));
+
+            //when
+            final CompletableFuture<TopicCreateResult> first = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+            final CompletableFuture<TopicCreateResult> second = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+            final TopicCreateResult firstResult = first.get(10, TimeUnit.SECONDS);
+            final TopicCreateResult secondResult = second.get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(Status.SUCCESS, secondResult.status());
+            final Duration validStartDelay = Duration.between(firstResult.transactionId().validStart,
+                    secondResult.transactionId().validStart);
+            Assertions.assertTrue(validStartDelay.compareTo(Duration.ofMillis(400)) >= 0,
+                    "valid start delay: " + validStartDelay);
+        }
+    }
+
+    @Test
+    void testRateLimitedTransactionFailsFastIfWaitIsTooLong() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final AsyncProtocolLayerClientImpl client = new AsyncProtocolLayerClientImpl(network,
+                    new RateLimiterSettings(1, 1, 1, 1, 0.5, 1, Duration.ofMillis(500)));
+            client.executeAccountCreateTransaction(AccountCreateRequest.of(Hbar.from(1))).get(10, TimeUnit.SECONDS);
+
+            //when
+            final long start = System.nanoTime();
+            final CompletableFuture<AccountCreateResult> rejected = client.executeAccountCreateTransaction(
+                    AccountCreateRequest.of(Hbar.from(1)));
+            final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                    () -> rejected.get(10, TimeUnit.SECONDS));
+
+            //then
+            Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(500)) < 0);
+            Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+            Assertions.assertEquals(1, network.getTransactionCount());
+            Assertions.assertEquals(0, client.getOperatorStatistics().get(0).inFlightCount());
+            Assertions.assertEquals(1, client.getOperatorStatistics().get(0).submittedCount());
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class FileClientTests {
 
     @Test
     void testNullParams() {
-        Assertions.assertThrows(NullPointerException.class, () -> fileClient.createFile(null));
+        Assertions.assertThrows(NullPointerException.class, () -> fileClient.createFile((byte[]) null));
         Assertions.assertThrows(NullPointerException.class, () -> fileClient.readFile((String) null));
         Assertions.assertThrows(NullPointerException.class, () -> fileClient.readFile((FileId) null));
         Assertions.assertThrows(NullPointerException.class, () -> fileClient.deleteFile((String) null));
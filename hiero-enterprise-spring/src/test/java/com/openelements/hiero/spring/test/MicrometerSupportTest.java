@@ -0,0 +1,201 @@
+package com.openelements.hiero.spring.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.protocol.AsyncProtocolLayerClient;
+import com.openelements.hiero.base.protocol.TopicPublisher;
+import com.openelements.hiero.base.protocol.TransactionListener;
+import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.spring.implementation.MeteredAsyncProtocolLayerClient;
+import com.openelements.hiero.spring.implementation.MirrorNodeMetricsInterceptor;
+import com.openelements.hiero.spring.implementation.TopicPublisherMeterBinder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+public class MicrometerSupportTest {
+
+    @Test
+    void testProtocolCallsAreMeasured() {
+        //given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AsyncProtocolLayerClient delegate = Mockito.mock(AsyncProtocolLayerClient.class);
+        final AccountBalanceRequest request = AccountBalanceRequest.of("0.0.2");
+        Mockito.when(delegate.executeAccountBalanceQuery(request))
+                .thenReturn(CompletableFuture.completedFuture(AccountBalanceResponse.of(Hbar.from(1))))
+                .thenReturn(CompletableFuture.failedFuture(new HieroException("failed", new IOException("down"))));
+        final MeteredAsyncProtocolLayerClient client = new MeteredAsyncProtocolLayerClient(delegate, registry);
+
+        //when
+        client.executeAccountBalanceQuery(request).join();
+        final CompletableFuture<AccountBalanceResponse> failed = client.executeAccountBalanceQuery(request);
+
+        //then
+        Assertions.assertTrue(failed.isCompletedExceptionally());
+        final Timer success = registry.get(MeteredAsyncProtocolLayerClient.CALL_TIMER_NAME)
+                .tags(MeteredAsyncProtocolLayerClient.OPERATION_TAG, "account.balance",
+                        MeteredAsyncProtocolLayerClient.OUTCOME_TAG, "success")
+                .timer();
+        final Timer failure = registry.get(MeteredAsyncProtocolLayerClient.CALL_TIMER_NAME)
+                .tags(MeteredAsyncProtocolLayerClient.OPERATION_TAG, "account.balance",
+                        MeteredAsyncProtocolLayerClient.OUTCOME_TAG, "failure",
+                        MeteredAsyncProtocolLayerClient.EXCEPTION_TAG, "IOException")
+                .timer();
+        Assertions.assertEquals(1, success.count());
+        Assertions.assertEquals(1, failure.count());
+    }
+
+    @Test
+    void testTransactionEventsAreMeasured() {
+        //given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AsyncProtocolLayerClient delegate = Mockito.mock(AsyncProtocolLayerClient.class);
+        Mockito.when(delegate.getDroppedTransactionEventCount()).thenReturn(3L);
+        new MeteredAsyncProtocolLayerClient(delegate, registry);
+        final ArgumentCaptor<TransactionListener> listener = ArgumentCaptor.forClass(TransactionListener.class);
+        Mockito.verify(delegate).addTransactionListener(listener.capture());
+        final Instant submitTime = Instant.ofEpochSecond(1_700_000_000L);
+        final TransactionEvent submitted = TransactionEvent.submitted(TransactionType.ACCOUNT_CREATE,
+                TransactionId.withValidStart(AccountId.fromString("0.0.2"), submitTime), AccountId.fromString("0.0.3"),
+                submitTime);
+        final TransactionEvent handled = submitted.withReceipt(submitTime.plusSeconds(2), Status.SUCCESS);
+
+        //when
+        listener.getValue().transactionHandled(handled);
+        listener.getValue().transactionHandled(handled);
+        listener.getValue().transactionRecordReceived(handled.withRecord(submitTime.plusSeconds(3),
+                Hbar.fromTinybars(1000)));
+
+        //then
+        final Timer receipt = registry.get(MeteredAsyncProtocolLayerClient.RECEIPT_TIMER_NAME)
+                .tags(MeteredAsyncProtocolLayerClient.TRANSACTION_TYPE_TAG, "ACCOUNT_CREATE",
+                        MeteredAsyncProtocolLayerClient.STATUS_TAG, "SUCCESS")
+                .timer();
+        Assertions.assertEquals(2, receipt.count());
+        Assertions.assertEquals(4_000, receipt.totalTime(TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1, registry.get(MeteredAsyncProtocolLayerClient.RECORD_TIMER_NAME).timer().count());
+        Assertions.assertEquals(1000,
+                registry.get(MeteredAsyncProtocolLayerClient.FEE_SUMMARY_NAME).summary().totalAmount());
+        Assertions.assertEquals(3,
+                registry.get(MeteredAsyncProtocolLayerClient.DROPPED_EVENTS_COUNTER_NAME).functionCounter().count());
+    }
+
+    @Test
+    void testTopicPublisherIsMeasured() throws Exception {
+        //given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AsyncProtocolLayerClient client = Mockito.mock(AsyncProtocolLayerClient.class);
+        final CompletableFuture<TopicSubmitMessageResult> pending = new CompletableFuture<>();
+        Mockito.when(client.executeTopicMessageSubmitTransaction(ArgumentMatchers.any(
+                        TopicSubmitMessageRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new HieroException("failed")))
+                .thenReturn(pending);
+        final TopicId topicId = TopicId.fromString("0.0.1234");
+        try (TopicPublisher publisher = new TopicPublisher(client, 10, 10, 1)) {
+            new TopicPublisherMeterBinder(publisher, "events").bindTo(registry);
+
+            //when
+            final CompletableFuture<TopicSubmitMessageResult> failed = publisher.submit(topicId, "first");
+            Assertions.assertThrows(Exception.class, () -> failed.get(10, TimeUnit.SECONDS));
+            publisher.publish(topicId, "second");
+            while (publisher.getMetrics().inFlightCount() == 0) {
+                Thread.sleep(10);
+            }
+
+            //then
+            Assertions.assertEquals(1, registry.get(TopicPublisherMeterBinder.IN_FLIGHT_GAUGE_NAME)
+                    .tags(TopicPublisherMeterBinder.PUBLISHER_TAG, "events").gauge().value());
+            Assertions.assertEquals(0, registry.get(TopicPublisherMeterBinder.QUEUE_GAUGE_NAME).gauge().value());
+            Assertions.assertEquals(2, registry.get(TopicPublisherMeterBinder.MESSAGES_COUNTER_NAME)
+                    .tags(TopicPublisherMeterBinder.OUTCOME_TAG, "accepted").functionCounter().count());
+            Assertions.assertEquals(1, registry.get(TopicPublisherMeterBinder.MESSAGES_COUNTER_NAME)
+                    .tags(TopicPublisherMeterBinder.OUTCOME_TAG, "failed").functionCounter().count());
+            Assertions.assertEquals(0, registry.get(TopicPublisherMeterBinder.MESSAGES_COUNTER_NAME)
+                    .tags(TopicPublisherMeterBinder.OUTCOME_TAG, "succeeded").functionCounter().count());
+            pending.complete(new TopicSubmitMessageResult(TransactionId.generate(AccountId.fromString("0.0.2")),
+                    Status.SUCCESS));
+        }
+    }
+
+    @Test
+    void testMirrorNodeRequestsAreMeasured() throws Exception {
+        //given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final MirrorNodeMetricsInterceptor interceptor = new MirrorNodeMetricsInterceptor(registry);
+        final byte[] body = "{\"balance\":1}".getBytes(StandardCharsets.UTF_8);
+        final ClientHttpRequestExecution execution = (request, requestBody) ->
+                new MockClientHttpResponse(body, HttpStatus.OK);
+
+        //when
+        for (final String account : new String[]{"0.0.2", "0.0.3"}) {
+            final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+                    URI.create("https://mainnet.mirrornode.hedera.com/api/v1/accounts/" + account + "/nfts?limit=5"));
+            try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+                    InputStream in = response.getBody()) {
+                in.readAllBytes();
+            }
+        }
+
+        //then
+        final Timer timer = registry.get(MirrorNodeMetricsInterceptor.REQUEST_TIMER_NAME)
+                .tags(MirrorNodeMetricsInterceptor.URI_TAG, "/api/v1/accounts/{id}/nfts",
+                        MirrorNodeMetricsInterceptor.STATUS_TAG, "200")
+                .timer();
+        final DistributionSummary size = registry.get(MirrorNodeMetricsInterceptor.RESPONSE_SIZE_SUMMARY_NAME)
+                .tags(MirrorNodeMetricsInterceptor.URI_TAG, "/api/v1/accounts/{id}/nfts")
+                .summary();
+        Assertions.assertEquals(2, timer.count());
+        Assertions.assertEquals(2, size.count());
+        Assertions.assertEquals(2 * body.length, size.totalAmount());
+        Assertions.assertEquals(1, registry.find(MirrorNodeMetricsInterceptor.REQUEST_TIMER_NAME).timers().size());
+    }
+
+    @Test
+    void testMirrorNodeIoErrorIsMeasured() {
+        //given
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final MirrorNodeMetricsInterceptor interceptor = new MirrorNodeMetricsInterceptor(registry);
+        final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+                URI.create("https://mainnet.mirrornode.hedera.com/api/v1/network/supply"));
+        final ClientHttpRequestExecution execution = (r, b) -> {
+            throw new IOException("connection refused");
+        };
+
+        //when
+        Assertions.assertThrows(IOException.class, () -> interceptor.intercept(request, new byte[0], execution));
+
+        //then
+        final Timer timer = registry.get(MirrorNodeMetricsInterceptor.REQUEST_TIMER_NAME)
+                .tags(MirrorNodeMetricsInterceptor.URI_TAG, "/api/v1/network/supply",
+                        MirrorNodeMetricsInterceptor.STATUS_TAG, MirrorNodeMetricsInterceptor.IO_ERROR_STATUS)
+                .timer();
+        Assertions.assertEquals(1, timer.count());
+    }
+}
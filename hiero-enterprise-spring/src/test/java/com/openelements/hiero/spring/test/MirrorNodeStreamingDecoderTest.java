@@ -0,0 +1,185 @@
+package com.openelements.hiero.spring.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.base.data.Balance;
+import com.openelements.hiero.base.data.Nft;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.spring.implementation.MirrorNodeJsonConverterImpl;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder;
+import com.openelements.hiero.spring.implementation.MirrorNodeStreamingDecoder.DecodedPage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeStreamingDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MirrorNodeJsonConverterImpl converter = new MirrorNodeJsonConverterImpl();
+
+    private final MirrorNodeStreamingDecoder decoder = new MirrorNodeStreamingDecoder();
+
+    private static String nftJson(final int serial) {
+        final String metadata = Base64.getEncoder().encodeToString(("metadata-" + serial)
+                .getBytes(StandardCharsets.UTF_8));
+        return """
+                {"account_id":"0.0.%d","created_timestamp":"1710000000.000000001","delegating_spender":null,
+                "deleted":false,"metadata":"%s","modified_timestamp":"1710000000.000000002",
+                "serial_number":%d,"spender":null,"token_id":"0.0.5000"}"""
+                .formatted(1000 + serial, metadata, serial);
+    }
+
+    private static String nftPage(final int count, final String next) {
+        return IntStream.range(1, count + 1)
+                .mapToObj(MirrorNodeStreamingDecoderTest::nftJson)
+                .collect(Collectors.joining(",", "{\"nfts\":[", "],\"links\":{\"next\":" + next + "}}"));
+    }
+
+    private static String transactionJson(final int i) {
+        return """
+                {"bytes":null,"charged_tx_fee":%d,"consensus_timestamp":"1710000000.%09d","entity_id":"0.0.%d",
+                "max_fee":"100000000","memo_base64":"","name":"CRYPTOTRANSFER",
+                "nft_transfers":[{"is_approval":false,"receiver_account_id":"0.0.2","sender_account_id":null,
+                "serial_number":%d,"token_id":"0.0.5000"}],"node":"0.0.3","nonce":0,
+                "parent_consensus_timestamp":null,"result":"SUCCESS","scheduled":false,
+                "staking_reward_transfers":[{"account":"0.0.800","amount":1}],
+                "token_transfers":[{"token_id":"0.0.6000","account":"0.0.2","amount":-5,"is_approval":false}],
+                "transaction_hash":"aGFzaA==","transaction_id":"0.0.2-1710000000-%09d",
+                "transfers":[{"account":"0.0.2","amount":-%d,"is_approval":false},
+                {"account":"0.0.3","amount":%d,"is_approval":false}],
+                "valid_duration_seconds":"120","valid_start_timestamp":"1709999999.000000000"}"""
+                .formatted(1000 + i, i, i, i, i, 1000 + i, 1000 + i);
+    }
+
+    private static String transactionPage(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(MirrorNodeStreamingDecoderTest::transactionJson)
+                .collect(Collectors.joining(",", "{\"transactions\":[", "],\"links\":{\"next\":null}}"));
+    }
+
+    @Test
+    void testDecodeNftPage() throws Exception {
+        //given
+        final String json = nftPage(3, "\"/api/v1/tokens/0.0.5000/nfts?limit=3&serialnumber=lt:1\"");
+        final List<Nft> expected = converter.toNfts(objectMapper.readTree(json));
+
+        //when
+        final DecodedPage<Nft> page = decoder.nftPageDecoder().decode(toStream(json));
+
+        //then
+        Assertions.assertEquals("/api/v1/tokens/0.0.5000/nfts?limit=3&serialnumber=lt:1", page.nextPath());
+        Assertions.assertEquals(expected.size(), page.data().size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).tokenId(), page.data().get(i).tokenId());
+            Assertions.assertEquals(expected.get(i).serial(), page.data().get(i).serial());
+            Assertions.assertEquals(expected.get(i).owner(), page.data().get(i).owner());
+            Assertions.assertArrayEquals(expected.get(i).metadata(), page.data().get(i).metadata());
+        }
+    }
+
+    @Test
+    void testDecodeTransactionPage() throws Exception {
+        //given
+        final String json = transactionPage(3);
+        final List<TransactionInfo> expected = converter.toTransactionInfos(objectMapper.readTree(json));
+
+        //when
+        final DecodedPage<TransactionInfo> page = decoder.transactionInfoPageDecoder().decode(toStream(json));
+
+        //then
+        Assertions.assertNull(page.nextPath());
+        Assertions.assertEquals(expected.size(), page.data().size());
+        for (int i = 0; i < expected.size(); i++) {
+            final TransactionInfo e = expected.get(i);
+            final TransactionInfo a = page.data().get(i);
+            Assertions.assertEquals(e.transactionId(), a.transactionId());
+            Assertions.assertEquals(e.chargedTxFee(), a.chargedTxFee());
+            Assertions.assertEquals(e.consensusTimestamp(), a.consensusTimestamp());
+            Assertions.assertEquals(e.entityId(), a.entityId());
+            Assertions.assertEquals(e.maxFee(), a.maxFee());
+            Assertions.assertEquals(e.name(), a.name());
+            Assertions.assertEquals(e.nftTransfers(), a.nftTransfers());
+            Assertions.assertEquals(e.node(), a.node());
+            Assertions.assertEquals(e.parentConsensusTimestamp(), a.parentConsensusTimestamp());
+            Assertions.assertEquals(e.result(), a.result());
+            Assertions.assertEquals(e.stakingRewardTransfers(), a.stakingRewardTransfers());
+            Assertions.assertEquals(e.tokenTransfers(), a.tokenTransfers());
+            Assertions.assertArrayEquals(e.transactionHash(), a.transactionHash());
+            Assertions.assertEquals(e.transfers(), a.transfers());
+            Assertions.assertEquals(e.validDurationSeconds(), a.validDurationSeconds());
+            Assertions.assertEquals(e.validStartTimestamp(), a.validStartTimestamp());
+        }
+    }
+
+    @Test
+    void testDecodeBalancePage() throws Exception {
+        //given
+        final String json = """
+                {"timestamp":"1710000000.000000000","balances":[{"account":"0.0.2","balance":100,"decimals":2},
+                {"account":"0.0.3","balance":0,"decimals":2}],"links":{"next":null}}""";
+        final List<Balance> expected = converter.toBalances(objectMapper.readTree(json));
+
+        //when
+        final DecodedPage<Balance> page = decoder.balancePageDecoder().decode(toStream(json));
+
+        //then
+        Assertions.assertEquals(expected, page.data());
+        Assertions.assertNull(page.nextPath());
+    }
+
+    @Test
+    void testDecodeTopicMessagePage() throws Exception {
+        //given
+        final String message = Base64.getEncoder().encodeToString("hello".getBytes(StandardCharsets.UTF_8));
+        final String json = """
+                {"messages":[{"chunk_info":{"initial_transaction_id":"0.0.2@1710000000.000000000","nonce":0,
+                "number":1,"total":2,"scheduled":false},"consensus_timestamp":"1710000001.000000000",
+                "message":"%s","payer_account_id":"0.0.2","running_hash":"cnVubmluZw==",
+                "running_hash_version":3,"sequence_number":7,"topic_id":"0.0.7000"},
+                {"chunk_info":null,"consensus_timestamp":"1710000002.000000123","message":"%s",
+                "payer_account_id":"0.0.2","running_hash":"cnVubmluZw==","running_hash_version":3,
+                "sequence_number":8,"topic_id":"0.0.7000"}],"links":{"next":null}}"""
+                .formatted(message, message);
+        final List<TopicMessage> expected = converter.toTopicMessages(objectMapper.readTree(json));
+
+        //when
+        final DecodedPage<TopicMessage> page = decoder.topicMessagePageDecoder().decode(toStream(json));
+
+        //then
+        Assertions.assertEquals(expected.size(), page.data().size());
+        for (int i = 0; i < expected.size(); i++) {
+            final TopicMessage e = expected.get(i);
+            final TopicMessage a = page.data().get(i);
+            Assertions.assertEquals(e.chunkInfo(), a.chunkInfo());
+            Assertions.assertEquals(e.consensusTimestamp(), a.consensusTimestamp());
+            Assertions.assertEquals(e.message(), a.message());
+            Assertions.assertEquals(e.payerAccountId(), a.payerAccountId());
+            Assertions.assertArrayEquals(e.runningHash(), a.runningHash());
+            Assertions.assertEquals(e.runningHashVersion(), a.runningHashVersion());
+            Assertions.assertEquals(e.sequenceNumber(), a.sequenceNumber());
+            Assertions.assertEquals(e.topicId(), a.topicId());
+        }
+        Assertions.assertEquals(Instant.ofEpochSecond(1710000002L, 123), page.data().get(1).consensusTimestamp());
+        Assertions.assertArrayEquals("running".getBytes(StandardCharsets.UTF_8), page.data().get(1).runningHash());
+    }
+
+    @Test
+    void testDecodeEmptyAndMissingContent() throws Exception {
+        Assertions.assertTrue(decoder.nftPageDecoder().decode(toStream("")).data().isEmpty());
+        Assertions.assertTrue(decoder.nftPageDecoder().decode(toStream("{}")).data().isEmpty());
+        Assertions.assertTrue(decoder.nftPageDecoder().decode(toStream("{\"nfts\":[{}]}")).data().isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> decoder.nftPageDecoder().decode(toStream("{\"nfts\":{}}")));
+    }
+
+    private static ByteArrayInputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
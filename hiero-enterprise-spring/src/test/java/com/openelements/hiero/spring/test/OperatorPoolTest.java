@@ -0,0 +1,245 @@
+package com.openelements.hiero.spring.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenType;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.config.OperatorSelectionStrategy;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
+import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
+import com.openelements.hiero.base.protocol.data.AccountCreateResult;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateResult;
+import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
+import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
+import com.openelements.hiero.base.protocol.data.FileCreateRequest;
+import com.openelements.hiero.base.protocol.data.FileCreateResult;
+import com.openelements.hiero.base.protocol.data.OperatorStatistics;
+import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
+import com.openelements.hiero.base.protocol.data.TokenBurnResult;
+import com.openelements.hiero.base.protocol.data.TokenCreateRequest;
+import com.openelements.hiero.base.protocol.data.TokenCreateResult;
+import com.openelements.hiero.base.protocol.data.TokenMintRequest;
+import com.openelements.hiero.base.protocol.data.TokenMintResult;
+import com.openelements.hiero.base.protocol.data.TopicCreateRequest;
+import com.openelements.hiero.base.protocol.data.TopicCreateResult;
+import com.openelements.hiero.test.FakeHieroNetwork;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OperatorPoolTest {
+
+    @Test
+    void testSingleOperatorByDefault() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+
+            //when
+            client.executeAccountCreateTransaction(AccountCreateRequest.of(Hbar.from(1)));
+            final List<OperatorStatistics> statistics = client.getOperatorStatistics();
+            final Map<AccountId, AccountBalanceResponse> balances = client.executeOperatorBalanceQueries();
+
+            //then
+            Assertions.assertEquals(1, statistics.size());
+            Assertions.assertEquals(network.getOperatorAccount().accountId(), statistics.get(0).accountId());
+            Assertions.assertEquals(1, statistics.get(0).submittedCount());
+            Assertions.assertEquals(0, statistics.get(0).inFlightCount());
+            Assertions.assertEquals(0, statistics.get(0).throttledCount());
+            Assertions.assertEquals(0.0d, statistics.get(0).throttleRate());
+            Assertions.assertEquals(Set.of(network.getOperatorAccount().accountId()), balances.keySet());
+        }
+    }
+
+    @Test
+    void testTransactionsAreDistributedRoundRobin() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final List<Client> clients = new ArrayList<>();
+            final HieroContext context = createPool(network, 2, OperatorSelectionStrategy.ROUND_ROBIN, clients);
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(context);
+
+            //when
+            final List<AccountCreateResult> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(client.executeAccountCreateTransaction(AccountCreateRequest.of(Hbar.from(1))));
+            }
+            final List<OperatorStatistics> statistics = client.getOperatorStatistics();
+            final Map<AccountId, AccountBalanceResponse> balances = client.executeOperatorBalanceQueries();
+
+            //then
+            results.forEach(result -> Assertions.assertEquals(Status.SUCCESS, result.status()));
+            final Map<AccountId, Long> payers = results.stream()
+                    .collect(Collectors.groupingBy(result -> result.transactionId().accountId, Collectors.counting()));
+            Assertions.assertEquals(3, payers.size());
+            payers.values().forEach(count -> Assertions.assertEquals(2L, count));
+            Assertions.assertEquals(3, statistics.size());
+            Assertions.assertEquals(network.getOperatorAccount().accountId(), statistics.get(0).accountId());
+            statistics.forEach(s -> Assertions.assertEquals(2, s.submittedCount()));
+            statistics.forEach(s -> Assertions.assertEquals(0, s.inFlightCount()));
+            Assertions.assertEquals(statistics.stream().map(OperatorStatistics::accountId).toList(),
+                    List.copyOf(balances.keySet()));
+            context.getOperatorContexts().stream().skip(1).forEach(operator -> Assertions.assertTrue(
+                    balances.get(operator.getOperatorAccount().accountId()).hbars().toTinybars()
+                            < Hbar.from(100).toTinybars()));
+            closeAll(clients);
+        }
+    }
+
+    @Test
+    void testSignedTransactionIsPaidBySelectedOperator() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final List<Client> clients = new ArrayList<>();
+            final HieroContext context = createPool(network, 1, OperatorSelectionStrategy.LEAST_IN_FLIGHT,
+                    clients);
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(context);
+
+            //when
+            final TopicCreateResult first = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+            final TopicCreateResult second = client.executeTopicCreateTransaction(
+                    TopicCreateRequest.of(PrivateKey.generateED25519()));
+            final List<OperatorStatistics> statistics = client.getOperatorStatistics();
+
+            //then
+            Assertions.assertEquals(Status.SUCCESS, first.status());
+            Assertions.assertEquals(Status.SUCCESS, second.status());
+            Assertions.assertNotEquals(first.transactionId().accountId, second.transactionId().accountId);
+            statistics.forEach(s -> Assertions.assertEquals(1, s.submittedCount()));
+            closeAll(clients);
+        }
+    }
+
+    @Test
+    void testContractTransactionsArePaidByPrimaryOperator() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final List<Client> clients = new ArrayList<>();
+            final HieroContext context = createPool(network, 2, OperatorSelectionStrategy.ROUND_ROBIN, clients);
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(context);
+            final AccountId primary = network.getOperatorAccount().accountId();
+            final FileCreateResult file = client.executeFileCreateTransaction(FileCreateRequest.of(new byte[]{1}));
+
+            //when
+            final ContractCreateResult created = client.executeContractCreateTransaction(
+                    ContractCreateRequest.of(file.fileId()));
+            final List<ContractCallResult> calls = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                calls.add(client.executeContractCallTransaction(ContractCallRequest.of(created.contractId(), "set")));
+            }
+            final ContractDeleteResult deleted = client.executeContractDeleteTransaction(
+                    ContractDeleteRequest.of(created.contractId()));
+
+            //then
+            Assertions.assertEquals(primary, created.transactionId().accountId);
+            calls.forEach(call -> Assertions.assertEquals(primary, call.transactionId().accountId));
+            calls.forEach(call -> Assertions.assertEquals(primary,
+                    call.contractFunctionResult().senderAccountId));
+            Assertions.assertEquals(primary, deleted.transactionId().accountId);
+            closeAll(clients);
+        }
+    }
+
+    @Test
+    void testBurnIsSignedWithSupplyKeyWhenPaidByAnotherOperator() throws Exception {
+        try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+            //given
+            final List<Client> clients = new ArrayList<>();
+            final HieroContext context = createPool(network, 1, OperatorSelectionStrategy.ROUND_ROBIN, clients);
+            final ProtocolLayerClient client = new ProtocolLayerClientImpl(context);
+            final Account primary = network.getOperatorAccount();
+            final TokenCreateResult token = client.executeTokenCreateTransaction(TokenCreateRequest.of("Token", "TOK",
+                    primary.accountId(), primary.privateKey(), TokenType.NON_FUNGIBLE_UNIQUE, primary.privateKey()));
+            final TokenMintResult minted = client.executeMintTokenTransaction(TokenMintRequest.of(token.tokenId(),
+                    primary.privateKey(), new byte[]{1}, new byte[]{2}, new byte[]{3}, new byte[]{4}));
+
+            //when
+            final List<TokenBurnResult> burns = new ArrayList<>();
+            for (final Long serial : minted.serials()) {
+                burns.add(client.executeBurnTokenTransaction(
+                        TokenBurnRequest.of(token.tokenId(), serial, primary.privateKey())));
+            }
+
+            //then
+            burns.forEach(burn -> Assertions.assertEquals(Status.SUCCESS, burn.status()));
+            Assertions.assertEquals(2, burns.stream().map(burn -> burn.transactionId().accountId)
+                    .collect(Collectors.toSet()).size());
+            Assertions.assertEquals(0L, burns.get(burns.size() - 1).totalSupply());
+            closeAll(clients);
+        }
+    }
+
+    @NonNull
+    private static HieroContext createPool(@NonNull final FakeHieroNetwork network, final int additionalOperators,
+            @NonNull final OperatorSelectionStrategy strategy, @NonNull final List<Client> clients) throws Exception {
+        final ProtocolLayerClient primaryClient = new ProtocolLayerClientImpl(network);
+        final List<HieroContext> operators = new ArrayList<>();
+        operators.add(network);
+        for (int i = 0; i < additionalOperators; i++) {
+            final Account account = primaryClient.executeAccountCreateTransaction(
+                    AccountCreateRequest.of(Hbar.from(100))).newAccount();
+            final Client client = network.createClient(account);
+            clients.add(client);
+            operators.add(context(account, client));
+        }
+        final List<HieroContext> operatorContexts = List.copyOf(operators);
+        return new HieroContext() {
+            @Override
+            public @NonNull Account getOperatorAccount() {
+                return network.getOperatorAccount();
+            }
+
+            @Override
+            public @NonNull Client getClient() {
+                return network.getClient();
+            }
+
+            @Override
+            public @NonNull List<HieroContext> getOperatorContexts() {
+                return operatorContexts;
+            }
+
+            @Override
+            public @NonNull OperatorSelectionStrategy getOperatorSelectionStrategy() {
+                return strategy;
+            }
+        };
+    }
+
+    @NonNull
+    private static HieroContext context(@NonNull final Account account, @NonNull final Client client) {
+        return new HieroContext() {
+            @Override
+            public @NonNull Account getOperatorAccount() {
+                return account;
+            }
+
+            @Override
+            public @NonNull Client getClient() {
+                return client;
+            }
+        };
+    }
+
+    private static void closeAll(@NonNull final List<Client> clients) throws TimeoutException {
+        for (final Client client : clients) {
+            client.close();
+        }
+    }
+}
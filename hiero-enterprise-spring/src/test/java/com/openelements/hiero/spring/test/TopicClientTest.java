@@ -4,6 +4,7 @@ import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.TopicClient;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -154,10 +155,17 @@ public class TopicClientTest {
         Assertions.assertDoesNotThrow(() -> topicClient.submitMessage(topicId, message));
     }
 
+    @Test
+    void testSubmitChunkedMessage() throws HieroException {
+        final TopicId topicId = topicClient.createTopic();
+        final byte[] message = new byte[TopicSubmitMessageRequest.CHUNK_SIZE * 2 + 1];
+        Assertions.assertDoesNotThrow(() -> topicClient.submitMessage(topicId, message));
+    }
+
     @Test
     void testSubmitMessageGreaterThanMaxLength() throws HieroException {
         final TopicId topicId = topicClient.createTopic();
-        final byte[] message = new byte[1025];
+        final byte[] message = new byte[TopicSubmitMessageRequest.MAX_MESSAGE_LENGTH + 1];
         Assertions.assertThrows(
                 IllegalArgumentException.class,
                 () -> topicClient.submitMessage(topicId, message)
@@ -0,0 +1,177 @@
+package com.openelements.hiero.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.openelements.hiero.base.HieroContext;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.test.implementation.FakeConsensusNode;
+import com.openelements.hiero.test.implementation.FakeLedger;
+import com.openelements.hiero.test.implementation.FakeMirrorNode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Hiero network with a single consensus node and a mirror node that both run in the current JVM. The network can be
+ * used to test applications and to run load tests without a real network. The consensus node is reached via an
+ * in-process gRPC channel, the mirror node answers a subset of the REST API at {@link #getMirrorNodeBaseUrl()}.
+ * Latency and failures can be configured by {@link FakeNetworkSettings}. Since the random generator that rejects
+ * transactions is seeded, a test that submits the same transactions in the same order always sees the same failures.
+ *
+ * <p>The network does not verify signatures, it only checks that token mint and burn transactions carry a signature of
+ * the supply key of the token. Contract calls always return an empty result, and subscriptions to topics via the gRPC
+ * API of the mirror node are not supported.
+ *
+ * <pre>{@code
+ * try (FakeHieroNetwork network = FakeHieroNetwork.start()) {
+ *     ProtocolLayerClient client = new ProtocolLayerClientImpl(network);
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class FakeHieroNetwork implements HieroContext, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeHieroNetwork.class);
+
+    private static final Duration CLIENT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String name;
+
+    private final FakeLedger ledger;
+
+    private final FakeConsensusNode consensusNode;
+
+    private final FakeMirrorNode mirrorNode;
+
+    private final Account operatorAccount;
+
+    private final Client client;
+
+    private FakeHieroNetwork(@NonNull final FakeNetworkSettings settings) throws HieroException {
+        Objects.requireNonNull(settings, "settings must not be null");
+        this.name = "hiero-fake-" + UUID.randomUUID();
+        this.ledger = new FakeLedger(settings.transactionFee());
+        try {
+            this.consensusNode = new FakeConsensusNode(name, ledger, settings);
+        } catch (final Exception e) {
+            throw new HieroException("Can not start fake consensus node", e);
+        }
+        try {
+            this.mirrorNode = new FakeMirrorNode(ledger, settings.mirrorNodeLag());
+        } catch (final Exception e) {
+            consensusNode.close();
+            throw new HieroException("Can not start fake mirror node", e);
+        }
+        final PrivateKey operatorKey = PrivateKey.generateED25519();
+        this.operatorAccount = Account.of(new AccountId(FakeLedger.OPERATOR_ACCOUNT_NUM), operatorKey);
+        this.client = createClient(operatorAccount);
+        log.debug("Fake Hiero network '{}' started, mirror node at {}", name, mirrorNode.getBaseUrl());
+    }
+
+    /**
+     * Starts a network without latency and failures.
+     *
+     * @return the network
+     * @throws HieroException if the network can not be started
+     */
+    @NonNull
+    public static FakeHieroNetwork start() throws HieroException {
+        return start(FakeNetworkSettings.defaults());
+    }
+
+    /**
+     * Starts a network with the given settings.
+     *
+     * @param settings the settings for latency and failure injection
+     * @return the network
+     * @throws HieroException if the network can not be started
+     */
+    @NonNull
+    public static FakeHieroNetwork start(@NonNull final FakeNetworkSettings settings) throws HieroException {
+        return new FakeHieroNetwork(settings);
+    }
+
+    @NonNull
+    @Override
+    public Account getOperatorAccount() {
+        return operatorAccount;
+    }
+
+    @NonNull
+    @Override
+    public Client getClient() {
+        return client;
+    }
+
+    /**
+     * Creates a new client that is connected to this network and uses the given account as operator account. The
+     * caller is responsible for closing the client.
+     *
+     * @param operatorAccount the operator account of the client
+     * @return the client
+     */
+    @NonNull
+    public Client createClient(@NonNull final Account operatorAccount) {
+        Objects.requireNonNull(operatorAccount, "operatorAccount must not be null");
+        final Client newClient = Client.forNetwork(Map.of("in-process:" + name, getNodeAccountId()));
+        newClient.setOperator(operatorAccount.accountId(), operatorAccount.privateKey());
+        newClient.setMinBackoff(Duration.ofMillis(10));
+        return newClient;
+    }
+
+    /**
+     * Returns the account id of the consensus node.
+     *
+     * @return the account id of the consensus node
+     */
+    @NonNull
+    public AccountId getNodeAccountId() {
+        return new AccountId(FakeLedger.NODE_ACCOUNT_NUM);
+    }
+
+    /**
+     * Returns the base URL of the mirror node, for example {@code http://127.0.0.1:53817}.
+     *
+     * @return the base URL of the mirror node
+     */
+    @NonNull
+    public String getMirrorNodeBaseUrl() {
+        return mirrorNode.getBaseUrl();
+    }
+
+    /**
+     * Returns the number of transactions that have been handled by the network.
+     *
+     * @return the number of handled transactions
+     */
+    public int getTransactionCount() {
+        return ledger.getTransactionCount();
+    }
+
+    /**
+     * Returns the number of transactions that have been rejected by the failure injection.
+     *
+     * @return the number of rejected transactions
+     */
+    public long getRejectedCount() {
+        return consensusNode.getRejectedCount();
+    }
+
+    @Override
+    public void close() {
+        try {
+            client.close(CLIENT_CLOSE_TIMEOUT);
+        } catch (final Exception e) {
+            log.warn("Can not close client of fake Hiero network", e);
+        } finally {
+            mirrorNode.close();
+            consensusNode.close();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.openelements.hiero.test;
+
+import com.hedera.hashgraph.sdk.Status;
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings of a {@link FakeHieroNetwork}.
+ *
+ * @param precheckLatency  time until the consensus node answers a request
+ * @param consensusLatency time between the submission of a transaction and its consensus timestamp, receipts and
+ *                         records are answered once consensus has been reached
+ * @param mirrorNodeLag    time between the consensus timestamp of a transaction and its availability at the mirror
+ *                         node
+ * @param failureRate      probability in the range [0, 1] that a submitted transaction is rejected with the
+ *                         failureStatus
+ * @param failureStatus    precheck status of rejected transactions, {@link Status#BUSY} is retried by the SDK
+ * @param transactionFee   fee in tinybars that is charged for every transaction
+ * @param seed             seed of the random generator that decides which transactions are rejected
+ */
+public record FakeNetworkSettings(@NonNull Duration precheckLatency, @NonNull Duration consensusLatency,
+                                  @NonNull Duration mirrorNodeLag, double failureRate, @NonNull Status failureStatus,
+                                  long transactionFee, long seed) {
+
+    /**
+     * Default fee in tinybars of a transaction.
+     */
+    public static final long DEFAULT_TRANSACTION_FEE = 100_000L;
+
+    public FakeNetworkSettings {
+        Objects.requireNonNull(precheckLatency, "precheckLatency must not be null");
+        Objects.requireNonNull(consensusLatency, "consensusLatency must not be null");
+        Objects.requireNonNull(mirrorNodeLag, "mirrorNodeLag must not be null");
+        Objects.requireNonNull(failureStatus, "failureStatus must not be null");
+        if (precheckLatency.isNegative() || consensusLatency.isNegative() || mirrorNodeLag.isNegative()) {
+            throw new IllegalArgumentException("latencies must not be negative");
+        }
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("failureRate must be in the range [0, 1]");
+        }
+        if (transactionFee < 0) {
+            throw new IllegalArgumentException("transactionFee must not be negative");
+        }
+    }
+
+    /**
+     * Returns settings without latency and without failures.
+     *
+     * @return the settings
+     */
+    @NonNull
+    public static FakeNetworkSettings defaults() {
+        return new FakeNetworkSettings(Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, Status.BUSY,
+                DEFAULT_TRANSACTION_FEE, 0);
+    }
+
+    /**
+     * Returns a copy of the settings with the given latencies.
+     *
+     * @param precheckLatency  time until the consensus node answers a request
+     * @param consensusLatency time until a transaction reaches consensus
+     * @param mirrorNodeLag    time until a transaction is available at the mirror node
+     * @return the settings
+     */
+    @NonNull
+    public FakeNetworkSettings withLatency(@NonNull final Duration precheckLatency,
+            @NonNull final Duration consensusLatency, @NonNull final Duration mirrorNodeLag) {
+        return new FakeNetworkSettings(precheckLatency, consensusLatency, mirrorNodeLag, failureRate, failureStatus,
+                transactionFee, seed);
+    }
+
+    /**
+     * Returns a copy of the settings that rejects transactions.
+     *
+     * @param failureRate   probability that a transaction is rejected
+     * @param failureStatus precheck status of rejected transactions
+     * @param seed          seed of the random generator
+     * @return the settings
+     */
+    @NonNull
+    public FakeNetworkSettings withFailures(final double failureRate, @NonNull final Status failureStatus,
+            final long seed) {
+        return new FakeNetworkSettings(precheckLatency, consensusLatency, mirrorNodeLag, failureRate, failureStatus,
+                transactionFee, seed);
+    }
+}
@@ -1,12 +1,11 @@
 package com.openelements.hiero.test;
 
-import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransactionId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.TransactionListener;
-import com.openelements.hiero.base.protocol.data.TransactionType;
+import com.openelements.hiero.base.protocol.data.TransactionEvent;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicReference;
@@ -33,13 +32,8 @@ public class HieroTestUtils implements Serializable {
 
         protocolLayerClient.addTransactionListener(new TransactionListener() {
             @Override
-            public void transactionSubmitted(TransactionType transactionType, TransactionId transactionId) {
-                transactionIdRef.set(transactionId);
-            }
-
-            @Override
-            public void transactionHandled(TransactionType transactionType, TransactionId transactionId,
-                    Status transactionStatus) {
+            public void transactionSubmitted(TransactionEvent event) {
+                transactionIdRef.set(event.transactionId());
             }
         });
     }
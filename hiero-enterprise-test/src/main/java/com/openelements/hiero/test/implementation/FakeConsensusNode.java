@@ -0,0 +1,369 @@
+package com.openelements.hiero.test.implementation;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceQuery;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceResponse;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileGetContentsQuery;
+import com.hedera.hashgraph.sdk.proto.FileGetContentsResponse;
+import com.hedera.hashgraph.sdk.proto.FileGetInfoQuery;
+import com.hedera.hashgraph.sdk.proto.FileGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.QueryHeader;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.ResponseType;
+import com.hedera.hashgraph.sdk.proto.SignatureMap;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.SmartContractServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionGetRecordResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.openelements.hiero.test.FakeNetworkSettings;
+import com.openelements.hiero.test.implementation.FakeLedger.ExecutedTransaction;
+import com.openelements.hiero.test.implementation.FakeLedger.FileSnapshot;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process gRPC server that answers the crypto, file, smart contract, token and consensus services of a consensus
+ * node based on a {@link FakeLedger}. Transactions are executed once they are received. The answer is delayed by the
+ * precheck latency, receipts and records are answered once the transaction has reached consensus. Signatures are not
+ * verified. Queries that are not supported are answered with the gRPC status {@code UNIMPLEMENTED}.
+ */
+public final class FakeConsensusNode implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeConsensusNode.class);
+
+    /**
+     * Cost in tinybars of a paid query.
+     */
+    public static final long QUERY_COST = 1_000L;
+
+    private final FakeLedger ledger;
+
+    private final FakeNetworkSettings settings;
+
+    private final ResponseCodeEnum failureCode;
+
+    private final Random random;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Server server;
+
+    /**
+     * Creates and starts a node.
+     *
+     * @param name     the name of the in-process server
+     * @param ledger   the ledger that executes the transactions
+     * @param settings the settings for latency and failure injection
+     * @throws IOException if the server can not be started
+     */
+    public FakeConsensusNode(@NonNull final String name, @NonNull final FakeLedger ledger,
+            @NonNull final FakeNetworkSettings settings) throws IOException {
+        Objects.requireNonNull(name, "name must not be null");
+        this.ledger = Objects.requireNonNull(ledger, "ledger must not be null");
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.failureCode = ResponseCodeEnum.valueOf(settings.failureStatus().name());
+        this.random = new Random(settings.seed());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("hiero-fake-node-" + name).factory());
+        final InProcessServerBuilder builder = InProcessServerBuilder.forName(name).directExecutor();
+        List.of(CryptoServiceGrpc.getServiceDescriptor(), FileServiceGrpc.getServiceDescriptor(),
+                        SmartContractServiceGrpc.getServiceDescriptor(), TokenServiceGrpc.getServiceDescriptor(),
+                        ConsensusServiceGrpc.getServiceDescriptor())
+                .forEach(descriptor -> builder.addService(bind(descriptor)));
+        this.server = builder.build().start();
+        log.debug("Fake consensus node '{}' started", name);
+    }
+
+    /**
+     * Returns the number of transactions that have been rejected by the failure injection.
+     *
+     * @return the number of rejected transactions
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    private ServerServiceDefinition bind(@NonNull final ServiceDescriptor descriptor) {
+        final ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptor);
+        for (final MethodDescriptor<?, ?> method : descriptor.getMethods()) {
+            builder.addMethod((MethodDescriptor<Object, Object>) method, this::startCall);
+        }
+        return builder.build();
+    }
+
+    /**
+     * {@link ServerCallHandler} for the unary calls of all services. The request is handled once the client has sent
+     * it completely.
+     */
+    private ServerCall.Listener<Object> startCall(@NonNull final ServerCall<Object, Object> call,
+            @NonNull final Metadata headers) {
+        call.request(2);
+        return new ServerCall.Listener<>() {
+
+            private Object request;
+
+            @Override
+            public void onMessage(final Object message) {
+                request = message;
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (request == null) {
+                    call.close(Status.INTERNAL.withDescription("Missing request"), new Metadata());
+                } else {
+                    handle(request, call);
+                }
+            }
+        };
+    }
+
+    private void handle(@NonNull final Object request, @NonNull final ServerCall<Object, Object> call) {
+        if (request instanceof Transaction transaction) {
+            respond(call, submit(transaction), settings.precheckLatency());
+        } else if (request instanceof Query query) {
+            query(query, call);
+        } else {
+            call.close(Status.UNIMPLEMENTED.withDescription("Unsupported request"), new Metadata());
+        }
+    }
+
+    @NonNull
+    private TransactionResponse submit(@NonNull final Transaction transaction) {
+        final TransactionBody body;
+        final Set<ByteString> signerKeys;
+        try {
+            body = parseBody(transaction);
+            signerKeys = parseSignerKeys(transaction);
+        } catch (final InvalidProtocolBufferException e) {
+            return transactionResponse(ResponseCodeEnum.INVALID_TRANSACTION_BODY);
+        }
+        if (settings.failureRate() > 0 && random.nextDouble() < settings.failureRate()) {
+            rejectedCount.incrementAndGet();
+            return transactionResponse(failureCode);
+        }
+        final Instant consensusTimestamp = Instant.now().plus(settings.consensusLatency());
+        return transactionResponse(ledger.submit(body, transaction.toByteString(), signerKeys,
+                consensusTimestamp));
+    }
+
+    private void query(@NonNull final Query query, @NonNull final ServerCall<Object, Object> call) {
+        switch (query.getQueryCase()) {
+            case CRYPTOGETACCOUNTBALANCE -> respond(call, accountBalance(query.getCryptogetAccountBalance()),
+                    settings.precheckLatency());
+            case FILEGETCONTENTS -> respond(call, fileContents(query.getFileGetContents()),
+                    settings.precheckLatency());
+            case FILEGETINFO -> respond(call, fileInfo(query.getFileGetInfo()), settings.precheckLatency());
+            case TRANSACTIONGETRECEIPT -> transactionReceipt(query.getTransactionGetReceipt().getTransactionID(),
+                    call);
+            case TRANSACTIONGETRECORD -> transactionRecord(query.getTransactionGetRecord().getHeader(),
+                    query.getTransactionGetRecord().getTransactionID(), call);
+            default -> call.close(Status.UNIMPLEMENTED
+                    .withDescription("Query not supported: " + query.getQueryCase()), new Metadata());
+        }
+    }
+
+    @NonNull
+    private Response accountBalance(@NonNull final CryptoGetAccountBalanceQuery query) {
+        final Optional<Long> balance = ledger.getBalance(query.getAccountID().getAccountNum());
+        final CryptoGetAccountBalanceResponse.Builder response = CryptoGetAccountBalanceResponse.newBuilder()
+                .setHeader(header(balance.isPresent() ? ResponseCodeEnum.OK : ResponseCodeEnum.INVALID_ACCOUNT_ID))
+                .setAccountID(query.getAccountID());
+        balance.ifPresent(response::setBalance);
+        return Response.newBuilder().setCryptogetAccountBalance(response).build();
+    }
+
+    @NonNull
+    private Response fileContents(@NonNull final FileGetContentsQuery query) {
+        final FileGetContentsResponse.Builder response = FileGetContentsResponse.newBuilder();
+        final Optional<FileSnapshot> file = ledger.getFile(query.getFileID().getFileNum());
+        if (file.isEmpty()) {
+            response.setHeader(header(ResponseCodeEnum.INVALID_FILE_ID));
+        } else if (file.get().deleted()) {
+            response.setHeader(header(ResponseCodeEnum.FILE_DELETED));
+        } else if (isCostQuery(query.getHeader())) {
+            response.setHeader(costHeader());
+        } else {
+            response.setHeader(header(ResponseCodeEnum.OK))
+                    .setFileContents(FileGetContentsResponse.FileContents.newBuilder()
+                            .setFileID(query.getFileID())
+                            .setContents(file.get().contents()));
+        }
+        return Response.newBuilder().setFileGetContents(response).build();
+    }
+
+    @NonNull
+    private Response fileInfo(@NonNull final FileGetInfoQuery query) {
+        final FileGetInfoResponse.Builder response = FileGetInfoResponse.newBuilder();
+        final Optional<FileSnapshot> file = ledger.getFile(query.getFileID().getFileNum());
+        if (file.isEmpty()) {
+            response.setHeader(header(ResponseCodeEnum.INVALID_FILE_ID));
+        } else if (isCostQuery(query.getHeader())) {
+            response.setHeader(costHeader());
+        } else {
+            response.setHeader(header(ResponseCodeEnum.OK))
+                    .setFileInfo(FileGetInfoResponse.FileInfo.newBuilder()
+                            .setFileID(query.getFileID())
+                            .setSize(file.get().contents().size())
+                            .setExpirationTime(file.get().expiration())
+                            .setDeleted(file.get().deleted())
+                            .setKeys(file.get().keys())
+                            .setMemo(file.get().memo()));
+        }
+        return Response.newBuilder().setFileGetInfo(response).build();
+    }
+
+    private void transactionReceipt(@NonNull final TransactionID transactionId,
+            @NonNull final ServerCall<Object, Object> call) {
+        final Optional<ExecutedTransaction> transaction = ledger.getTransaction(transactionId);
+        final TransactionGetReceiptResponse.Builder response = TransactionGetReceiptResponse.newBuilder();
+        if (transaction.isEmpty()) {
+            response.setHeader(header(ResponseCodeEnum.RECEIPT_NOT_FOUND));
+            respond(call, Response.newBuilder().setTransactionGetReceipt(response).build(),
+                    settings.precheckLatency());
+        } else {
+            response.setHeader(header(ResponseCodeEnum.OK)).setReceipt(transaction.get().receipt());
+            respond(call, Response.newBuilder().setTransactionGetReceipt(response).build(),
+                    delayUntil(transaction.get().consensusTimestamp()));
+        }
+    }
+
+    private void transactionRecord(@NonNull final QueryHeader header, @NonNull final TransactionID transactionId,
+            @NonNull final ServerCall<Object, Object> call) {
+        final Optional<ExecutedTransaction> transaction = ledger.getTransaction(transactionId);
+        final TransactionGetRecordResponse.Builder response = TransactionGetRecordResponse.newBuilder();
+        if (transaction.isEmpty()) {
+            response.setHeader(header(ResponseCodeEnum.RECORD_NOT_FOUND));
+            respond(call, Response.newBuilder().setTransactionGetRecord(response).build(),
+                    settings.precheckLatency());
+        } else if (isCostQuery(header)) {
+            response.setHeader(costHeader());
+            respond(call, Response.newBuilder().setTransactionGetRecord(response).build(),
+                    settings.precheckLatency());
+        } else {
+            response.setHeader(header(ResponseCodeEnum.OK)).setTransactionRecord(transaction.get().record());
+            respond(call, Response.newBuilder().setTransactionGetRecord(response).build(),
+                    delayUntil(transaction.get().consensusTimestamp()));
+        }
+    }
+
+    private void respond(@NonNull final ServerCall<Object, Object> call, @NonNull final Object response,
+            @NonNull final Duration delay) {
+        if (delay.isZero() || delay.isNegative()) {
+            send(call, response);
+        } else {
+            scheduler.schedule(() -> send(call, response), delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void send(@NonNull final ServerCall<Object, Object> call, @NonNull final Object response) {
+        if (call.isCancelled()) {
+            return;
+        }
+        call.sendHeaders(new Metadata());
+        call.sendMessage(response);
+        call.close(Status.OK, new Metadata());
+    }
+
+    @NonNull
+    private Duration delayUntil(@NonNull final Instant consensusTimestamp) {
+        final Duration untilConsensus = Duration.between(Instant.now(), consensusTimestamp);
+        return untilConsensus.compareTo(settings.precheckLatency()) > 0 ? untilConsensus
+                : settings.precheckLatency();
+    }
+
+    @NonNull
+    private static TransactionBody parseBody(@NonNull final Transaction transaction)
+            throws InvalidProtocolBufferException {
+        if (!transaction.getSignedTransactionBytes().isEmpty()) {
+            final SignedTransaction signedTransaction = SignedTransaction.parseFrom(
+                    transaction.getSignedTransactionBytes());
+            return TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+        }
+        return TransactionBody.parseFrom(transaction.getBodyBytes());
+    }
+
+    @NonNull
+    private static Set<ByteString> parseSignerKeys(@NonNull final Transaction transaction)
+            throws InvalidProtocolBufferException {
+        final SignatureMap signatureMap;
+        if (!transaction.getSignedTransactionBytes().isEmpty()) {
+            signatureMap = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes()).getSigMap();
+        } else {
+            signatureMap = transaction.getSigMap();
+        }
+        return signatureMap.getSigPairList().stream()
+                .map(SignaturePair::getPubKeyPrefix)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static boolean isCostQuery(@NonNull final QueryHeader header) {
+        return header.getResponseType() == ResponseType.COST_ANSWER
+                || header.getResponseType() == ResponseType.COST_ANSWER_STATE_PROOF;
+    }
+
+    @NonNull
+    private static ResponseHeader header(@NonNull final ResponseCodeEnum code) {
+        return ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(code).build();
+    }
+
+    @NonNull
+    private static ResponseHeader costHeader() {
+        return ResponseHeader.newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .setResponseType(ResponseType.COST_ANSWER)
+                .setCost(QUERY_COST)
+                .build();
+    }
+
+    @NonNull
+    private static TransactionResponse transactionResponse(@NonNull final ResponseCodeEnum code) {
+        return TransactionResponse.newBuilder().setNodeTransactionPrecheckCode(code).build();
+    }
+}
@@ -0,0 +1,964 @@
+package com.openelements.hiero.test.implementation;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusCreateTopicTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ConsensusUpdateTopicTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ContractCallTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ContractCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ContractFunctionResult;
+import com.hedera.hashgraph.sdk.proto.ContractID;
+import com.hedera.hashgraph.sdk.proto.CryptoCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.CryptoDeleteTransactionBody;
+import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
+import com.hedera.hashgraph.sdk.proto.FileCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.FileUpdateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.Key;
+import com.hedera.hashgraph.sdk.proto.KeyList;
+import com.hedera.hashgraph.sdk.proto.NftTransfer;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TokenAssociateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenBurnTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenDissociateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenID;
+import com.hedera.hashgraph.sdk.proto.TokenMintTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenTransferList;
+import com.hedera.hashgraph.sdk.proto.TokenType;
+import com.hedera.hashgraph.sdk.proto.TopicID;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import com.hedera.hashgraph.sdk.proto.TransferList;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.mirrornode.TopicRunningHashVerifier;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-memory state of a fake network. Transactions are applied in the order in which they are submitted and get
+ * strictly increasing consensus timestamps. All methods are thread safe.
+ */
+public final class FakeLedger {
+
+    /**
+     * Number of the operator account that pays for all transactions of the fake network.
+     */
+    public static final long OPERATOR_ACCOUNT_NUM = 2;
+
+    /**
+     * Number of the account of the consensus node that receives the transaction fees.
+     */
+    public static final long NODE_ACCOUNT_NUM = 3;
+
+    /**
+     * Initial balance in tinybars of the operator account.
+     */
+    public static final long OPERATOR_BALANCE = 50_000_000_000_000_000L;
+
+    private static final long FIRST_ENTITY_NUM = 1001;
+
+    private static final Duration DEFAULT_EXPIRATION = Duration.ofDays(90);
+
+    private static final int RUNNING_HASH_SIZE = 48;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final long transactionFee;
+
+    private final Map<Long, Long> balances = new HashMap<>();
+
+    private final Map<Long, FileState> files = new HashMap<>();
+
+    private final Map<Long, TopicState> topics = new HashMap<>();
+
+    private final Map<Long, TokenState> tokens = new HashMap<>();
+
+    private final Set<Long> contracts = new HashSet<>();
+
+    private final Map<TransactionID, ExecutedTransaction> transactions = new HashMap<>();
+
+    private long nextEntityNum = FIRST_ENTITY_NUM;
+
+    private Instant lastConsensusTimestamp = Instant.EPOCH;
+
+    /**
+     * Creates a ledger that contains the operator and the node account.
+     *
+     * @param transactionFee fee in tinybars that is charged for every transaction
+     */
+    public FakeLedger(final long transactionFee) {
+        if (transactionFee < 0) {
+            throw new IllegalArgumentException("transactionFee must not be negative");
+        }
+        this.transactionFee = transactionFee;
+        balances.put(OPERATOR_ACCOUNT_NUM, OPERATOR_BALANCE);
+        balances.put(NODE_ACCOUNT_NUM, 0L);
+    }
+
+    /**
+     * Checks and executes a transaction. If the precheck fails nothing is executed and no fee is charged.
+     *
+     * @param body               the body of the transaction
+     * @param transactionBytes   the bytes of the transaction as submitted
+     * @param signerKeys         the public key prefixes of the signature map of the transaction
+     * @param consensusTimestamp the earliest consensus timestamp of the transaction
+     * @return {@link ResponseCodeEnum#OK} if the transaction has been executed, otherwise the precheck status
+     */
+    @NonNull
+    public ResponseCodeEnum submit(@NonNull final TransactionBody body, @NonNull final ByteString transactionBytes,
+            @NonNull final Set<ByteString> signerKeys, @NonNull final Instant consensusTimestamp) {
+        Objects.requireNonNull(body, "body must not be null");
+        Objects.requireNonNull(transactionBytes, "transactionBytes must not be null");
+        Objects.requireNonNull(signerKeys, "signerKeys must not be null");
+        Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        lock.lock();
+        try {
+            if (!body.hasTransactionID() || !body.getTransactionID().hasAccountID()) {
+                return ResponseCodeEnum.INVALID_TRANSACTION_ID;
+            }
+            final TransactionID transactionId = body.getTransactionID();
+            if (transactions.containsKey(transactionId)) {
+                return ResponseCodeEnum.DUPLICATE_TRANSACTION;
+            }
+            final long payer = transactionId.getAccountID().getAccountNum();
+            final Long payerBalance = balances.get(payer);
+            if (payerBalance == null) {
+                return ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+            }
+            if (payerBalance < transactionFee) {
+                return ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE;
+            }
+            if (body.getDataCase() == TransactionBody.DataCase.DATA_NOT_SET) {
+                return ResponseCodeEnum.INVALID_TRANSACTION_BODY;
+            }
+            final Instant timestamp = consensusTimestamp.isAfter(lastConsensusTimestamp) ? consensusTimestamp
+                    : lastConsensusTimestamp.plusNanos(1);
+            lastConsensusTimestamp = timestamp;
+            balances.merge(payer, -transactionFee, Long::sum);
+            balances.merge(NODE_ACCOUNT_NUM, transactionFee, Long::sum);
+            final TransactionReceipt.Builder receipt = TransactionReceipt.newBuilder();
+            final TransactionRecord.Builder record = TransactionRecord.newBuilder();
+            final TransferList.Builder transfers = TransferList.newBuilder()
+                    .addAccountAmounts(accountAmount(payer, -transactionFee))
+                    .addAccountAmounts(accountAmount(NODE_ACCOUNT_NUM, transactionFee));
+            final ResponseCodeEnum status = execute(body, payer, signerKeys, timestamp, receipt, record,
+                    transfers);
+            receipt.setStatus(status);
+            record.setReceipt(receipt)
+                    .setConsensusTimestamp(toTimestamp(timestamp))
+                    .setTransactionID(transactionId)
+                    .setTransactionFee(transactionFee)
+                    .setTransactionHash(ByteString.copyFrom(sha384(transactionBytes.toByteArray())))
+                    .setMemo(body.getMemo())
+                    .setTransferList(transfers);
+            transactions.put(transactionId, new ExecutedTransaction(body, record.build(), timestamp,
+                    transactionBytes));
+            return ResponseCodeEnum.OK;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an executed transaction.
+     *
+     * @param transactionId the id of the transaction
+     * @return the transaction or an empty optional if no transaction with the id has been executed
+     */
+    @NonNull
+    public Optional<ExecutedTransaction> getTransaction(@NonNull final TransactionID transactionId) {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        lock.lock();
+        try {
+            return Optional.ofNullable(transactions.get(transactionId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of executed transactions.
+     *
+     * @return the number of executed transactions
+     */
+    public int getTransactionCount() {
+        lock.lock();
+        try {
+            return transactions.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the hbar balance of an account.
+     *
+     * @param accountNum the number of the account
+     * @return the balance in tinybars or an empty optional if the account does not exist
+     */
+    @NonNull
+    public Optional<Long> getBalance(final long accountNum) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(balances.get(accountNum));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the token balances of an account.
+     *
+     * @param accountNum the number of the account
+     * @return the balances by token number of all tokens that are associated with the account
+     */
+    @NonNull
+    public Map<Long, Long> getTokenBalances(final long accountNum) {
+        lock.lock();
+        try {
+            final Map<Long, Long> result = new LinkedHashMap<>();
+            tokens.forEach((tokenNum, token) -> {
+                final Long balance = token.balances.get(accountNum);
+                if (balance != null) {
+                    result.put(tokenNum, balance);
+                }
+            });
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a file.
+     *
+     * @param fileNum the number of the file
+     * @return the file or an empty optional if the file does not exist
+     */
+    @NonNull
+    public Optional<FileSnapshot> getFile(final long fileNum) {
+        lock.lock();
+        try {
+            final FileState file = files.get(fileNum);
+            if (file == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new FileSnapshot(file.contents, file.memo, file.keys, file.expiration, file.deleted));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a topic.
+     *
+     * @param topicNum the number of the topic
+     * @return the topic or an empty optional if the topic does not exist
+     */
+    @NonNull
+    public Optional<TopicSnapshot> getTopic(final long topicNum) {
+        lock.lock();
+        try {
+            final TopicState topic = topics.get(topicNum);
+            if (topic == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new TopicSnapshot(topicNum, topic.memo, topic.createdTimestamp, topic.deleted,
+                    topic.messages.size()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the messages of a topic in the order of their sequence numbers.
+     *
+     * @param topicNum               the number of the topic
+     * @param afterSequenceNumber    only messages with a higher sequence number are returned
+     * @param limit                  maximum number of returned messages
+     * @param maxConsensusTimestamp  only messages that reached consensus at or before this time are returned
+     * @return the messages
+     */
+    @NonNull
+    public List<TopicMessage> getTopicMessages(final long topicNum, final long afterSequenceNumber, final int limit,
+            @NonNull final Instant maxConsensusTimestamp) {
+        Objects.requireNonNull(maxConsensusTimestamp, "maxConsensusTimestamp must not be null");
+        lock.lock();
+        try {
+            final TopicState topic = topics.get(topicNum);
+            if (topic == null) {
+                return List.of();
+            }
+            final List<TopicMessage> result = new ArrayList<>(Math.min(limit, topic.messages.size()));
+            for (int i = (int) Math.max(0, afterSequenceNumber); i < topic.messages.size() && result.size() < limit;
+                    i++) {
+                final TopicMessage message = topic.messages.get(i);
+                if (message.consensusTimestamp().isAfter(maxConsensusTimestamp)) {
+                    break;
+                }
+                result.add(message);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    private ResponseCodeEnum execute(@NonNull final TransactionBody body, final long payer,
+            @NonNull final Set<ByteString> signerKeys, @NonNull final Instant timestamp, final TransactionReceipt.Builder receipt,
+            final TransactionRecord.Builder record, final TransferList.Builder transfers) {
+        return switch (body.getDataCase()) {
+            case CRYPTOCREATEACCOUNT -> createAccount(payer, body.getCryptoCreateAccount(), receipt, transfers);
+            case CRYPTODELETE -> deleteAccount(body.getCryptoDelete(), transfers);
+            case CRYPTOTRANSFER -> transfer(body.getCryptoTransfer(), record, transfers);
+            case FILECREATE -> createFile(body.getFileCreate(), timestamp, receipt);
+            case FILEAPPEND -> appendFile(body.getFileAppend().getFileID(), body.getFileAppend().getContents());
+            case FILEUPDATE -> updateFile(body.getFileUpdate());
+            case FILEDELETE -> deleteFile(body.getFileDelete().getFileID());
+            case CONTRACTCREATEINSTANCE -> createContract(payer, body.getContractCreateInstance(), receipt, record);
+            case CONTRACTCALL -> callContract(payer, body.getContractCall(), record);
+            case CONTRACTDELETEINSTANCE -> deleteContract(body.getContractDeleteInstance().getContractID());
+            case TOKENCREATION -> createToken(body.getTokenCreation(), receipt);
+            case TOKENASSOCIATE -> associateTokens(body.getTokenAssociate());
+            case TOKENDISSOCIATE -> dissociateTokens(body.getTokenDissociate());
+            case TOKENMINT -> mintToken(body.getTokenMint(), signerKeys, receipt);
+            case TOKENBURN -> burnToken(body.getTokenBurn(), signerKeys, receipt);
+            case CONSENSUSCREATETOPIC -> createTopic(body.getConsensusCreateTopic(), timestamp, receipt);
+            case CONSENSUSUPDATETOPIC -> updateTopic(body.getConsensusUpdateTopic());
+            case CONSENSUSDELETETOPIC -> deleteTopic(body.getConsensusDeleteTopic().getTopicID());
+            case CONSENSUSSUBMITMESSAGE -> submitMessage(payer, body.getConsensusSubmitMessage(), timestamp,
+                    receipt);
+            default -> ResponseCodeEnum.NOT_SUPPORTED;
+        };
+    }
+
+    @NonNull
+    private ResponseCodeEnum createAccount(final long payer, @NonNull final CryptoCreateTransactionBody body,
+            final TransactionReceipt.Builder receipt, final TransferList.Builder transfers) {
+        final long initialBalance = body.getInitialBalance();
+        if (initialBalance < 0) {
+            return ResponseCodeEnum.INVALID_INITIAL_BALANCE;
+        }
+        if (balances.get(payer) < initialBalance) {
+            return ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE;
+        }
+        final long accountNum = nextEntityNum++;
+        balances.merge(payer, -initialBalance, Long::sum);
+        balances.put(accountNum, initialBalance);
+        receipt.setAccountID(accountId(accountNum));
+        transfers.addAccountAmounts(accountAmount(payer, -initialBalance))
+                .addAccountAmounts(accountAmount(accountNum, initialBalance));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum deleteAccount(@NonNull final CryptoDeleteTransactionBody body,
+            final TransferList.Builder transfers) {
+        final long accountNum = body.getDeleteAccountID().getAccountNum();
+        final long transferAccountNum = body.getTransferAccountID().getAccountNum();
+        final Long balance = balances.get(accountNum);
+        if (balance == null || accountNum == OPERATOR_ACCOUNT_NUM || accountNum == NODE_ACCOUNT_NUM) {
+            return ResponseCodeEnum.INVALID_ACCOUNT_ID;
+        }
+        if (!balances.containsKey(transferAccountNum)) {
+            return ResponseCodeEnum.INVALID_TRANSFER_ACCOUNT_ID;
+        }
+        if (accountNum == transferAccountNum) {
+            return ResponseCodeEnum.TRANSFER_ACCOUNT_SAME_AS_DELETE_ACCOUNT;
+        }
+        if (tokens.values().stream().anyMatch(token -> token.treasury == accountNum)) {
+            return ResponseCodeEnum.ACCOUNT_IS_TREASURY;
+        }
+        balances.remove(accountNum);
+        balances.merge(transferAccountNum, balance, Long::sum);
+        transfers.addAccountAmounts(accountAmount(accountNum, -balance))
+                .addAccountAmounts(accountAmount(transferAccountNum, balance));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum transfer(@NonNull final CryptoTransferTransactionBody body,
+            final TransactionRecord.Builder record, final TransferList.Builder transfers) {
+        final Map<Long, Long> hbarChanges = new HashMap<>();
+        long sum = 0;
+        for (final AccountAmount accountAmount : body.getTransfers().getAccountAmountsList()) {
+            final long accountNum = accountAmount.getAccountID().getAccountNum();
+            if (!balances.containsKey(accountNum)) {
+                return ResponseCodeEnum.INVALID_ACCOUNT_ID;
+            }
+            sum += accountAmount.getAmount();
+            hbarChanges.merge(accountNum, accountAmount.getAmount(), Long::sum);
+        }
+        if (sum != 0) {
+            return ResponseCodeEnum.INVALID_ACCOUNT_AMOUNTS;
+        }
+        for (final Map.Entry<Long, Long> change : hbarChanges.entrySet()) {
+            if (balances.get(change.getKey()) + change.getValue() < 0) {
+                return ResponseCodeEnum.INSUFFICIENT_ACCOUNT_BALANCE;
+            }
+        }
+        for (final TokenTransferList tokenTransfers : body.getTokenTransfersList()) {
+            final ResponseCodeEnum status = checkTokenTransfers(tokenTransfers);
+            if (status != ResponseCodeEnum.SUCCESS) {
+                return status;
+            }
+        }
+        hbarChanges.forEach((accountNum, amount) -> balances.merge(accountNum, amount, Long::sum));
+        transfers.addAllAccountAmounts(body.getTransfers().getAccountAmountsList());
+        for (final TokenTransferList tokenTransfers : body.getTokenTransfersList()) {
+            final TokenState token = tokens.get(tokenTransfers.getToken().getTokenNum());
+            for (final AccountAmount accountAmount : tokenTransfers.getTransfersList()) {
+                token.balances.merge(accountAmount.getAccountID().getAccountNum(), accountAmount.getAmount(),
+                        Long::sum);
+            }
+            for (final NftTransfer nftTransfer : tokenTransfers.getNftTransfersList()) {
+                final long sender = nftTransfer.getSenderAccountID().getAccountNum();
+                final long receiver = nftTransfer.getReceiverAccountID().getAccountNum();
+                token.nftOwners.put(nftTransfer.getSerialNumber(), receiver);
+                token.balances.merge(sender, -1L, Long::sum);
+                token.balances.merge(receiver, 1L, Long::sum);
+            }
+            record.addTokenTransferLists(tokenTransfers);
+        }
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum checkTokenTransfers(@NonNull final TokenTransferList tokenTransfers) {
+        final TokenState token = tokens.get(tokenTransfers.getToken().getTokenNum());
+        if (token == null) {
+            return ResponseCodeEnum.INVALID_TOKEN_ID;
+        }
+        final Map<Long, Long> changes = new HashMap<>();
+        long sum = 0;
+        for (final AccountAmount accountAmount : tokenTransfers.getTransfersList()) {
+            final long accountNum = accountAmount.getAccountID().getAccountNum();
+            if (!token.balances.containsKey(accountNum)) {
+                return ResponseCodeEnum.TOKEN_NOT_ASSOCIATED_TO_ACCOUNT;
+            }
+            sum += accountAmount.getAmount();
+            changes.merge(accountNum, accountAmount.getAmount(), Long::sum);
+        }
+        if (sum != 0) {
+            return ResponseCodeEnum.TRANSFERS_NOT_ZERO_SUM_FOR_TOKEN;
+        }
+        for (final Map.Entry<Long, Long> change : changes.entrySet()) {
+            if (token.balances.get(change.getKey()) + change.getValue() < 0) {
+                return ResponseCodeEnum.INSUFFICIENT_TOKEN_BALANCE;
+            }
+        }
+        for (final NftTransfer nftTransfer : tokenTransfers.getNftTransfersList()) {
+            final Long owner = token.nftOwners.get(nftTransfer.getSerialNumber());
+            if (owner == null) {
+                return ResponseCodeEnum.INVALID_NFT_ID;
+            }
+            if (owner != nftTransfer.getSenderAccountID().getAccountNum()) {
+                return ResponseCodeEnum.SENDER_DOES_NOT_OWN_NFT_SERIAL_NO;
+            }
+            if (!token.balances.containsKey(nftTransfer.getReceiverAccountID().getAccountNum())) {
+                return ResponseCodeEnum.TOKEN_NOT_ASSOCIATED_TO_ACCOUNT;
+            }
+        }
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum createFile(@NonNull final FileCreateTransactionBody body,
+            @NonNull final Instant timestamp, final TransactionReceipt.Builder receipt) {
+        final FileState file = new FileState();
+        file.contents = body.getContents();
+        file.memo = body.getMemo();
+        file.keys = body.getKeys();
+        file.expiration = body.hasExpirationTime() ? body.getExpirationTime()
+                : toTimestamp(timestamp.plus(DEFAULT_EXPIRATION));
+        final long fileNum = nextEntityNum++;
+        files.put(fileNum, file);
+        receipt.setFileID(FileID.newBuilder().setFileNum(fileNum));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum appendFile(@NonNull final FileID fileId, @NonNull final ByteString contents) {
+        final FileState file = files.get(fileId.getFileNum());
+        if (file == null) {
+            return ResponseCodeEnum.INVALID_FILE_ID;
+        }
+        if (file.deleted) {
+            return ResponseCodeEnum.FILE_DELETED;
+        }
+        file.contents = file.contents.concat(contents);
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum updateFile(@NonNull final FileUpdateTransactionBody body) {
+        final FileState file = files.get(body.getFileID().getFileNum());
+        if (file == null) {
+            return ResponseCodeEnum.INVALID_FILE_ID;
+        }
+        if (file.deleted) {
+            return ResponseCodeEnum.FILE_DELETED;
+        }
+        if (!body.getContents().isEmpty()) {
+            file.contents = body.getContents();
+        }
+        if (body.hasMemo()) {
+            file.memo = body.getMemo().getValue();
+        }
+        if (body.hasKeys()) {
+            file.keys = body.getKeys();
+        }
+        if (body.hasExpirationTime()) {
+            file.expiration = body.getExpirationTime();
+        }
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum deleteFile(@NonNull final FileID fileId) {
+        final FileState file = files.get(fileId.getFileNum());
+        if (file == null) {
+            return ResponseCodeEnum.INVALID_FILE_ID;
+        }
+        if (file.deleted) {
+            return ResponseCodeEnum.FILE_DELETED;
+        }
+        file.deleted = true;
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum createContract(final long payer, @NonNull final ContractCreateTransactionBody body,
+            final TransactionReceipt.Builder receipt, final TransactionRecord.Builder record) {
+        if (body.hasFileID()) {
+            final FileState file = files.get(body.getFileID().getFileNum());
+            if (file == null || file.deleted) {
+                return ResponseCodeEnum.INVALID_FILE_ID;
+            }
+        }
+        final long contractNum = nextEntityNum++;
+        contracts.add(contractNum);
+        final ContractID contractId = ContractID.newBuilder().setContractNum(contractNum).build();
+        receipt.setContractID(contractId);
+        record.setContractCreateResult(ContractFunctionResult.newBuilder()
+                .setContractID(contractId)
+                .addCreatedContractIDs(contractId)
+                .setGas(body.getGas())
+                .setGasUsed(body.getGas())
+                .setSenderId(accountId(payer)));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum callContract(final long payer, @NonNull final ContractCallTransactionBody body,
+            final TransactionRecord.Builder record) {
+        if (!contracts.contains(body.getContractID().getContractNum())) {
+            return ResponseCodeEnum.INVALID_CONTRACT_ID;
+        }
+        record.setContractCallResult(ContractFunctionResult.newBuilder()
+                .setContractID(body.getContractID())
+                .setGas(body.getGas())
+                .setGasUsed(body.getGas())
+                .setAmount(body.getAmount())
+                .setFunctionParameters(body.getFunctionParameters())
+                .setSenderId(accountId(payer)));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum deleteContract(@NonNull final ContractID contractId) {
+        if (!contracts.remove(contractId.getContractNum())) {
+            return ResponseCodeEnum.INVALID_CONTRACT_ID;
+        }
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum createToken(@NonNull final TokenCreateTransactionBody body,
+            final TransactionReceipt.Builder receipt) {
+        final long treasury = body.getTreasury().getAccountNum();
+        if (!balances.containsKey(treasury)) {
+            return ResponseCodeEnum.INVALID_TREASURY_ACCOUNT_FOR_TOKEN;
+        }
+        final TokenState token = new TokenState(body.getTokenType(), treasury,
+                body.hasSupplyKey() ? body.getSupplyKey() : null);
+        if (token.type == TokenType.FUNGIBLE_COMMON) {
+            token.totalSupply = body.getInitialSupply();
+        }
+        token.balances.put(treasury, token.totalSupply);
+        final long tokenNum = nextEntityNum++;
+        tokens.put(tokenNum, token);
+        receipt.setTokenID(TokenID.newBuilder().setTokenNum(tokenNum));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum associateTokens(@NonNull final TokenAssociateTransactionBody body) {
+        final long accountNum = body.getAccount().getAccountNum();
+        if (!balances.containsKey(accountNum)) {
+            return ResponseCodeEnum.INVALID_ACCOUNT_ID;
+        }
+        for (final TokenID tokenId : body.getTokensList()) {
+            final TokenState token = tokens.get(tokenId.getTokenNum());
+            if (token == null) {
+                return ResponseCodeEnum.INVALID_TOKEN_ID;
+            }
+            if (token.balances.containsKey(accountNum)) {
+                return ResponseCodeEnum.TOKEN_ALREADY_ASSOCIATED_TO_ACCOUNT;
+            }
+        }
+        body.getTokensList().forEach(tokenId -> tokens.get(tokenId.getTokenNum()).balances.put(accountNum, 0L));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum dissociateTokens(@NonNull final TokenDissociateTransactionBody body) {
+        final long accountNum = body.getAccount().getAccountNum();
+        if (!balances.containsKey(accountNum)) {
+            return ResponseCodeEnum.INVALID_ACCOUNT_ID;
+        }
+        for (final TokenID tokenId : body.getTokensList()) {
+            final TokenState token = tokens.get(tokenId.getTokenNum());
+            if (token == null) {
+                return ResponseCodeEnum.INVALID_TOKEN_ID;
+            }
+            final Long balance = token.balances.get(accountNum);
+            if (balance == null) {
+                return ResponseCodeEnum.TOKEN_NOT_ASSOCIATED_TO_ACCOUNT;
+            }
+            if (token.treasury == accountNum) {
+                return ResponseCodeEnum.ACCOUNT_IS_TREASURY;
+            }
+            if (balance != 0) {
+                return ResponseCodeEnum.TRANSACTION_REQUIRES_ZERO_TOKEN_BALANCES;
+            }
+        }
+        body.getTokensList().forEach(tokenId -> tokens.get(tokenId.getTokenNum()).balances.remove(accountNum));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum mintToken(@NonNull final TokenMintTransactionBody body,
+            @NonNull final Set<ByteString> signerKeys, final TransactionReceipt.Builder receipt) {
+        final TokenState token = tokens.get(body.getToken().getTokenNum());
+        if (token == null) {
+            return ResponseCodeEnum.INVALID_TOKEN_ID;
+        }
+        if (token.supplyKey == null) {
+            return ResponseCodeEnum.TOKEN_HAS_NO_SUPPLY_KEY;
+        }
+        if (!isSignedBy(token.supplyKey, signerKeys)) {
+            return ResponseCodeEnum.INVALID_SIGNATURE;
+        }
+        if (token.type == TokenType.FUNGIBLE_COMMON) {
+            if (body.getAmount() <= 0 || body.getMetadataCount() > 0) {
+                return ResponseCodeEnum.INVALID_TOKEN_MINT_AMOUNT;
+            }
+            token.totalSupply += body.getAmount();
+            token.balances.merge(token.treasury, body.getAmount(), Long::sum);
+        } else {
+            if (body.getMetadataCount() == 0 || body.getAmount() != 0) {
+                return ResponseCodeEnum.INVALID_TOKEN_MINT_METADATA;
+            }
+            for (int i = 0; i < body.getMetadataCount(); i++) {
+                final long serial = ++token.lastSerialNumber;
+                token.nftOwners.put(serial, token.treasury);
+                receipt.addSerialNumbers(serial);
+            }
+            token.totalSupply += body.getMetadataCount();
+            token.balances.merge(token.treasury, (long) body.getMetadataCount(), Long::sum);
+        }
+        receipt.setNewTotalSupply(token.totalSupply);
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum burnToken(@NonNull final TokenBurnTransactionBody body,
+            @NonNull final Set<ByteString> signerKeys, final TransactionReceipt.Builder receipt) {
+        final TokenState token = tokens.get(body.getToken().getTokenNum());
+        if (token == null) {
+            return ResponseCodeEnum.INVALID_TOKEN_ID;
+        }
+        if (token.supplyKey == null) {
+            return ResponseCodeEnum.TOKEN_HAS_NO_SUPPLY_KEY;
+        }
+        if (!isSignedBy(token.supplyKey, signerKeys)) {
+            return ResponseCodeEnum.INVALID_SIGNATURE;
+        }
+        if (token.type == TokenType.FUNGIBLE_COMMON) {
+            if (body.getAmount() <= 0 || body.getAmount() > token.balances.get(token.treasury)) {
+                return ResponseCodeEnum.INVALID_TOKEN_BURN_AMOUNT;
+            }
+            token.totalSupply -= body.getAmount();
+            token.balances.merge(token.treasury, -body.getAmount(), Long::sum);
+        } else {
+            for (final long serial : body.getSerialNumbersList()) {
+                final Long owner = token.nftOwners.get(serial);
+                if (owner == null) {
+                    return ResponseCodeEnum.INVALID_NFT_ID;
+                }
+                if (owner != token.treasury) {
+                    return ResponseCodeEnum.TREASURY_MUST_OWN_BURNED_NFT;
+                }
+            }
+            body.getSerialNumbersList().forEach(token.nftOwners::remove);
+            token.totalSupply -= body.getSerialNumbersCount();
+            token.balances.merge(token.treasury, -(long) body.getSerialNumbersCount(), Long::sum);
+        }
+        receipt.setNewTotalSupply(token.totalSupply);
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum createTopic(@NonNull final ConsensusCreateTopicTransactionBody body,
+            @NonNull final Instant timestamp, final TransactionReceipt.Builder receipt) {
+        final long topicNum = nextEntityNum++;
+        topics.put(topicNum, new TopicState(body.getMemo(), timestamp));
+        receipt.setTopicID(TopicID.newBuilder().setTopicNum(topicNum));
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum updateTopic(@NonNull final ConsensusUpdateTopicTransactionBody body) {
+        final TopicState topic = topics.get(body.getTopicID().getTopicNum());
+        if (topic == null || topic.deleted) {
+            return ResponseCodeEnum.INVALID_TOPIC_ID;
+        }
+        if (body.hasMemo()) {
+            topic.memo = body.getMemo().getValue();
+        }
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum deleteTopic(@NonNull final TopicID topicId) {
+        final TopicState topic = topics.get(topicId.getTopicNum());
+        if (topic == null || topic.deleted) {
+            return ResponseCodeEnum.INVALID_TOPIC_ID;
+        }
+        topic.deleted = true;
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    private ResponseCodeEnum submitMessage(final long payer, @NonNull final ConsensusSubmitMessageTransactionBody body,
+            @NonNull final Instant timestamp, final TransactionReceipt.Builder receipt) {
+        final long topicNum = body.getTopicID().getTopicNum();
+        final TopicState topic = topics.get(topicNum);
+        if (topic == null || topic.deleted) {
+            return ResponseCodeEnum.INVALID_TOPIC_ID;
+        }
+        if (body.getMessage().isEmpty()) {
+            return ResponseCodeEnum.INVALID_TOPIC_MESSAGE;
+        }
+        final ChunkInfo chunkInfo;
+        if (body.hasChunkInfo()) {
+            final TransactionID initialId = body.getChunkInfo().getInitialTransactionID();
+            chunkInfo = new ChunkInfo(toTransactionId(initialId), initialId.getNonce(),
+                    body.getChunkInfo().getNumber(), body.getChunkInfo().getTotal(), initialId.getScheduled());
+        } else {
+            chunkInfo = null;
+        }
+        final long sequenceNumber = topic.messages.size() + 1;
+        final byte[] contents = body.getMessage().toByteArray();
+        final AccountId payerAccountId = new AccountId(payer);
+        final TopicId topicId = new TopicId(topicNum);
+        final byte[] runningHash = TopicRunningHashVerifier.calculateRunningHash(topic.runningHash,
+                TopicMessage.of(chunkInfo, timestamp, contents, payerAccountId, null,
+                        TopicRunningHashVerifier.RUNNING_HASH_VERSION, sequenceNumber, topicId));
+        topic.runningHash = runningHash;
+        topic.messages.add(TopicMessage.of(chunkInfo, timestamp, contents, payerAccountId, runningHash,
+                TopicRunningHashVerifier.RUNNING_HASH_VERSION, sequenceNumber, topicId));
+        receipt.setTopicSequenceNumber(sequenceNumber)
+                .setTopicRunningHash(ByteString.copyFrom(runningHash))
+                .setTopicRunningHashVersion(TopicRunningHashVerifier.RUNNING_HASH_VERSION);
+        return ResponseCodeEnum.SUCCESS;
+    }
+
+    @NonNull
+    static AccountID accountId(final long accountNum) {
+        return AccountID.newBuilder().setAccountNum(accountNum).build();
+    }
+
+    @NonNull
+    private static AccountAmount accountAmount(final long accountNum, final long amount) {
+        return AccountAmount.newBuilder().setAccountID(accountId(accountNum)).setAmount(amount).build();
+    }
+
+    @NonNull
+    static Timestamp toTimestamp(@NonNull final Instant instant) {
+        return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+    }
+
+    @NonNull
+    static Instant toInstant(@NonNull final Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+
+    @NonNull
+    static TransactionId toTransactionId(@NonNull final TransactionID transactionId) {
+        final AccountID account = transactionId.getAccountID();
+        return new TransactionId(new AccountId(account.getShardNum(), account.getRealmNum(), account.getAccountNum()),
+                toInstant(transactionId.getTransactionValidStart()));
+    }
+
+    /**
+     * Checks if a key has signed a transaction. Only the public key prefixes of the signature map are compared, the
+     * signatures themselves are not verified.
+     *
+     * @param key        the key
+     * @param signerKeys the public key prefixes of the signature map of the transaction
+     * @return true if the key has signed the transaction
+     */
+    private static boolean isSignedBy(@NonNull final Key key, @NonNull final Set<ByteString> signerKeys) {
+        return switch (key.getKeyCase()) {
+            case ED25519 -> isSignedBy(key.getEd25519(), signerKeys);
+            case ECDSA_SECP256K1 -> isSignedBy(key.getECDSASecp256K1(), signerKeys);
+            case KEYLIST -> key.getKeyList().getKeysList().stream().allMatch(k -> isSignedBy(k, signerKeys));
+            case THRESHOLDKEY -> key.getThresholdKey().getKeys().getKeysList().stream()
+                    .filter(k -> isSignedBy(k, signerKeys))
+                    .count() >= key.getThresholdKey().getThreshold();
+            default -> false;
+        };
+    }
+
+    private static boolean isSignedBy(@NonNull final ByteString publicKey, @NonNull final Set<ByteString> signerKeys) {
+        return signerKeys.stream().anyMatch(prefix -> !prefix.isEmpty() && publicKey.startsWith(prefix));
+    }
+
+    @NonNull
+    private static byte[] sha384(@NonNull final byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-384").digest(data);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-384 is not supported", e);
+        }
+    }
+
+    /**
+     * A transaction that has been executed by the ledger.
+     *
+     * @param body               the body of the transaction
+     * @param record             the record of the transaction, including the receipt
+     * @param consensusTimestamp the consensus timestamp of the transaction
+     * @param transactionBytes   the bytes of the transaction as submitted
+     */
+    public record ExecutedTransaction(@NonNull TransactionBody body, @NonNull TransactionRecord record,
+                                      @NonNull Instant consensusTimestamp, @NonNull ByteString transactionBytes) {
+
+        /**
+         * Returns the receipt of the transaction.
+         *
+         * @return the receipt
+         */
+        @NonNull
+        public TransactionReceipt receipt() {
+            return record.getReceipt();
+        }
+    }
+
+    /**
+     * State of a file at the time of the query.
+     *
+     * @param contents   the contents
+     * @param memo       the memo
+     * @param keys       the keys
+     * @param expiration the expiration time
+     * @param deleted    true if the file has been deleted
+     */
+    public record FileSnapshot(@NonNull ByteString contents, @NonNull String memo, @NonNull KeyList keys,
+                               @NonNull Timestamp expiration, boolean deleted) {
+    }
+
+    /**
+     * State of a topic at the time of the query.
+     *
+     * @param topicNum         the number of the topic
+     * @param memo             the memo
+     * @param createdTimestamp the consensus timestamp of the creation
+     * @param deleted          true if the topic has been deleted
+     * @param messageCount     the number of messages
+     */
+    public record TopicSnapshot(long topicNum, @NonNull String memo, @NonNull Instant createdTimestamp,
+                                boolean deleted, long messageCount) {
+    }
+
+    private static final class FileState {
+
+        private ByteString contents = ByteString.EMPTY;
+
+        private String memo = "";
+
+        private KeyList keys = KeyList.getDefaultInstance();
+
+        private Timestamp expiration = Timestamp.getDefaultInstance();
+
+        private boolean deleted;
+    }
+
+    private static final class TopicState {
+
+        private final Instant createdTimestamp;
+
+        private final List<TopicMessage> messages = new ArrayList<>();
+
+        private String memo;
+
+        private boolean deleted;
+
+        private byte[] runningHash = new byte[RUNNING_HASH_SIZE];
+
+        private TopicState(@NonNull final String memo, @NonNull final Instant createdTimestamp) {
+            this.memo = memo;
+            this.createdTimestamp = createdTimestamp;
+        }
+    }
+
+    private static final class TokenState {
+
+        private final TokenType type;
+
+        private final long treasury;
+
+        private final Key supplyKey;
+
+        private final Map<Long, Long> balances = new LinkedHashMap<>();
+
+        private final Map<Long, Long> nftOwners = new HashMap<>();
+
+        private long totalSupply;
+
+        private long lastSerialNumber;
+
+        private TokenState(@NonNull final TokenType type, final long treasury, @Nullable final Key supplyKey) {
+            this.type = type;
+            this.treasury = treasury;
+            this.supplyKey = supplyKey;
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.openelements.hiero.test.implementation;
+
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.NftTransfer;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TokenTransferList;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.test.implementation.FakeLedger.ExecutedTransaction;
+import com.openelements.hiero.test.implementation.FakeLedger.TopicSnapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Embedded HTTP server that answers a subset of the REST API of a mirror node based on a {@link FakeLedger}:
+ * <ul>
+ *     <li>{@code /api/v1/accounts/{id}}</li>
+ *     <li>{@code /api/v1/transactions/{id}}</li>
+ *     <li>{@code /api/v1/topics/{id}}</li>
+ *     <li>{@code /api/v1/topics/{id}/messages} with the {@code limit} and {@code sequencenumber} parameters</li>
+ *     <li>{@code /api/v1/topics/{id}/messages/{sequenceNumber}}</li>
+ * </ul>
+ * Transactions, topics and messages are available once the mirror node lag has passed since their consensus
+ * timestamp. All other paths are answered with status 404.
+ */
+public final class FakeMirrorNode implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeMirrorNode.class);
+
+    private static final String API_PREFIX = "/api/v1/";
+
+    private static final int DEFAULT_LIMIT = 25;
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final long AUTO_RENEW_PERIOD = 7_776_000L;
+
+    private static final String NOT_FOUND = "{\"_status\":{\"messages\":[{\"message\":\"Not found\"}]}}";
+
+    private static final String NODE_ACCOUNT = "0.0." + FakeLedger.NODE_ACCOUNT_NUM;
+
+    private final FakeLedger ledger;
+
+    private final Duration lag;
+
+    private final ExecutorService executor;
+
+    private final HttpServer server;
+
+    /**
+     * Creates and starts a mirror node on a free port of the loopback address.
+     *
+     * @param ledger the ledger that is queried
+     * @param lag    time between the consensus timestamp of a transaction and its availability
+     * @throws IOException if the server can not be started
+     */
+    public FakeMirrorNode(@NonNull final FakeLedger ledger, @NonNull final Duration lag) throws IOException {
+        this.ledger = Objects.requireNonNull(ledger, "ledger must not be null");
+        this.lag = Objects.requireNonNull(lag, "lag must not be null");
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext(API_PREFIX, this::handle);
+        server.start();
+        log.debug("Fake mirror node started at {}", getBaseUrl());
+    }
+
+    /**
+     * Returns the base URL of the mirror node, for example {@code http://127.0.0.1:53817}.
+     *
+     * @return the base URL
+     */
+    @NonNull
+    public String getBaseUrl() {
+        final InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(@NonNull final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "{\"_status\":{\"messages\":[{\"message\":\"Method not allowed\"}]}}");
+                return;
+            }
+            String path = exchange.getRequestURI().getRawPath().substring(API_PREFIX.length());
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            final Optional<String> body;
+            try {
+                body = route(path.split("/"), exchange.getRequestURI().getRawQuery());
+            } catch (final IllegalArgumentException e) {
+                send(exchange, 400, "{\"_status\":{\"messages\":[{\"message\":" + string(e.getMessage()) + "}]}}");
+                return;
+            }
+            if (body.isPresent()) {
+                send(exchange, 200, body.get());
+            } else {
+                send(exchange, 404, NOT_FOUND);
+            }
+        }
+    }
+
+    @NonNull
+    private Optional<String> route(@NonNull final String[] segments, @Nullable final String query) {
+        final Instant visibleUntil = Instant.now().minus(lag);
+        if (segments.length == 2 && "accounts".equals(segments[0])) {
+            return account(parseEntityNum(segments[1]));
+        }
+        if (segments.length == 2 && "transactions".equals(segments[0])) {
+            return ledger.getTransaction(parseTransactionId(segments[1]))
+                    .filter(transaction -> !transaction.consensusTimestamp().isAfter(visibleUntil))
+                    .map(transaction -> "{\"transactions\":[" + transaction(transaction) + "]}");
+        }
+        if (segments.length >= 2 && "topics".equals(segments[0])) {
+            final long topicNum = parseEntityNum(segments[1]);
+            final Optional<TopicSnapshot> topic = ledger.getTopic(topicNum)
+                    .filter(t -> !t.createdTimestamp().isAfter(visibleUntil));
+            if (topic.isEmpty()) {
+                return Optional.empty();
+            }
+            if (segments.length == 2) {
+                return Optional.of(topic(topic.get()));
+            }
+            if (segments.length == 3 && "messages".equals(segments[2])) {
+                return Optional.of(messages(segments[1], topicNum, query, visibleUntil));
+            }
+            if (segments.length == 4 && "messages".equals(segments[2])) {
+                final long sequenceNumber = parseLong(segments[3]);
+                return ledger.getTopicMessages(topicNum, sequenceNumber - 1, 1, visibleUntil).stream()
+                        .findFirst()
+                        .map(FakeMirrorNode::message);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @NonNull
+    private Optional<String> account(final long accountNum) {
+        final Optional<Long> balance = ledger.getBalance(accountNum);
+        if (balance.isEmpty()) {
+            return Optional.empty();
+        }
+        final StringBuilder json = new StringBuilder(512);
+        json.append("{\"account\":").append(string("0.0." + accountNum))
+                .append(",\"alias\":null,\"auto_renew_period\":").append(AUTO_RENEW_PERIOD)
+                .append(",\"balance\":{\"balance\":").append(balance.get())
+                .append(",\"timestamp\":").append(string(timestamp(Instant.now())))
+                .append(",\"tokens\":[");
+        final Iterator<Map.Entry<Long, Long>> tokens = ledger.getTokenBalances(accountNum).entrySet().iterator();
+        while (tokens.hasNext()) {
+            final Map.Entry<Long, Long> token = tokens.next();
+            json.append("{\"token_id\":").append(string("0.0." + token.getKey()))
+                    .append(",\"balance\":").append(token.getValue()).append('}');
+            if (tokens.hasNext()) {
+                json.append(',');
+            }
+        }
+        json.append("]},\"created_timestamp\":null,\"decline_reward\":false,\"deleted\":false")
+                .append(",\"ethereum_nonce\":0,\"evm_address\":").append(string(String.format("0x%040x", accountNum)))
+                .append(",\"expiry_timestamp\":null,\"key\":null,\"max_automatic_token_associations\":0")
+                .append(",\"memo\":\"\",\"pending_reward\":0,\"receiver_sig_required\":false")
+                .append(",\"staked_account_id\":null,\"staked_node_id\":null,\"stake_period_start\":null")
+                .append(",\"transactions\":[],\"links\":{\"next\":null}}");
+        return Optional.of(json.toString());
+    }
+
+    @NonNull
+    private static String transaction(@NonNull final ExecutedTransaction transaction) {
+        final TransactionBody body = transaction.body();
+        final TransactionRecord record = transaction.record();
+        final StringBuilder json = new StringBuilder(1024);
+        json.append("{\"bytes\":").append(string(base64(transaction.transactionBytes().toByteArray())))
+                .append(",\"charged_tx_fee\":").append(record.getTransactionFee())
+                .append(",\"consensus_timestamp\":").append(string(timestamp(transaction.consensusTimestamp())))
+                .append(",\"entity_id\":").append(entityId(record.getReceipt()))
+                .append(",\"max_fee\":").append(string(Long.toString(body.getTransactionFee())))
+                .append(",\"memo_base64\":").append(string(base64(body.getMemo().getBytes(StandardCharsets.UTF_8))))
+                .append(",\"name\":").append(string(body.getDataCase().name().replace("_", "")))
+                .append(",\"nft_transfers\":[");
+        boolean first = true;
+        for (final TokenTransferList tokenTransfers : record.getTokenTransferListsList()) {
+            for (final NftTransfer nftTransfer : tokenTransfers.getNftTransfersList()) {
+                json.append(first ? "" : ",")
+                        .append("{\"is_approval\":false,\"receiver_account_id\":")
+                        .append(string(accountId(nftTransfer.getReceiverAccountID())))
+                        .append(",\"sender_account_id\":").append(string(accountId(nftTransfer.getSenderAccountID())))
+                        .append(",\"serial_number\":").append(nftTransfer.getSerialNumber())
+                        .append(",\"token_id\":").append(string("0.0." + tokenTransfers.getToken().getTokenNum()))
+                        .append('}');
+                first = false;
+            }
+        }
+        json.append("],\"node\":").append(string(NODE_ACCOUNT))
+                .append(",\"nonce\":").append(body.getTransactionID().getNonce())
+                .append(",\"parent_consensus_timestamp\":null")
+                .append(",\"result\":").append(string(record.getReceipt().getStatus().name()))
+                .append(",\"scheduled\":").append(body.getTransactionID().getScheduled())
+                .append(",\"staking_reward_transfers\":[],\"token_transfers\":[");
+        first = true;
+        for (final TokenTransferList tokenTransfers : record.getTokenTransferListsList()) {
+            for (final AccountAmount accountAmount : tokenTransfers.getTransfersList()) {
+                json.append(first ? "" : ",")
+                        .append("{\"token_id\":").append(string("0.0." + tokenTransfers.getToken().getTokenNum()))
+                        .append(',');
+                appendAccountAmount(json, accountAmount);
+                first = false;
+            }
+        }
+        json.append("],\"transaction_hash\":").append(string(base64(record.getTransactionHash().toByteArray())))
+                .append(",\"transaction_id\":").append(string(transactionId(body.getTransactionID())))
+                .append(",\"transfers\":[");
+        first = true;
+        for (final AccountAmount accountAmount : record.getTransferList().getAccountAmountsList()) {
+            json.append(first ? "{" : ",{");
+            appendAccountAmount(json, accountAmount);
+            first = false;
+        }
+        json.append("],\"valid_duration_seconds\":")
+                .append(string(Long.toString(body.getTransactionValidDuration().getSeconds())))
+                .append(",\"valid_start_timestamp\":")
+                .append(string(timestamp(FakeLedger.toInstant(body.getTransactionID().getTransactionValidStart()))))
+                .append('}');
+        return json.toString();
+    }
+
+    private static void appendAccountAmount(@NonNull final StringBuilder json,
+            @NonNull final AccountAmount accountAmount) {
+        json.append("\"account\":").append(string(accountId(accountAmount.getAccountID())))
+                .append(",\"amount\":").append(accountAmount.getAmount())
+                .append(",\"is_approval\":").append(accountAmount.getIsApproval())
+                .append('}');
+    }
+
+    @NonNull
+    private static String topic(@NonNull final TopicSnapshot topic) {
+        final String created = string(timestamp(topic.createdTimestamp()));
+        return "{\"admin_key\":null,\"auto_renew_account\":null,\"auto_renew_period\":" + AUTO_RENEW_PERIOD
+                + ",\"created_timestamp\":" + created
+                + ",\"custom_fees\":{\"created_timestamp\":" + created + ",\"fixed_fees\":[]}"
+                + ",\"deleted\":" + topic.deleted()
+                + ",\"fee_exempt_key_list\":[],\"fee_schedule_key\":null"
+                + ",\"memo\":" + string(topic.memo())
+                + ",\"submit_key\":null,\"timestamp\":{\"from\":" + created + ",\"to\":null}"
+                + ",\"topic_id\":" + string("0.0." + topic.topicNum()) + "}";
+    }
+
+    @NonNull
+    private String messages(@NonNull final String topicId, final long topicNum, @Nullable final String query,
+            @NonNull final Instant visibleUntil) {
+        int limit = DEFAULT_LIMIT;
+        long afterSequenceNumber = 0;
+        if (query != null) {
+            for (final String parameter : query.split("&")) {
+                final int separator = parameter.indexOf('=');
+                final String name = separator < 0 ? parameter : parameter.substring(0, separator);
+                final String value = separator < 0 ? "" : parameter.substring(separator + 1);
+                if ("limit".equals(name)) {
+                    limit = (int) Math.min(MAX_LIMIT, Math.max(1, parseLong(value)));
+                } else if ("sequencenumber".equals(name)) {
+                    afterSequenceNumber = parseAfterSequenceNumber(value);
+                }
+            }
+        }
+        final List<TopicMessage> messages = ledger.getTopicMessages(topicNum, afterSequenceNumber, limit,
+                visibleUntil);
+        final StringBuilder json = new StringBuilder(256 * (messages.size() + 1)).append("{\"messages\":[");
+        for (int i = 0; i < messages.size(); i++) {
+            json.append(i == 0 ? "" : ",").append(message(messages.get(i)));
+        }
+        json.append("],\"links\":{\"next\":");
+        if (messages.size() == limit) {
+            json.append(string(API_PREFIX + "topics/" + topicId + "/messages?limit=" + limit + "&sequencenumber=gt:"
+                    + messages.get(messages.size() - 1).sequenceNumber()));
+        } else {
+            json.append("null");
+        }
+        return json.append("}}").toString();
+    }
+
+    @NonNull
+    private static String message(@NonNull final TopicMessage message) {
+        final StringBuilder json = new StringBuilder(256).append("{\"chunk_info\":");
+        if (message.chunkInfo() == null) {
+            json.append("null");
+        } else {
+            json.append("{\"initial_transaction_id\":")
+                    .append(string(message.chunkInfo().initialTransactionId().toString()))
+                    .append(",\"nonce\":").append(message.chunkInfo().nonce())
+                    .append(",\"number\":").append(message.chunkInfo().number())
+                    .append(",\"total\":").append(message.chunkInfo().total())
+                    .append(",\"scheduled\":").append(message.chunkInfo().scheduled())
+                    .append('}');
+        }
+        return json.append(",\"consensus_timestamp\":").append(string(timestamp(message.consensusTimestamp())))
+                .append(",\"message\":").append(string(base64(message.contents())))
+                .append(",\"payer_account_id\":").append(string(String.valueOf(message.payerAccountId())))
+                .append(",\"running_hash\":").append(string(base64(message.runningHash())))
+                .append(",\"running_hash_version\":").append(message.runningHashVersion())
+                .append(",\"sequence_number\":").append(message.sequenceNumber())
+                .append(",\"topic_id\":").append(string(message.topicId().toString()))
+                .append('}')
+                .toString();
+    }
+
+    private static long parseAfterSequenceNumber(@NonNull final String value) {
+        if (value.startsWith("gt:")) {
+            return parseLong(value.substring(3));
+        }
+        if (value.startsWith("gte:")) {
+            return parseLong(value.substring(4)) - 1;
+        }
+        if (value.startsWith("eq:")) {
+            return parseLong(value.substring(3)) - 1;
+        }
+        return parseLong(value) - 1;
+    }
+
+    private static long parseEntityNum(@NonNull final String entityId) {
+        final int separator = entityId.lastIndexOf('.');
+        return parseLong(separator < 0 ? entityId : entityId.substring(separator + 1));
+    }
+
+    private static long parseLong(@NonNull final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid parameter: " + value, e);
+        }
+    }
+
+    /**
+     * Parses a transaction id in the format of the mirror node ({@code 0.0.2-1700000000-000000123}) or of the SDK
+     * ({@code 0.0.2@1700000000.000000123}).
+     */
+    @NonNull
+    private static TransactionID parseTransactionId(@NonNull final String transactionId) {
+        final String[] parts = transactionId.contains("@") ? transactionId.split("[@.]") : null;
+        final String account;
+        final long seconds;
+        final int nanos;
+        if (parts != null && parts.length == 5) {
+            account = parts[0] + "." + parts[1] + "." + parts[2];
+            seconds = parseLong(parts[3]);
+            nanos = (int) parseLong(parts[4]);
+        } else {
+            final String[] mirrorParts = transactionId.split("-");
+            if (mirrorParts.length != 3) {
+                throw new IllegalArgumentException("Invalid transaction id: " + transactionId);
+            }
+            account = mirrorParts[0];
+            seconds = parseLong(mirrorParts[1]);
+            nanos = (int) parseLong(mirrorParts[2]);
+        }
+        final String[] accountParts = account.split("\\.");
+        if (accountParts.length != 3) {
+            throw new IllegalArgumentException("Invalid transaction id: " + transactionId);
+        }
+        return TransactionID.newBuilder()
+                .setAccountID(AccountID.newBuilder()
+                        .setShardNum(parseLong(accountParts[0]))
+                        .setRealmNum(parseLong(accountParts[1]))
+                        .setAccountNum(parseLong(accountParts[2])))
+                .setTransactionValidStart(Timestamp.newBuilder().setSeconds(seconds).setNanos(nanos))
+                .build();
+    }
+
+    @NonNull
+    private static String transactionId(@NonNull final TransactionID transactionId) {
+        final Timestamp validStart = transactionId.getTransactionValidStart();
+        return accountId(transactionId.getAccountID()) + "-" + validStart.getSeconds() + "-"
+                + String.format("%09d", validStart.getNanos());
+    }
+
+    @NonNull
+    private static String entityId(@NonNull final TransactionReceipt receipt) {
+        if (receipt.hasAccountID()) {
+            return string(accountId(receipt.getAccountID()));
+        } else if (receipt.hasFileID()) {
+            return string("0.0." + receipt.getFileID().getFileNum());
+        } else if (receipt.hasContractID()) {
+            return string("0.0." + receipt.getContractID().getContractNum());
+        } else if (receipt.hasTopicID()) {
+            return string("0.0." + receipt.getTopicID().getTopicNum());
+        } else if (receipt.hasTokenID()) {
+            return string("0.0." + receipt.getTokenID().getTokenNum());
+        }
+        return "null";
+    }
+
+    @NonNull
+    private static String accountId(@NonNull final AccountID accountId) {
+        return accountId.getShardNum() + "." + accountId.getRealmNum() + "." + accountId.getAccountNum();
+    }
+
+    @NonNull
+    private static String timestamp(@NonNull final Instant instant) {
+        return instant.getEpochSecond() + "." + String.format("%09d", instant.getNano());
+    }
+
+    @NonNull
+    private static String base64(final byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes == null ? new byte[0] : bytes);
+    }
+
+    @NonNull
+    private static String string(@Nullable final String value) {
+        if (value == null) {
+            return "null";
+        }
+        final StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    private static void send(@NonNull final HttpExchange exchange, final int status, @NonNull final String body)
+            throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -7,4 +7,8 @@ open module com.openelements.hiero.test {
     requires org.jspecify;
     requires com.google.auto.service;
     requires org.slf4j;
+    requires com.google.protobuf;
+    requires io.grpc;
+    requires io.grpc.inprocess;
+    requires jdk.httpserver;
 }
\ No newline at end of file